@@ -0,0 +1,81 @@
+package com.xenosnowfox.openapi3.benchmarks;
+
+import com.xenosnowfox.openapi3.models.BinaryDocumentCodec;
+import com.xenosnowfox.openapi3.models.Document;
+import com.xenosnowfox.openapi3.models.DocumentReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the binary encoding against JSON for encoding and decoding a {@link Document}.
+ * The encoded sizes of both formats are printed during setup.
+ *
+ * @since
+ *      1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryCodecBenchmark {
+
+    @Param({"MINIMAL", "FULL", "LONG_DESCRIPTION"})
+    private Fixtures.Shape shape;
+
+    private final BinaryDocumentCodec codec = new BinaryDocumentCodec();
+    private final DocumentReader reader = new DocumentReader();
+    private Document document;
+    private byte[] binary;
+    private byte[] json;
+    private ByteArrayOutputStream outputStream;
+
+    @Setup
+    public void setUp() throws IOException {
+        this.document = Fixtures.document(this.shape);
+        this.outputStream = new ByteArrayOutputStream(1024);
+        this.binary = this.codec.encode(this.document);
+        this.document.writeJson(this.outputStream);
+        this.json = this.outputStream.toByteArray();
+        System.out.println();
+        System.out.println("Encoded size of " + this.shape + ": binary " + this.binary.length + " bytes, JSON " + this.json.length + " bytes");
+    }
+
+    @Benchmark
+    public int encodeBinary() throws IOException {
+        this.outputStream.reset();
+        this.codec.encode(this.document, this.outputStream);
+        return this.outputStream.size();
+    }
+
+    @Benchmark
+    public int encodeJson() throws IOException {
+        this.outputStream.reset();
+        this.document.writeJson(this.outputStream);
+        return this.outputStream.size();
+    }
+
+    @Benchmark
+    public Document decodeBinary() throws IOException {
+        return this.codec.decode(this.binary);
+    }
+
+    @Benchmark
+    public Document decodeJson() throws IOException {
+        return this.reader.read(this.json);
+    }
+}
@@ -0,0 +1,91 @@
+package com.xenosnowfox.openapi3.benchmarks;
+
+import com.xenosnowfox.openapi3.models.BulkDocumentWriter;
+import com.xenosnowfox.openapi3.models.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures exporting a catalog of documents as newline-delimited JSON, one document after another on a single thread
+ * against {@link BulkDocumentWriter} on the common pool. The output is discarded, so only serialization is measured.
+ *
+ * @since
+ *      1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkSerializationBenchmark {
+
+    private static final int DOCUMENTS = 10_000;
+
+    @Param({"MINIMAL", "FULL"})
+    private Fixtures.Shape shape;
+
+    private final List<Document> documents = new ArrayList<>(DOCUMENTS);
+    private final BulkDocumentWriter writer = new BulkDocumentWriter();
+    private final DiscardingChannel channel = new DiscardingChannel();
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < DOCUMENTS; i++) {
+            this.documents.add(Fixtures.document(this.shape));
+        }
+    }
+
+    @Benchmark
+    public long sequentialToJsonString() throws IOException {
+        long written = 0;
+        for (Document document : this.documents) {
+            written += this.channel.write(ByteBuffer.wrap((document.toJsonObject().toString() + "\n").getBytes(StandardCharsets.UTF_8)));
+        }
+        return written;
+    }
+
+    @Benchmark
+    public long bulkWriter() throws IOException {
+        return this.writer.write(this.documents, BulkDocumentWriter.Format.NDJSON, this.channel);
+    }
+
+    /**
+     * Channel that consumes everything written to it
+     */
+    private static final class DiscardingChannel implements WritableByteChannel {
+
+        @Override
+        public int write(final ByteBuffer buffer) {
+            int length = buffer.remaining();
+            buffer.position(buffer.limit());
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
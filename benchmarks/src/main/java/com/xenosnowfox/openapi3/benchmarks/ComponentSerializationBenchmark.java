@@ -0,0 +1,80 @@
+package com.xenosnowfox.openapi3.benchmarks;
+
+import com.xenosnowfox.openapi3.models.info.Contact;
+import com.xenosnowfox.openapi3.models.info.Info;
+import com.xenosnowfox.openapi3.models.info.License;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures serialization of the individual {@link Info}, {@link Contact} and {@link License} objects
+ *
+ * @since
+ *      1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComponentSerializationBenchmark {
+
+    private Info info;
+    private Contact contact;
+    private License license;
+
+    @Setup
+    public void setUp() {
+        this.info = Fixtures.info("A sample API that uses a petstore as an example");
+        this.contact = Fixtures.contact();
+        this.license = Fixtures.license();
+    }
+
+    @Benchmark
+    public String infoToJsonString() {
+        return this.info.toJsonObject().toString();
+    }
+
+    @Benchmark
+    public StringBuilder infoWriteJson() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        this.info.writeJson(builder);
+        return builder;
+    }
+
+    @Benchmark
+    public String contactToJsonString() {
+        return this.contact.toJsonObject().toString();
+    }
+
+    @Benchmark
+    public StringBuilder contactWriteJson() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        this.contact.writeJson(builder);
+        return builder;
+    }
+
+    @Benchmark
+    public String licenseToJsonString() {
+        return this.license.toJsonObject().toString();
+    }
+
+    @Benchmark
+    public StringBuilder licenseWriteJson() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        this.license.writeJson(builder);
+        return builder;
+    }
+}
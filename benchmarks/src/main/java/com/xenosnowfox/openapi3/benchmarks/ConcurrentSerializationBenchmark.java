@@ -0,0 +1,66 @@
+package com.xenosnowfox.openapi3.benchmarks;
+
+import com.xenosnowfox.openapi3.models.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput when every available core serializes the same shared {@link Document}, as a gateway does when
+ * serving a spec to many concurrent requests.
+ *
+ * @since
+ *      1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class ConcurrentSerializationBenchmark {
+
+    @Param({"MINIMAL", "FULL", "LONG_DESCRIPTION"})
+    private Fixtures.Shape shape;
+
+    private Document document;
+
+    @Setup
+    public void setUp() {
+        this.document = Fixtures.document(this.shape);
+    }
+
+    /**
+     * Per-thread output buffer
+     */
+    @State(Scope.Thread)
+    public static class Buffer {
+        private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(1024);
+    }
+
+    @Benchmark
+    public String toJsonString() {
+        return this.document.toJsonObject().toString();
+    }
+
+    @Benchmark
+    public int writeJsonOutputStream(final Buffer buffer) throws IOException {
+        buffer.outputStream.reset();
+        this.document.writeJson(buffer.outputStream);
+        return buffer.outputStream.size();
+    }
+}
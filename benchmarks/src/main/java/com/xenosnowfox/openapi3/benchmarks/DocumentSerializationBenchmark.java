@@ -0,0 +1,76 @@
+package com.xenosnowfox.openapi3.benchmarks;
+
+import com.xenosnowfox.openapi3.models.Document;
+import com.xenosnowfox.openapi3.models.util.ReusableJsonWriter;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures single-threaded serialization of a whole {@link Document}
+ *
+ * @since
+ *      1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DocumentSerializationBenchmark {
+
+    @Param({"MINIMAL", "FULL", "LONG_DESCRIPTION"})
+    private Fixtures.Shape shape;
+
+    private Document document;
+    private ByteArrayOutputStream outputStream;
+
+    @Setup
+    public void setUp() {
+        this.document = Fixtures.document(this.shape);
+        this.outputStream = new ByteArrayOutputStream(1024);
+    }
+
+    @Benchmark
+    public JSONObject toJsonObject() {
+        return this.document.toJsonObject();
+    }
+
+    @Benchmark
+    public String toJsonString() {
+        return this.document.toJsonObject().toString();
+    }
+
+    @Benchmark
+    public StringBuilder writeJsonAppendable() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        this.document.writeJson(builder);
+        return builder;
+    }
+
+    @Benchmark
+    public int writeJsonOutputStream() throws IOException {
+        this.outputStream.reset();
+        this.document.writeJson(this.outputStream);
+        return this.outputStream.size();
+    }
+
+    @Benchmark
+    public int reusableWriter() throws IOException {
+        return ReusableJsonWriter.forCurrentThread().write(this.document).size();
+    }
+}
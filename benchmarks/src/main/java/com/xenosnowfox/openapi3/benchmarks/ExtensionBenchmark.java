@@ -0,0 +1,76 @@
+package com.xenosnowfox.openapi3.benchmarks;
+
+import com.xenosnowfox.openapi3.models.DocumentReader;
+import com.xenosnowfox.openapi3.models.info.Contact;
+import com.xenosnowfox.openapi3.models.util.JsonReader;
+import com.xenosnowfox.openapi3.models.util.ReusableJsonWriter;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading and writing back a contact with three {@code x-} extensions, with the extensions held by the contact
+ * itself against the previous workaround of keeping them in a {@link HashMap} beside the contact, decoded from a
+ * {@link JSONObject} and merged into {@code toJsonObject()} when writing.
+ *
+ * @since
+ *      1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExtensionBenchmark {
+
+    private final DocumentReader reader = new DocumentReader();
+    private final ReusableJsonWriter writer = new ReusableJsonWriter();
+    private byte[] json;
+
+    @Setup
+    public void setUp() {
+        this.json = ("{\"name\":\"API Support\",\"email\":\"support@example.com\",\"url\":\"http://www.example.com/support\","
+                + "\"x-team\":\"platform\",\"x-oncall\":{\"rotation\":\"weekly\",\"pager\":\"+1-555-0100\"},"
+                + "\"x-tier\":1}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int extensions() throws IOException {
+        Contact contact = this.reader.readContact(new JsonReader(this.json));
+        return this.writer.reset().write(contact).size();
+    }
+
+    @Benchmark
+    public int hashMapWrapper() throws IOException {
+        Contact contact = this.reader.readContact(new JsonReader(this.json));
+        JSONObject source = new JSONObject(new String(this.json, StandardCharsets.UTF_8));
+        Map<String, Object> extensions = new HashMap<>();
+        for (String name : source.keySet()) {
+            if (name.startsWith("x-")) {
+                extensions.put(name, source.get(name));
+            }
+        }
+
+        JSONObject jsonObject = contact.toJsonObject();
+        for (Map.Entry<String, Object> entry : extensions.entrySet()) {
+            jsonObject.put(entry.getKey(), entry.getValue());
+        }
+        this.writer.reset().rawValue(jsonObject.toString());
+        return this.writer.size();
+    }
+}
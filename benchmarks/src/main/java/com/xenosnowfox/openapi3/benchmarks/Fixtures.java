@@ -0,0 +1,145 @@
+package com.xenosnowfox.openapi3.benchmarks;
+
+import com.xenosnowfox.openapi3.models.Document;
+import com.xenosnowfox.openapi3.models.OpenApiDocument;
+import com.xenosnowfox.openapi3.models.info.Contact;
+import com.xenosnowfox.openapi3.models.info.ContactImpl;
+import com.xenosnowfox.openapi3.models.info.Info;
+import com.xenosnowfox.openapi3.models.info.InfoImpl;
+import com.xenosnowfox.openapi3.models.info.License;
+import com.xenosnowfox.openapi3.models.info.LicenseImpl;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+
+/**
+ * Model instances shared by the benchmark suites
+ *
+ * @since
+ *      1.0.0
+ */
+public final class Fixtures {
+
+    /**
+     * Shape of the document being benchmarked
+     *
+     * @since
+     *      1.0.0
+     */
+    public enum Shape {
+        /**
+         * Document with only the required title and version
+         */
+        MINIMAL,
+
+        /**
+         * Document with every field of Info, Contact and License populated
+         */
+        FULL,
+
+        /**
+         * Fully populated document with a long CommonMark description
+         */
+        LONG_DESCRIPTION
+    }
+
+    private Fixtures() {
+    }
+
+    /**
+     * Builds a document of the given shape
+     *
+     * @param shape
+     *      Shape of the document
+     * @return
+     *      Document instance
+     * @since
+     *      1.0.0
+     */
+    public static Document document(final Shape shape) {
+        switch (shape) {
+            case MINIMAL:
+                return new OpenApiDocument().info(new InfoImpl("Pet Store", "1.0.0"));
+            case FULL:
+                return new OpenApiDocument().info(info("A sample API that uses a petstore as an example"));
+            case LONG_DESCRIPTION:
+                return new OpenApiDocument().info(info(commonMark(64)));
+            default:
+                throw new IllegalArgumentException("Unknown shape " + shape);
+        }
+    }
+
+    /**
+     * Builds a fully populated Info object with the given description
+     *
+     * @param description
+     *      Application description
+     * @return
+     *      Info instance
+     * @since
+     *      1.0.0
+     */
+    public static Info info(final String description) {
+        return new InfoImpl("Swagger Petstore", "1.0.0")
+                .description(description)
+                .termsOfService(url("http://swagger.io/terms/"))
+                .contact(contact())
+                .license(license());
+    }
+
+    /**
+     * Builds a fully populated Contact object
+     *
+     * @return
+     *      Contact instance
+     * @since
+     *      1.0.0
+     */
+    public static Contact contact() {
+        return new ContactImpl("API Support", "support@swagger.io", url("http://www.swagger.io/support"));
+    }
+
+    /**
+     * Builds a fully populated License object
+     *
+     * @return
+     *      License instance
+     * @since
+     *      1.0.0
+     */
+    public static License license() {
+        return new LicenseImpl("Apache 2.0", url("https://www.apache.org/licenses/LICENSE-2.0.html"));
+    }
+
+    /**
+     * Generates a CommonMark document made up of the given number of sections.
+     * Each section contains headings, lists, links, code blocks and characters that require escaping in JSON.
+     *
+     * @param sections
+     *      Number of sections to generate
+     * @return
+     *      CommonMark text
+     * @since
+     *      1.0.0
+     */
+    public static String commonMark(final int sections) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < sections; i++) {
+            builder.append("## Section ").append(i).append("\n\n")
+                    .append("This API lets you manage **pets** and _orders_ in the \"Petstore\". ")
+                    .append("See <https://swagger.io/docs/> or the [guide](http://example.com/guide/").append(i).append(").\n\n")
+                    .append("* list pets\n* create a pet\n\t* nested item with a tab\n\n")
+                    .append("```json\n{\"id\": ").append(i).append(", \"name\": \"Kätzchen \\\\ ü\"}\n```\n\n")
+                    .append("> Tip: values like </script> are escaped.\n\n");
+        }
+        return builder.toString();
+    }
+
+    private static URL url(final String url) {
+        try {
+            return new URL(url);
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
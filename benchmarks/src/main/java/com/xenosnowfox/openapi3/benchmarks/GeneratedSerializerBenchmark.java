@@ -0,0 +1,243 @@
+package com.xenosnowfox.openapi3.benchmarks;
+
+import com.xenosnowfox.openapi3.models.DocumentReader;
+import com.xenosnowfox.openapi3.models.info.ConcurrentInfo;
+import com.xenosnowfox.openapi3.models.info.Contact;
+import com.xenosnowfox.openapi3.models.info.Info;
+import com.xenosnowfox.openapi3.models.info.InfoImpl;
+import com.xenosnowfox.openapi3.models.info.InfoImplJson;
+import com.xenosnowfox.openapi3.models.info.LazyInfo;
+import com.xenosnowfox.openapi3.models.info.License;
+import com.xenosnowfox.openapi3.models.util.JsonReader;
+import com.xenosnowfox.openapi3.models.util.ReusableJsonWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures writing and reading a fully populated {@link InfoImpl} through its generated serializer, against the
+ * {@link Info}, {@link Contact} and {@link License} interface defaults that it replaced. Before measuring, several other
+ * implementations are serialized, so that the call sites within the interface defaults are megamorphic as they are in
+ * an application that uses more than one kind of model.
+ *
+ * @since
+ *      1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratedSerializerBenchmark {
+
+    private final DocumentReader reader = new DocumentReader();
+    private final ReusableJsonWriter writer = new ReusableJsonWriter();
+    private Info generated;
+    private Info interfaceDefaults;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        this.generated = Fixtures.info("A sample API that uses a petstore as an example");
+        this.interfaceDefaults = new DelegatingInfo(this.generated);
+        this.json = this.writer.reset().write(this.generated).toByteArray();
+
+        Info[] others = {this.generated.freeze(), new LazyInfo(this.json), new ConcurrentInfo("Swagger Petstore", "1.0.0"),
+                new DelegatingInfo(this.generated.freeze())};
+        for (int i = 0; i < 20_000; i++) {
+            this.writer.reset().write(others[i % others.length]);
+        }
+    }
+
+    @Benchmark
+    public int generatedWriteJson() throws IOException {
+        return this.writer.reset().write(this.generated).size();
+    }
+
+    @Benchmark
+    public int interfaceWriteJson() throws IOException {
+        return this.writer.reset().write(this.interfaceDefaults).size();
+    }
+
+    @Benchmark
+    public Info generatedRead() throws IOException {
+        return InfoImplJson.read(new JsonReader(this.json));
+    }
+
+    @Benchmark
+    public Info documentReaderRead() throws IOException {
+        return this.reader.readInfo(new JsonReader(this.json));
+    }
+
+    /**
+     * Read-only info that is serialized by the interface defaults
+     */
+    private static final class DelegatingInfo implements Info {
+
+        private final Info info;
+        private final Contact contact;
+        private final License license;
+
+        DelegatingInfo(final Info info) {
+            this.info = info;
+            this.contact = info.getContact() == null ? null : new DelegatingContact(info.getContact());
+            this.license = info.getLicense() == null ? null : new DelegatingLicense(info.getLicense());
+        }
+
+        @Override
+        public String getTitle() {
+            return this.info.getTitle();
+        }
+
+        @Override
+        public void setTitle(final String title) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getVersion() {
+            return this.info.getVersion();
+        }
+
+        @Override
+        public void setVersion(final String version) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getDescription() {
+            return this.info.getDescription();
+        }
+
+        @Override
+        public void setDescription(final String description) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public URL getTermsOfService() {
+            return this.info.getTermsOfService();
+        }
+
+        @Override
+        public void setTermsOfService(final URL url) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public URI getTermsOfServiceUri() {
+            return this.info.getTermsOfServiceUri();
+        }
+
+        @Override
+        public Contact getContact() {
+            return this.contact;
+        }
+
+        @Override
+        public void setContact(final Contact contact) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public License getLicense() {
+            return this.license;
+        }
+
+        @Override
+        public void setLicense(final License license) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class DelegatingContact implements Contact {
+
+        private final Contact contact;
+
+        DelegatingContact(final Contact contact) {
+            this.contact = contact;
+        }
+
+        @Override
+        public String getName() {
+            return this.contact.getName();
+        }
+
+        @Override
+        public void setName(final String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public URL getUrl() {
+            return this.contact.getUrl();
+        }
+
+        @Override
+        public void setUrl(final URL url) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public URI getUri() {
+            return this.contact.getUri();
+        }
+
+        @Override
+        public String getEmail() {
+            return this.contact.getEmail();
+        }
+
+        @Override
+        public void setEmail(final String email) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class DelegatingLicense implements License {
+
+        private final License license;
+
+        DelegatingLicense(final License license) {
+            this.license = license;
+        }
+
+        @Override
+        public String getName() {
+            return this.license.getName();
+        }
+
+        @Override
+        public void setName(final String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public URL getUrl() {
+            return this.license.getUrl();
+        }
+
+        @Override
+        public void setUrl(final URL url) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public URI getUri() {
+            return this.license.getUri();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.xenosnowfox.openapi3.benchmarks;
+
+import com.xenosnowfox.openapi3.models.Document;
+import com.xenosnowfox.openapi3.models.DocumentReader;
+import com.xenosnowfox.openapi3.models.components.DocumentLoader;
+import com.xenosnowfox.openapi3.models.components.ReferenceResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading 5,000 specs that each refer to schemas in three shared component files, with one {@link ReferenceResolver}
+ * for all of them against a new resolver per spec, which reads and resolves the shared files again for every spec.
+ * Documents are decoded from in-memory bytes, so file system access is not measured.
+ *
+ * @since
+ *      1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReferenceResolutionBenchmark {
+
+    private static final int SPECS = 5_000;
+    private static final String[] SHARED = {"common", "errors", "paging"};
+    private static final int SHARED_SCHEMAS = 50;
+
+    private final Map<URI, byte[]> files = new HashMap<>();
+    private final List<URI> specs = new ArrayList<>(SPECS);
+    private final DocumentReader reader = new DocumentReader();
+    private DocumentLoader loader;
+
+    @Setup
+    public void setUp() {
+        for (String name : SHARED) {
+            StringBuilder schemas = new StringBuilder();
+            for (int i = 0; i < SHARED_SCHEMAS; i++) {
+                schemas.append(i == 0 ? "" : ",")
+                        .append("\"Type").append(i).append("\":{\"type\":\"object\",\"required\":[\"id\"],\"properties\":{")
+                        .append("\"id\":{\"type\":\"integer\",\"minimum\":1},")
+                        .append("\"name\":{\"type\":\"string\",\"maxLength\":100},")
+                        .append("\"parent\":{\"$ref\":\"#/components/schemas/Type").append((i + 1) % SHARED_SCHEMAS).append("\"}}}");
+            }
+            this.add("shared/" + name + ".json", schemas.toString());
+        }
+        for (int i = 0; i < SPECS; i++) {
+            this.add("specs/spec" + i + ".json",
+                    "\"Item\":{\"type\":\"object\",\"properties\":{"
+                            + "\"meta\":{\"$ref\":\"../shared/common.json#/components/schemas/Type" + (i % SHARED_SCHEMAS) + "\"},"
+                            + "\"error\":{\"$ref\":\"../shared/errors.json#/components/schemas/Type" + (i % 7) + "\"}}},"
+                            + "\"Page\":{\"allOf\":[{\"$ref\":\"../shared/paging.json#/components/schemas/Type1\"},"
+                            + "{\"properties\":{\"items\":{\"type\":\"array\",\"items\":{\"$ref\":\"#/components/schemas/Item\"}}}}]}");
+            this.specs.add(URI.create("mem:/specs/spec" + i + ".json"));
+        }
+
+        this.loader = uri -> {
+            byte[] bytes = this.files.get(uri);
+            if (bytes == null) {
+                throw new FileNotFoundException(uri.toString());
+            }
+            return this.reader.read(bytes);
+        };
+    }
+
+    private void add(final String path, final String schemas) {
+        String json = "{\"openapi\":\"3.0.2\",\"info\":{\"title\":\"" + path + "\",\"version\":\"1.0.0\"},"
+                + "\"components\":{\"schemas\":{" + schemas + "}}}";
+        this.files.put(URI.create("mem:/" + path), json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public List<Document> sharedResolver() throws IOException {
+        ReferenceResolver resolver = new ReferenceResolver(this.loader);
+        List<Document> documents = new ArrayList<>(SPECS);
+        for (URI spec : this.specs) {
+            documents.add(resolver.load(spec));
+        }
+        return documents;
+    }
+
+    @Benchmark
+    public List<Document> resolverPerSpec() throws IOException {
+        List<Document> documents = new ArrayList<>(SPECS);
+        for (URI spec : this.specs) {
+            documents.add(new ReferenceResolver(this.loader).load(spec));
+        }
+        return documents;
+    }
+}
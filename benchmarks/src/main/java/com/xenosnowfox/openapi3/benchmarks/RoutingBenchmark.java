@@ -0,0 +1,136 @@
+package com.xenosnowfox.openapi3.benchmarks;
+
+import com.xenosnowfox.openapi3.models.Document;
+import com.xenosnowfox.openapi3.models.OpenApiDocument;
+import com.xenosnowfox.openapi3.models.info.InfoImpl;
+import com.xenosnowfox.openapi3.models.paths.HttpMethod;
+import com.xenosnowfox.openapi3.models.paths.Operation;
+import com.xenosnowfox.openapi3.models.paths.OperationImpl;
+import com.xenosnowfox.openapi3.models.paths.PathItemImpl;
+import com.xenosnowfox.openapi3.models.paths.Paths;
+import com.xenosnowfox.openapi3.models.paths.PathsImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares matching requests with {@link Document#matchOperation(String, String)} against scanning a list of regular
+ * expressions, one per path template, for specs with a growing number of paths.
+ *
+ * @since
+ *      1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoutingBenchmark {
+
+    private static final int REQUESTS = 1024;
+
+    @Param({"100", "20000"})
+    private int services;
+
+    private Document document;
+    private List<Route> routes;
+    private String[] methods;
+    private String[] requests;
+    private int next = 0;
+
+    @Setup
+    public void setUp() {
+        // three templates per service: a literal, a parameter and a mixed segment
+        Paths paths = new PathsImpl();
+        this.routes = new ArrayList<>();
+        for (int i = 0; i < this.services; i++) {
+            String service = "/service" + i;
+            this.add(paths, service + "/status", HttpMethod.GET, "status" + i);
+            this.add(paths, service + "/resources/{id}", HttpMethod.PUT, "update" + i);
+            this.add(paths, service + "/resources/{id}/items/{itemId}.json", HttpMethod.GET, "item" + i);
+        }
+        this.document = new OpenApiDocument().info(new InfoImpl("Routing", "1.0.0")).paths(paths);
+
+        Random random = new Random(42);
+        this.methods = new String[REQUESTS];
+        this.requests = new String[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            String service = "/service" + random.nextInt(this.services);
+            switch (i % 3) {
+                case 0:
+                    this.methods[i] = "GET";
+                    this.requests[i] = service + "/status";
+                    break;
+                case 1:
+                    this.methods[i] = "PUT";
+                    this.requests[i] = service + "/resources/" + random.nextInt(100000);
+                    break;
+                default:
+                    this.methods[i] = "GET";
+                    this.requests[i] = service + "/resources/" + random.nextInt(100000) + "/items/" + random.nextInt(100) + ".json?expand=true";
+            }
+        }
+
+        // compiles the index up front
+        this.document.matchOperation("GET", "/");
+    }
+
+    private void add(final Paths paths, final String template, final HttpMethod method, final String operationId) {
+        paths.setPathItem(template, new PathItemImpl().operation(method, new OperationImpl(operationId)));
+        this.routes.add(new Route(template, method, paths.getPathItem(template).getOperation(method)));
+    }
+
+    @Benchmark
+    public Operation index() {
+        int i = this.next++ & (REQUESTS - 1);
+        return this.document.matchOperation(this.methods[i], this.requests[i]);
+    }
+
+    @Benchmark
+    public Operation regexList() {
+        int i = this.next++ & (REQUESTS - 1);
+        String path = this.requests[i];
+        int query = path.indexOf('?');
+        if (query >= 0) {
+            path = path.substring(0, query);
+        }
+        HttpMethod method = HttpMethod.of(this.methods[i]);
+        for (Route route : this.routes) {
+            if (route.method == method && route.pattern.matcher(path).matches()) {
+                return route.operation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Path template compiled to a regular expression, as a gateway without an index would
+     */
+    private static final class Route {
+
+        private final Pattern pattern;
+        private final HttpMethod method;
+        private final Operation operation;
+
+        Route(final String template, final HttpMethod method, final Operation operation) {
+            this.pattern = Pattern.compile(template.replace(".", "\\.").replaceAll("\\{[^}]+}", "[^/]+"));
+            this.method = method;
+            this.operation = operation;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.xenosnowfox.openapi3.benchmarks;
+
+import com.xenosnowfox.openapi3.models.schema.Schema;
+import com.xenosnowfox.openapi3.models.schema.SchemaImpl;
+import com.xenosnowfox.openapi3.models.schema.SchemaType;
+import com.xenosnowfox.openapi3.models.schema.SchemaValidator;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares validating request payloads with a compiled {@link SchemaValidator} against walking the {@link Schema} tree for
+ * every payload, as a validator without a compilation step would.
+ *
+ * @since
+ *      1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchemaValidationBenchmark {
+
+    @Param({"VALID", "INVALID"})
+    private Payload payload;
+
+    private Schema schema;
+    private SchemaValidator validator;
+    private JSONObject value;
+
+    /**
+     * Payloads validated against the order schema
+     */
+    public enum Payload {
+        VALID("{\"id\":1042,\"status\":\"shipped\",\"customer\":{\"name\":\"Ada Lovelace\",\"email\":\"ada@example.org\"},"
+                + "\"lines\":[{\"sku\":\"ABC-1234\",\"quantity\":2},{\"sku\":\"XYZ-0001\",\"quantity\":1},"
+                + "{\"sku\":\"QRS-9876\",\"quantity\":12}],\"notes\":null}"),
+        INVALID("{\"id\":1042,\"status\":\"lost\",\"customer\":{\"name\":\"Ada Lovelace\",\"email\":\"ada\"},"
+                + "\"lines\":[{\"sku\":\"ABC-1234\",\"quantity\":2},{\"sku\":\"XYZ-0001\",\"quantity\":1},"
+                + "{\"sku\":\"QRS-9876\",\"quantity\":0}],\"notes\":null}");
+
+        private final String json;
+
+        Payload(final String json) {
+            this.json = json;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        Schema identified = new SchemaImpl()
+                .property("id", new SchemaImpl(SchemaType.INTEGER).minimum(BigDecimal.ONE))
+                .required("id");
+        Schema customer = new SchemaImpl(SchemaType.OBJECT)
+                .property("name", new SchemaImpl(SchemaType.STRING).minLength(1).maxLength(100))
+                .property("email", new SchemaImpl(SchemaType.STRING).pattern("^[^@\\s]+@[^@\\s]+\\.[a-z]{2,}$"))
+                .required("name", "email");
+        Schema line = new SchemaImpl(SchemaType.OBJECT)
+                .property("sku", new SchemaImpl(SchemaType.STRING).pattern("^[A-Z]{3}-[0-9]{4}$"))
+                .property("quantity", new SchemaImpl(SchemaType.INTEGER).minimum(BigDecimal.ONE).maximum(new BigDecimal(999)))
+                .required("sku", "quantity");
+        this.schema = new SchemaImpl(SchemaType.OBJECT)
+                .allOf(identified)
+                .property("status", new SchemaImpl(SchemaType.STRING).enumValues("placed", "approved", "packed", "shipped", "delivered", "cancelled"))
+                .property("customer", customer)
+                .property("lines", new SchemaImpl(SchemaType.ARRAY).items(line).minItems(1).maxItems(100))
+                .property("notes", new SchemaImpl(SchemaType.STRING).nullable(true))
+                .required("status", "customer", "lines");
+
+        this.validator = this.schema.compile();
+        this.value = new JSONObject(this.payload.json);
+    }
+
+    @Benchmark
+    public boolean compiled() {
+        return this.validator.isValid(this.value);
+    }
+
+    @Benchmark
+    public boolean treeWalking() {
+        return TreeWalker.isValid(this.schema, this.value);
+    }
+
+    /**
+     * Interprets the schema model directly, compiling patterns and scanning enumerations on every call
+     */
+    private static final class TreeWalker {
+
+        static boolean isValid(final Schema schema, final Object value) {
+            if (value == JSONObject.NULL && schema.isNullable()) {
+                return true;
+            }
+            if (schema.getType() != null && !isType(schema.getType(), value)) {
+                return false;
+            }
+            if (schema.getEnum() != null && !schema.getEnum().contains(value)) {
+                return false;
+            }
+            if (value instanceof String) {
+                String string = (String) value;
+                int length = string.codePointCount(0, string.length());
+                if ((schema.getMinLength() != null && length < schema.getMinLength())
+                        || (schema.getMaxLength() != null && length > schema.getMaxLength())
+                        || (schema.getPattern() != null && !Pattern.compile(schema.getPattern()).matcher(string).find())) {
+                    return false;
+                }
+            }
+            if (value instanceof Number) {
+                BigDecimal number = new BigDecimal(value.toString());
+                if ((schema.getMinimum() != null && number.compareTo(schema.getMinimum()) < 0)
+                        || (schema.getMaximum() != null && number.compareTo(schema.getMaximum()) > 0)) {
+                    return false;
+                }
+            }
+            if (value instanceof JSONArray) {
+                JSONArray array = (JSONArray) value;
+                if ((schema.getMinItems() != null && array.length() < schema.getMinItems())
+                        || (schema.getMaxItems() != null && array.length() > schema.getMaxItems())) {
+                    return false;
+                }
+                if (schema.getItems() != null) {
+                    for (Object item : array) {
+                        if (!isValid(schema.getItems(), item)) {
+                            return false;
+                        }
+                    }
+                }
+            }
+            if (value instanceof JSONObject) {
+                JSONObject object = (JSONObject) value;
+                if (schema.getRequired() != null) {
+                    for (String name : schema.getRequired()) {
+                        if (!object.has(name)) {
+                            return false;
+                        }
+                    }
+                }
+                for (Map.Entry<String, Schema> property : schema.getProperties().entrySet()) {
+                    if (object.has(property.getKey()) && !isValid(property.getValue(), object.get(property.getKey()))) {
+                        return false;
+                    }
+                }
+            }
+            if (schema.getAllOf() != null) {
+                for (Schema included : schema.getAllOf()) {
+                    if (!isValid(included, value)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private static boolean isType(final SchemaType type, final Object value) {
+            switch (type) {
+                case STRING:
+                    return value instanceof String;
+                case INTEGER:
+                    return value instanceof Integer || value instanceof Long;
+                case NUMBER:
+                    return value instanceof Number;
+                case BOOLEAN:
+                    return value instanceof Boolean;
+                case ARRAY:
+                    return value instanceof JSONArray;
+                default:
+                    return value instanceof JSONObject;
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.xenosnowfox.openapi3.models.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a field of a {@link JsonModel} class as a member of its JSON representation.
+ * Supported field types are {@link String}, {@link java.net.URI} (written as a string and validated as a URL when read),
+ * {@code com.xenosnowfox.openapi3.models.util.Extensions} (the {@code x-} members of the object) and nested
+ * {@code com.xenosnowfox.openapi3.models.util.Jsonable} models. Fields must not be private, so that the generated
+ * serializer can access them directly.
+ *
+ * @since
+ *      1.0.0
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface JsonMember {
+
+    /**
+     * Name of the member, which defaults to the name of the field. Ignored for extensions.
+     *
+     * @return
+     *      Member name
+     * @since
+     *      1.0.0
+     */
+    String value() default "";
+
+    /**
+     * Whether the member must be present, in which case writing a model without it, or reading an object without it,
+     * throws a {@link NullPointerException}. Required strings must also not be blank.
+     *
+     * @return
+     *      true if the member is required
+     * @since
+     *      1.0.0
+     */
+    boolean required() default false;
+
+    /**
+     * Concrete {@link JsonModel} class that a nested object is read into, as the field is usually declared with an interface.
+     * Required for nested models and ignored for all other fields.
+     *
+     * @return
+     *      Model class
+     * @since
+     *      1.0.0
+     */
+    Class<?> model() default Void.class;
+}
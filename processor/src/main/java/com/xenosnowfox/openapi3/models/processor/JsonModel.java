@@ -0,0 +1,21 @@
+package com.xenosnowfox.openapi3.models.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a concrete model class for which {@link JsonModelProcessor} generates a serializer at compile time.
+ * The serializer is named after the model with a {@code Json} suffix, e.g. {@code ContactImplJson}, is placed in the
+ * same package, and reads and writes the fields annotated with {@link JsonMember} directly, without reflection.
+ *
+ * @since
+ *      1.0.0
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface JsonModel {
+}
@@ -0,0 +1,488 @@
+package com.xenosnowfox.openapi3.models.processor;
+
+import org.json.JSONObject;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.MirroredTypeException;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor that generates a serializer for every {@link JsonModel} class at compile time.
+ * The generated class has static {@code toJsonObject}, {@code writeJson} and {@code read} methods that access the
+ * annotated fields directly, so every call site within them is monomorphic and no reflection or class scanning takes
+ * place at runtime. Member names are written from constants that are already quoted, and the order of the members is
+ * computed once by the processor, so the output is identical to {@link JSONObject#toString()} of the same members.
+ * The processor and its annotations live in a module of their own, which the library only depends on at build time.
+ *
+ * @since
+ *      1.0.0
+ */
+@SupportedAnnotationTypes({
+        "com.xenosnowfox.openapi3.models.processor.JsonModel",
+        "com.xenosnowfox.openapi3.models.processor.JsonMember"
+})
+public class JsonModelProcessor extends AbstractProcessor {
+
+    private static final String UTIL = "com.xenosnowfox.openapi3.models.util.";
+
+    // the members of a default sized JSONObject keep their relative order in any subset only while it is not resized
+    private static final int MAX_MEMBERS = 12;
+
+    private enum Kind {
+        STRING, URI, EXTENSIONS, MODEL
+    }
+
+    private static final class Member {
+        private final String field;
+        private final String name;
+        private final Kind kind;
+        private final boolean required;
+        private final String model;
+
+        private Member(final String field, final String name, final Kind kind, final boolean required, final String model) {
+            this.field = field;
+            this.name = name;
+            this.kind = kind;
+            this.required = required;
+            this.model = model;
+        }
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(JsonModel.class)) {
+            TypeElement type = (TypeElement) element;
+            List<Member> members = this.members(type);
+            if (members == null) {
+                continue;
+            }
+            try {
+                this.generate(type, members);
+            } catch (IOException e) {
+                this.error(type, "Could not generate serializer: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Collects and validates the members of a model, reporting every problem as a compilation error
+     *
+     * @return
+     *      Members in declaration order, or null if the model is invalid
+     */
+    private List<Member> members(final TypeElement type) {
+        boolean valid = true;
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)
+                || type.getModifiers().contains(Modifier.PRIVATE)) {
+            this.error(type, "@JsonModel must annotate a concrete, non-private class");
+            return null;
+        }
+        if (!this.isAssignable(type.asType(), UTIL + "Jsonable")) {
+            this.error(type, "@JsonModel classes must implement Jsonable");
+            valid = false;
+        }
+        boolean constructor = false;
+        for (ExecutableElement executable : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (executable.getParameters().isEmpty() && !executable.getModifiers().contains(Modifier.PRIVATE)) {
+                constructor = true;
+            }
+        }
+        if (!constructor) {
+            this.error(type, "@JsonModel classes must have a non-private constructor without parameters");
+            valid = false;
+        }
+
+        List<Member> members = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        int fixed = 0;
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            JsonMember annotation = field.getAnnotation(JsonMember.class);
+            if (annotation == null) {
+                continue;
+            }
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)) {
+                this.error(field, "@JsonMember fields must not be private, static or final");
+                valid = false;
+                continue;
+            }
+
+            TypeMirror fieldType = field.asType();
+            String name = annotation.value().isEmpty() ? field.getSimpleName().toString() : annotation.value();
+            String model = null;
+            Kind kind;
+            if (this.isSame(fieldType, "java.lang.String")) {
+                kind = Kind.STRING;
+            } else if (this.isSame(fieldType, "java.net.URI")) {
+                kind = Kind.URI;
+            } else if (this.isSame(fieldType, UTIL + "Extensions")) {
+                kind = Kind.EXTENSIONS;
+                name = "x-";
+            } else if (this.isAssignable(fieldType, UTIL + "Jsonable")) {
+                kind = Kind.MODEL;
+                model = this.model(field, annotation, fieldType);
+                if (model == null) {
+                    valid = false;
+                    continue;
+                }
+            } else {
+                this.error(field, "Unsupported @JsonMember type: " + fieldType);
+                valid = false;
+                continue;
+            }
+
+            if (kind != Kind.EXTENSIONS) {
+                fixed++;
+                if (name.startsWith("x-")) {
+                    this.error(field, "Member names beginning with x- are reserved for extensions: " + name);
+                    valid = false;
+                }
+            }
+            if (!names.add(name)) {
+                this.error(field, kind == Kind.EXTENSIONS ? "Only one field can hold extensions" : "Duplicate member name: " + name);
+                valid = false;
+            }
+            members.add(new Member(field.getSimpleName().toString(), name, kind, annotation.required(), model));
+        }
+        if (fixed > MAX_MEMBERS) {
+            this.error(type, "@JsonModel classes can have at most " + MAX_MEMBERS + " members besides extensions");
+            valid = false;
+        }
+        return valid ? members : null;
+    }
+
+    private String model(final VariableElement field, final JsonMember annotation, final TypeMirror fieldType) {
+        TypeMirror model;
+        try {
+            annotation.model();
+            throw new IllegalStateException("Class values are only available as type mirrors during processing");
+        } catch (MirroredTypeException e) {
+            model = e.getTypeMirror();
+        }
+        if (this.isSame(model, "java.lang.Void")) {
+            this.error(field, "Nested models require the model attribute, naming the @JsonModel class to read into");
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) model).asElement();
+        if (element.getAnnotation(JsonModel.class) == null || !this.processingEnv.getTypeUtils().isAssignable(model, fieldType)) {
+            this.error(field, "Model " + model + " must be a @JsonModel class that can be assigned to the field");
+            return null;
+        }
+        return element.getQualifiedName().toString();
+    }
+
+    private void generate(final TypeElement type, final List<Member> members) throws IOException {
+        String packageName = this.processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String modelName = type.getQualifiedName().toString();
+        String className = type.getSimpleName() + "Json";
+
+        Member extensions = null;
+        List<Member> fixed = new ArrayList<>();
+        for (Member member : members) {
+            if (member.kind == Kind.EXTENSIONS) {
+                extensions = member;
+            } else {
+                fixed.add(member);
+            }
+        }
+
+        StringBuilder out = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        out.append("/**\n")
+                .append(" * Serializer of {@link ").append(modelName).append("}, generated by {@link ")
+                .append(JsonModelProcessor.class.getName()).append("}.\n")
+                .append(" * Do not edit; annotate the fields of the model instead.\n")
+                .append(" */\n")
+                .append("public final class ").append(className).append(" {\n\n");
+        for (Member member : fixed) {
+            out.append("    private static final String ").append(constant(member)).append(" = ")
+                    .append(literal(JSONObject.quote(member.name) + ":")).append(";\n");
+        }
+        out.append("\n    private ").append(className).append("() {\n    }\n\n");
+
+        this.generateToJsonObject(out, modelName, fixed, extensions);
+        this.generateWriteJson(out, modelName, fixed, extensions);
+        this.generateRead(out, modelName, fixed, extensions);
+        out.append("}\n");
+
+        try (Writer writer = this.processingEnv.getFiler().createSourceFile(packageName.isEmpty() ? className : packageName + "." + className, type).openWriter()) {
+            writer.write(out.toString());
+        }
+    }
+
+    private void generateToJsonObject(final StringBuilder out, final String modelName, final List<Member> fixed, final Member extensions) {
+        out.append("    /**\n")
+                .append("     * Converts the given model into a JSON object\n")
+                .append("     *\n")
+                .append("     * @param model\n")
+                .append("     *      Model to convert\n")
+                .append("     * @return\n")
+                .append("     *      JSON object\n")
+                .append("     */\n")
+                .append("    public static org.json.JSONObject toJsonObject(final ").append(modelName).append(" model) {\n")
+                .append("        long start = com.xenosnowfox.openapi3.models.metrics.SerializationMetrics.start();\n");
+        validate(out, fixed, "has not been defined");
+        out.append("        org.json.JSONObject jsonObject = new org.json.JSONObject();\n");
+        for (Member member : fixed) {
+            String put = "jsonObject.put(" + literal(member.name) + ", " + value(member, true) + ");\n";
+            if (member.required) {
+                out.append("        ").append(put);
+            } else {
+                out.append("        if (model.").append(member.field).append(" != null) {\n")
+                        .append("            ").append(put)
+                        .append("        }\n");
+            }
+        }
+        if (extensions != null) {
+            out.append("        model.").append(extensions.field).append(".putAll(jsonObject);\n");
+        }
+        out.append("        com.xenosnowfox.openapi3.models.metrics.SerializationMetrics.converted(model, start);\n")
+                .append("        return jsonObject;\n")
+                .append("    }\n\n");
+    }
+
+    private void generateWriteJson(final StringBuilder out, final String modelName, final List<Member> fixed, final Member extensions) {
+        out.append("    /**\n")
+                .append("     * Writes the given model, with its members in the same order as {@link org.json.JSONObject#toString()}\n")
+                .append("     *\n")
+                .append("     * @param model\n")
+                .append("     *      Model to write\n")
+                .append("     * @param writer\n")
+                .append("     *      Writer to write the model to\n")
+                .append("     * @throws java.io.IOException\n")
+                .append("     *      if the writer could not be written to\n")
+                .append("     */\n")
+                .append("    public static void writeJson(final ").append(modelName).append(" model, final ").append(UTIL)
+                .append("JsonWriter writer) throws java.io.IOException {\n");
+        validate(out, fixed, "has not been defined");
+
+        // the order of a default sized JSONObject depends on the hash of the names only, so it can be computed now
+        Map<String, Member> order = new HashMap<>();
+        for (Member member : fixed) {
+            order.put(member.name, member);
+        }
+
+        out.append("        writer.beginObject();\n");
+        String indent = "        ";
+        if (extensions != null) {
+            out.append("        if (model.").append(extensions.field).append(".isEmpty()) {\n");
+            indent = "            ";
+        }
+        for (Member member : order.values()) {
+            if (member.required) {
+                out.append(indent).append(write(member)).append('\n');
+            } else {
+                out.append(indent).append("if (model.").append(member.field).append(" != null) {\n")
+                        .append(indent).append("    ").append(write(member)).append('\n')
+                        .append(indent).append("}\n");
+            }
+        }
+        if (extensions != null) {
+            out.append("        } else {\n")
+                    .append("            for (String member : model.").append(extensions.field).append(".memberOrder(");
+            for (int i = 0; i < fixed.size(); i++) {
+                Member member = fixed.get(i);
+                if (i > 0) {
+                    out.append(", ");
+                }
+                if (member.required) {
+                    out.append(literal(member.name));
+                } else {
+                    out.append("model.").append(member.field).append(" == null ? null : ").append(literal(member.name));
+                }
+            }
+            out.append(")) {\n")
+                    .append("                switch (member) {\n");
+            for (Member member : fixed) {
+                out.append("                    case ").append(literal(member.name)).append(":\n")
+                        .append("                        ").append(write(member)).append('\n')
+                        .append("                        break;\n");
+            }
+            out.append("                    default:\n")
+                    .append("                        model.").append(extensions.field).append(".writeMember(writer, member);\n")
+                    .append("                }\n")
+                    .append("            }\n")
+                    .append("        }\n");
+        }
+        out.append("        writer.endObject();\n")
+                .append("    }\n\n");
+    }
+
+    private void generateRead(final StringBuilder out, final String modelName, final List<Member> fixed, final Member extensions) {
+        out.append("    /**\n")
+                .append("     * Reads a model from the given reader. Unknown members are skipped.\n")
+                .append("     *\n")
+                .append("     * @param reader\n")
+                .append("     *      Reader positioned at the start of an object\n")
+                .append("     * @return\n")
+                .append("     *      Model\n")
+                .append("     * @throws java.io.IOException\n")
+                .append("     *      if the object could not be read\n")
+                .append("     */\n")
+                .append("    public static ").append(modelName).append(" read(final ").append(UTIL)
+                .append("JsonReader reader) throws java.io.IOException {\n")
+                .append("        ").append(modelName).append(" model = new ").append(modelName).append("();\n");
+        if (extensions != null) {
+            out.append("        ").append(UTIL).append("Extensions extensions = ").append(UTIL).append("Extensions.EMPTY;\n");
+        }
+        out.append("        reader.beginObject();\n")
+                .append("        while (reader.hasNext()) {\n")
+                .append("            String name = reader.nextName();\n")
+                .append("            if (reader.peek() == ").append(UTIL).append("JsonReader.Token.NULL) {\n")
+                .append("                reader.nextNull();\n")
+                .append("                continue;\n")
+                .append("            }\n")
+                .append("            switch (name) {\n");
+        for (Member member : fixed) {
+            String value;
+            switch (member.kind) {
+                case URI:
+                    value = UTIL + "Urls.parse(reader.nextString())";
+                    break;
+                case MODEL:
+                    value = member.model + "Json.read(reader)";
+                    break;
+                default:
+                    value = "reader.nextString()";
+            }
+            out.append("                case ").append(literal(member.name)).append(":\n")
+                    .append("                    model.").append(member.field).append(" = ").append(value).append(";\n")
+                    .append("                    break;\n");
+        }
+        out.append("                default:\n");
+        if (extensions != null) {
+            out.append("                    if (name.startsWith(\"x-\")) {\n")
+                    .append("                        extensions = extensions.with(name, reader.nextRawValue());\n")
+                    .append("                    } else {\n")
+                    .append("                        reader.skipValue();\n")
+                    .append("                    }\n");
+        } else {
+            out.append("                    reader.skipValue();\n");
+        }
+        out.append("            }\n")
+                .append("        }\n")
+                .append("        reader.endObject();\n");
+        validate(out, fixed, null);
+        if (extensions != null) {
+            out.append("        model.").append(extensions.field).append(" = extensions;\n");
+        }
+        out.append("        return model;\n")
+                .append("    }\n");
+    }
+
+    /**
+     * Appends the checks of the required members, with the given message or the message of the model setters if null
+     */
+    private static void validate(final StringBuilder out, final List<Member> fixed, final String message) {
+        for (Member member : fixed) {
+            if (!member.required) {
+                continue;
+            }
+            String field = "model." + member.field;
+            String label = Character.toUpperCase(member.name.charAt(0)) + member.name.substring(1);
+            out.append("        if (").append(field).append(" == null");
+            if (member.kind == Kind.STRING) {
+                out.append(" || ").append(field).append(".trim().isEmpty()");
+            }
+            out.append(") {\n")
+                    .append("            throw new NullPointerException(")
+                    .append(literal(label + " " + (message != null ? message : member.kind == Kind.STRING ? "cannot be null or blank" : "cannot be null")))
+                    .append(");\n")
+                    .append("        }\n");
+        }
+    }
+
+    private static String write(final Member member) {
+        return "writer.name(" + literal(member.name) + ", " + constant(member) + ").value(" + value(member, false) + ");";
+    }
+
+    private static String value(final Member member, final boolean jsonObject) {
+        String field = "model." + member.field;
+        switch (member.kind) {
+            case URI:
+                return field + ".toString()";
+            case MODEL:
+                return jsonObject ? field + ".toJsonObject()" : field;
+            default:
+                return field;
+        }
+    }
+
+    /**
+     * Derives the name of the constant holding the encoded member name from the field, e.g. {@code TERMS_OF_SERVICE}
+     */
+    private static String constant(final Member member) {
+        StringBuilder constant = new StringBuilder();
+        for (char c : member.field.toCharArray()) {
+            if (Character.isUpperCase(c) && constant.length() > 0) {
+                constant.append('_');
+            }
+            constant.append(Character.toUpperCase(c));
+        }
+        return constant.toString();
+    }
+
+    /**
+     * Encodes the given string as a Java string literal
+     */
+    private static String literal(final String string) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : string.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                literal.append('\\').append(c);
+            } else if (c < ' ' || c == '\u007f') {
+                // octal, as unicode escapes of line terminators are translated before the literal is parsed
+                literal.append(String.format("\\%03o", (int) c));
+            } else if (c > '~') {
+                literal.append(String.format("\\u%04x", (int) c));
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private boolean isSame(final TypeMirror type, final String className) {
+        TypeElement element = this.processingEnv.getElementUtils().getTypeElement(className);
+        return element != null && this.processingEnv.getTypeUtils().isSameType(type, element.asType());
+    }
+
+    private boolean isAssignable(final TypeMirror type, final String className) {
+        TypeElement element = this.processingEnv.getElementUtils().getTypeElement(className);
+        return element != null && type.getKind() == TypeKind.DECLARED
+                && this.processingEnv.getTypeUtils().isAssignable(type, element.asType());
+    }
+
+    private void error(final Element element, final String message) {
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
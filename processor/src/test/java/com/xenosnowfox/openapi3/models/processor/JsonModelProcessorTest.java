@@ -0,0 +1,191 @@
+package com.xenosnowfox.openapi3.models.processor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonModelProcessorTest {
+
+    // the library types the processor looks up by name, reduced to what it checks
+    private static final String JSONABLE = "package com.xenosnowfox.openapi3.models.util;\n"
+            + "public interface Jsonable {}\n";
+    private static final String EXTENSIONS = "package com.xenosnowfox.openapi3.models.util;\n"
+            + "public final class Extensions {}\n";
+    private static final String JSON_READER = "package com.xenosnowfox.openapi3.models.util;\n"
+            + "public final class JsonReader {}\n";
+    private static final String JSON_WRITER = "package com.xenosnowfox.openapi3.models.util;\n"
+            + "public final class JsonWriter {}\n";
+
+    private static final String IMPORTS = "package com.example;\n"
+            + "import com.xenosnowfox.openapi3.models.processor.JsonMember;\n"
+            + "import com.xenosnowfox.openapi3.models.processor.JsonModel;\n"
+            + "import com.xenosnowfox.openapi3.models.util.Extensions;\n"
+            + "import com.xenosnowfox.openapi3.models.util.Jsonable;\n"
+            + "import java.net.URI;\n";
+
+    private Path generated;
+
+    @BeforeEach
+    void createOutputDirectory() throws IOException {
+        this.generated = Files.createTempDirectory("generated");
+    }
+
+    @AfterEach
+    void deleteOutputDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(this.generated)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Runs the processor over the given model without compiling it, returning the error messages it reported
+     */
+    private List<String> process(final String model) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<JavaFileObject> sources = Arrays.asList(
+                source("com/xenosnowfox/openapi3/models/util/Jsonable", JSONABLE),
+                source("com/xenosnowfox/openapi3/models/util/Extensions", EXTENSIONS),
+                source("com/xenosnowfox/openapi3/models/util/JsonReader", JSON_READER),
+                source("com/xenosnowfox/openapi3/models/util/JsonWriter", JSON_WRITER),
+                source("com/example/Models", IMPORTS + model));
+        List<String> options = Arrays.asList(
+                "-proc:only",
+                "-processor", JsonModelProcessor.class.getName(),
+                "-classpath", System.getProperty("java.class.path"),
+                "-s", this.generated.toString());
+        compiler.getTask(null, null, diagnostics, options, null, sources).call();
+
+        List<String> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(diagnostic.getMessage(null));
+            }
+        }
+        return errors;
+    }
+
+    private static JavaFileObject source(final String name, final String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + name + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+
+    private String generated(final String className) throws IOException {
+        return new String(Files.readAllBytes(this.generated.resolve("com/example/" + className + ".java")), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void generatesSerializerOfValidModel() throws IOException {
+        List<String> errors = this.process("@JsonModel class Pet implements Jsonable {\n"
+                + "    @JsonMember(required = true) String name;\n"
+                + "    @JsonMember(\"homepage\") URI url;\n"
+                + "    @JsonMember(model = Owner.class) Jsonable owner;\n"
+                + "    @JsonMember Extensions extensions;\n"
+                + "    int ignored;\n"
+                + "}\n"
+                + "@JsonModel class Owner implements Jsonable {\n"
+                + "}\n");
+
+        assertThat(errors).isEmpty();
+        String pet = this.generated("PetJson");
+        assertThat(pet)
+                .contains("public final class PetJson")
+                .contains("private static final String NAME = \"\\\"name\\\":\";")
+                .contains("private static final String URL = \"\\\"homepage\\\":\";")
+                .contains("model.owner = com.example.OwnerJson.read(reader);")
+                .contains("throw new NullPointerException(\"Name cannot be null or blank\");")
+                .doesNotContain("ignored");
+        assertThat(this.generated("OwnerJson")).contains("public final class OwnerJson");
+    }
+
+    @Test
+    void rejectsPrivateStaticAndFinalFields() {
+        assertThat(this.process("@JsonModel class Pet implements Jsonable {\n"
+                + "    @JsonMember private String a;\n"
+                + "    @JsonMember static String b;\n"
+                + "    @JsonMember final String c = null;\n"
+                + "}\n")).containsExactly(
+                "@JsonMember fields must not be private, static or final",
+                "@JsonMember fields must not be private, static or final",
+                "@JsonMember fields must not be private, static or final");
+    }
+
+    @Test
+    void rejectsDuplicateAndReservedNames() {
+        assertThat(this.process("@JsonModel class Pet implements Jsonable {\n"
+                + "    @JsonMember String name;\n"
+                + "    @JsonMember(\"name\") String title;\n"
+                + "    @JsonMember(\"x-internal\") String internal;\n"
+                + "    @JsonMember Extensions extensions;\n"
+                + "    @JsonMember Extensions more;\n"
+                + "}\n")).containsExactly(
+                "Duplicate member name: name",
+                "Member names beginning with x- are reserved for extensions: x-internal",
+                "Only one field can hold extensions");
+    }
+
+    @Test
+    void rejectsMoreMembersThanKeepTheirOrder() {
+        StringBuilder model = new StringBuilder("@JsonModel class Pet implements Jsonable {\n");
+        for (int i = 0; i < 12; i++) {
+            model.append("    @JsonMember String member").append(i).append(";\n");
+        }
+        model.append("    @JsonMember Extensions extensions;\n");
+        assertThat(this.process(model + "}\n")).isEmpty();
+
+        model.append("    @JsonMember String member12;\n");
+        assertThat(this.process(model + "}\n"))
+                .containsExactly("@JsonModel classes can have at most 12 members besides extensions");
+    }
+
+    @Test
+    void rejectsNestedModelsWithoutModelClass() {
+        assertThat(this.process("@JsonModel class Pet implements Jsonable {\n"
+                + "    @JsonMember Jsonable owner;\n"
+                + "    @JsonMember(model = Plain.class) Jsonable other;\n"
+                + "}\n"
+                + "class Plain implements Jsonable {\n"
+                + "}\n")).containsExactly(
+                "Nested models require the model attribute, naming the @JsonModel class to read into",
+                "Model com.example.Plain must be a @JsonModel class that can be assigned to the field");
+    }
+
+    @Test
+    void rejectsUnsupportedClassesAndFields() {
+        assertThat(this.process("@JsonModel abstract class Pet implements Jsonable {\n"
+                + "}\n")).containsExactly("@JsonModel must annotate a concrete, non-private class");
+        assertThat(this.process("@JsonModel class Pet {\n"
+                + "    private Pet() {}\n"
+                + "    @JsonMember int age;\n"
+                + "}\n")).containsExactly(
+                "@JsonModel classes must implement Jsonable",
+                "@JsonModel classes must have a non-private constructor without parameters",
+                "Unsupported @JsonMember type: int");
+    }
+}
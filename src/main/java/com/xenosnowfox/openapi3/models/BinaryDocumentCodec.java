@@ -0,0 +1,675 @@
+package com.xenosnowfox.openapi3.models;
+
+import com.xenosnowfox.openapi3.models.components.Components;
+import com.xenosnowfox.openapi3.models.info.Contact;
+import com.xenosnowfox.openapi3.models.info.ContactImpl;
+import com.xenosnowfox.openapi3.models.info.Info;
+import com.xenosnowfox.openapi3.models.info.InfoImpl;
+import com.xenosnowfox.openapi3.models.info.License;
+import com.xenosnowfox.openapi3.models.info.LicenseImpl;
+import com.xenosnowfox.openapi3.models.paths.HttpMethod;
+import com.xenosnowfox.openapi3.models.paths.Operation;
+import com.xenosnowfox.openapi3.models.paths.OperationImpl;
+import com.xenosnowfox.openapi3.models.paths.PathItem;
+import com.xenosnowfox.openapi3.models.paths.PathItemImpl;
+import com.xenosnowfox.openapi3.models.paths.Paths;
+import com.xenosnowfox.openapi3.models.paths.PathsImpl;
+import com.xenosnowfox.openapi3.models.util.Extensions;
+import com.xenosnowfox.openapi3.models.util.JsonReader;
+import com.xenosnowfox.openapi3.models.util.RawJson;
+import com.xenosnowfox.openapi3.models.util.Urls;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of a {@link Document}, intended for caching documents between services.
+ * Both encoding and decoding stream directly between the models and the underlying stream.
+ *
+ * <p>The encoding starts with the magic bytes {@code OA3B} followed by a format version byte, and is followed by the
+ * document object. Every object is a sequence of fields terminated by a zero tag. A field starts with a varint tag of
+ * {@code (fieldNumber << 1) | kind}, where kind 0 is a string and kind 1 is a nested object, so that decoders can
+ * skip fields they do not know. A string is a varint of {@code (length << 1)} followed by its UTF-8 bytes on first
+ * occurrence, and a varint of {@code (index << 1) | 1} referring to a previously written string afterwards.</p>
+ *
+ * <p>Paths are encoded as a repeated path item field, each holding its path template as a string field. Operations are
+ * keyed by a field number derived from their HTTP method, and a deprecated operation has the string {@code true} as its
+ * deprecated field. Documents without paths are encoded exactly as before paths were supported, and decoders that do
+ * not support paths skip them.</p>
+ *
+ * <p>Components are encoded as a string field holding their JSON representation, as schemas are open-ended and are
+ * rarely on the hot path of a cache. The same applies: documents without components are encoded as before.</p>
+ *
+ * <p>Specification extensions of the info, contact and license objects are encoded as a repeated extension field, each
+ * holding the extension name and its raw JSON value as string fields, so that names repeated across objects are only
+ * written once.</p>
+ *
+ * @since
+ *      1.0.0
+ */
+public class BinaryDocumentCodec {
+
+    private static final byte[] MAGIC = {'O', 'A', '3', 'B'};
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int KIND_STRING = 0;
+    private static final int KIND_OBJECT = 1;
+    private static final int END = 0;
+
+    private static final int DOCUMENT_INFO = 1;
+    private static final int DOCUMENT_PATHS = 2;
+    private static final int DOCUMENT_COMPONENTS = 3;
+
+    private static final int INFO_TITLE = 1;
+    private static final int INFO_VERSION = 2;
+    private static final int INFO_DESCRIPTION = 3;
+    private static final int INFO_TERMS_OF_SERVICE = 4;
+    private static final int INFO_CONTACT = 5;
+    private static final int INFO_LICENSE = 6;
+    private static final int INFO_EXTENSION = 7;
+
+    private static final int CONTACT_NAME = 1;
+    private static final int CONTACT_EMAIL = 2;
+    private static final int CONTACT_URL = 3;
+    private static final int CONTACT_EXTENSION = 4;
+
+    private static final int LICENSE_NAME = 1;
+    private static final int LICENSE_URL = 2;
+    private static final int LICENSE_EXTENSION = 3;
+
+    private static final int EXTENSION_NAME = 1;
+    private static final int EXTENSION_VALUE = 2;
+
+    private static final int PATHS_PATH_ITEM = 1;
+
+    private static final int PATH_ITEM_PATH = 1;
+    private static final int PATH_ITEM_SUMMARY = 2;
+    private static final int PATH_ITEM_DESCRIPTION = 3;
+    // followed by one field per HTTP method, in declaration order
+    private static final int PATH_ITEM_OPERATIONS = 8;
+
+    private static final int OPERATION_ID = 1;
+    private static final int OPERATION_SUMMARY = 2;
+    private static final int OPERATION_DESCRIPTION = 3;
+    private static final int OPERATION_DEPRECATED = 4;
+
+    // bounds the work done on malformed or hostile input; no valid document comes close to either limit
+    private static final int MAX_STRING_LENGTH = 64 << 20;
+    private static final int MAX_SKIPPED_DEPTH = 64;
+
+    private static final HttpMethod[] METHODS = HttpMethod.values();
+    private static final DocumentReader READER = new DocumentReader();
+
+    /**
+     * Encodes the given document
+     *
+     * @param document
+     *      Document to encode
+     * @return
+     *      Encoded document
+     * @throws IOException
+     *      if the document could not be encoded
+     * @since
+     *      1.0.0
+     */
+    public byte[] encode(final Document document) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        this.encode(document, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Encodes the given document to the given output stream. The stream is flushed but not closed.
+     *
+     * @param document
+     *      Document to encode
+     * @param outputStream
+     *      Destination of the encoded document
+     * @throws IOException
+     *      if the document could not be encoded
+     * @since
+     *      1.0.0
+     */
+    public void encode(final Document document, final OutputStream outputStream) throws IOException {
+        Info info = document.getInfo();
+        if (info == null) {
+            throw new NullPointerException("Info has not been defined");
+        }
+
+        Encoder encoder = new Encoder(outputStream);
+        encoder.writeRaw(MAGIC);
+        encoder.writeVarint(FORMAT_VERSION);
+        encoder.beginObject(DOCUMENT_INFO);
+        this.encodeInfo(info, encoder);
+        encoder.endObject();
+        Paths paths = document.getPaths();
+        if (paths != null) {
+            encoder.beginObject(DOCUMENT_PATHS);
+            this.encodePaths(paths, encoder);
+            encoder.endObject();
+        }
+        Components components = document.getComponents();
+        if (components != null) {
+            encoder.writeString(DOCUMENT_COMPONENTS, components.toJsonObject().toString());
+        }
+        encoder.endObject();
+        encoder.flush();
+    }
+
+    private void encodeInfo(final Info info, final Encoder encoder) throws IOException {
+        String title = info.getTitle();
+        if (title == null || title.trim().isEmpty()) {
+            throw new NullPointerException("Title has not been defined");
+        }
+        String version = info.getVersion();
+        if (version == null || version.trim().isEmpty()) {
+            throw new NullPointerException("Version has not been defined");
+        }
+
+        encoder.writeString(INFO_TITLE, title);
+        encoder.writeString(INFO_VERSION, version);
+        encoder.writeString(INFO_DESCRIPTION, info.getDescription());
+        URI termsOfService = info.getTermsOfServiceUri();
+        if (termsOfService != null) {
+            encoder.writeString(INFO_TERMS_OF_SERVICE, termsOfService.toString());
+        }
+
+        this.encodeExtensions(INFO_EXTENSION, info.getExtensions(), encoder);
+
+        Contact contact = info.getContact();
+        if (contact != null) {
+            encoder.beginObject(INFO_CONTACT);
+            encoder.writeString(CONTACT_NAME, contact.getName());
+            encoder.writeString(CONTACT_EMAIL, contact.getEmail());
+            URI url = contact.getUri();
+            if (url != null) {
+                encoder.writeString(CONTACT_URL, url.toString());
+            }
+            this.encodeExtensions(CONTACT_EXTENSION, contact.getExtensions(), encoder);
+            encoder.endObject();
+        }
+
+        License license = info.getLicense();
+        if (license != null) {
+            String name = license.getName();
+            if (name == null || name.trim().isEmpty()) {
+                throw new NullPointerException("Name has not been defined");
+            }
+            encoder.beginObject(INFO_LICENSE);
+            encoder.writeString(LICENSE_NAME, name);
+            URI url = license.getUri();
+            if (url != null) {
+                encoder.writeString(LICENSE_URL, url.toString());
+            }
+            this.encodeExtensions(LICENSE_EXTENSION, license.getExtensions(), encoder);
+            encoder.endObject();
+        }
+    }
+
+    private void encodeExtensions(final int field, final Extensions extensions, final Encoder encoder) throws IOException {
+        for (int i = 0; i < extensions.size(); i++) {
+            encoder.beginObject(field);
+            encoder.writeString(EXTENSION_NAME, extensions.getName(i));
+            encoder.writeString(EXTENSION_VALUE, extensions.getRawValue(i).toJSONString());
+            encoder.endObject();
+        }
+    }
+
+    private void encodePaths(final Paths paths, final Encoder encoder) throws IOException {
+        for (Map.Entry<String, PathItem> entry : paths.getPathItems().entrySet()) {
+            PathItem pathItem = entry.getValue();
+            encoder.beginObject(PATHS_PATH_ITEM);
+            encoder.writeString(PATH_ITEM_PATH, entry.getKey());
+            encoder.writeString(PATH_ITEM_SUMMARY, pathItem.getSummary());
+            encoder.writeString(PATH_ITEM_DESCRIPTION, pathItem.getDescription());
+            for (HttpMethod method : METHODS) {
+                Operation operation = pathItem.getOperation(method);
+                if (operation != null) {
+                    encoder.beginObject(PATH_ITEM_OPERATIONS + method.ordinal());
+                    encoder.writeString(OPERATION_ID, operation.getOperationId());
+                    encoder.writeString(OPERATION_SUMMARY, operation.getSummary());
+                    encoder.writeString(OPERATION_DESCRIPTION, operation.getDescription());
+                    if (operation.isDeprecated()) {
+                        encoder.writeString(OPERATION_DEPRECATED, "true");
+                    }
+                    encoder.endObject();
+                }
+            }
+            encoder.endObject();
+        }
+    }
+
+    /**
+     * Decodes a document from the given bytes
+     *
+     * @param bytes
+     *      Encoded document
+     * @return
+     *      Document
+     * @throws IOException
+     *      if the bytes do not contain a valid encoded document
+     * @since
+     *      1.0.0
+     */
+    public Document decode(final byte[] bytes) throws IOException {
+        return this.decode(new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * Decodes a document from the given input stream. The stream is not closed, and input is read ahead in blocks so
+     * bytes following the document may be consumed.
+     * The same validation rules as the model setters are applied, so a missing or blank title, version or license name
+     * results in a {@link NullPointerException}. Strings longer than 64 MiB and unknown fields nested more than 64
+     * levels deep are rejected as malformed, and the read buffer only grows as bytes actually arrive.
+     *
+     * @param inputStream
+     *      Stream containing an encoded document
+     * @return
+     *      Document
+     * @throws IOException
+     *      if the stream does not contain a valid encoded document
+     * @since
+     *      1.0.0
+     */
+    public Document decode(final InputStream inputStream) throws IOException {
+        Decoder decoder = new Decoder(inputStream);
+        for (byte magic : MAGIC) {
+            if (decoder.readByte() != magic) {
+                throw new IOException("Not a binary OpenAPI document");
+            }
+        }
+        int formatVersion = decoder.readVarint();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported binary format version " + formatVersion);
+        }
+
+        Document document = new OpenApiDocument();
+        int tag;
+        while ((tag = decoder.readVarint()) != END) {
+            if (tag == (DOCUMENT_INFO << 1 | KIND_OBJECT)) {
+                document.setInfo(this.decodeInfo(decoder));
+            } else if (tag == (DOCUMENT_PATHS << 1 | KIND_OBJECT)) {
+                document.setPaths(this.decodePaths(decoder));
+            } else if (tag == (DOCUMENT_COMPONENTS << 1 | KIND_STRING)) {
+                byte[] json = decoder.readString().getBytes(StandardCharsets.UTF_8);
+                document.setComponents(READER.readComponents(new JsonReader(json)));
+            } else {
+                decoder.skip(tag);
+            }
+        }
+        if (document.getInfo() == null) {
+            throw new NullPointerException("Info has not been defined");
+        }
+        return document;
+    }
+
+    private Info decodeInfo(final Decoder decoder) throws IOException {
+        String title = null;
+        String version = null;
+        String description = null;
+        URI termsOfService = null;
+        Contact contact = null;
+        License license = null;
+        Extensions extensions = Extensions.EMPTY;
+
+        int tag;
+        while ((tag = decoder.readVarint()) != END) {
+            switch (tag) {
+                case INFO_TITLE << 1:
+                    title = decoder.readString();
+                    break;
+                case INFO_VERSION << 1:
+                    version = decoder.readString();
+                    break;
+                case INFO_DESCRIPTION << 1:
+                    description = decoder.readString();
+                    break;
+                case INFO_TERMS_OF_SERVICE << 1:
+                    termsOfService = Urls.parse(decoder.readString());
+                    break;
+                case INFO_CONTACT << 1 | KIND_OBJECT:
+                    contact = this.decodeContact(decoder);
+                    break;
+                case INFO_LICENSE << 1 | KIND_OBJECT:
+                    license = this.decodeLicense(decoder);
+                    break;
+                case INFO_EXTENSION << 1 | KIND_OBJECT:
+                    extensions = this.decodeExtension(decoder, extensions);
+                    break;
+                default:
+                    decoder.skip(tag);
+            }
+        }
+
+        Info info = new InfoImpl(title, version);
+        info.setDescription(description);
+        info.setTermsOfServiceUri(termsOfService);
+        info.setContact(contact);
+        info.setLicense(license);
+        info.setExtensions(extensions);
+        return info;
+    }
+
+    private Contact decodeContact(final Decoder decoder) throws IOException {
+        Contact contact = new ContactImpl();
+        int tag;
+        while ((tag = decoder.readVarint()) != END) {
+            switch (tag) {
+                case CONTACT_NAME << 1:
+                    contact.setName(decoder.readString());
+                    break;
+                case CONTACT_EMAIL << 1:
+                    contact.setEmail(decoder.readString());
+                    break;
+                case CONTACT_URL << 1:
+                    contact.setUri(Urls.parse(decoder.readString()));
+                    break;
+                case CONTACT_EXTENSION << 1 | KIND_OBJECT:
+                    contact.setExtensions(this.decodeExtension(decoder, contact.getExtensions()));
+                    break;
+                default:
+                    decoder.skip(tag);
+            }
+        }
+        return contact;
+    }
+
+    private License decodeLicense(final Decoder decoder) throws IOException {
+        String name = null;
+        URI url = null;
+        Extensions extensions = Extensions.EMPTY;
+        int tag;
+        while ((tag = decoder.readVarint()) != END) {
+            switch (tag) {
+                case LICENSE_NAME << 1:
+                    name = decoder.readString();
+                    break;
+                case LICENSE_URL << 1:
+                    url = Urls.parse(decoder.readString());
+                    break;
+                case LICENSE_EXTENSION << 1 | KIND_OBJECT:
+                    extensions = this.decodeExtension(decoder, extensions);
+                    break;
+                default:
+                    decoder.skip(tag);
+            }
+        }
+
+        License license = new LicenseImpl(name);
+        license.setUri(url);
+        license.setExtensions(extensions);
+        return license;
+    }
+
+    private Extensions decodeExtension(final Decoder decoder, final Extensions extensions) throws IOException {
+        String name = null;
+        String value = null;
+        int tag;
+        while ((tag = decoder.readVarint()) != END) {
+            switch (tag) {
+                case EXTENSION_NAME << 1:
+                    name = decoder.readString();
+                    break;
+                case EXTENSION_VALUE << 1:
+                    value = decoder.readString();
+                    break;
+                default:
+                    decoder.skip(tag);
+            }
+        }
+        if (name == null || value == null) {
+            throw new IOException("Malformed extension");
+        }
+        return extensions.with(name, RawJson.parse(value));
+    }
+
+    private Paths decodePaths(final Decoder decoder) throws IOException {
+        Paths paths = new PathsImpl();
+        int tag;
+        while ((tag = decoder.readVarint()) != END) {
+            if (tag == (PATHS_PATH_ITEM << 1 | KIND_OBJECT)) {
+                this.decodePathItem(decoder, paths);
+            } else {
+                decoder.skip(tag);
+            }
+        }
+        return paths;
+    }
+
+    private void decodePathItem(final Decoder decoder, final Paths paths) throws IOException {
+        String path = null;
+        PathItem pathItem = new PathItemImpl();
+        int tag;
+        while ((tag = decoder.readVarint()) != END) {
+            int field = tag >>> 1;
+            if (tag == (PATH_ITEM_PATH << 1)) {
+                path = decoder.readString();
+            } else if (tag == (PATH_ITEM_SUMMARY << 1)) {
+                pathItem.setSummary(decoder.readString());
+            } else if (tag == (PATH_ITEM_DESCRIPTION << 1)) {
+                pathItem.setDescription(decoder.readString());
+            } else if ((tag & 1) == KIND_OBJECT && field >= PATH_ITEM_OPERATIONS && field < PATH_ITEM_OPERATIONS + METHODS.length) {
+                pathItem.setOperation(METHODS[field - PATH_ITEM_OPERATIONS], this.decodeOperation(decoder));
+            } else {
+                decoder.skip(tag);
+            }
+        }
+        paths.setPathItem(path, pathItem);
+    }
+
+    private Operation decodeOperation(final Decoder decoder) throws IOException {
+        Operation operation = new OperationImpl();
+        int tag;
+        while ((tag = decoder.readVarint()) != END) {
+            switch (tag) {
+                case OPERATION_ID << 1:
+                    operation.setOperationId(decoder.readString());
+                    break;
+                case OPERATION_SUMMARY << 1:
+                    operation.setSummary(decoder.readString());
+                    break;
+                case OPERATION_DESCRIPTION << 1:
+                    operation.setDescription(decoder.readString());
+                    break;
+                case OPERATION_DEPRECATED << 1:
+                    operation.setDeprecated(Boolean.parseBoolean(decoder.readString()));
+                    break;
+                default:
+                    decoder.skip(tag);
+            }
+        }
+        return operation;
+    }
+
+    /**
+     * Buffered writer of tags, varints and table-backed strings
+     */
+    private static final class Encoder {
+
+        private final OutputStream outputStream;
+        private final byte[] buffer = new byte[1024];
+        private int position = 0;
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        Encoder(final OutputStream outputStream) {
+            this.outputStream = outputStream;
+        }
+
+        void beginObject(final int field) throws IOException {
+            this.writeVarint(field << 1 | KIND_OBJECT);
+        }
+
+        void endObject() throws IOException {
+            this.writeVarint(END);
+        }
+
+        void writeString(final int field, final String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            this.writeVarint(field << 1 | KIND_STRING);
+
+            Integer index = this.strings.get(value);
+            if (index != null) {
+                this.writeVarint(index << 1 | 1);
+                return;
+            }
+            this.strings.put(value, this.strings.size());
+
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            this.writeVarint(bytes.length << 1);
+            this.writeRaw(bytes);
+        }
+
+        void writeVarint(final int value) throws IOException {
+            if (this.position > this.buffer.length - 5) {
+                this.drain();
+            }
+            int remaining = value;
+            while ((remaining & ~0x7F) != 0) {
+                this.buffer[this.position++] = (byte) ((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            this.buffer[this.position++] = (byte) remaining;
+        }
+
+        void writeRaw(final byte[] bytes) throws IOException {
+            if (bytes.length > this.buffer.length - this.position) {
+                this.drain();
+                if (bytes.length > this.buffer.length) {
+                    this.outputStream.write(bytes);
+                    return;
+                }
+            }
+            System.arraycopy(bytes, 0, this.buffer, this.position, bytes.length);
+            this.position += bytes.length;
+        }
+
+        void flush() throws IOException {
+            this.drain();
+            this.outputStream.flush();
+        }
+
+        private void drain() throws IOException {
+            if (this.position > 0) {
+                this.outputStream.write(this.buffer, 0, this.position);
+                this.position = 0;
+            }
+        }
+    }
+
+    /**
+     * Buffered reader of tags, varints and table-backed strings
+     */
+    private static final class Decoder {
+
+        private final InputStream inputStream;
+        private byte[] buffer = new byte[1024];
+        private int position = 0;
+        private int limit = 0;
+        private final List<String> strings = new ArrayList<>();
+
+        Decoder(final InputStream inputStream) {
+            this.inputStream = inputStream;
+        }
+
+        byte readByte() throws IOException {
+            if (this.position == this.limit) {
+                this.fill(1);
+            }
+            return this.buffer[this.position++];
+        }
+
+        int readVarint() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                byte b = this.readByte();
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed varint");
+        }
+
+        String readString() throws IOException {
+            int header = this.readVarint();
+            if ((header & 1) == 1) {
+                int index = header >>> 1;
+                if (index >= this.strings.size()) {
+                    throw new IOException("Invalid string reference " + index);
+                }
+                return this.strings.get(index);
+            }
+
+            int length = header >>> 1;
+            if (length > MAX_STRING_LENGTH) {
+                throw new IOException("String length " + length + " exceeds the maximum of " + MAX_STRING_LENGTH);
+            }
+            if (this.limit - this.position < length) {
+                this.fill(length);
+            }
+            String value = new String(this.buffer, this.position, length, StandardCharsets.UTF_8);
+            this.position += length;
+            this.strings.add(value);
+            return value;
+        }
+
+        /**
+         * Skips the value of a field with the given tag, iterating over nested objects so that the stack depth does
+         * not depend on the input
+         */
+        void skip(final int tag) throws IOException {
+            if ((tag & 1) == KIND_STRING) {
+                this.readString();
+                return;
+            }
+            int depth = 1;
+            while (depth > 0) {
+                int nested = this.readVarint();
+                if (nested == END) {
+                    depth--;
+                } else if ((nested & 1) == KIND_STRING) {
+                    this.readString();
+                } else if (++depth > MAX_SKIPPED_DEPTH) {
+                    throw new IOException("Unknown field nested more than " + MAX_SKIPPED_DEPTH + " levels deep");
+                }
+            }
+        }
+
+        /**
+         * Ensures that at least the given number of bytes are buffered. The buffer is grown at most twofold per read,
+         * so that a malformed length cannot allocate much more memory than the input actually holds.
+         */
+        private void fill(final int required) throws IOException {
+            int available = this.limit - this.position;
+            System.arraycopy(this.buffer, this.position, this.buffer, 0, available);
+            this.position = 0;
+            this.limit = available;
+
+            while (this.limit < required) {
+                if (this.limit == this.buffer.length) {
+                    int capacity = (int) Math.min(required, this.buffer.length * 2L);
+                    byte[] buffer = new byte[capacity];
+                    System.arraycopy(this.buffer, 0, buffer, 0, this.limit);
+                    this.buffer = buffer;
+                }
+                int read = this.inputStream.read(this.buffer, this.limit, this.buffer.length - this.limit);
+                if (read < 0) {
+                    throw new EOFException("Unexpected end of binary document");
+                }
+                this.limit += read;
+            }
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.xenosnowfox.openapi3.models;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+
+/**
+ * Serializes large numbers of documents to a channel, as either newline-delimited JSON or a single JSON array.
+ * Newline-delimited documents are always written without whitespace, so each takes exactly one line.
+ * Documents are taken from the source in chunks, each of which is serialized on a {@link ForkJoinPool} into its own
+ * buffer, and the buffers are written to the channel by the calling thread in the order of the source. At most a fixed
+ * number of chunks is pending at any time, so memory use is bounded regardless of how many documents are written, and
+ * a stream is never consumed further ahead than that.
+ * Instances are stateless apart from their configuration and can be shared between threads.
+ *
+ * @since
+ *      1.0.0
+ */
+public class BulkDocumentWriter {
+
+    /**
+     * Layout of the output
+     *
+     * @since
+     *      1.0.0
+     */
+    public enum Format {
+        /**
+         * One document per line, each followed by a line feed
+         */
+        NDJSON,
+
+        /**
+         * A single JSON array containing every document
+         */
+        JSON_ARRAY
+    }
+
+    /**
+     * Number of documents serialized by a single task when not specified
+     *
+     * @since
+     *      1.0.0
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final int maxPendingChunks;
+
+    /**
+     * Instantiates a writer that uses the common pool, with the default chunk size and up to two pending chunks per
+     * worker thread
+     *
+     * @since
+     *      1.0.0
+     */
+    public BulkDocumentWriter() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Instantiates a writer that uses the given pool, with the default chunk size and up to two pending chunks per
+     * worker thread
+     *
+     * @param pool
+     *      Pool to serialize documents on
+     * @since
+     *      1.0.0
+     */
+    public BulkDocumentWriter(final ForkJoinPool pool) {
+        this(pool, DEFAULT_CHUNK_SIZE, pool.getParallelism() * 2);
+    }
+
+    /**
+     * Instantiates a writer
+     *
+     * @param pool
+     *      Pool to serialize documents on
+     * @param chunkSize
+     *      Number of documents serialized by a single task
+     * @param maxPendingChunks
+     *      Maximum number of chunks that are being serialized or waiting to be written at any time
+     * @since
+     *      1.0.0
+     */
+    public BulkDocumentWriter(final ForkJoinPool pool, final int chunkSize, final int maxPendingChunks) {
+        if (pool == null) {
+            throw new NullPointerException("Pool cannot be null");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Invalid chunk size: " + chunkSize);
+        }
+        if (maxPendingChunks < 1) {
+            throw new IllegalArgumentException("Invalid number of pending chunks: " + maxPendingChunks);
+        }
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        this.maxPendingChunks = maxPendingChunks;
+    }
+
+    /**
+     * Writes a collection of documents
+     *
+     * @param documents
+     *      Documents to write, in order
+     * @param format
+     *      Layout of the output
+     * @param channel
+     *      Channel to write to, which is not closed
+     * @return
+     *      Number of bytes written
+     * @throws IOException
+     *      if a document could not be serialized or the channel could not be written to
+     * @since
+     *      1.0.0
+     */
+    public long write(final Collection<? extends Document> documents, final Format format, final WritableByteChannel channel) throws IOException {
+        return this.write(documents.iterator(), format, channel);
+    }
+
+    /**
+     * Writes a stream of documents, which is consumed sequentially and never further ahead than the pending chunks
+     *
+     * @param documents
+     *      Documents to write, in encounter order
+     * @param format
+     *      Layout of the output
+     * @param channel
+     *      Channel to write to, which is not closed
+     * @return
+     *      Number of bytes written
+     * @throws IOException
+     *      if a document could not be serialized or the channel could not be written to
+     * @since
+     *      1.0.0
+     */
+    public long write(final Stream<? extends Document> documents, final Format format, final WritableByteChannel channel) throws IOException {
+        return this.write(documents.iterator(), format, channel);
+    }
+
+    private long write(final Iterator<? extends Document> documents, final Format format, final WritableByteChannel channel) throws IOException {
+        if (format == null) {
+            throw new NullPointerException("Format cannot be null");
+        }
+        if (channel == null) {
+            throw new NullPointerException("Channel cannot be null");
+        }
+
+        ArrayDeque<ForkJoinTask<Chunk>> pending = new ArrayDeque<>(this.maxPendingChunks);
+        long written = 0;
+        try {
+            if (format == Format.JSON_ARRAY) {
+                written += writeFully(ByteBuffer.wrap(new byte[] {'['}), channel);
+            }
+
+            boolean first = true;
+            while (documents.hasNext()) {
+                List<Document> chunk = new ArrayList<>(this.chunkSize);
+                while (chunk.size() < this.chunkSize && documents.hasNext()) {
+                    chunk.add(documents.next());
+                }
+                if (pending.size() == this.maxPendingChunks) {
+                    written += writeFully(join(pending.removeFirst()).toByteBuffer(), channel);
+                }
+                pending.addLast(this.pool.submit(new Chunk(chunk, format, first)));
+                first = false;
+            }
+            while (!pending.isEmpty()) {
+                written += writeFully(join(pending.removeFirst()).toByteBuffer(), channel);
+            }
+
+            if (format == Format.JSON_ARRAY) {
+                written += writeFully(ByteBuffer.wrap(new byte[] {']'}), channel);
+            }
+        } finally {
+            for (ForkJoinTask<Chunk> task : pending) {
+                task.cancel(false);
+            }
+        }
+        return written;
+    }
+
+    private static Chunk join(final ForkJoinTask<Chunk> task) throws IOException {
+        try {
+            return task.join();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static int writeFully(final ByteBuffer buffer, final WritableByteChannel channel) throws IOException {
+        int length = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        return length;
+    }
+
+    /**
+     * Serialized form of a consecutive run of documents, including the separators that precede and follow them.
+     * The run is written to a single builder and encoded once, rather than encoding each document separately.
+     */
+    private static final class Chunk implements Callable<Chunk> {
+
+        private final List<Document> documents;
+        private final Format format;
+        private final boolean first;
+        private byte[] bytes = null;
+
+        Chunk(final List<Document> documents, final Format format, final boolean first) {
+            this.documents = documents;
+            this.format = format;
+            this.first = first;
+        }
+
+        @Override
+        public Chunk call() {
+            StringBuilder builder = new StringBuilder();
+            try {
+                boolean first = this.first;
+                for (Document document : this.documents) {
+                    if (document == null) {
+                        throw new NullPointerException("Document cannot be null");
+                    }
+                    if (this.format == Format.JSON_ARRAY && !first) {
+                        builder.append(',');
+                    }
+                    int start = builder.length();
+                    document.writeJson(builder);
+                    if (this.format == Format.NDJSON) {
+                        compact(builder, start);
+                        builder.append('\n');
+                    }
+                    first = false;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.bytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+            return this;
+        }
+
+        /**
+         * Removes whitespace outside of strings from the end of the builder, as a line break would split the document
+         * across lines. The models never write any, but documents may write already encoded JSON that is pretty-printed.
+         */
+        private static void compact(final StringBuilder builder, final int start) {
+            int size = start;
+            boolean string = false;
+            boolean escaped = false;
+            for (int i = start; i < builder.length(); i++) {
+                char c = builder.charAt(i);
+                if (string) {
+                    if (escaped) {
+                        escaped = false;
+                    } else if (c == '\\') {
+                        escaped = true;
+                    } else if (c == '"') {
+                        string = false;
+                    }
+                } else if (c == '"') {
+                    string = true;
+                } else if (c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+                    continue;
+                }
+                builder.setCharAt(size++, c);
+            }
+            builder.setLength(size);
+        }
+
+        ByteBuffer toByteBuffer() {
+            return ByteBuffer.wrap(this.bytes);
+        }
+    }
+}
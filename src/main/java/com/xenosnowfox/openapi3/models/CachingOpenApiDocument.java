@@ -0,0 +1,127 @@
+package com.xenosnowfox.openapi3.models;
+
+import com.xenosnowfox.openapi3.models.components.Components;
+import com.xenosnowfox.openapi3.models.info.Info;
+import com.xenosnowfox.openapi3.models.metrics.SerializationMetrics;
+import com.xenosnowfox.openapi3.models.paths.Paths;
+import com.xenosnowfox.openapi3.models.util.Invokable;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
+import com.xenosnowfox.openapi3.models.util.Trackable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Implementation of the {@link Document} interface that memoizes its UTF-8 encoded JSON representation.
+ * The cache is invalidated whenever the info object, paths or components, or any {@link Trackable} object they contain, is modified, so
+ * serializing an unchanged document only costs a volatile read. Modifications made to objects that do not implement
+ * {@link Trackable} are not detected; call {@link #invalidate()} after making them.
+ *
+ * @since
+ *      1.0.0
+ */
+public class CachingOpenApiDocument extends OpenApiDocument {
+
+    private final Invokable<Trackable> infoListener = source -> this.invalidate();
+    private final Invokable<Trackable> pathsListener = source -> this.invalidate();
+    private final Invokable<Trackable> componentsListener = source -> this.invalidate();
+    private volatile byte[] encoded = null;
+    private long modifications = 0;
+
+    @Override
+    public void setInfo(final Info info) {
+        Info previous = this.getInfo();
+        if (previous instanceof Trackable) {
+            ((Trackable) previous).removeChangeListener(this.infoListener);
+        }
+        super.setInfo(info);
+        if (info instanceof Trackable) {
+            ((Trackable) info).addChangeListener(this.infoListener);
+        }
+        this.invalidate();
+    }
+
+    @Override
+    public void setPaths(final Paths paths) {
+        Paths previous = this.getPaths();
+        if (previous instanceof Trackable) {
+            ((Trackable) previous).removeChangeListener(this.pathsListener);
+        }
+        super.setPaths(paths);
+        if (paths instanceof Trackable) {
+            ((Trackable) paths).addChangeListener(this.pathsListener);
+        }
+        this.invalidate();
+    }
+
+    @Override
+    public void setComponents(final Components components) {
+        Components previous = this.getComponents();
+        if (previous instanceof Trackable) {
+            ((Trackable) previous).removeChangeListener(this.componentsListener);
+        }
+        super.setComponents(components);
+        if (components instanceof Trackable) {
+            ((Trackable) components).addChangeListener(this.componentsListener);
+        }
+        this.invalidate();
+    }
+
+    /**
+     * Discards the cached JSON representation, forcing it to be rebuilt on next use
+     *
+     * @since
+     *      1.0.0
+     */
+    public synchronized void invalidate() {
+        this.modifications++;
+        this.encoded = null;
+    }
+
+    /**
+     * Obtains a copy of the UTF-8 encoded JSON representation of the document
+     *
+     * @return
+     *      UTF-8 encoded JSON
+     * @throws IOException
+     *      if the document could not be serialized
+     * @since
+     *      1.0.0
+     */
+    public byte[] toJsonBytes() throws IOException {
+        return this.encoded().clone();
+    }
+
+    @Override
+    public void writeJson(final OutputStream outputStream) throws IOException {
+        long start = SerializationMetrics.start();
+        byte[] bytes = this.encoded();
+        outputStream.write(bytes);
+        SerializationMetrics.serialized(this, start, bytes.length);
+    }
+
+    private byte[] encoded() throws IOException {
+        byte[] bytes = this.encoded;
+        if (bytes != null) {
+            return bytes;
+        }
+
+        long modifications;
+        synchronized (this) {
+            modifications = this.modifications;
+        }
+        // written through a JsonWriter rather than an output stream, so the write is only reported once
+        StringBuilder builder = new StringBuilder();
+        super.writeJson(new JsonWriter(builder));
+        bytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+
+        // only keep the result if the document was not modified while it was being serialized
+        synchronized (this) {
+            if (this.modifications == modifications) {
+                this.encoded = bytes;
+            }
+        }
+        return bytes;
+    }
+}
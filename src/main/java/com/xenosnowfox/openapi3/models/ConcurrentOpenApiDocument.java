@@ -0,0 +1,185 @@
+package com.xenosnowfox.openapi3.models;
+
+import com.xenosnowfox.openapi3.models.components.Components;
+import com.xenosnowfox.openapi3.models.info.Info;
+import com.xenosnowfox.openapi3.models.paths.Operation;
+import com.xenosnowfox.openapi3.models.paths.Paths;
+import com.xenosnowfox.openapi3.models.util.ChangeListeners;
+import com.xenosnowfox.openapi3.models.util.ContentHash;
+import com.xenosnowfox.openapi3.models.util.Invokable;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
+import com.xenosnowfox.openapi3.models.util.Trackable;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe implementation of the {@link Document} interface, intended to be used with
+ * {@link com.xenosnowfox.openapi3.models.info.ConcurrentInfo}, {@link com.xenosnowfox.openapi3.models.info.ConcurrentContact}
+ * and {@link com.xenosnowfox.openapi3.models.info.ConcurrentLicense}.
+ * Every modification of the document or of its {@link Trackable} info object, paths and components atomically replaces an immutable snapshot,
+ * so any number of threads can serialize the document, or match requests against its paths, without taking a lock while it is being modified.
+ *
+ * @since
+ *      1.0.0
+ */
+public class ConcurrentOpenApiDocument implements Document, Trackable {
+
+    private final AtomicReference<State> state = new AtomicReference<>(new State(null, null, null, null, null));
+    private final ChangeListeners listeners = new ChangeListeners();
+    // each only refreezes what was modified, so that the paths and their compiled index survive changes to the info object
+    private final Invokable<Trackable> infoListener = child -> this.swap(current -> current.withInfo(current.info));
+    private final Invokable<Trackable> pathsListener = child -> this.swap(current -> current.withPaths(current.paths));
+    private final Invokable<Trackable> componentsListener = child -> this.swap(current -> current.withComponents(current.components));
+
+    private State swap(final UnaryOperator<State> operator) {
+        State previous = this.state.getAndUpdate(operator);
+        this.listeners.fire(this);
+        return previous;
+    }
+
+    @Override
+    public Info getInfo() {
+        return this.state.get().info;
+    }
+
+    @Override
+    public void setInfo(final Info info) {
+        // start observing the new info object first so that none of its modifications are missed
+        if (info instanceof Trackable) {
+            ((Trackable) info).addChangeListener(this.infoListener);
+        }
+        State previous = this.swap(current -> current.withInfo(info));
+        if (previous.info instanceof Trackable) {
+            ((Trackable) previous.info).removeChangeListener(this.infoListener);
+        }
+    }
+
+    @Override
+    public Paths getPaths() {
+        return this.state.get().paths;
+    }
+
+    @Override
+    public void setPaths(final Paths paths) {
+        // start observing the new paths first so that none of their modifications are missed
+        if (paths instanceof Trackable) {
+            ((Trackable) paths).addChangeListener(this.pathsListener);
+        }
+        State previous = this.swap(current -> current.withPaths(paths));
+        if (previous.paths instanceof Trackable) {
+            ((Trackable) previous.paths).removeChangeListener(this.pathsListener);
+        }
+    }
+
+    @Override
+    public Components getComponents() {
+        return this.state.get().components;
+    }
+
+    @Override
+    public void setComponents(final Components components) {
+        // start observing the new components first so that none of their modifications are missed
+        if (components instanceof Trackable) {
+            ((Trackable) components).addChangeListener(this.componentsListener);
+        }
+        State previous = this.swap(current -> current.withComponents(components));
+        if (previous.components instanceof Trackable) {
+            ((Trackable) previous.components).removeChangeListener(this.componentsListener);
+        }
+    }
+
+    @Override
+    public Operation matchOperation(final String method, final String path) {
+        // matched against the snapshot, whose index is only compiled once per modification
+        Paths frozenPaths = this.state.get().frozenPaths;
+        return frozenPaths == null ? null : frozenPaths.matchOperation(method, path);
+    }
+
+    @Override
+    public Document freeze() {
+        return this.snapshot();
+    }
+
+    @Override
+    public JSONObject toJsonObject() {
+        return this.snapshot().toJsonObject();
+    }
+
+    @Override
+    public void writeJson(final JsonWriter writer) throws IOException {
+        this.snapshot().writeJson(writer);
+    }
+
+    @Override
+    public void writeJson(final Appendable appendable) throws IOException {
+        this.snapshot().writeJson(appendable);
+    }
+
+    @Override
+    public void writeJson(final OutputStream outputStream) throws IOException {
+        this.snapshot().writeJson(outputStream);
+    }
+
+    @Override
+    public ContentHash contentHash() {
+        return this.snapshot().contentHash();
+    }
+
+    @Override
+    public void addChangeListener(final Invokable<Trackable> listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(final Invokable<Trackable> listener) {
+        this.listeners.remove(listener);
+    }
+
+    private FrozenDocument snapshot() {
+        FrozenDocument snapshot = this.state.get().snapshot;
+        if (snapshot == null) {
+            throw new NullPointerException("Info has not been defined");
+        }
+        return snapshot;
+    }
+
+    /**
+     * Immutable pairing of the live info object, paths and components with a snapshot of the whole document.
+     * The frozen paths and components are carried over to the next state unless they are the ones being replaced or
+     * modified, as freezing the paths copies every path item and discards the compiled index.
+     */
+    private static final class State {
+
+        private final Info info;
+        private final Paths paths;
+        private final Components components;
+        private final Paths frozenPaths;
+        private final Components frozenComponents;
+        private final FrozenDocument snapshot;
+
+        State(final Info info, final Paths paths, final Paths frozenPaths, final Components components, final Components frozenComponents) {
+            this.info = info;
+            this.paths = paths;
+            this.components = components;
+            this.frozenPaths = frozenPaths;
+            this.frozenComponents = frozenComponents;
+            this.snapshot = info == null ? null : new FrozenDocument(info, frozenPaths, frozenComponents);
+        }
+
+        State withInfo(final Info info) {
+            return new State(info, this.paths, this.frozenPaths, this.components, this.frozenComponents);
+        }
+
+        State withPaths(final Paths paths) {
+            return new State(this.info, paths, paths == null ? null : paths.freeze(), this.components, this.frozenComponents);
+        }
+
+        State withComponents(final Components components) {
+            return new State(this.info, this.paths, this.frozenPaths, components, components == null ? null : components.freeze());
+        }
+    }
+}
@@ -1,10 +1,19 @@
 package com.xenosnowfox.openapi3.models;
 
+import com.xenosnowfox.openapi3.models.components.Components;
 import com.xenosnowfox.openapi3.models.info.Info;
+import com.xenosnowfox.openapi3.models.metrics.SerializationMetrics;
+import com.xenosnowfox.openapi3.models.paths.Operation;
+import com.xenosnowfox.openapi3.models.paths.Paths;
+import com.xenosnowfox.openapi3.models.util.ContentHash;
+import com.xenosnowfox.openapi3.models.util.ContentHasher;
 import com.xenosnowfox.openapi3.models.util.Invokable;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
 import com.xenosnowfox.openapi3.models.util.Jsonable;
 import org.json.JSONObject;
 
+import java.io.IOException;
+
 /**
  * A document (or set of documents) that defines or describes an API. An OpenAPI definition uses and conforms to the OpenAPI Specification.
  *
@@ -131,8 +140,158 @@ public interface Document extends Jsonable {
         return this;
     }
 
+    /**
+     * Obtains the available paths and operations for the API.
+     * The default implementation returns null, for implementations that predate path support.
+     *
+     * @return
+     *      Paths, or null if none have been defined
+     * @since
+     *      1.0.0
+     */
+    default Paths getPaths() {
+        return null;
+    }
+
+    /**
+     * Defines the available paths and operations for the API.
+     * The default implementation throws an {@link UnsupportedOperationException}, for implementations that predate path support.
+     *
+     * @param paths
+     *      Paths
+     * @since
+     *      1.0.0
+     */
+    default void setPaths(final Paths paths) {
+        throw new UnsupportedOperationException("Document does not support paths");
+    }
+
+    /**
+     * Shorthand version of {@link #getPaths()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default Paths paths() {
+        return this.getPaths();
+    }
+
+    /**
+     * Shorthand version of {@link #setPaths(Paths)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Document paths(final Paths paths) {
+        this.setPaths(paths);
+        return this;
+    }
+
+    /**
+     * Obtains the reusable components of the API.
+     * The default implementation returns null, for implementations that predate component support.
+     *
+     * @return
+     *      Components, or null if none have been defined
+     * @since
+     *      1.0.0
+     */
+    default Components getComponents() {
+        return null;
+    }
+
+    /**
+     * Defines the reusable components of the API.
+     * The default implementation throws an {@link UnsupportedOperationException}, for implementations that predate component support.
+     *
+     * @param components
+     *      Components
+     * @since
+     *      1.0.0
+     */
+    default void setComponents(final Components components) {
+        throw new UnsupportedOperationException("Document does not support components");
+    }
+
+    /**
+     * Shorthand version of {@link #getComponents()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default Components components() {
+        return this.getComponents();
+    }
+
+    /**
+     * Shorthand version of {@link #setComponents(Components)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Document components(final Components components) {
+        this.setComponents(components);
+        return this;
+    }
+
+    /**
+     * Finds the operation that serves the given request
+     *
+     * @param method
+     *      HTTP method, in any case
+     * @param path
+     *      Request path, e.g. {@code /users/42}
+     * @return
+     *      Matching operation, or null if no paths are defined, no path template matches, or the matching path does not support the method
+     * @since
+     *      1.0.0
+     * @see
+     *      Paths#matchOperation(String, String)
+     */
+    default Operation matchOperation(final String method, final String path) {
+        Paths paths = this.getPaths();
+        return paths == null ? null : paths.matchOperation(method, path);
+    }
+
+    /**
+     * Obtains an immutable snapshot of the document and everything it contains, which can be shared between threads without synchronization.
+     * The snapshot has a precomputed hash code and JSON representation, and its setters throw an {@link UnsupportedOperationException}.
+     *
+     * @return
+     *      Immutable document
+     * @since
+     *      1.0.0
+     */
+    default Document freeze() {
+        return new FrozenDocument(this);
+    }
+
+    @Override
+    default ContentHash contentHash() {
+        Info info = this.getInfo();
+        if (info == null) {
+            throw new NullPointerException("Info has not been defined");
+        }
+        ContentHasher hasher = new ContentHasher()
+                .putString("openapi")
+                .putString(OPENAPI_VERSION)
+                .putHash(info.contentHash());
+
+        // paths and components are optional, and omitted so that documents without them keep their existing hash
+        Paths paths = this.getPaths();
+        if (paths != null) {
+            hasher.putString("paths").putHash(paths.contentHash());
+        }
+        Components components = this.getComponents();
+        if (components != null) {
+            hasher.putString("components").putHash(components.contentHash());
+        }
+        return hasher.hash();
+    }
+
     @Override
     default JSONObject toJsonObject() {
+        long start = SerializationMetrics.start();
         JSONObject jsonObject = new JSONObject();
 
         // store the openapi version
@@ -145,7 +304,36 @@ public interface Document extends Jsonable {
         }
         jsonObject.putOpt("info", info.toJsonObject());
 
+        // add paths
+        Paths paths = this.getPaths();
+        if (paths != null) {
+            jsonObject.put("paths", paths.toJsonObject());
+        }
+
+        // add components
+        Components components = this.getComponents();
+        if (components != null) {
+            jsonObject.put("components", components.toJsonObject());
+        }
 
+        SerializationMetrics.converted(this, start);
         return jsonObject;
     }
+
+    @Override
+    default void writeJson(final JsonWriter writer) throws IOException {
+        // get info
+        Info info = this.getInfo();
+        if (info == null) {
+            throw new NullPointerException("Info has not been defined");
+        }
+
+        // members are written in the same order as JSONObject#toString()
+        writer.beginObject();
+        writer.optionalMember("components", this.getComponents());
+        writer.name("openapi").value(OPENAPI_VERSION);
+        writer.optionalMember("paths", this.getPaths());
+        writer.name("info").value(info);
+        writer.endObject();
+    }
 }
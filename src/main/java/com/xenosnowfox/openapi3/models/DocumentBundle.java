@@ -0,0 +1,256 @@
+package com.xenosnowfox.openapi3.models;
+
+import org.json.JSONException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Read-only view of a bundle file containing any number of concatenated UTF-8 encoded JSON documents, separated by
+ * optional whitespace (e.g. newline-delimited JSON). The file is memory-mapped rather than read onto the heap, and any
+ * document can be decoded on its own straight from the mapped region. The boundaries of the documents are indexed
+ * lazily, only as far as the highest document requested so far, so opening a bundle does not touch the file and
+ * reading the first few documents of a large bundle does not scan the rest; {@link #size()} indexes the whole file.
+ * Instances can be shared between threads.
+ *
+ * @since
+ *      1.0.0
+ */
+public class DocumentBundle implements Closeable {
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final DocumentReader reader;
+
+    // advanced while holding the lock of this instance; the size is published last, so a reader that observes it also
+    // observes the offsets and lengths recorded before it
+    private int[] offsets = new int[16];
+    private int[] lengths = new int[16];
+    private volatile int size = 0;
+    private volatile boolean indexed = false;
+    private int position = 0;
+
+    /**
+     * Opens the bundle at the given path, decoding documents with a default {@link DocumentReader}
+     *
+     * @param path
+     *      Path to the bundle file
+     * @throws IOException
+     *      if the file could not be mapped
+     * @since
+     *      1.0.0
+     */
+    public DocumentBundle(final Path path) throws IOException {
+        this(path, new DocumentReader());
+    }
+
+    /**
+     * Opens the bundle at the given path
+     *
+     * @param path
+     *      Path to the bundle file
+     * @param reader
+     *      Reader used to decode documents
+     * @throws IOException
+     *      if the file could not be mapped
+     * @since
+     *      1.0.0
+     */
+    public DocumentBundle(final Path path, final DocumentReader reader) throws IOException {
+        this.reader = reader;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = this.channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Bundle exceeds " + Integer.MAX_VALUE + " bytes: " + path);
+            }
+            this.buffer = this.channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        } catch (IOException | RuntimeException e) {
+            this.channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Records the boundaries of each top-level object, until the document at the given index has been found or the end
+     * of the bundle is reached. Only braces and strings are tracked, so syntax errors within a document are reported
+     * when that document is read.
+     */
+    private synchronized void index(final int index) {
+        ByteBuffer buffer = this.buffer;
+        int limit = buffer.limit();
+        int position = this.position;
+
+        // skip the byte order mark
+        if (position == 0 && limit >= 3 && (buffer.get(0) & 0xFF) == 0xEF && (buffer.get(1) & 0xFF) == 0xBB
+                && (buffer.get(2) & 0xFF) == 0xBF) {
+            position = 3;
+        }
+
+        while (this.size <= index) {
+            byte b;
+            while (position < limit && ((b = buffer.get(position)) == ' ' || b == '\n' || b == '\r' || b == '\t')) {
+                position++;
+            }
+            if (position == limit) {
+                this.indexed = true;
+                return;
+            }
+            if (buffer.get(position) != '{') {
+                throw new JSONException("Expected the start of a document at offset " + position);
+            }
+
+            int start = position;
+            int depth = 0;
+            boolean inString = false;
+            do {
+                if (position >= limit) {
+                    throw new JSONException("Unterminated document starting at offset " + start);
+                }
+                b = buffer.get(position++);
+                if (inString) {
+                    if (b == '\\') {
+                        position++;
+                    } else if (b == '"') {
+                        inString = false;
+                    }
+                } else if (b == '"') {
+                    inString = true;
+                } else if (b == '{' || b == '[') {
+                    depth++;
+                } else if (b == '}' || b == ']') {
+                    depth--;
+                }
+            } while (depth > 0);
+            this.position = position;
+            this.add(start, position - start);
+        }
+    }
+
+    private void add(final int offset, final int length) {
+        if (this.size == this.offsets.length) {
+            this.offsets = Arrays.copyOf(this.offsets, this.size * 2);
+            this.lengths = Arrays.copyOf(this.lengths, this.size * 2);
+        }
+        this.offsets[this.size] = offset;
+        this.lengths[this.size] = length;
+        this.size = this.size + 1;
+    }
+
+    /**
+     * Obtains the number of documents in the bundle, indexing the remainder of the file on first call
+     *
+     * @return
+     *      Number of documents
+     * @since
+     *      1.0.0
+     */
+    public int size() {
+        if (!this.indexed) {
+            this.index(Integer.MAX_VALUE);
+        }
+        return this.size;
+    }
+
+    /**
+     * Obtains the byte offset of a document within the bundle file
+     *
+     * @param index
+     *      Index of the document
+     * @return
+     *      Offset of the first byte of the document
+     * @since
+     *      1.0.0
+     */
+    public int getOffset(final int index) {
+        this.checkIndex(index);
+        return this.offsets[index];
+    }
+
+    /**
+     * Obtains the UTF-8 encoded JSON of a document, without copying it out of the mapped region
+     *
+     * @param index
+     *      Index of the document
+     * @return
+     *      Read-only buffer containing exactly the bytes of the document
+     * @since
+     *      1.0.0
+     */
+    public ByteBuffer getBytes(final int index) {
+        this.checkIndex(index);
+        ByteBuffer slice = this.buffer.duplicate();
+        slice.limit(this.offsets[index] + this.lengths[index]);
+        slice.position(this.offsets[index]);
+        return slice.slice();
+    }
+
+    /**
+     * Decodes a document directly from the mapped region
+     *
+     * @param index
+     *      Index of the document
+     * @return
+     *      Document
+     * @throws IOException
+     *      if the document could not be read
+     * @since
+     *      1.0.0
+     */
+    public Document read(final int index) throws IOException {
+        return this.reader.read(new ByteBufferInputStream(this.getBytes(index)));
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    private void checkIndex(final int index) {
+        if (index >= this.size && index >= 0 && !this.indexed) {
+            this.index(index);
+        }
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for a bundle of " + this.size + " documents");
+        }
+    }
+
+    /**
+     * Input stream over the remaining bytes of a buffer
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) {
+            if (!this.buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, this.buffer.remaining());
+            this.buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return this.buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,825 @@
+package com.xenosnowfox.openapi3.models;
+
+import com.xenosnowfox.openapi3.models.components.Components;
+import com.xenosnowfox.openapi3.models.components.ComponentsImpl;
+import com.xenosnowfox.openapi3.models.components.SchemaReference;
+import com.xenosnowfox.openapi3.models.info.Canonicalizer;
+import com.xenosnowfox.openapi3.models.info.Contact;
+import com.xenosnowfox.openapi3.models.info.ContactImpl;
+import com.xenosnowfox.openapi3.models.info.Info;
+import com.xenosnowfox.openapi3.models.info.InfoImpl;
+import com.xenosnowfox.openapi3.models.info.License;
+import com.xenosnowfox.openapi3.models.info.LicenseImpl;
+import com.xenosnowfox.openapi3.models.paths.HttpMethod;
+import com.xenosnowfox.openapi3.models.paths.Operation;
+import com.xenosnowfox.openapi3.models.paths.OperationImpl;
+import com.xenosnowfox.openapi3.models.paths.PathItem;
+import com.xenosnowfox.openapi3.models.paths.PathItemImpl;
+import com.xenosnowfox.openapi3.models.paths.Paths;
+import com.xenosnowfox.openapi3.models.paths.PathsImpl;
+import com.xenosnowfox.openapi3.models.schema.Schema;
+import com.xenosnowfox.openapi3.models.schema.SchemaImpl;
+import com.xenosnowfox.openapi3.models.schema.SchemaType;
+import com.xenosnowfox.openapi3.models.util.Extensions;
+import com.xenosnowfox.openapi3.models.util.JsonReader;
+import com.xenosnowfox.openapi3.models.util.Urls;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads an OpenAPI document from UTF-8 encoded JSON in a single pass, populating the models directly from the token
+ * stream without building an intermediate JSON tree. The same validation rules as the model setters are applied,
+ * so a missing or blank title, version or license name results in a {@link NullPointerException} and a malformed
+ * URL, a path that does not begin with a forward slash or an unknown schema type results in an {@link IllegalArgumentException}.
+ * Reference Objects within schemas are read as unresolved {@link SchemaReference} instances.
+ * Schemas and enumerated values nested more than {@value #MAX_DEPTH} levels deep result in a
+ * {@link JSONException} rather than exhausting the stack. Unknown members are skipped.
+ *
+ * @since
+ *      1.0.0
+ */
+public class DocumentReader {
+
+    /**
+     * Maximum number of nested schemas, and of nested objects and arrays within an enumerated value
+     *
+     * @since
+     *      1.0.0
+     */
+    public static final int MAX_DEPTH = 128;
+
+    private final Canonicalizer canonicalizer;
+
+    /**
+     * Instantiates a reader that creates a new contact and license object for every document
+     *
+     * @since
+     *      1.0.0
+     */
+    public DocumentReader() {
+        this(null);
+    }
+
+    /**
+     * Instantiates a reader that replaces every contact and license with its canonical instance
+     *
+     * @param canonicalizer
+     *      Canonicalizer to deduplicate contacts and licenses with, or null to disable deduplication
+     * @since
+     *      1.0.0
+     */
+    public DocumentReader(final Canonicalizer canonicalizer) {
+        this.canonicalizer = canonicalizer;
+    }
+
+    /**
+     * Reads a document from the given bytes
+     *
+     * @param bytes
+     *      UTF-8 encoded JSON document
+     * @return
+     *      Document
+     * @throws IOException
+     *      if the document could not be read
+     * @since
+     *      1.0.0
+     */
+    public Document read(final byte[] bytes) throws IOException {
+        return this.readFully(new JsonReader(bytes));
+    }
+
+    /**
+     * Reads a document from the given input stream. The stream is read until the end of the document but is not closed.
+     *
+     * @param inputStream
+     *      Stream containing a UTF-8 encoded JSON document
+     * @return
+     *      Document
+     * @throws IOException
+     *      if the document could not be read
+     * @since
+     *      1.0.0
+     */
+    public Document read(final InputStream inputStream) throws IOException {
+        return this.readFully(new JsonReader(inputStream));
+    }
+
+    private Document readFully(final JsonReader reader) throws IOException {
+        Document document = this.readDocument(reader);
+
+        // fails if anything other than whitespace follows the document
+        reader.peek();
+        return document;
+    }
+
+    /**
+     * Reads a document object from the given reader
+     *
+     * @param reader
+     *      Reader positioned at the start of a document object
+     * @return
+     *      Document
+     * @throws IOException
+     *      if the document could not be read
+     * @since
+     *      1.0.0
+     */
+    public Document readDocument(final JsonReader reader) throws IOException {
+        Document document = this.newDocument();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("info".equals(name) && reader.peek() != JsonReader.Token.NULL) {
+                document.setInfo(this.readInfo(reader));
+            } else if ("paths".equals(name) && reader.peek() != JsonReader.Token.NULL) {
+                document.setPaths(this.readPaths(reader));
+            } else if ("components".equals(name) && reader.peek() != JsonReader.Token.NULL) {
+                document.setComponents(this.readComponents(reader));
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (document.getInfo() == null) {
+            throw new NullPointerException("Info has not been defined");
+        }
+        return document;
+    }
+
+    /**
+     * Reads an info object from the given reader
+     *
+     * @param reader
+     *      Reader positioned at the start of an info object
+     * @return
+     *      Info metadata
+     * @throws IOException
+     *      if the info object could not be read
+     * @since
+     *      1.0.0
+     */
+    public Info readInfo(final JsonReader reader) throws IOException {
+        String title = null;
+        String version = null;
+        String description = null;
+        URI termsOfService = null;
+        Contact contact = null;
+        License license = null;
+        Extensions extensions = Extensions.EMPTY;
+
+        // members can appear in any order, so they are collected before the required ones are validated
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonReader.Token.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "title":
+                    title = reader.nextString();
+                    break;
+                case "version":
+                    version = reader.nextString();
+                    break;
+                case "description":
+                    description = reader.nextString();
+                    break;
+                case "termsOfService":
+                    termsOfService = Urls.parse(reader.nextString());
+                    break;
+                case "contact":
+                    contact = this.readContact(reader);
+                    break;
+                case "license":
+                    license = this.readLicense(reader);
+                    break;
+                default:
+                    if (name.startsWith("x-")) {
+                        extensions = extensions.with(name, reader.nextRawValue());
+                    } else {
+                        reader.skipValue();
+                    }
+            }
+        }
+        reader.endObject();
+
+        Info info = this.newInfo(title, version);
+        info.setDescription(description);
+        info.setTermsOfServiceUri(termsOfService);
+        info.setContact(contact);
+        info.setLicense(license);
+        if (!extensions.isEmpty()) {
+            info.setExtensions(extensions);
+        }
+        return info;
+    }
+
+    /**
+     * Reads a contact object from the given reader
+     *
+     * @param reader
+     *      Reader positioned at the start of a contact object
+     * @return
+     *      Contact information
+     * @throws IOException
+     *      if the contact object could not be read
+     * @since
+     *      1.0.0
+     */
+    public Contact readContact(final JsonReader reader) throws IOException {
+        Contact contact = this.newContact();
+        Extensions extensions = Extensions.EMPTY;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonReader.Token.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "name":
+                    contact.setName(reader.nextString());
+                    break;
+                case "email":
+                    contact.setEmail(reader.nextString());
+                    break;
+                case "url":
+                    contact.setUri(Urls.parse(reader.nextString()));
+                    break;
+                default:
+                    if (name.startsWith("x-")) {
+                        extensions = extensions.with(name, reader.nextRawValue());
+                    } else {
+                        reader.skipValue();
+                    }
+            }
+        }
+        reader.endObject();
+        if (!extensions.isEmpty()) {
+            contact.setExtensions(extensions);
+        }
+
+        if (this.canonicalizer != null) {
+            return this.canonicalizer.canonicalize(contact);
+        }
+        return contact;
+    }
+
+    /**
+     * Reads a license object from the given reader
+     *
+     * @param reader
+     *      Reader positioned at the start of a license object
+     * @return
+     *      License information
+     * @throws IOException
+     *      if the license object could not be read
+     * @since
+     *      1.0.0
+     */
+    public License readLicense(final JsonReader reader) throws IOException {
+        String licenseName = null;
+        URI url = null;
+        Extensions extensions = Extensions.EMPTY;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonReader.Token.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "name":
+                    licenseName = reader.nextString();
+                    break;
+                case "url":
+                    url = Urls.parse(reader.nextString());
+                    break;
+                default:
+                    if (name.startsWith("x-")) {
+                        extensions = extensions.with(name, reader.nextRawValue());
+                    } else {
+                        reader.skipValue();
+                    }
+            }
+        }
+        reader.endObject();
+
+        License license = this.newLicense(licenseName, url);
+        if (!extensions.isEmpty()) {
+            license.setExtensions(extensions);
+        }
+        if (this.canonicalizer != null) {
+            return this.canonicalizer.canonicalize(license);
+        }
+        return license;
+    }
+
+    /**
+     * Reads a paths object from the given reader
+     *
+     * @param reader
+     *      Reader positioned at the start of a paths object
+     * @return
+     *      Paths
+     * @throws IOException
+     *      if the paths object could not be read
+     * @since
+     *      1.0.0
+     */
+    public Paths readPaths(final JsonReader reader) throws IOException {
+        Paths paths = this.newPaths();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String path = reader.nextName();
+            if (reader.peek() == JsonReader.Token.NULL) {
+                reader.nextNull();
+                continue;
+            }
+
+            // specification extensions are not modelled
+            if (path.startsWith("x-")) {
+                reader.skipValue();
+            } else {
+                paths.setPathItem(path, this.readPathItem(reader));
+            }
+        }
+        reader.endObject();
+        return paths;
+    }
+
+    /**
+     * Reads a path item object from the given reader
+     *
+     * @param reader
+     *      Reader positioned at the start of a path item object
+     * @return
+     *      Path item
+     * @throws IOException
+     *      if the path item object could not be read
+     * @since
+     *      1.0.0
+     */
+    public PathItem readPathItem(final JsonReader reader) throws IOException {
+        PathItem pathItem = this.newPathItem();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonReader.Token.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "summary":
+                    pathItem.setSummary(reader.nextString());
+                    break;
+                case "description":
+                    pathItem.setDescription(reader.nextString());
+                    break;
+                default:
+                    // method names are case-sensitive in a path item
+                    HttpMethod method = HttpMethod.of(name);
+                    if (method != null && method.getName().equals(name)) {
+                        pathItem.setOperation(method, this.readOperation(reader));
+                    } else {
+                        reader.skipValue();
+                    }
+            }
+        }
+        reader.endObject();
+        return pathItem;
+    }
+
+    /**
+     * Reads an operation object from the given reader
+     *
+     * @param reader
+     *      Reader positioned at the start of an operation object
+     * @return
+     *      Operation
+     * @throws IOException
+     *      if the operation object could not be read
+     * @since
+     *      1.0.0
+     */
+    public Operation readOperation(final JsonReader reader) throws IOException {
+        Operation operation = this.newOperation();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonReader.Token.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "operationId":
+                    operation.setOperationId(reader.nextString());
+                    break;
+                case "summary":
+                    operation.setSummary(reader.nextString());
+                    break;
+                case "description":
+                    operation.setDescription(reader.nextString());
+                    break;
+                case "deprecated":
+                    operation.setDeprecated(reader.nextBoolean());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return operation;
+    }
+
+    /**
+     * Reads a components object from the given reader
+     *
+     * @param reader
+     *      Reader positioned at the start of a components object
+     * @return
+     *      Components
+     * @throws IOException
+     *      if the components object could not be read
+     * @since
+     *      1.0.0
+     */
+    public Components readComponents(final JsonReader reader) throws IOException {
+        Components components = this.newComponents();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("schemas".equals(name) && reader.peek() != JsonReader.Token.NULL) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    String schemaName = reader.nextName();
+                    if (reader.peek() == JsonReader.Token.NULL) {
+                        reader.nextNull();
+                    } else {
+                        components.setSchema(schemaName, this.readSchema(reader));
+                    }
+                }
+                reader.endObject();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return components;
+    }
+
+    /**
+     * Reads a schema object, or a reference to one, from the given reader
+     *
+     * @param reader
+     *      Reader positioned at the start of a schema or reference object
+     * @return
+     *      Schema, or an unresolved {@link SchemaReference} if the object has a {@code $ref} member
+     * @throws IOException
+     *      if the schema object could not be read
+     * @since
+     *      1.0.0
+     */
+    public Schema readSchema(final JsonReader reader) throws IOException {
+        return this.readSchema(reader, 1);
+    }
+
+    private Schema readSchema(final JsonReader reader, final int depth) throws IOException {
+        checkDepth(reader, depth);
+        Schema schema = this.newSchema();
+        String ref = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonReader.Token.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "$ref":
+                    ref = reader.nextString();
+                    break;
+                case "title":
+                    schema.setTitle(reader.nextString());
+                    break;
+                case "description":
+                    schema.setDescription(reader.nextString());
+                    break;
+                case "type":
+                    String typeName = reader.nextString();
+                    SchemaType type = SchemaType.of(typeName);
+                    if (type == null) {
+                        throw new IllegalArgumentException("Unknown schema type: " + typeName);
+                    }
+                    schema.setType(type);
+                    break;
+                case "format":
+                    schema.setFormat(reader.nextString());
+                    break;
+                case "nullable":
+                    schema.setNullable(reader.nextBoolean());
+                    break;
+                case "enum":
+                    List<Object> values = new ArrayList<>();
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        values.add(this.readValue(reader, depth + 1));
+                    }
+                    reader.endArray();
+                    schema.setEnum(values);
+                    break;
+                case "pattern":
+                    schema.setPattern(reader.nextString());
+                    break;
+                case "minLength":
+                    schema.setMinLength(this.readInteger(reader));
+                    break;
+                case "maxLength":
+                    schema.setMaxLength(this.readInteger(reader));
+                    break;
+                case "minimum":
+                    schema.setMinimum(new BigDecimal(reader.nextNumber()));
+                    break;
+                case "exclusiveMinimum":
+                    schema.setExclusiveMinimum(reader.nextBoolean());
+                    break;
+                case "maximum":
+                    schema.setMaximum(new BigDecimal(reader.nextNumber()));
+                    break;
+                case "exclusiveMaximum":
+                    schema.setExclusiveMaximum(reader.nextBoolean());
+                    break;
+                case "multipleOf":
+                    schema.setMultipleOf(new BigDecimal(reader.nextNumber()));
+                    break;
+                case "items":
+                    schema.setItems(this.readSchema(reader, depth + 1));
+                    break;
+                case "minItems":
+                    schema.setMinItems(this.readInteger(reader));
+                    break;
+                case "maxItems":
+                    schema.setMaxItems(this.readInteger(reader));
+                    break;
+                case "uniqueItems":
+                    schema.setUniqueItems(reader.nextBoolean());
+                    break;
+                case "properties":
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        String propertyName = reader.nextName();
+                        if (reader.peek() == JsonReader.Token.NULL) {
+                            reader.nextNull();
+                        } else {
+                            schema.setProperty(propertyName, this.readSchema(reader, depth + 1));
+                        }
+                    }
+                    reader.endObject();
+                    break;
+                case "required":
+                    List<String> required = new ArrayList<>();
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        required.add(reader.nextString());
+                    }
+                    reader.endArray();
+                    schema.setRequired(required);
+                    break;
+                case "additionalProperties":
+                    if (reader.peek() == JsonReader.Token.BOOLEAN) {
+                        schema.setAdditionalPropertiesAllowed(reader.nextBoolean());
+                    } else {
+                        schema.setAdditionalProperties(this.readSchema(reader, depth + 1));
+                    }
+                    break;
+                case "minProperties":
+                    schema.setMinProperties(this.readInteger(reader));
+                    break;
+                case "maxProperties":
+                    schema.setMaxProperties(this.readInteger(reader));
+                    break;
+                case "allOf":
+                    schema.setAllOf(this.readSchemas(reader, depth + 1));
+                    break;
+                case "anyOf":
+                    schema.setAnyOf(this.readSchemas(reader, depth + 1));
+                    break;
+                case "oneOf":
+                    schema.setOneOf(this.readSchemas(reader, depth + 1));
+                    break;
+                case "not":
+                    schema.setNot(this.readSchema(reader, depth + 1));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        // members alongside a reference are ignored, as required by the specification
+        return ref == null ? schema : this.newSchemaReference(ref);
+    }
+
+    private List<Schema> readSchemas(final JsonReader reader, final int depth) throws IOException {
+        List<Schema> schemas = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            schemas.add(this.readSchema(reader, depth));
+        }
+        reader.endArray();
+        return schemas;
+    }
+
+    private Integer readInteger(final JsonReader reader) throws IOException {
+        try {
+            return new BigDecimal(reader.nextNumber()).intValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Expected an integer", e);
+        }
+    }
+
+    private static void checkDepth(final JsonReader reader, final int depth) {
+        if (depth > MAX_DEPTH) {
+            throw new JSONException("Nested more than " + MAX_DEPTH + " levels deep at offset " + reader.getOffset());
+        }
+    }
+
+    /**
+     * Reads any JSON value into the representation used by {@link JSONObject}
+     */
+    private Object readValue(final JsonReader reader, final int depth) throws IOException {
+        switch (reader.peek()) {
+            case BEGIN_OBJECT:
+                checkDepth(reader, depth);
+                JSONObject object = new JSONObject();
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    String name = reader.nextName();
+                    object.put(name, this.readValue(reader, depth + 1));
+                }
+                reader.endObject();
+                return object;
+            case BEGIN_ARRAY:
+                checkDepth(reader, depth);
+                JSONArray array = new JSONArray();
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    array.put(this.readValue(reader, depth + 1));
+                }
+                reader.endArray();
+                return array;
+            case NUMBER:
+                return JSONObject.stringToValue(reader.nextNumber());
+            case BOOLEAN:
+                return reader.nextBoolean();
+            case NULL:
+                reader.nextNull();
+                return JSONObject.NULL;
+            default:
+                return reader.nextString();
+        }
+    }
+
+    /**
+     * Creates the document instance to populate
+     *
+     * @return
+     *      Empty document
+     * @since
+     *      1.0.0
+     */
+    protected Document newDocument() {
+        return new OpenApiDocument();
+    }
+
+    /**
+     * Creates the info instance to populate
+     *
+     * @param title
+     *      Application title
+     * @param version
+     *      Document version number
+     * @return
+     *      Info metadata
+     * @since
+     *      1.0.0
+     */
+    protected Info newInfo(final String title, final String version) {
+        return new InfoImpl(title, version);
+    }
+
+    /**
+     * Creates the contact instance to populate
+     *
+     * @return
+     *      Blank contact information
+     * @since
+     *      1.0.0
+     */
+    protected Contact newContact() {
+        return new ContactImpl();
+    }
+
+    /**
+     * Creates the license instance
+     *
+     * @param name
+     *      Name of the license
+     * @param url
+     *      URL to the license
+     * @return
+     *      License information
+     * @since
+     *      1.0.0
+     */
+    protected License newLicense(final String name, final URI url) {
+        License license = new LicenseImpl(name);
+        license.setUri(url);
+        return license;
+    }
+
+    /**
+     * Creates the paths instance to populate
+     *
+     * @return
+     *      Empty paths
+     * @since
+     *      1.0.0
+     */
+    protected Paths newPaths() {
+        return new PathsImpl();
+    }
+
+    /**
+     * Creates the path item instance to populate
+     *
+     * @return
+     *      Empty path item
+     * @since
+     *      1.0.0
+     */
+    protected PathItem newPathItem() {
+        return new PathItemImpl();
+    }
+
+    /**
+     * Creates the operation instance to populate
+     *
+     * @return
+     *      Empty operation
+     * @since
+     *      1.0.0
+     */
+    protected Operation newOperation() {
+        return new OperationImpl();
+    }
+
+    /**
+     * Creates the components instance to populate
+     *
+     * @return
+     *      Empty components
+     * @since
+     *      1.0.0
+     */
+    protected Components newComponents() {
+        return new ComponentsImpl();
+    }
+
+    /**
+     * Creates the schema instance to populate
+     *
+     * @return
+     *      Empty schema
+     * @since
+     *      1.0.0
+     */
+    protected Schema newSchema() {
+        return new SchemaImpl();
+    }
+
+    /**
+     * Creates the reference instance for a schema
+     *
+     * @param ref
+     *      Reference string
+     * @return
+     *      Unresolved schema reference
+     * @since
+     *      1.0.0
+     */
+    protected Schema newSchemaReference(final String ref) {
+        return new SchemaReference(ref);
+    }
+}
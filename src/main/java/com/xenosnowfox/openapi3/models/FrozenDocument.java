@@ -0,0 +1,143 @@
+package com.xenosnowfox.openapi3.models;
+
+import com.xenosnowfox.openapi3.models.components.Components;
+import com.xenosnowfox.openapi3.models.info.Info;
+import com.xenosnowfox.openapi3.models.paths.Paths;
+import com.xenosnowfox.openapi3.models.util.ContentHash;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Immutable snapshot of a {@link Document} and everything it contains, with a precomputed hash code and JSON representation.
+ * All fields are final, so instances can be shared between threads without synchronization.
+ *
+ * @since
+ *      1.0.0
+ */
+final class FrozenDocument implements Document {
+
+    private final Info info;
+    private final Paths paths;
+    private final Components components;
+    // the only cached representation; byte output is encoded from it while it is written
+    private final String json;
+    private final int hashCode;
+
+    // computed on first use; racy publication is safe as content hashes are immutable
+    private ContentHash contentHash = null;
+
+    /**
+     * Instantiates a snapshot of the given document, freezing its info object, paths and components
+     *
+     * @param document
+     *      Document to copy
+     */
+    FrozenDocument(final Document document) {
+        this(document.getInfo(), document.getPaths(), document.getComponents());
+    }
+
+    /**
+     * Instantiates a document with the given info object, paths and components, which are frozen
+     *
+     * @param info
+     *      Info metadata
+     * @param paths
+     *      Paths, or null if none have been defined
+     * @param components
+     *      Components, or null if none have been defined
+     */
+    FrozenDocument(final Info info, final Paths paths, final Components components) {
+        if (info == null) {
+            throw new NullPointerException("Info has not been defined");
+        }
+        this.info = info.freeze();
+        this.paths = paths == null ? null : paths.freeze();
+        this.components = components == null ? null : components.freeze();
+
+        StringBuilder builder = new StringBuilder();
+        try {
+            Document.super.writeJson(new JsonWriter(builder));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        this.json = builder.toString();
+        this.hashCode = this.json.hashCode();
+    }
+
+    @Override
+    public Info getInfo() {
+        return this.info;
+    }
+
+    @Override
+    public void setInfo(final Info info) {
+        throw new UnsupportedOperationException("Frozen document cannot be modified");
+    }
+
+    @Override
+    public Paths getPaths() {
+        return this.paths;
+    }
+
+    @Override
+    public void setPaths(final Paths paths) {
+        throw new UnsupportedOperationException("Frozen document cannot be modified");
+    }
+
+    @Override
+    public Components getComponents() {
+        return this.components;
+    }
+
+    @Override
+    public void setComponents(final Components components) {
+        throw new UnsupportedOperationException("Frozen document cannot be modified");
+    }
+
+    @Override
+    public Document freeze() {
+        return this;
+    }
+
+    @Override
+    public void writeJson(final JsonWriter writer) throws IOException {
+        if (writer.isRawJsonSupported()) {
+            writer.rawValue(this.json);
+        } else {
+            Document.super.writeJson(writer);
+        }
+    }
+
+    @Override
+    public ContentHash contentHash() {
+        ContentHash contentHash = this.contentHash;
+        if (contentHash == null) {
+            contentHash = Document.super.contentHash();
+            this.contentHash = contentHash;
+        }
+        return contentHash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof FrozenDocument)) {
+            return false;
+        }
+        FrozenDocument other = (FrozenDocument) obj;
+        return this.hashCode == other.hashCode && this.json.equals(other.json);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return this.json;
+    }
+}
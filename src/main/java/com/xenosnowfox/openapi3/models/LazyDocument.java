@@ -0,0 +1,293 @@
+package com.xenosnowfox.openapi3.models;
+
+import com.xenosnowfox.openapi3.models.components.Components;
+import com.xenosnowfox.openapi3.models.info.Info;
+import com.xenosnowfox.openapi3.models.info.LazyInfo;
+import com.xenosnowfox.openapi3.models.metrics.SerializationMetrics;
+import com.xenosnowfox.openapi3.models.paths.Paths;
+import com.xenosnowfox.openapi3.models.util.ChangeListeners;
+import com.xenosnowfox.openapi3.models.util.Invokable;
+import com.xenosnowfox.openapi3.models.util.JsonReader;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
+import com.xenosnowfox.openapi3.models.util.Trackable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Implementation of the {@link Document} interface backed by the UTF-8 encoded JSON it was read from.
+ * The bytes are indexed once on construction and the info object is a {@link LazyInfo}, so members that are never
+ * accessed are never decoded. The paths and components are each decoded on first access, as routing, reference resolution
+ * and most other uses need all of them.
+ * <p>
+ * The original bytes are not written verbatim: the output is always identical to {@code toJsonObject().toString()}, so
+ * that a document writes the same bytes whether or not it was read lazily, and whitespace, member order and members
+ * that are not part of the model are not preserved. The first write therefore decodes the whole document, after which
+ * the output is copied until the document, its info object or its paths are modified, or its components are accessed.
+ * Where the original bytes are identical to the output, as they are for documents written by this library, the
+ * original range is copied rather than a second copy being kept.
+ * <p>
+ * Modifications of the document, its info object, and {@link Trackable} paths and components are reported to change
+ * listeners, so that the document can be observed without decoding its paths or components. Modifications made within a
+ * schema are not reported, as schemas are not trackable.
+ * The backing array must not be modified, and instances are not thread-safe.
+ *
+ * @since
+ *      1.0.0
+ */
+public class LazyDocument implements Document, Trackable {
+
+    private static final DocumentReader READER = new DocumentReader();
+
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+    private final LazyInfo lazyInfo;
+    private Info info;
+    private final ChangeListeners listeners = new ChangeListeners();
+    private final Invokable<Trackable> infoListener = source -> this.listeners.fire(this);
+
+    // absolute start offset and length of the paths, or -1 if they are absent
+    private int pathsOffset = -1;
+    private int pathsLength = -1;
+    private boolean pathsDecoded = false;
+    private boolean pathsModified = false;
+    private Paths paths = null;
+    private final Invokable<Trackable> pathsListener = source -> {
+        this.pathsModified = true;
+        this.listeners.fire(this);
+    };
+
+    // absolute start offset and length of the components, or -1 if they are absent
+    private int componentsOffset = -1;
+    private int componentsLength = -1;
+    private boolean componentsDecoded = false;
+    private boolean componentsModified = false;
+    private Components components = null;
+    private final Invokable<Trackable> componentsListener = source -> {
+        this.componentsModified = true;
+        this.listeners.fire(this);
+    };
+
+    // output of the model until modified, or null until first written; refers to the original range when identical
+    private byte[] json = null;
+    private int jsonOffset;
+    private int jsonLength;
+    private String jsonString = null;
+
+    /**
+     * Instantiates a document over the given bytes
+     *
+     * @param bytes
+     *      UTF-8 encoded JSON document
+     * @throws IOException
+     *      if the document could not be read
+     * @since
+     *      1.0.0
+     */
+    public LazyDocument(final byte[] bytes) throws IOException {
+        this(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Instantiates a document over a range of the given bytes
+     *
+     * @param bytes
+     *      Array containing a UTF-8 encoded JSON document
+     * @param offset
+     *      Index of the first byte of the document
+     * @param length
+     *      Number of bytes to read
+     * @throws IOException
+     *      if the document could not be read
+     * @since
+     *      1.0.0
+     */
+    public LazyDocument(final byte[] bytes, final int offset, final int length) throws IOException {
+        this.bytes = bytes;
+
+        JsonReader reader = new JsonReader(bytes, offset, length);
+        reader.peek();
+        int start = offset + (int) reader.getOffset() - 1;
+
+        LazyInfo info = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("info".equals(name) && reader.peek() != JsonReader.Token.NULL) {
+                info = new LazyInfo(reader, bytes, offset);
+            } else if ("paths".equals(name) && reader.peek() == JsonReader.Token.BEGIN_OBJECT) {
+                // objects have already consumed their opening brace when peeked
+                this.pathsOffset = offset + (int) reader.getOffset() - 1;
+                reader.skipValue();
+                this.pathsLength = offset + (int) reader.getOffset() - this.pathsOffset;
+            } else if ("components".equals(name) && reader.peek() == JsonReader.Token.BEGIN_OBJECT) {
+                this.componentsOffset = offset + (int) reader.getOffset() - 1;
+                reader.skipValue();
+                this.componentsLength = offset + (int) reader.getOffset() - this.componentsOffset;
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        this.offset = start;
+        this.length = offset + (int) reader.getOffset() - start;
+
+        // fails if anything other than whitespace follows the document
+        reader.peek();
+
+        if (info == null) {
+            throw new NullPointerException("Info has not been defined");
+        }
+        this.lazyInfo = info;
+        this.info = info;
+        info.addChangeListener(this.infoListener);
+    }
+
+    /**
+     * Determines whether the document has been modified since it was read, in which case its output is no longer cached
+     *
+     * @return
+     *      true if the document, its info object or its paths have been modified, or its components have been accessed
+     * @since
+     *      1.0.0
+     */
+    public boolean isModified() {
+        return this.info != this.lazyInfo || this.lazyInfo.isModified() || this.pathsModified || this.componentsModified;
+    }
+
+    @Override
+    public Info getInfo() {
+        return this.info;
+    }
+
+    @Override
+    public void setInfo(final Info info) {
+        untrack(this.info, this.infoListener);
+        track(info, this.infoListener);
+        this.info = info;
+        this.listeners.fire(this);
+    }
+
+    @Override
+    public Paths getPaths() {
+        if (!this.pathsDecoded && this.pathsOffset != -1) {
+            try {
+                this.paths = READER.readPaths(new JsonReader(this.bytes, this.pathsOffset, this.pathsLength));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.pathsDecoded = true;
+
+            // modifications of the decoded paths are only detected if they are trackable
+            track(this.paths, this.pathsListener);
+        }
+        return this.paths;
+    }
+
+    @Override
+    public void setPaths(final Paths paths) {
+        untrack(this.paths, this.pathsListener);
+        track(paths, this.pathsListener);
+        this.pathsDecoded = true;
+        this.pathsModified = true;
+        this.paths = paths;
+        this.listeners.fire(this);
+    }
+
+    @Override
+    public Components getComponents() {
+        if (!this.componentsDecoded && this.componentsOffset != -1) {
+            try {
+                this.components = READER.readComponents(new JsonReader(this.bytes, this.componentsOffset, this.componentsLength));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.componentsDecoded = true;
+
+            // only the addition and removal of components is reported to listeners, as schemas are not trackable, so
+            // the output is no longer cached once the decoded schemas have been handed out and may be modified
+            track(this.components, this.componentsListener);
+            this.componentsModified = this.components != null;
+        }
+        return this.components;
+    }
+
+    @Override
+    public void setComponents(final Components components) {
+        untrack(this.components, this.componentsListener);
+        track(components, this.componentsListener);
+        this.componentsDecoded = true;
+        this.componentsModified = true;
+        this.components = components;
+        this.listeners.fire(this);
+    }
+
+    @Override
+    public void writeJson(final JsonWriter writer) throws IOException {
+        if (this.isModified() || !writer.isRawJsonSupported()) {
+            Document.super.writeJson(writer);
+        } else {
+            this.cache();
+            if (this.jsonString == null) {
+                this.jsonString = new String(this.json, this.jsonOffset, this.jsonLength, StandardCharsets.UTF_8);
+            }
+            writer.rawValue(this.jsonString);
+        }
+    }
+
+    @Override
+    public void writeJson(final OutputStream outputStream) throws IOException {
+        if (this.isModified()) {
+            Document.super.writeJson(outputStream);
+        } else {
+            long start = SerializationMetrics.start();
+            this.cache();
+            outputStream.write(this.json, this.jsonOffset, this.jsonLength);
+            SerializationMetrics.serialized(this, start, this.jsonLength);
+        }
+    }
+
+    @Override
+    public void addChangeListener(final Invokable<Trackable> listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(final Invokable<Trackable> listener) {
+        this.listeners.remove(listener);
+    }
+
+    private static void track(final Object child, final Invokable<Trackable> listener) {
+        if (child instanceof Trackable) {
+            ((Trackable) child).addChangeListener(listener);
+        }
+    }
+
+    private static void untrack(final Object child, final Invokable<Trackable> listener) {
+        if (child instanceof Trackable) {
+            ((Trackable) child).removeChangeListener(listener);
+        }
+    }
+
+    private void cache() throws IOException {
+        if (this.json != null) {
+            return;
+        }
+        StringBuilder builder = new StringBuilder(this.length);
+        Document.super.writeJson(new JsonWriter(builder));
+        byte[] output = builder.toString().getBytes(StandardCharsets.UTF_8);
+        if (ByteBuffer.wrap(this.bytes, this.offset, this.length).equals(ByteBuffer.wrap(output))) {
+            this.json = this.bytes;
+            this.jsonOffset = this.offset;
+            this.jsonLength = this.length;
+        } else {
+            this.json = output;
+            this.jsonOffset = 0;
+            this.jsonLength = output.length;
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.xenosnowfox.openapi3.models;
 
+import com.xenosnowfox.openapi3.models.components.Components;
 import com.xenosnowfox.openapi3.models.info.Info;
+import com.xenosnowfox.openapi3.models.paths.Paths;
 
 /**
  * Basic implementation of the {@link Document} interface
  */
 public class OpenApiDocument implements Document {
     private Info info;
+    private Paths paths;
+    private Components components;
 
     @Override
     public Info getInfo() {
@@ -17,4 +21,24 @@ public class OpenApiDocument implements Document {
     public void setInfo(Info info) {
         this.info = info;
     }
+
+    @Override
+    public Paths getPaths() {
+        return this.paths;
+    }
+
+    @Override
+    public void setPaths(Paths paths) {
+        this.paths = paths;
+    }
+
+    @Override
+    public Components getComponents() {
+        return this.components;
+    }
+
+    @Override
+    public void setComponents(Components components) {
+        this.components = components;
+    }
 }
@@ -0,0 +1,358 @@
+package com.xenosnowfox.openapi3.models;
+
+import com.xenosnowfox.openapi3.models.components.Components;
+import com.xenosnowfox.openapi3.models.info.Info;
+import com.xenosnowfox.openapi3.models.paths.Paths;
+import com.xenosnowfox.openapi3.models.util.Invokable;
+import com.xenosnowfox.openapi3.models.util.Trackable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Serving helper that keeps the UTF-8 encoded JSON of a document together with its gzip and deflate compressed forms,
+ * so an unchanged document is only serialized and compressed once no matter how often it is served.
+ * The encodings are rebuilt when the document, or its {@link Trackable} info object, paths or components, is modified; modifications made
+ * to objects that do not implement {@link Trackable} are not detected, so call {@link #invalidate()} after making them.
+ * Compressed forms are only built the first time they are requested.
+ * Instances can be shared between threads.
+ *
+ * @since
+ *      1.0.0
+ */
+public class PrecompressedDocument implements Closeable {
+
+    /**
+     * Content codings that the document is available in
+     *
+     * @since
+     *      1.0.0
+     */
+    public enum Encoding {
+        IDENTITY("identity"),
+        GZIP("gzip"),
+        DEFLATE("deflate");
+
+        private final String name;
+
+        Encoding(final String name) {
+            this.name = name;
+        }
+
+        /**
+         * Obtains the name of the encoding as used in the {@code Content-Encoding} header
+         *
+         * @return
+         *      Encoding name
+         * @since
+         *      1.0.0
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * Selects the preferred encoding accepted by a client, favouring gzip over deflate when both are equally acceptable
+         *
+         * @param acceptEncoding
+         *      Value of the {@code Accept-Encoding} request header, or null if it is absent
+         * @return
+         *      Encoding to respond with, which is identity if no compressed encoding is acceptable
+         * @since
+         *      1.0.0
+         */
+        public static Encoding negotiate(final String acceptEncoding) {
+            if (acceptEncoding == null) {
+                return IDENTITY;
+            }
+
+            Double gzip = null;
+            Double deflate = null;
+            double wildcard = 0;
+            for (String coding : acceptEncoding.split(",")) {
+                String[] parameters = coding.split(";");
+                String name = parameters[0].trim();
+                double quality = 1;
+                for (int i = 1; i < parameters.length; i++) {
+                    String parameter = parameters[i].trim();
+                    if (parameter.startsWith("q=")) {
+                        try {
+                            quality = Double.parseDouble(parameter.substring(2).trim());
+                        } catch (NumberFormatException e) {
+                            quality = 0;
+                        }
+                    }
+                }
+                if (GZIP.name.equalsIgnoreCase(name) || "x-gzip".equalsIgnoreCase(name)) {
+                    gzip = quality;
+                } else if (DEFLATE.name.equalsIgnoreCase(name)) {
+                    deflate = quality;
+                } else if ("*".equals(name)) {
+                    wildcard = quality;
+                }
+            }
+
+            // codings that are not listed explicitly take the quality of the wildcard
+            double gzipQuality = gzip != null ? gzip : wildcard;
+            double deflateQuality = deflate != null ? deflate : wildcard;
+            if (gzipQuality > 0 && gzipQuality >= deflateQuality) {
+                return GZIP;
+            }
+            return deflateQuality > 0 ? DEFLATE : IDENTITY;
+        }
+    }
+
+    private final Document document;
+    private final int level;
+    private final Invokable<Trackable> listener = source -> this.invalidate();
+    private Info trackedInfo = null;
+    private Paths trackedPaths = null;
+    private Components trackedComponents = null;
+    private long modifications = 0;
+    private volatile Encodings encodings = null;
+
+    /**
+     * Instantiates a helper that compresses with the best compression level, as each form is only built once
+     *
+     * @param document
+     *      Document to serve
+     * @since
+     *      1.0.0
+     */
+    public PrecompressedDocument(final Document document) {
+        this(document, Deflater.BEST_COMPRESSION);
+    }
+
+    /**
+     * Instantiates a helper that compresses with the given level
+     *
+     * @param document
+     *      Document to serve
+     * @param level
+     *      Compression level between 0 and 9, see {@link Deflater}
+     * @since
+     *      1.0.0
+     */
+    public PrecompressedDocument(final Document document, final int level) {
+        if (document == null) {
+            throw new NullPointerException("Document cannot be null");
+        }
+        if (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid compression level: " + level);
+        }
+        this.document = document;
+        this.level = level;
+        if (document instanceof Trackable) {
+            ((Trackable) document).addChangeListener(this.listener);
+        }
+    }
+
+    /**
+     * Obtains the document being served
+     *
+     * @return
+     *      Document
+     * @since
+     *      1.0.0
+     */
+    public Document getDocument() {
+        return this.document;
+    }
+
+    /**
+     * Obtains the current serialized form of the document in the given encoding, building it if necessary
+     *
+     * @param encoding
+     *      Content coding
+     * @return
+     *      Read-only buffer positioned at the start of the encoded document, which is not affected by later modifications
+     * @throws IOException
+     *      if the document could not be serialized
+     * @since
+     *      1.0.0
+     */
+    public ByteBuffer getEncoded(final Encoding encoding) throws IOException {
+        Encodings encodings = this.encodings();
+        switch (encoding) {
+            case GZIP:
+                if (encodings.gzip == null) {
+                    encodings.gzip = this.gzip(encodings.identity);
+                }
+                return encodings.gzip.duplicate();
+            case DEFLATE:
+                if (encodings.deflate == null) {
+                    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                    this.deflate(encodings.identity, false, outputStream);
+                    encodings.deflate = ByteBuffer.wrap(outputStream.toByteArray()).asReadOnlyBuffer();
+                }
+                return encodings.deflate.duplicate();
+            default:
+                return encodings.identity.duplicate();
+        }
+    }
+
+    /**
+     * Discards the cached encodings, forcing them to be rebuilt on next use
+     *
+     * @since
+     *      1.0.0
+     */
+    public synchronized void invalidate() {
+        this.modifications++;
+        this.encodings = null;
+    }
+
+    /**
+     * Stops observing the document for modifications
+     *
+     * @since
+     *      1.0.0
+     */
+    @Override
+    public synchronized void close() {
+        if (this.document instanceof Trackable) {
+            ((Trackable) this.document).removeChangeListener(this.listener);
+        }
+        this.track(null, null, null);
+        this.encodings = null;
+    }
+
+    private Encodings encodings() throws IOException {
+        Encodings encodings = this.encodings;
+        boolean trackable = this.document instanceof Trackable;
+        if (encodings != null && trackable) {
+            return encodings;
+        }
+
+        // replacing the info object, paths or components of a document that is not trackable can only be detected by
+        // comparing them; trackable documents report it themselves, so lazily decoded members are left untouched
+        Info info = null;
+        Paths paths = null;
+        Components components = null;
+        if (!trackable) {
+            info = this.document.getInfo();
+            paths = this.document.getPaths();
+            components = this.document.getComponents();
+            if (encodings != null && encodings.info == info && encodings.paths == paths && encodings.components == components) {
+                return encodings;
+            }
+        }
+
+        long modifications;
+        synchronized (this) {
+            if (!trackable) {
+                this.track(info, paths, components);
+            }
+            modifications = this.modifications;
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        this.document.writeJson(outputStream);
+        encodings = new Encodings(info, paths, components, ByteBuffer.wrap(outputStream.toByteArray()).asReadOnlyBuffer());
+
+        // only keep the result if the document was not modified while it was being serialized
+        synchronized (this) {
+            if (this.modifications == modifications) {
+                this.encodings = encodings;
+            }
+        }
+        return encodings;
+    }
+
+    private void track(final Info info, final Paths paths, final Components components) {
+        if (info != this.trackedInfo) {
+            if (this.trackedInfo instanceof Trackable) {
+                ((Trackable) this.trackedInfo).removeChangeListener(this.listener);
+            }
+            if (info instanceof Trackable) {
+                ((Trackable) info).addChangeListener(this.listener);
+            }
+            this.trackedInfo = info;
+        }
+        if (paths != this.trackedPaths) {
+            if (this.trackedPaths instanceof Trackable) {
+                ((Trackable) this.trackedPaths).removeChangeListener(this.listener);
+            }
+            if (paths instanceof Trackable) {
+                ((Trackable) paths).addChangeListener(this.listener);
+            }
+            this.trackedPaths = paths;
+        }
+        if (components != this.trackedComponents) {
+            if (this.trackedComponents instanceof Trackable) {
+                ((Trackable) this.trackedComponents).removeChangeListener(this.listener);
+            }
+            if (components instanceof Trackable) {
+                ((Trackable) components).addChangeListener(this.listener);
+            }
+            this.trackedComponents = components;
+        }
+    }
+
+    /**
+     * Wraps a raw deflate stream in a gzip header and trailer (RFC 1952)
+     */
+    private ByteBuffer gzip(final ByteBuffer identity) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write(0x1f);
+        outputStream.write(0x8b);
+        outputStream.write(Deflater.DEFLATED);
+        // flags, modification time, extra flags and operating system (unknown)
+        outputStream.write(new byte[] {0, 0, 0, 0, 0, 0, (byte) 0xff}, 0, 7);
+
+        this.deflate(identity, true, outputStream);
+
+        CRC32 crc = new CRC32();
+        crc.update(identity.duplicate());
+        writeIntLittleEndian((int) crc.getValue(), outputStream);
+        writeIntLittleEndian(identity.remaining(), outputStream);
+        return ByteBuffer.wrap(outputStream.toByteArray()).asReadOnlyBuffer();
+    }
+
+    private void deflate(final ByteBuffer identity, final boolean nowrap, final ByteArrayOutputStream outputStream) {
+        byte[] input = new byte[identity.remaining()];
+        identity.duplicate().get(input);
+
+        Deflater deflater = new Deflater(this.level, nowrap);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            byte[] buffer = new byte[Math.min(Math.max(input.length, 64), 8192)];
+            while (!deflater.finished()) {
+                outputStream.write(buffer, 0, deflater.deflate(buffer));
+            }
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static void writeIntLittleEndian(final int value, final ByteArrayOutputStream outputStream) {
+        outputStream.write(value);
+        outputStream.write(value >>> 8);
+        outputStream.write(value >>> 16);
+        outputStream.write(value >>> 24);
+    }
+
+    /**
+     * Encoded forms of a single version of the document
+     */
+    private static final class Encodings {
+
+        private final Info info;
+        private final Paths paths;
+        private final Components components;
+        private final ByteBuffer identity;
+        private volatile ByteBuffer gzip = null;
+        private volatile ByteBuffer deflate = null;
+
+        Encodings(final Info info, final Paths paths, final Components components, final ByteBuffer identity) {
+            this.info = info;
+            this.paths = paths;
+            this.components = components;
+            this.identity = identity;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.xenosnowfox.openapi3.models.components;
+
+import com.xenosnowfox.openapi3.models.metrics.SerializationMetrics;
+import com.xenosnowfox.openapi3.models.schema.Schema;
+import com.xenosnowfox.openapi3.models.util.CanonicalJsonWriter;
+import com.xenosnowfox.openapi3.models.util.ContentHash;
+import com.xenosnowfox.openapi3.models.util.ContentHasher;
+import com.xenosnowfox.openapi3.models.util.Jsonable;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * Holds a set of reusable objects for different aspects of the OAS, which can be referenced with a {@link Reference}.
+ * Only schemas are currently modelled.
+ *
+ * @since
+ *      1.0.0
+ * @see
+ *      <a href="https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.2.md#components-object">https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.2.md#components-object</a>
+ */
+public interface Components extends Jsonable {
+
+    /**
+     * Obtains every reusable schema, keyed by component name
+     *
+     * @return
+     *      Unmodifiable map of schemas, in insertion order
+     * @since
+     *      1.0.0
+     */
+    Map<String, Schema> getSchemas();
+
+    /**
+     * Obtains the reusable schema with the given component name
+     *
+     * @param name
+     *      Component name
+     * @return
+     *      Schema, or null if not defined
+     * @since
+     *      1.0.0
+     */
+    default Schema getSchema(final String name) {
+        return this.getSchemas().get(name);
+    }
+
+    /**
+     * Defines a reusable schema
+     *
+     * @param name
+     *      Component name, consisting only of letters, digits, {@code .}, {@code -} and {@code _}
+     * @param schema
+     *      Schema, or null to remove it
+     * @since
+     *      1.0.0
+     */
+    void setSchema(final String name, final Schema schema);
+
+    /**
+     * Shorthand version of {@link #getSchema(String)}
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema schema(final String name) {
+        return this.getSchema(name);
+    }
+
+    /**
+     * Shorthand version of {@link #setSchema(String, Schema)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Components schema(final String name, final Schema schema) {
+        this.setSchema(name, schema);
+        return this;
+    }
+
+    /**
+     * Obtains an immutable snapshot of the components, with a precomputed hash code and JSON representation, whose setters
+     * throw an {@link UnsupportedOperationException}. The map of schemas is copied but the schemas themselves are shared,
+     * as schemas may refer to each other, so they must not be modified once frozen.
+     *
+     * @return
+     *      Immutable components
+     * @since
+     *      1.0.0
+     */
+    default Components freeze() {
+        return new FrozenComponents(this);
+    }
+
+    @Override
+    default ContentHash contentHash() {
+        // hashed over the canonical representation, so the hash does not depend on the order in which components were added
+        ContentHasher hasher = new ContentHasher();
+        try {
+            this.writeJson(new CanonicalJsonWriter(hasher));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return hasher.hash();
+    }
+
+    @Override
+    default JSONObject toJsonObject() {
+        long start = SerializationMetrics.start();
+        JSONObject jsonObject = new JSONObject();
+
+        // add schemas
+        Map<String, Schema> schemas = this.getSchemas();
+        if (!schemas.isEmpty()) {
+            JSONObject schemasObject = new JSONObject();
+            for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+                schemasObject.put(entry.getKey(), entry.getValue().toJsonObject());
+            }
+            jsonObject.put("schemas", schemasObject);
+        }
+
+        SerializationMetrics.converted(this, start);
+        return jsonObject;
+    }
+}
@@ -0,0 +1,64 @@
+package com.xenosnowfox.openapi3.models.components;
+
+import com.xenosnowfox.openapi3.models.schema.Schema;
+import com.xenosnowfox.openapi3.models.util.ChangeListeners;
+import com.xenosnowfox.openapi3.models.util.Invokable;
+import com.xenosnowfox.openapi3.models.util.Trackable;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Basic implementation of the {@link Components} interface. Listeners are notified when a component is added, replaced
+ * or removed; modifications made within a schema are not detected.
+ *
+ * @since
+ *      1.0.0
+ */
+public class ComponentsImpl implements Components, Trackable {
+
+    private static final Pattern NAME = Pattern.compile("^[a-zA-Z0-9.\\-_]+$");
+
+    private final Map<String, Schema> schemas = new LinkedHashMap<>();
+    private final Map<String, Schema> unmodifiableSchemas = Collections.unmodifiableMap(this.schemas);
+    private final ChangeListeners listeners = new ChangeListeners();
+
+    @Override
+    public Map<String, Schema> getSchemas() {
+        return this.unmodifiableSchemas;
+    }
+
+    @Override
+    public Schema getSchema(final String name) {
+        return this.schemas.get(name);
+    }
+
+    @Override
+    public void setSchema(final String name, final Schema schema) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new NullPointerException("Component name cannot be null or blank");
+        }
+        if (!NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid component name: " + name);
+        }
+
+        if (schema == null) {
+            this.schemas.remove(name);
+        } else {
+            this.schemas.put(name, schema);
+        }
+        this.listeners.fire(this);
+    }
+
+    @Override
+    public void addChangeListener(final Invokable<Trackable> listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(final Invokable<Trackable> listener) {
+        this.listeners.remove(listener);
+    }
+}
@@ -0,0 +1,29 @@
+package com.xenosnowfox.openapi3.models.components;
+
+import com.xenosnowfox.openapi3.models.Document;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * Loads the documents that references point to, e.g. from the file system, the class path or over HTTP.
+ *
+ * @since
+ *      1.0.0
+ */
+public interface DocumentLoader {
+
+    /**
+     * Loads the document at the given URI
+     *
+     * @param uri
+     *      Absolute URI of the document, without a fragment
+     * @return
+     *      Document
+     * @throws IOException
+     *      if the document does not exist or could not be read
+     * @since
+     *      1.0.0
+     */
+    Document load(final URI uri) throws IOException;
+}
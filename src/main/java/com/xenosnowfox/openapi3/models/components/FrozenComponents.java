@@ -0,0 +1,91 @@
+package com.xenosnowfox.openapi3.models.components;
+
+import com.xenosnowfox.openapi3.models.schema.Schema;
+import com.xenosnowfox.openapi3.models.util.ContentHash;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of a {@link Components} object, with a precomputed hash code and JSON representation.
+ * The schemas are shared with the original, see {@link Components#freeze()}.
+ *
+ * @since
+ *      1.0.0
+ */
+final class FrozenComponents implements Components {
+
+    private final Map<String, Schema> schemas;
+    private final String json;
+    private final int hashCode;
+
+    // computed on first use; racy publication is safe as content hashes are immutable
+    private ContentHash contentHash = null;
+
+    /**
+     * Instantiates a snapshot of the given components
+     *
+     * @param components
+     *      Components to copy
+     */
+    FrozenComponents(final Components components) {
+        this.schemas = Collections.unmodifiableMap(new LinkedHashMap<>(components.getSchemas()));
+        this.json = Components.super.toJsonObject().toString();
+        this.hashCode = this.json.hashCode();
+    }
+
+    @Override
+    public Map<String, Schema> getSchemas() {
+        return this.schemas;
+    }
+
+    @Override
+    public void setSchema(final String name, final Schema schema) {
+        throw new UnsupportedOperationException("Frozen components cannot be modified");
+    }
+
+    @Override
+    public Components freeze() {
+        return this;
+    }
+
+    @Override
+    public void writeJson(final JsonWriter writer) throws IOException {
+        writer.rawValue(this.json);
+    }
+
+    @Override
+    public ContentHash contentHash() {
+        ContentHash contentHash = this.contentHash;
+        if (contentHash == null) {
+            contentHash = Components.super.contentHash();
+            this.contentHash = contentHash;
+        }
+        return contentHash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof FrozenComponents)) {
+            return false;
+        }
+        FrozenComponents other = (FrozenComponents) obj;
+        return this.hashCode == other.hashCode && this.json.equals(other.json);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return this.json;
+    }
+}
@@ -0,0 +1,66 @@
+package com.xenosnowfox.openapi3.models.components;
+
+import com.xenosnowfox.openapi3.models.metrics.SerializationMetrics;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
+import com.xenosnowfox.openapi3.models.util.Jsonable;
+import org.json.JSONObject;
+
+import java.io.IOException;
+
+/**
+ * A simple object to allow referencing other components in the specification, internally and externally.
+ * References are serialized as written, whether or not they have been resolved by a {@link ReferenceResolver}.
+ *
+ * @since
+ *      1.0.0
+ * @see
+ *      <a href="https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.2.md#reference-object">https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.2.md#reference-object</a>
+ */
+public interface Reference extends Jsonable {
+
+    /**
+     * Obtains the reference string, e.g. {@code #/components/schemas/Pet} or {@code common.json#/components/schemas/Error}
+     *
+     * @return
+     *      Reference string
+     * @since
+     *      1.0.0
+     */
+    String getRef();
+
+    /**
+     * Shorthand version of {@link #getRef()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default String ref() {
+        return this.getRef();
+    }
+
+    /**
+     * Determines whether the target of the reference has been resolved
+     *
+     * @return
+     *      true if the reference has been resolved
+     * @since
+     *      1.0.0
+     */
+    boolean isResolved();
+
+    @Override
+    default JSONObject toJsonObject() {
+        long start = SerializationMetrics.start();
+        JSONObject jsonObject = new JSONObject();
+        jsonObject.put("$ref", this.getRef());
+        SerializationMetrics.converted(this, start);
+        return jsonObject;
+    }
+
+    @Override
+    default void writeJson(final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("$ref").value(this.getRef());
+        writer.endObject();
+    }
+}
@@ -0,0 +1,442 @@
+package com.xenosnowfox.openapi3.models.components;
+
+import com.xenosnowfox.openapi3.models.Document;
+import com.xenosnowfox.openapi3.models.DocumentReader;
+import com.xenosnowfox.openapi3.models.schema.Schema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves the {@link SchemaReference} instances of documents, loading the documents they point to on demand.
+ * <p>
+ * Each document is loaded at most once per resolver, keyed by its normalized absolute URI, and all of its references
+ * are resolved before the call that loaded it returns. Targets are cached by document URI and JSON pointer, so every reference string is
+ * only followed once, and all references to the same target share the same schema instance, whichever document they
+ * are in. Chains of references are followed to the schema they end at; a chain that leads back to itself is rejected.
+ * Schemas that refer to themselves through properties or items are not cycles in this sense, and are supported.
+ * <p>
+ * JSON pointers may address a component schema, e.g. {@code #/components/schemas/Pet}, or any schema nested in one
+ * through {@code properties}, {@code items}, {@code additionalProperties}, {@code allOf}, {@code anyOf}, {@code oneOf} or {@code not}.
+ * Instances are thread-safe; documents are loaded and resolved one at a time.
+ *
+ * @since
+ *      1.0.0
+ */
+public class ReferenceResolver {
+
+    private final DocumentLoader loader;
+
+    // documents and targets added by the current call, which are discarded if it fails
+    private final List<URI> pendingDocuments = new ArrayList<>();
+    private final List<String> pendingTargets = new ArrayList<>();
+
+    // loaded documents whose references have not been resolved yet; resolving them iteratively bounds the stack depth
+    private final Deque<Scope> unresolved = new ArrayDeque<>();
+
+    private final Map<URI, Scope> documents = new HashMap<>();
+    private final Map<String, Target> targets = new HashMap<>();
+
+    // targets within a document that has no URI, only kept for the duration of a call
+    private final Map<String, Target> anonymousTargets = new HashMap<>();
+
+    /**
+     * Instantiates a resolver that reads referenced documents from their URLs with a default {@link DocumentReader}
+     *
+     * @since
+     *      1.0.0
+     */
+    public ReferenceResolver() {
+        this(new DocumentReader());
+    }
+
+    /**
+     * Instantiates a resolver that reads referenced documents from their URLs with the given reader
+     *
+     * @param reader
+     *      Reader used to decode documents
+     * @since
+     *      1.0.0
+     */
+    public ReferenceResolver(final DocumentReader reader) {
+        this(uri -> {
+            try (InputStream inputStream = uri.toURL().openStream()) {
+                return reader.read(inputStream);
+            }
+        });
+    }
+
+    /**
+     * Instantiates a resolver that obtains referenced documents from the given loader
+     *
+     * @param loader
+     *      Loader of referenced documents
+     * @since
+     *      1.0.0
+     */
+    public ReferenceResolver(final DocumentLoader loader) {
+        if (loader == null) {
+            throw new NullPointerException("Loader cannot be null");
+        }
+        this.loader = loader;
+    }
+
+    /**
+     * Obtains the document at the given URI with all of its references resolved, loading it if this resolver has not done so before
+     *
+     * @param uri
+     *      Absolute URI of the document; any fragment is ignored
+     * @return
+     *      Resolved document, which is the same instance for every call with the same URI
+     * @throws IOException
+     *      if the document, or a document it refers to, could not be loaded
+     * @throws IllegalArgumentException
+     *      if the URI is not absolute, a reference is malformed or circular, or its target does not exist
+     * @since
+     *      1.0.0
+     */
+    public synchronized Document load(final URI uri) throws IOException {
+        if (uri == null) {
+            throw new NullPointerException("URI cannot be null");
+        }
+        try {
+            Document document = this.open(documentUri(uri, uri.toString())).document;
+            this.drain();
+            this.commit();
+            return document;
+        } catch (IOException | RuntimeException e) {
+            this.rollback();
+            throw e;
+        }
+    }
+
+    /**
+     * Resolves the references of a document that was not loaded by this resolver, such as one built in memory.
+     * Only references within the document itself and to absolute URIs can be resolved.
+     *
+     * @param document
+     *      Document to resolve
+     * @throws IOException
+     *      if a referenced document could not be loaded
+     * @throws IllegalArgumentException
+     *      if a reference is relative, malformed or circular, or its target does not exist
+     * @since
+     *      1.0.0
+     */
+    public synchronized void resolve(final Document document) throws IOException {
+        if (document == null) {
+            throw new NullPointerException("Document cannot be null");
+        }
+        try {
+            this.resolveAll(new Scope(null, document));
+            this.drain();
+            this.commit();
+        } catch (IOException | RuntimeException e) {
+            this.rollback();
+            throw e;
+        } finally {
+            this.anonymousTargets.clear();
+        }
+    }
+
+    /**
+     * Resolves the references of a document that was not loaded by this resolver, as if it had been loaded from the given URI.
+     * Relative references are resolved against the URI, and other documents that refer to the URI share this document
+     * rather than loading it.
+     *
+     * @param document
+     *      Document to resolve
+     * @param uri
+     *      Absolute URI of the document
+     * @throws IOException
+     *      if a referenced document could not be loaded
+     * @throws IllegalArgumentException
+     *      if the URI is not absolute or already refers to another document, a reference is malformed or circular, or its target does not exist
+     * @since
+     *      1.0.0
+     */
+    public synchronized void resolve(final Document document, final URI uri) throws IOException {
+        if (document == null) {
+            throw new NullPointerException("Document cannot be null");
+        }
+        if (uri == null) {
+            throw new NullPointerException("URI cannot be null");
+        }
+        URI documentUri = documentUri(uri, uri.toString());
+        Scope existing = this.documents.get(documentUri);
+        if (existing != null) {
+            if (existing.document != document) {
+                throw new IllegalArgumentException("Another document has already been loaded from " + documentUri);
+            }
+            return;
+        }
+
+        try {
+            Scope scope = new Scope(documentUri, document);
+            this.documents.put(documentUri, scope);
+            this.pendingDocuments.add(documentUri);
+            this.resolveAll(scope);
+            this.drain();
+            this.commit();
+        } catch (IOException | RuntimeException e) {
+            this.rollback();
+            throw e;
+        }
+    }
+
+    private void drain() throws IOException {
+        Scope scope;
+        while ((scope = this.unresolved.poll()) != null) {
+            this.resolveAll(scope);
+        }
+    }
+
+    private void commit() {
+        this.pendingDocuments.clear();
+        this.pendingTargets.clear();
+    }
+
+    private void rollback() {
+        for (URI uri : this.pendingDocuments) {
+            this.documents.remove(uri);
+        }
+        for (String key : this.pendingTargets) {
+            this.targets.remove(key);
+        }
+        this.unresolved.clear();
+        this.commit();
+    }
+
+    /**
+     * Obtains a loaded document, loading it and queueing it for resolution first if necessary.
+     * Targets can be looked up in a document before its own references have been resolved.
+     */
+    private Scope open(final URI documentUri) throws IOException {
+        Scope scope = this.documents.get(documentUri);
+        if (scope != null) {
+            return scope;
+        }
+
+        Document document = this.loader.load(documentUri);
+        if (document == null) {
+            throw new IOException("Document could not be loaded: " + documentUri);
+        }
+
+        scope = new Scope(documentUri, document);
+        this.documents.put(documentUri, scope);
+        this.pendingDocuments.add(documentUri);
+        this.unresolved.add(scope);
+        return scope;
+    }
+
+    /**
+     * Resolves every reference within the component schemas of a document
+     */
+    private void resolveAll(final Scope scope) throws IOException {
+        Components components = scope.document.getComponents();
+        if (components == null) {
+            return;
+        }
+        Set<Schema> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Schema schema : components.getSchemas().values()) {
+            this.resolveAll(schema, scope, visited);
+        }
+    }
+
+    private void resolveAll(final Schema schema, final Scope scope, final Set<Schema> visited) throws IOException {
+        if (schema == null || !visited.add(schema)) {
+            return;
+        }
+
+        // the target lives in its own document, whose references are resolved when it is loaded
+        if (schema instanceof SchemaReference) {
+            SchemaReference reference = (SchemaReference) schema;
+            reference.resolve(this.resolve(reference.getRef(), scope, new ArrayDeque<>()).schema);
+            return;
+        }
+
+        this.resolveAll(schema.getItems(), scope, visited);
+        for (Schema property : schema.getProperties().values()) {
+            this.resolveAll(property, scope, visited);
+        }
+        this.resolveAll(schema.getAdditionalProperties(), scope, visited);
+        for (List<Schema> schemas : Arrays.asList(schema.getAllOf(), schema.getAnyOf(), schema.getOneOf())) {
+            if (schemas != null) {
+                for (Schema composed : schemas) {
+                    this.resolveAll(composed, scope, visited);
+                }
+            }
+        }
+        this.resolveAll(schema.getNot(), scope, visited);
+    }
+
+    /**
+     * Finds the schema the given reference string ends at, following any chain of references
+     *
+     * @param ref
+     *      Reference string
+     * @param scope
+     *      Document containing the reference
+     * @param chain
+     *      Keys of the references currently being followed
+     */
+    private Target resolve(final String ref, final Scope scope, final Deque<String> chain) throws IOException {
+        URI uri;
+        try {
+            uri = new URI(ref);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid reference: " + ref, e);
+        }
+
+        Scope targetScope = scope;
+        if (uri.getScheme() != null || !uri.getRawSchemeSpecificPart().isEmpty()) {
+            URI documentUri = scope.uri == null ? uri : scope.uri.resolve(uri);
+            targetScope = this.open(documentUri(documentUri, ref));
+        }
+
+        String pointer = uri.getFragment() == null ? "" : uri.getFragment();
+        String key = targetScope.uri + "#" + pointer;
+        Map<String, Target> cache = targetScope.uri == null ? this.anonymousTargets : this.targets;
+        Target target = cache.get(key);
+        if (target != null) {
+            return target;
+        }
+
+        if (chain.contains(key)) {
+            throw new IllegalArgumentException("Circular reference: " + String.join(" -> ", chain) + " -> " + key);
+        }
+        chain.addLast(key);
+        target = this.navigate(targetScope, pointer, ref, chain);
+        if (target.schema instanceof SchemaReference) {
+            SchemaReference reference = (SchemaReference) target.schema;
+            target = this.resolve(reference.getRef(), target.scope, chain);
+            reference.resolve(target.schema);
+        }
+        chain.removeLast();
+
+        cache.put(key, target);
+        if (cache == this.targets) {
+            this.pendingTargets.add(key);
+        }
+        return target;
+    }
+
+    /**
+     * Finds the schema addressed by a JSON pointer, following any references it passes through
+     */
+    private Target navigate(final Scope scope, final String pointer, final String ref, final Deque<String> chain) throws IOException {
+        String[] tokens = pointer.split("/", -1);
+        if (tokens.length < 4 || !tokens[0].isEmpty() || !"components".equals(tokens[1]) || !"schemas".equals(tokens[2])) {
+            throw new IllegalArgumentException("Reference does not point to a component schema: " + ref);
+        }
+
+        Components components = scope.document.getComponents();
+        Target target = new Target(components == null ? null : components.getSchema(unescape(tokens[3])), scope);
+        for (int i = 4; i < tokens.length && target.schema != null; i++) {
+            if (target.schema instanceof SchemaReference) {
+                SchemaReference reference = (SchemaReference) target.schema;
+                target = this.resolve(reference.getRef(), target.scope, chain);
+                reference.resolve(target.schema);
+            }
+
+            Schema schema = target.schema;
+            switch (tokens[i]) {
+                case "properties":
+                    schema = ++i < tokens.length ? schema.getProperty(unescape(tokens[i])) : null;
+                    break;
+                case "items":
+                    schema = schema.getItems();
+                    break;
+                case "additionalProperties":
+                    schema = schema.getAdditionalProperties();
+                    break;
+                case "not":
+                    schema = schema.getNot();
+                    break;
+                case "allOf":
+                    schema = ++i < tokens.length ? element(schema.getAllOf(), tokens[i]) : null;
+                    break;
+                case "anyOf":
+                    schema = ++i < tokens.length ? element(schema.getAnyOf(), tokens[i]) : null;
+                    break;
+                case "oneOf":
+                    schema = ++i < tokens.length ? element(schema.getOneOf(), tokens[i]) : null;
+                    break;
+                default:
+                    schema = null;
+            }
+            target = new Target(schema, target.scope);
+        }
+
+        if (target.schema == null) {
+            throw new IllegalArgumentException("Reference target does not exist: " + ref);
+        }
+        return target;
+    }
+
+    private static Schema element(final List<Schema> schemas, final String token) {
+        if (schemas == null || token.isEmpty() || !token.chars().allMatch(Character::isDigit) || token.length() > 9) {
+            return null;
+        }
+        int index = Integer.parseInt(token);
+        return index < schemas.size() ? schemas.get(index) : null;
+    }
+
+    private static String unescape(final String token) {
+        return token.replace("~1", "/").replace("~0", "~");
+    }
+
+    /**
+     * Normalizes the URI of a document, dropping any fragment
+     */
+    private static URI documentUri(final URI uri, final String ref) {
+        if (!uri.isAbsolute()) {
+            throw new IllegalArgumentException("Reference cannot be resolved without an absolute base URI: " + ref);
+        }
+        try {
+            return new URI(uri.getScheme(), uri.getSchemeSpecificPart(), null).normalize();
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid reference: " + ref, e);
+        }
+    }
+
+    /**
+     * A document together with the URI that its relative references are resolved against
+     */
+    private static final class Scope {
+
+        private final URI uri;
+        private final Document document;
+
+        Scope(final URI uri, final Document document) {
+            this.uri = uri;
+            this.document = document;
+        }
+    }
+
+    /**
+     * A schema together with the document it is defined in
+     */
+    private static final class Target {
+
+        private final Schema schema;
+        private final Scope scope;
+
+        Target(final Schema schema, final Scope scope) {
+            this.schema = schema;
+            this.scope = scope;
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package com.xenosnowfox.openapi3.models.components;
+
+import com.xenosnowfox.openapi3.models.schema.Schema;
+import com.xenosnowfox.openapi3.models.schema.SchemaType;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link Reference} standing in for a {@link Schema}, e.g. as a property of another schema.
+ * Once resolved by a {@link ReferenceResolver}, every getter returns the value of the target schema, so the reference
+ * can be used and compiled like any other schema; before that, the getters throw an {@link IllegalStateException}.
+ * The reference is always serialized as a Reference Object, which also allows schemas to refer to themselves.
+ * Schema references cannot be modified through their setters; modify the target schema instead.
+ *
+ * @since
+ *      1.0.0
+ */
+public class SchemaReference implements Schema, Reference {
+
+    private final String ref;
+
+    // written by the resolver, and read without synchronization by any thread using the schema
+    private volatile Schema target = null;
+
+    /**
+     * Instantiates an unresolved reference
+     *
+     * @param ref
+     *      Reference string, e.g. {@code #/components/schemas/Pet}
+     * @since
+     *      1.0.0
+     */
+    public SchemaReference(final String ref) {
+        if (ref == null || ref.trim().isEmpty()) {
+            throw new NullPointerException("Reference cannot be null or blank");
+        }
+        this.ref = ref;
+    }
+
+    @Override
+    public String getRef() {
+        return this.ref;
+    }
+
+    @Override
+    public boolean isResolved() {
+        return this.target != null;
+    }
+
+    /**
+     * Obtains the schema the reference resolved to, which is never itself a reference
+     *
+     * @return
+     *      Target schema
+     * @throws IllegalStateException
+     *      if the reference has not been resolved
+     * @since
+     *      1.0.0
+     */
+    public Schema getTarget() {
+        Schema target = this.target;
+        if (target == null) {
+            throw new IllegalStateException("Reference has not been resolved: " + this.ref);
+        }
+        return target;
+    }
+
+    /**
+     * Assigns the schema the reference resolves to
+     *
+     * @param target
+     *      Target schema
+     */
+    void resolve(final Schema target) {
+        this.target = target;
+    }
+
+    @Override
+    public String getTitle() {
+        return this.getTarget().getTitle();
+    }
+
+    @Override
+    public void setTitle(final String title) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public String getDescription() {
+        return this.getTarget().getDescription();
+    }
+
+    @Override
+    public void setDescription(final String description) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public SchemaType getType() {
+        return this.getTarget().getType();
+    }
+
+    @Override
+    public void setType(final SchemaType type) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public String getFormat() {
+        return this.getTarget().getFormat();
+    }
+
+    @Override
+    public void setFormat(final String format) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public boolean isNullable() {
+        return this.getTarget().isNullable();
+    }
+
+    @Override
+    public void setNullable(final boolean nullable) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public List<Object> getEnum() {
+        return this.getTarget().getEnum();
+    }
+
+    @Override
+    public void setEnum(final List<?> values) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public String getPattern() {
+        return this.getTarget().getPattern();
+    }
+
+    @Override
+    public void setPattern(final String pattern) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public Integer getMinLength() {
+        return this.getTarget().getMinLength();
+    }
+
+    @Override
+    public void setMinLength(final Integer minLength) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public Integer getMaxLength() {
+        return this.getTarget().getMaxLength();
+    }
+
+    @Override
+    public void setMaxLength(final Integer maxLength) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public BigDecimal getMinimum() {
+        return this.getTarget().getMinimum();
+    }
+
+    @Override
+    public void setMinimum(final BigDecimal minimum) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public boolean isExclusiveMinimum() {
+        return this.getTarget().isExclusiveMinimum();
+    }
+
+    @Override
+    public void setExclusiveMinimum(final boolean exclusiveMinimum) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public BigDecimal getMaximum() {
+        return this.getTarget().getMaximum();
+    }
+
+    @Override
+    public void setMaximum(final BigDecimal maximum) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public boolean isExclusiveMaximum() {
+        return this.getTarget().isExclusiveMaximum();
+    }
+
+    @Override
+    public void setExclusiveMaximum(final boolean exclusiveMaximum) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public BigDecimal getMultipleOf() {
+        return this.getTarget().getMultipleOf();
+    }
+
+    @Override
+    public void setMultipleOf(final BigDecimal multipleOf) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public Schema getItems() {
+        return this.getTarget().getItems();
+    }
+
+    @Override
+    public void setItems(final Schema items) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public Integer getMinItems() {
+        return this.getTarget().getMinItems();
+    }
+
+    @Override
+    public void setMinItems(final Integer minItems) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public Integer getMaxItems() {
+        return this.getTarget().getMaxItems();
+    }
+
+    @Override
+    public void setMaxItems(final Integer maxItems) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public boolean isUniqueItems() {
+        return this.getTarget().isUniqueItems();
+    }
+
+    @Override
+    public void setUniqueItems(final boolean uniqueItems) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public Map<String, Schema> getProperties() {
+        return this.getTarget().getProperties();
+    }
+
+    @Override
+    public void setProperty(final String name, final Schema schema) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public List<String> getRequired() {
+        return this.getTarget().getRequired();
+    }
+
+    @Override
+    public void setRequired(final List<String> required) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public Schema getAdditionalProperties() {
+        return this.getTarget().getAdditionalProperties();
+    }
+
+    @Override
+    public void setAdditionalProperties(final Schema additionalProperties) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public boolean isAdditionalPropertiesAllowed() {
+        return this.getTarget().isAdditionalPropertiesAllowed();
+    }
+
+    @Override
+    public void setAdditionalPropertiesAllowed(final boolean additionalPropertiesAllowed) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public Integer getMinProperties() {
+        return this.getTarget().getMinProperties();
+    }
+
+    @Override
+    public void setMinProperties(final Integer minProperties) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public Integer getMaxProperties() {
+        return this.getTarget().getMaxProperties();
+    }
+
+    @Override
+    public void setMaxProperties(final Integer maxProperties) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public List<Schema> getAllOf() {
+        return this.getTarget().getAllOf();
+    }
+
+    @Override
+    public void setAllOf(final List<Schema> allOf) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public List<Schema> getAnyOf() {
+        return this.getTarget().getAnyOf();
+    }
+
+    @Override
+    public void setAnyOf(final List<Schema> anyOf) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public List<Schema> getOneOf() {
+        return this.getTarget().getOneOf();
+    }
+
+    @Override
+    public void setOneOf(final List<Schema> oneOf) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public Schema getNot() {
+        return this.getTarget().getNot();
+    }
+
+    @Override
+    public void setNot(final Schema schema) {
+        throw new UnsupportedOperationException("Schema references cannot be modified");
+    }
+
+    @Override
+    public Schema getProperty(final String name) {
+        return this.getTarget().getProperty(name);
+    }
+
+    @Override
+    public JSONObject toJsonObject() {
+        return Reference.super.toJsonObject();
+    }
+
+    @Override
+    public void writeJson(final JsonWriter writer) throws IOException {
+        Reference.super.writeJson(writer);
+    }
+}
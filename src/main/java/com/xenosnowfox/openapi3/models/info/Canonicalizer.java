@@ -0,0 +1,125 @@
+package com.xenosnowfox.openapi3.models.info;
+
+import com.xenosnowfox.openapi3.models.Document;
+import com.xenosnowfox.openapi3.models.util.WeakInterner;
+
+/**
+ * Deduplicates structurally equal {@link Contact} and {@link License} objects, and the strings they contain, so that
+ * large catalogs of documents share a single immutable instance of each distinct contact and license.
+ * Canonical instances are frozen (see {@link Contact#freeze()}) and only weakly held, so they are released once no
+ * document refers to them. A single instance can be shared by any number of threads.
+ *
+ * @since
+ *      1.0.0
+ */
+public class Canonicalizer {
+
+    private final WeakInterner<String> strings = new WeakInterner<>();
+    private final WeakInterner<Contact> contacts = new WeakInterner<>();
+    private final WeakInterner<License> licenses = new WeakInterner<>();
+
+    /**
+     * Obtains the canonical instance of the given contact information
+     *
+     * @param contact
+     *      Contact information
+     * @return
+     *      Immutable canonical contact, or null if the contact is null
+     * @since
+     *      1.0.0
+     */
+    public Contact canonicalize(final Contact contact) {
+        if (contact == null) {
+            return null;
+        }
+        return this.contacts.intern(new FrozenContact(
+                this.strings.intern(contact.getName()),
+                this.strings.intern(contact.getEmail()),
+                contact.getUri(),
+                contact.getExtensions()));
+    }
+
+    /**
+     * Obtains the canonical instance of the given license information
+     *
+     * @param license
+     *      License information
+     * @return
+     *      Immutable canonical license, or null if the license is null
+     * @since
+     *      1.0.0
+     */
+    public License canonicalize(final License license) {
+        if (license == null) {
+            return null;
+        }
+        return this.licenses.intern(new FrozenLicense(
+                this.strings.intern(license.getName()),
+                license.getUri(),
+                license.getExtensions()));
+    }
+
+    /**
+     * Replaces the contact and license of the given info object with their canonical instances
+     *
+     * @param info
+     *      Mutable info object
+     * @return
+     *      The given info object, to allow for method chaining
+     * @since
+     *      1.0.0
+     */
+    public Info canonicalize(final Info info) {
+        Contact contact = info.getContact();
+        if (contact != null) {
+            info.setContact(this.canonicalize(contact));
+        }
+        License license = info.getLicense();
+        if (license != null) {
+            info.setLicense(this.canonicalize(license));
+        }
+        return info;
+    }
+
+    /**
+     * Replaces the contact and license of the given document's info object with their canonical instances
+     *
+     * @param document
+     *      Document with a mutable info object
+     * @return
+     *      The given document, to allow for method chaining
+     * @since
+     *      1.0.0
+     */
+    public Document canonicalize(final Document document) {
+        Info info = document.getInfo();
+        if (info != null) {
+            this.canonicalize(info);
+        }
+        return document;
+    }
+
+    /**
+     * Obtains the number of distinct contacts currently held
+     *
+     * @return
+     *      Number of canonical contacts
+     * @since
+     *      1.0.0
+     */
+    public int contactCount() {
+        return this.contacts.size();
+    }
+
+    /**
+     * Obtains the number of distinct licenses currently held
+     *
+     * @return
+     *      Number of canonical licenses
+     * @since
+     *      1.0.0
+     */
+    public int licenseCount() {
+        return this.licenses.size();
+    }
+}
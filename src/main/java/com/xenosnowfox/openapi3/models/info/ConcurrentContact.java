@@ -0,0 +1,179 @@
+package com.xenosnowfox.openapi3.models.info;
+
+import com.xenosnowfox.openapi3.models.util.ChangeListeners;
+import com.xenosnowfox.openapi3.models.util.ContentHash;
+import com.xenosnowfox.openapi3.models.util.Extensions;
+import com.xenosnowfox.openapi3.models.util.Invokable;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
+import com.xenosnowfox.openapi3.models.util.RawJson;
+import com.xenosnowfox.openapi3.models.util.Trackable;
+import com.xenosnowfox.openapi3.models.util.Urls;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URL;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe implementation of the {@link Contact} interface.
+ * Every modification atomically replaces an immutable snapshot, so readers never take a lock and always serialize a
+ * consistent state.
+ *
+ * @since
+ *      1.0.0
+ */
+public class ConcurrentContact implements Contact, Trackable {
+
+    private final AtomicReference<FrozenContact> state;
+    private final ChangeListeners listeners = new ChangeListeners();
+
+    /**
+     * Instantiate a blank contact object
+     *
+     * @since
+     *      1.0.0
+     */
+    public ConcurrentContact() {
+        this(null, null);
+    }
+
+    /**
+     * Instantiates a contact object with a contact name and email address
+     *
+     * @param name
+     *      Contact's name
+     * @param email
+     *      Email address
+     * @since
+     *      1.0.0
+     */
+    public ConcurrentContact(final String name, final String email) {
+        this.state = new AtomicReference<>(new FrozenContact(name, email, null, Extensions.EMPTY));
+    }
+
+    private void swap(final UnaryOperator<FrozenContact> operator) {
+        this.state.updateAndGet(operator);
+        this.listeners.fire(this);
+    }
+
+    @Override
+    public String getName() {
+        return this.state.get().getName();
+    }
+
+    @Override
+    public void setName(final String name) {
+        this.swap(current -> new FrozenContact(name, current.getEmail(), current.getUri(), current.getExtensions()));
+    }
+
+    @Override
+    public URL getUrl() {
+        return this.state.get().getUrl();
+    }
+
+    @Override
+    public void setUrl(final URL url) {
+        this.setUri(Urls.toUri(url));
+    }
+
+    @Override
+    public URI getUri() {
+        return this.state.get().getUri();
+    }
+
+    @Override
+    public void setUri(final URI uri) {
+        Urls.validate(uri);
+        this.swap(current -> new FrozenContact(current.getName(), current.getEmail(), uri, current.getExtensions()));
+    }
+
+    @Override
+    public String getEmail() {
+        return this.state.get().getEmail();
+    }
+
+    @Override
+    public void setEmail(final String email) {
+        this.swap(current -> new FrozenContact(current.getName(), email, current.getUri(), current.getExtensions()));
+    }
+
+    @Override
+    public Extensions getExtensions() {
+        return this.state.get().getExtensions();
+    }
+
+    @Override
+    public void setExtensions(final Extensions extensions) {
+        this.swap(current -> new FrozenContact(current.getName(), current.getEmail(), current.getUri(), extensions));
+    }
+
+    @Override
+    public void setExtension(final String name, final Object value) {
+        // encoded once, as the operator may be applied more than once
+        RawJson rawValue = value == null ? null : RawJson.of(value);
+        this.swap(current -> new FrozenContact(current.getName(), current.getEmail(), current.getUri(), current.getExtensions().with(name, rawValue)));
+    }
+
+    /**
+     * Atomically applies several modifications at once, so that readers observe either none or all of them.
+     * The callback is invoked with a mutable copy of the current state and may be invoked more than once if another
+     * thread modifies this instance concurrently, so it should not have side effects.
+     *
+     * @param changes
+     *      Callback that applies the modifications
+     * @since
+     *      1.0.0
+     */
+    public void update(final Invokable<Contact> changes) {
+        this.swap(current -> {
+            ContactImpl draft = new ContactImpl(current.getName(), current.getEmail());
+            draft.setUri(current.getUri());
+            draft.setExtensions(current.getExtensions());
+            changes.invoke(draft);
+            return new FrozenContact(draft.getName(), draft.getEmail(), draft.getUri(), draft.getExtensions());
+        });
+    }
+
+    @Override
+    public Contact freeze() {
+        return this.state.get();
+    }
+
+    @Override
+    public JSONObject toJsonObject() {
+        return this.state.get().toJsonObject();
+    }
+
+    @Override
+    public void writeJson(final JsonWriter writer) throws IOException {
+        this.state.get().writeJson(writer);
+    }
+
+    @Override
+    public void writeJson(final Appendable appendable) throws IOException {
+        this.state.get().writeJson(appendable);
+    }
+
+    @Override
+    public void writeJson(final OutputStream outputStream) throws IOException {
+        this.state.get().writeJson(outputStream);
+    }
+
+    @Override
+    public ContentHash contentHash() {
+        return this.state.get().contentHash();
+    }
+
+    @Override
+    public void addChangeListener(final Invokable<Trackable> listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(final Invokable<Trackable> listener) {
+        this.listeners.remove(listener);
+    }
+}
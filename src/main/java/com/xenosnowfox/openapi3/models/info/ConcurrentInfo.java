@@ -0,0 +1,284 @@
+package com.xenosnowfox.openapi3.models.info;
+
+import com.xenosnowfox.openapi3.models.util.ChangeListeners;
+import com.xenosnowfox.openapi3.models.util.ContentHash;
+import com.xenosnowfox.openapi3.models.util.Extensions;
+import com.xenosnowfox.openapi3.models.util.Invokable;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
+import com.xenosnowfox.openapi3.models.util.RawJson;
+import com.xenosnowfox.openapi3.models.util.Trackable;
+import com.xenosnowfox.openapi3.models.util.Urls;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URL;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe implementation of the {@link Info} interface.
+ * Every modification, including modifications of a {@link Trackable} contact or license such as
+ * {@link ConcurrentContact} and {@link ConcurrentLicense}, atomically replaces an immutable snapshot. Readers never
+ * take a lock and always serialize a consistent state, e.g. never a new title with an old version.
+ *
+ * @since
+ *      1.0.0
+ */
+public class ConcurrentInfo implements Info, Trackable {
+
+    private final AtomicReference<State> state;
+    private final ChangeListeners listeners = new ChangeListeners();
+    private final Invokable<Trackable> childListener = child -> this.swap(State::refresh);
+
+    /**
+     * Instantiates a new instance with the given title and version number
+     *
+     * @param title
+     *      Application title
+     * @param version
+     *      Document version number
+     * @since
+     *      1.0.0
+     */
+    public ConcurrentInfo(final String title, final String version) {
+        this.state = new AtomicReference<>(new State(validateTitle(title), validateVersion(version), null, null, null, null, Extensions.EMPTY));
+    }
+
+    private static String validateTitle(final String title) {
+        if (title == null || title.trim().isEmpty()) {
+            throw new NullPointerException("Title cannot be null or blank");
+        }
+        return title;
+    }
+
+    private static String validateVersion(final String version) {
+        if (version == null || version.trim().isEmpty()) {
+            throw new NullPointerException("Version cannot be null or blank");
+        }
+        return version;
+    }
+
+    private State swap(final UnaryOperator<State> operator) {
+        State previous = this.state.getAndUpdate(operator);
+        this.listeners.fire(this);
+        return previous;
+    }
+
+    @Override
+    public String getTitle() {
+        return this.state.get().snapshot.getTitle();
+    }
+
+    @Override
+    public void setTitle(final String title) {
+        validateTitle(title);
+        this.swap(current -> current.with(title, current.snapshot.getVersion(), current.snapshot.getDescription(), current.snapshot.getTermsOfServiceUri()));
+    }
+
+    @Override
+    public String getVersion() {
+        return this.state.get().snapshot.getVersion();
+    }
+
+    @Override
+    public void setVersion(final String version) {
+        validateVersion(version);
+        this.swap(current -> current.with(current.snapshot.getTitle(), version, current.snapshot.getDescription(), current.snapshot.getTermsOfServiceUri()));
+    }
+
+    @Override
+    public String getDescription() {
+        return this.state.get().snapshot.getDescription();
+    }
+
+    @Override
+    public void setDescription(final String description) {
+        this.swap(current -> current.with(current.snapshot.getTitle(), current.snapshot.getVersion(), description, current.snapshot.getTermsOfServiceUri()));
+    }
+
+    @Override
+    public URL getTermsOfService() {
+        return this.state.get().snapshot.getTermsOfService();
+    }
+
+    @Override
+    public void setTermsOfService(final URL url) {
+        this.setTermsOfServiceUri(Urls.toUri(url));
+    }
+
+    @Override
+    public URI getTermsOfServiceUri() {
+        return this.state.get().snapshot.getTermsOfServiceUri();
+    }
+
+    @Override
+    public void setTermsOfServiceUri(final URI uri) {
+        Urls.validate(uri);
+        this.swap(current -> current.with(current.snapshot.getTitle(), current.snapshot.getVersion(), current.snapshot.getDescription(), uri));
+    }
+
+    @Override
+    public Contact getContact() {
+        return this.state.get().contact;
+    }
+
+    @Override
+    public void setContact(final Contact contact) {
+        // start observing the new contact first so that none of its modifications are missed
+        this.track(contact);
+        State previous = this.swap(current -> new State(current.snapshot, contact, current.license));
+        this.untrack(previous.contact);
+    }
+
+    @Override
+    public License getLicense() {
+        return this.state.get().license;
+    }
+
+    @Override
+    public void setLicense(final License license) {
+        this.track(license);
+        State previous = this.swap(current -> new State(current.snapshot, current.contact, license));
+        this.untrack(previous.license);
+    }
+
+    @Override
+    public Extensions getExtensions() {
+        return this.state.get().snapshot.getExtensions();
+    }
+
+    @Override
+    public void setExtensions(final Extensions extensions) {
+        this.swap(current -> current.with(extensions));
+    }
+
+    @Override
+    public void setExtension(final String name, final Object value) {
+        // encoded once, as the operator may be applied more than once
+        RawJson rawValue = value == null ? null : RawJson.of(value);
+        this.swap(current -> current.with(current.snapshot.getExtensions().with(name, rawValue)));
+    }
+
+    /**
+     * Atomically applies several modifications at once, so that readers observe either none or all of them.
+     * The callback is invoked with a mutable copy of the current state and may be invoked more than once if another
+     * thread modifies this instance concurrently, so it should not have side effects.
+     *
+     * @param changes
+     *      Callback that applies the modifications
+     * @since
+     *      1.0.0
+     */
+    public void update(final Invokable<Info> changes) {
+        State previous = this.swap(current -> {
+            InfoImpl draft = new InfoImpl(current.snapshot.getTitle(), current.snapshot.getVersion());
+            draft.setDescription(current.snapshot.getDescription());
+            draft.setTermsOfServiceUri(current.snapshot.getTermsOfServiceUri());
+            draft.setContact(current.contact);
+            draft.setLicense(current.license);
+            draft.setExtensions(current.snapshot.getExtensions());
+            changes.invoke(draft);
+            return new State(draft.getTitle(), draft.getVersion(), draft.getDescription(), draft.getTermsOfServiceUri(),
+                    draft.getContact(), draft.getLicense(), draft.getExtensions());
+        });
+
+        // re-point the child listener, then refresh to pick up any child modification made before it was registered
+        State current = this.state.get();
+        if (previous.contact != current.contact || previous.license != current.license) {
+            this.track(current.contact);
+            this.track(current.license);
+            this.untrack(previous.contact);
+            this.untrack(previous.license);
+            this.swap(State::refresh);
+        }
+    }
+
+    @Override
+    public Info freeze() {
+        return this.state.get().snapshot;
+    }
+
+    @Override
+    public JSONObject toJsonObject() {
+        return this.state.get().snapshot.toJsonObject();
+    }
+
+    @Override
+    public void writeJson(final JsonWriter writer) throws IOException {
+        this.state.get().snapshot.writeJson(writer);
+    }
+
+    @Override
+    public void writeJson(final Appendable appendable) throws IOException {
+        this.state.get().snapshot.writeJson(appendable);
+    }
+
+    @Override
+    public void writeJson(final OutputStream outputStream) throws IOException {
+        this.state.get().snapshot.writeJson(outputStream);
+    }
+
+    @Override
+    public ContentHash contentHash() {
+        return this.state.get().snapshot.contentHash();
+    }
+
+    @Override
+    public void addChangeListener(final Invokable<Trackable> listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(final Invokable<Trackable> listener) {
+        this.listeners.remove(listener);
+    }
+
+    private void track(final Object child) {
+        if (child instanceof Trackable) {
+            ((Trackable) child).addChangeListener(this.childListener);
+        }
+    }
+
+    private void untrack(final Object child) {
+        if (child instanceof Trackable) {
+            ((Trackable) child).removeChangeListener(this.childListener);
+        }
+    }
+
+    /**
+     * Immutable pairing of the live contact and license with a snapshot of the whole info object
+     */
+    private static final class State {
+
+        private final FrozenInfo snapshot;
+        private final Contact contact;
+        private final License license;
+
+        State(final String title, final String version, final String description, final URI termsOfService,
+              final Contact contact, final License license, final Extensions extensions) {
+            this.snapshot = new FrozenInfo(title, version, description, termsOfService, contact, license, extensions);
+            this.contact = contact;
+            this.license = license;
+        }
+
+        State(final FrozenInfo snapshot, final Contact contact, final License license) {
+            this(snapshot.getTitle(), snapshot.getVersion(), snapshot.getDescription(), snapshot.getTermsOfServiceUri(), contact, license,
+                    snapshot.getExtensions());
+        }
+
+        State with(final String title, final String version, final String description, final URI termsOfService) {
+            return new State(title, version, description, termsOfService, this.contact, this.license, this.snapshot.getExtensions());
+        }
+
+        State with(final Extensions extensions) {
+            return new State(this.snapshot.getTitle(), this.snapshot.getVersion(), this.snapshot.getDescription(),
+                    this.snapshot.getTermsOfServiceUri(), this.contact, this.license, extensions);
+        }
+
+        State refresh() {
+            return new State(this.snapshot, this.contact, this.license);
+        }
+    }
+}
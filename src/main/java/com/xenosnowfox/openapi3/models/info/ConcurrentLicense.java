@@ -0,0 +1,165 @@
+package com.xenosnowfox.openapi3.models.info;
+
+import com.xenosnowfox.openapi3.models.util.ChangeListeners;
+import com.xenosnowfox.openapi3.models.util.ContentHash;
+import com.xenosnowfox.openapi3.models.util.Extensions;
+import com.xenosnowfox.openapi3.models.util.Invokable;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
+import com.xenosnowfox.openapi3.models.util.RawJson;
+import com.xenosnowfox.openapi3.models.util.Trackable;
+import com.xenosnowfox.openapi3.models.util.Urls;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URL;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe implementation of the {@link License} interface.
+ * Every modification atomically replaces an immutable snapshot, so readers never take a lock and always serialize a
+ * consistent state.
+ *
+ * @since
+ *      1.0.0
+ */
+public class ConcurrentLicense implements License, Trackable {
+
+    private final AtomicReference<FrozenLicense> state;
+    private final ChangeListeners listeners = new ChangeListeners();
+
+    /**
+     * Instantiates a License object with the given license name
+     *
+     * @param name
+     *      Name of the license
+     * @since
+     *      1.0.0
+     */
+    public ConcurrentLicense(final String name) {
+        this.state = new AtomicReference<>(new FrozenLicense(validateName(name), null, Extensions.EMPTY));
+    }
+
+    private static String validateName(final String name) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new NullPointerException("Name cannot be null or blank");
+        }
+        return name;
+    }
+
+    private void swap(final UnaryOperator<FrozenLicense> operator) {
+        this.state.updateAndGet(operator);
+        this.listeners.fire(this);
+    }
+
+    @Override
+    public String getName() {
+        return this.state.get().getName();
+    }
+
+    @Override
+    public void setName(final String name) {
+        validateName(name);
+        this.swap(current -> new FrozenLicense(name, current.getUri(), current.getExtensions()));
+    }
+
+    @Override
+    public URL getUrl() {
+        return this.state.get().getUrl();
+    }
+
+    @Override
+    public void setUrl(final URL url) {
+        this.setUri(Urls.toUri(url));
+    }
+
+    @Override
+    public URI getUri() {
+        return this.state.get().getUri();
+    }
+
+    @Override
+    public void setUri(final URI uri) {
+        Urls.validate(uri);
+        this.swap(current -> new FrozenLicense(current.getName(), uri, current.getExtensions()));
+    }
+
+    @Override
+    public Extensions getExtensions() {
+        return this.state.get().getExtensions();
+    }
+
+    @Override
+    public void setExtensions(final Extensions extensions) {
+        this.swap(current -> new FrozenLicense(current.getName(), current.getUri(), extensions));
+    }
+
+    @Override
+    public void setExtension(final String name, final Object value) {
+        // encoded once, as the operator may be applied more than once
+        RawJson rawValue = value == null ? null : RawJson.of(value);
+        this.swap(current -> new FrozenLicense(current.getName(), current.getUri(), current.getExtensions().with(name, rawValue)));
+    }
+
+    /**
+     * Atomically applies several modifications at once, so that readers observe either none or all of them.
+     * The callback is invoked with a mutable copy of the current state and may be invoked more than once if another
+     * thread modifies this instance concurrently, so it should not have side effects.
+     *
+     * @param changes
+     *      Callback that applies the modifications
+     * @since
+     *      1.0.0
+     */
+    public void update(final Invokable<License> changes) {
+        this.swap(current -> {
+            LicenseImpl draft = new LicenseImpl(current.getName());
+            draft.setUri(current.getUri());
+            draft.setExtensions(current.getExtensions());
+            changes.invoke(draft);
+            return new FrozenLicense(draft.getName(), draft.getUri(), draft.getExtensions());
+        });
+    }
+
+    @Override
+    public License freeze() {
+        return this.state.get();
+    }
+
+    @Override
+    public JSONObject toJsonObject() {
+        return this.state.get().toJsonObject();
+    }
+
+    @Override
+    public void writeJson(final JsonWriter writer) throws IOException {
+        this.state.get().writeJson(writer);
+    }
+
+    @Override
+    public void writeJson(final Appendable appendable) throws IOException {
+        this.state.get().writeJson(appendable);
+    }
+
+    @Override
+    public void writeJson(final OutputStream outputStream) throws IOException {
+        this.state.get().writeJson(outputStream);
+    }
+
+    @Override
+    public ContentHash contentHash() {
+        return this.state.get().contentHash();
+    }
+
+    @Override
+    public void addChangeListener(final Invokable<Trackable> listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(final Invokable<Trackable> listener) {
+        this.listeners.remove(listener);
+    }
+}
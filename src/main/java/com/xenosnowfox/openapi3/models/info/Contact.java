@@ -1,8 +1,16 @@
 package com.xenosnowfox.openapi3.models.info;
 
+import com.xenosnowfox.openapi3.models.metrics.SerializationMetrics;
+import com.xenosnowfox.openapi3.models.util.ContentHash;
+import com.xenosnowfox.openapi3.models.util.Extensible;
+import com.xenosnowfox.openapi3.models.util.Extensions;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
 import com.xenosnowfox.openapi3.models.util.Jsonable;
+import com.xenosnowfox.openapi3.models.util.Urls;
 import org.json.JSONObject;
 
+import java.io.IOException;
+import java.net.URI;
 import java.net.URL;
 
 /**
@@ -13,7 +21,7 @@ import java.net.URL;
  * @see
  *      <a href="https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.2.md#contact-object">https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.2.md#contact-object</a>
  */
-public interface Contact extends Jsonable {
+public interface Contact extends Jsonable, Extensible {
 
     /**
      * Obtains the identifying name of the contact person/organisation
@@ -97,6 +105,53 @@ public interface Contact extends Jsonable {
         return this;
     }
 
+    /**
+     * Obtains the URL pointing to the contact information as a URI. Unlike {@link URL}, comparing and hashing a URI never resolves host names.
+     *
+     * @return
+     *      URL pointing to the contact information
+     * @since
+     *      1.0.0
+     */
+    default URI getUri() {
+        return Urls.toUri(this.getUrl());
+    }
+
+    /**
+     * Sets the URL pointing to the contact information as a URI. MUST be in the format of a URL.
+     *
+     * @param uri
+     *      URL pointing to the contact information
+     * @throws IllegalArgumentException
+     *      if the URI is not a valid URL
+     * @since
+     *      1.0.0
+     */
+    default void setUri(final URI uri) {
+        this.setUrl(Urls.toUrl(uri));
+    }
+
+    /**
+     * Shorthand version of {@link #getUri()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default URI uri() {
+        return this.getUri();
+    }
+
+    /**
+     * Shorthand version of {@link #setUri(URI)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Contact uri(final URI uri) {
+        this.setUri(uri);
+        return this;
+    }
+
     /**
      * Obtains the email address of the contact person/organization.
      *
@@ -138,8 +193,38 @@ public interface Contact extends Jsonable {
         return this;
     }
 
+    /**
+     * Shorthand version of {@link #setExtension(String, Object)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Contact extension(final String name, final Object value) {
+        this.setExtension(name, value);
+        return this;
+    }
+
+    /**
+     * Obtains an immutable snapshot of the contact information, which can be shared between threads without synchronization.
+     * The snapshot has a precomputed hash code and JSON representation, and its setters throw an {@link UnsupportedOperationException}.
+     *
+     * @return
+     *      Immutable contact information
+     * @since
+     *      1.0.0
+     */
+    default Contact freeze() {
+        return new FrozenContact(this);
+    }
+
+    @Override
+    default ContentHash contentHash() {
+        return ContentHashes.contact(this.getName(), this.getEmail(), this.getUri(), this.getExtensions());
+    }
+
     @Override
     default JSONObject toJsonObject() {
+        long start = SerializationMetrics.start();
         JSONObject jsonObject = new JSONObject();
 
         // add name and email
@@ -147,12 +232,51 @@ public interface Contact extends Jsonable {
         jsonObject.putOpt("email", this.getEmail());
 
         // add url
-        URL url = this.getUrl();
-        if (url != null) {
-            jsonObject.putOpt("url", url.toExternalForm());
+        URI uri = this.getUri();
+        if (uri != null) {
+            jsonObject.putOpt("url", uri.toString());
         }
 
+        // add extensions
+        this.getExtensions().putAll(jsonObject);
+
+        SerializationMetrics.converted(this, start);
         return jsonObject;
     }
 
+    @Override
+    default void writeJson(final JsonWriter writer) throws IOException {
+        String name = this.getName();
+        String email = this.getEmail();
+        URI uri = this.getUri();
+        Extensions extensions = this.getExtensions();
+
+        // members are written in the same order as JSONObject#toString()
+        writer.beginObject();
+        if (extensions.isEmpty()) {
+            writer.optionalMember("name", name);
+            writer.optionalMember("email", email);
+            if (uri != null) {
+                writer.name("url").value(uri.toString());
+            }
+        } else {
+            for (String member : extensions.memberOrder(name == null ? null : "name", email == null ? null : "email", uri == null ? null : "url")) {
+                switch (member) {
+                    case "name":
+                        writer.name("name").value(name);
+                        break;
+                    case "email":
+                        writer.name("email").value(email);
+                        break;
+                    case "url":
+                        writer.name("url").value(uri.toString());
+                        break;
+                    default:
+                        extensions.writeMember(writer, member);
+                }
+            }
+        }
+        writer.endObject();
+    }
+
 }
@@ -1,18 +1,39 @@
 package com.xenosnowfox.openapi3.models.info;
 
+import com.xenosnowfox.openapi3.models.processor.JsonMember;
+import com.xenosnowfox.openapi3.models.processor.JsonModel;
+import com.xenosnowfox.openapi3.models.util.ChangeListeners;
+import com.xenosnowfox.openapi3.models.util.ContentHash;
+import com.xenosnowfox.openapi3.models.util.Extensions;
+import com.xenosnowfox.openapi3.models.util.Invokable;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
+import com.xenosnowfox.openapi3.models.util.Trackable;
+import com.xenosnowfox.openapi3.models.util.Urls;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.net.URI;
 import java.net.URL;
 
 /**
- * Basic implementation of the {@link Contact} interface
+ * Basic implementation of the {@link Contact} interface, serialized by the generated {@code ContactImplJson}
  *
  * @since
  *      1.0.0
  */
-public class ContactImpl implements Contact {
+@JsonModel
+public class ContactImpl implements Contact, Trackable {
 
-    private String name;
-    private String email;
-    private URL url;
+    @JsonMember
+    String name;
+    @JsonMember
+    String email;
+    @JsonMember
+    URI url;
+    @JsonMember
+    Extensions extensions = Extensions.EMPTY;
+    private ContentHash contentHash = null;
+    private final ChangeListeners listeners = new ChangeListeners();
 
     /**
      * Instantiate a blank contact object
@@ -90,16 +111,30 @@ public class ContactImpl implements Contact {
     @Override
     public void setName(String name) {
         this.name = name;
+        this.contentHash = null;
+        this.listeners.fire(this);
     }
 
     @Override
     public URL getUrl() {
-        return this.url;
+        return Urls.toUrl(this.url);
     }
 
     @Override
     public void setUrl(URL url) {
-        this.url = url;
+        this.setUri(Urls.toUri(url));
+    }
+
+    @Override
+    public URI getUri() {
+        return this.url;
+    }
+
+    @Override
+    public void setUri(URI uri) {
+        this.url = Urls.validate(uri);
+        this.contentHash = null;
+        this.listeners.fire(this);
     }
 
     @Override
@@ -110,5 +145,47 @@ public class ContactImpl implements Contact {
     @Override
     public void setEmail(String email) {
         this.email = email;
+        this.contentHash = null;
+        this.listeners.fire(this);
+    }
+
+    @Override
+    public Extensions getExtensions() {
+        return this.extensions;
+    }
+
+    @Override
+    public void setExtensions(final Extensions extensions) {
+        this.extensions = extensions == null ? Extensions.EMPTY : extensions;
+        this.contentHash = null;
+        this.listeners.fire(this);
+    }
+
+    @Override
+    public ContentHash contentHash() {
+        if (this.contentHash == null) {
+            this.contentHash = Contact.super.contentHash();
+        }
+        return this.contentHash;
+    }
+
+    @Override
+    public JSONObject toJsonObject() {
+        return ContactImplJson.toJsonObject(this);
+    }
+
+    @Override
+    public void writeJson(final JsonWriter writer) throws IOException {
+        ContactImplJson.writeJson(this, writer);
+    }
+
+    @Override
+    public void addChangeListener(final Invokable<Trackable> listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(final Invokable<Trackable> listener) {
+        this.listeners.remove(listener);
     }
 }
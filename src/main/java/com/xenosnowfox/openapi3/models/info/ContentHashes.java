@@ -0,0 +1,65 @@
+package com.xenosnowfox.openapi3.models.info;
+
+import com.xenosnowfox.openapi3.models.util.ContentHash;
+import com.xenosnowfox.openapi3.models.util.ContentHasher;
+import com.xenosnowfox.openapi3.models.util.Extensions;
+
+import java.net.URI;
+
+/**
+ * Canonical field encodings used to compute the content hashes of info, contact and license objects, shared by every
+ * implementation so that objects with equal content have equal hashes.
+ * The hash of an info object combines the hash of its own fields with the hashes of its children, so a change to a
+ * child only requires rehashing that child and combining the results again.
+ * Extensions are only hashed when there are any, so objects without extensions keep the hashes they had before extensions were supported.
+ *
+ * @since
+ *      1.0.0
+ */
+final class ContentHashes {
+
+    private ContentHashes() {
+    }
+
+    static ContentHash contact(final String name, final String email, final URI url, final Extensions extensions) {
+        return extensions(new ContentHasher()
+                .putString("contact")
+                .putString(name)
+                .putString(email)
+                .putString(url == null ? null : url.toString()), extensions)
+                .hash();
+    }
+
+    static ContentHash license(final String name, final URI url, final Extensions extensions) {
+        return extensions(new ContentHasher()
+                .putString("license")
+                .putString(name)
+                .putString(url == null ? null : url.toString()), extensions)
+                .hash();
+    }
+
+    static ContentHash infoFields(final String title, final String version, final String description, final URI termsOfService, final Extensions extensions) {
+        return extensions(new ContentHasher()
+                .putString("info")
+                .putString(title)
+                .putString(version)
+                .putString(description)
+                .putString(termsOfService == null ? null : termsOfService.toString()), extensions)
+                .hash();
+    }
+
+    private static ContentHasher extensions(final ContentHasher hasher, final Extensions extensions) {
+        if (extensions == null || extensions.isEmpty()) {
+            return hasher;
+        }
+        return hasher.putHash(extensions.contentHash());
+    }
+
+    static ContentHash info(final ContentHash fields, final Contact contact, final License license) {
+        return new ContentHasher()
+                .putHash(fields)
+                .putHash(contact == null ? null : contact.contentHash())
+                .putHash(license == null ? null : license.contentHash())
+                .hash();
+    }
+}
@@ -0,0 +1,165 @@
+package com.xenosnowfox.openapi3.models.info;
+
+import com.xenosnowfox.openapi3.models.util.ContentHash;
+import com.xenosnowfox.openapi3.models.util.Extensions;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
+import com.xenosnowfox.openapi3.models.util.Urls;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+
+/**
+ * Immutable snapshot of a {@link Contact}, with a precomputed hash code and JSON representation
+ *
+ * @since
+ *      1.0.0
+ */
+final class FrozenContact implements Contact {
+
+    private final String name;
+    private final String email;
+    private final URI url;
+    private final Extensions extensions;
+    private final String json;
+    private final int hashCode;
+
+    // computed on first use; racy publication is safe as content hashes are immutable
+    private ContentHash contentHash = null;
+
+    /**
+     * Instantiates a snapshot of the given contact
+     *
+     * @param contact
+     *      Contact to copy
+     */
+    FrozenContact(final Contact contact) {
+        this(contact.getName(), contact.getEmail(), contact.getUri(), contact.getExtensions());
+    }
+
+    /**
+     * Instantiates a contact with the given details
+     *
+     * @param name
+     *      Contact's name
+     * @param email
+     *      Email address
+     * @param url
+     *      URL directing to contact information
+     * @param extensions
+     *      Specification extensions
+     */
+    FrozenContact(final String name, final String email, final URI url, final Extensions extensions) {
+        this.name = name;
+        this.email = email;
+        this.url = url;
+        this.extensions = extensions == null ? Extensions.EMPTY : extensions;
+
+        StringBuilder builder = new StringBuilder();
+        try {
+            Contact.super.writeJson(new JsonWriter(builder));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        this.json = builder.toString();
+        this.hashCode = this.json.hashCode();
+    }
+
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    public void setName(final String name) {
+        throw new UnsupportedOperationException("Frozen contact cannot be modified");
+    }
+
+    @Override
+    public URL getUrl() {
+        return Urls.toUrl(this.url);
+    }
+
+    @Override
+    public void setUrl(final URL url) {
+        throw new UnsupportedOperationException("Frozen contact cannot be modified");
+    }
+
+    @Override
+    public URI getUri() {
+        return this.url;
+    }
+
+    @Override
+    public void setUri(final URI uri) {
+        throw new UnsupportedOperationException("Frozen contact cannot be modified");
+    }
+
+    @Override
+    public String getEmail() {
+        return this.email;
+    }
+
+    @Override
+    public void setEmail(final String email) {
+        throw new UnsupportedOperationException("Frozen contact cannot be modified");
+    }
+
+    @Override
+    public Extensions getExtensions() {
+        return this.extensions;
+    }
+
+    @Override
+    public void setExtensions(final Extensions extensions) {
+        throw new UnsupportedOperationException("Frozen contact cannot be modified");
+    }
+
+    @Override
+    public Contact freeze() {
+        return this;
+    }
+
+    @Override
+    public void writeJson(final JsonWriter writer) throws IOException {
+        if (writer.isRawJsonSupported()) {
+            writer.rawValue(this.json);
+        } else {
+            Contact.super.writeJson(writer);
+        }
+    }
+
+    @Override
+    public ContentHash contentHash() {
+        ContentHash contentHash = this.contentHash;
+        if (contentHash == null) {
+            contentHash = Contact.super.contentHash();
+            this.contentHash = contentHash;
+        }
+        return contentHash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof FrozenContact)) {
+            return false;
+        }
+
+        // the JSON representation covers every field, without relying on URL#equals
+        FrozenContact other = (FrozenContact) obj;
+        return this.hashCode == other.hashCode && this.json.equals(other.json);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return this.json;
+    }
+}
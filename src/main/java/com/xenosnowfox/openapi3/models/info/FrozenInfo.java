@@ -0,0 +1,209 @@
+package com.xenosnowfox.openapi3.models.info;
+
+import com.xenosnowfox.openapi3.models.util.ContentHash;
+import com.xenosnowfox.openapi3.models.util.Extensions;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
+import com.xenosnowfox.openapi3.models.util.Urls;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+
+/**
+ * Immutable snapshot of an {@link Info} object and its contact and license, with a precomputed hash code and JSON representation
+ *
+ * @since
+ *      1.0.0
+ */
+final class FrozenInfo implements Info {
+
+    private final String title;
+    private final String version;
+    private final String description;
+    private final URI termsOfService;
+    private final Contact contact;
+    private final License license;
+    private final Extensions extensions;
+    private final String json;
+    private final int hashCode;
+
+    // computed on first use; racy publication is safe as content hashes are immutable
+    private ContentHash contentHash = null;
+
+    /**
+     * Instantiates a snapshot of the given info object, freezing its contact and license
+     *
+     * @param info
+     *      Info object to copy
+     */
+    FrozenInfo(final Info info) {
+        this(info.getTitle(), info.getVersion(), info.getDescription(), info.getTermsOfServiceUri(), info.getContact(), info.getLicense(),
+                info.getExtensions());
+    }
+
+    /**
+     * Instantiates an info object with the given details, freezing the given contact and license
+     *
+     * @param title
+     *      Application title
+     * @param version
+     *      Document version number
+     * @param description
+     *      Short description about the application
+     * @param termsOfService
+     *      URL that directs to the Terms of Service
+     * @param contact
+     *      Contact information
+     * @param license
+     *      License information
+     * @param extensions
+     *      Specification extensions
+     */
+    FrozenInfo(final String title, final String version, final String description, final URI termsOfService,
+               final Contact contact, final License license, final Extensions extensions) {
+        this.title = title;
+        this.version = version;
+        this.description = description;
+        this.termsOfService = termsOfService;
+        this.contact = contact == null ? null : contact.freeze();
+        this.license = license == null ? null : license.freeze();
+        this.extensions = extensions == null ? Extensions.EMPTY : extensions;
+
+        StringBuilder builder = new StringBuilder();
+        try {
+            Info.super.writeJson(new JsonWriter(builder));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        this.json = builder.toString();
+        this.hashCode = this.json.hashCode();
+    }
+
+    @Override
+    public String getTitle() {
+        return this.title;
+    }
+
+    @Override
+    public void setTitle(final String title) {
+        throw new UnsupportedOperationException("Frozen info cannot be modified");
+    }
+
+    @Override
+    public String getVersion() {
+        return this.version;
+    }
+
+    @Override
+    public void setVersion(final String version) {
+        throw new UnsupportedOperationException("Frozen info cannot be modified");
+    }
+
+    @Override
+    public String getDescription() {
+        return this.description;
+    }
+
+    @Override
+    public void setDescription(final String description) {
+        throw new UnsupportedOperationException("Frozen info cannot be modified");
+    }
+
+    @Override
+    public URL getTermsOfService() {
+        return Urls.toUrl(this.termsOfService);
+    }
+
+    @Override
+    public void setTermsOfService(final URL url) {
+        throw new UnsupportedOperationException("Frozen info cannot be modified");
+    }
+
+    @Override
+    public URI getTermsOfServiceUri() {
+        return this.termsOfService;
+    }
+
+    @Override
+    public void setTermsOfServiceUri(final URI uri) {
+        throw new UnsupportedOperationException("Frozen info cannot be modified");
+    }
+
+    @Override
+    public Contact getContact() {
+        return this.contact;
+    }
+
+    @Override
+    public void setContact(final Contact contact) {
+        throw new UnsupportedOperationException("Frozen info cannot be modified");
+    }
+
+    @Override
+    public License getLicense() {
+        return this.license;
+    }
+
+    @Override
+    public void setLicense(final License license) {
+        throw new UnsupportedOperationException("Frozen info cannot be modified");
+    }
+
+    @Override
+    public Extensions getExtensions() {
+        return this.extensions;
+    }
+
+    @Override
+    public void setExtensions(final Extensions extensions) {
+        throw new UnsupportedOperationException("Frozen info cannot be modified");
+    }
+
+    @Override
+    public Info freeze() {
+        return this;
+    }
+
+    @Override
+    public void writeJson(final JsonWriter writer) throws IOException {
+        if (writer.isRawJsonSupported()) {
+            writer.rawValue(this.json);
+        } else {
+            Info.super.writeJson(writer);
+        }
+    }
+
+    @Override
+    public ContentHash contentHash() {
+        ContentHash contentHash = this.contentHash;
+        if (contentHash == null) {
+            contentHash = Info.super.contentHash();
+            this.contentHash = contentHash;
+        }
+        return contentHash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof FrozenInfo)) {
+            return false;
+        }
+
+        // the JSON representation covers every field, without relying on URL#equals
+        FrozenInfo other = (FrozenInfo) obj;
+        return this.hashCode == other.hashCode && this.json.equals(other.json);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return this.json;
+    }
+}
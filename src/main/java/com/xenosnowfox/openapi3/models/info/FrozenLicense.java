@@ -0,0 +1,151 @@
+package com.xenosnowfox.openapi3.models.info;
+
+import com.xenosnowfox.openapi3.models.util.ContentHash;
+import com.xenosnowfox.openapi3.models.util.Extensions;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
+import com.xenosnowfox.openapi3.models.util.Urls;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+
+/**
+ * Immutable snapshot of a {@link License}, with a precomputed hash code and JSON representation
+ *
+ * @since
+ *      1.0.0
+ */
+final class FrozenLicense implements License {
+
+    private final String name;
+    private final URI url;
+    private final Extensions extensions;
+    private final String json;
+    private final int hashCode;
+
+    // computed on first use; racy publication is safe as content hashes are immutable
+    private ContentHash contentHash = null;
+
+    /**
+     * Instantiates a snapshot of the given license
+     *
+     * @param license
+     *      License to copy
+     */
+    FrozenLicense(final License license) {
+        this(license.getName(), license.getUri(), license.getExtensions());
+    }
+
+    /**
+     * Instantiates a license with the given details
+     *
+     * @param name
+     *      Name of the license
+     * @param url
+     *      URL to the license
+     * @param extensions
+     *      Specification extensions
+     */
+    FrozenLicense(final String name, final URI url, final Extensions extensions) {
+        this.name = name;
+        this.url = url;
+        this.extensions = extensions == null ? Extensions.EMPTY : extensions;
+
+        StringBuilder builder = new StringBuilder();
+        try {
+            License.super.writeJson(new JsonWriter(builder));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        this.json = builder.toString();
+        this.hashCode = this.json.hashCode();
+    }
+
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    public void setName(final String name) {
+        throw new UnsupportedOperationException("Frozen license cannot be modified");
+    }
+
+    @Override
+    public URL getUrl() {
+        return Urls.toUrl(this.url);
+    }
+
+    @Override
+    public void setUrl(final URL url) {
+        throw new UnsupportedOperationException("Frozen license cannot be modified");
+    }
+
+    @Override
+    public URI getUri() {
+        return this.url;
+    }
+
+    @Override
+    public void setUri(final URI uri) {
+        throw new UnsupportedOperationException("Frozen license cannot be modified");
+    }
+
+    @Override
+    public Extensions getExtensions() {
+        return this.extensions;
+    }
+
+    @Override
+    public void setExtensions(final Extensions extensions) {
+        throw new UnsupportedOperationException("Frozen license cannot be modified");
+    }
+
+    @Override
+    public License freeze() {
+        return this;
+    }
+
+    @Override
+    public void writeJson(final JsonWriter writer) throws IOException {
+        if (writer.isRawJsonSupported()) {
+            writer.rawValue(this.json);
+        } else {
+            License.super.writeJson(writer);
+        }
+    }
+
+    @Override
+    public ContentHash contentHash() {
+        ContentHash contentHash = this.contentHash;
+        if (contentHash == null) {
+            contentHash = License.super.contentHash();
+            this.contentHash = contentHash;
+        }
+        return contentHash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof FrozenLicense)) {
+            return false;
+        }
+
+        // the JSON representation covers every field, without relying on URL#equals
+        FrozenLicense other = (FrozenLicense) obj;
+        return this.hashCode == other.hashCode && this.json.equals(other.json);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return this.json;
+    }
+}
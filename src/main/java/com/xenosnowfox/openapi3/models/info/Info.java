@@ -1,9 +1,17 @@
 package com.xenosnowfox.openapi3.models.info;
 
+import com.xenosnowfox.openapi3.models.metrics.SerializationMetrics;
+import com.xenosnowfox.openapi3.models.util.ContentHash;
+import com.xenosnowfox.openapi3.models.util.Extensible;
+import com.xenosnowfox.openapi3.models.util.Extensions;
 import com.xenosnowfox.openapi3.models.util.Invokable;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
 import com.xenosnowfox.openapi3.models.util.Jsonable;
+import com.xenosnowfox.openapi3.models.util.Urls;
 import org.json.JSONObject;
 
+import java.io.IOException;
+import java.net.URI;
 import java.net.URL;
 
 /**
@@ -14,7 +22,7 @@ import java.net.URL;
  * @see
  *      <a href="https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.2.md#info-object">https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.2.md#info-object</a>
  */
-public interface Info extends Jsonable {
+public interface Info extends Jsonable, Extensible {
 
     /**
      * Obtains the title of the application.
@@ -180,6 +188,53 @@ public interface Info extends Jsonable {
         return this;
     }
 
+    /**
+     * Obtains the URL to the Terms of Service for the API as a URI. Unlike {@link URL}, comparing and hashing a URI never resolves host names.
+     *
+     * @return
+     *      URL to the Terms of Service for the API
+     * @since
+     *      1.0.0
+     */
+    default URI getTermsOfServiceUri() {
+        return Urls.toUri(this.getTermsOfService());
+    }
+
+    /**
+     * Defines the URL to the Terms of Service for the API as a URI. MUST be in the format of a URL.
+     *
+     * @param uri
+     *      URL to the Terms of Service for the API
+     * @throws IllegalArgumentException
+     *      if the URI is not a valid URL
+     * @since
+     *      1.0.0
+     */
+    default void setTermsOfServiceUri(final URI uri) {
+        this.setTermsOfService(Urls.toUrl(uri));
+    }
+
+    /**
+     * Shorthand version of {@link #getTermsOfServiceUri()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default URI termsOfServiceUri() {
+        return this.getTermsOfServiceUri();
+    }
+
+    /**
+     * Shorthand version of {@link #setTermsOfServiceUri(URI)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Info termsOfServiceUri(final URI uri) {
+        this.setTermsOfServiceUri(uri);
+        return this;
+    }
+
     /**
      * Obtains the contact information for the exposed API.
      *
@@ -367,8 +422,39 @@ public interface Info extends Jsonable {
         return this;
     }
 
+    /**
+     * Shorthand version of {@link #setExtension(String, Object)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Info extension(final String name, final Object value) {
+        this.setExtension(name, value);
+        return this;
+    }
+
+    /**
+     * Obtains an immutable snapshot of the metadata, including its contact and license information, which can be shared between threads without synchronization.
+     * The snapshot has a precomputed hash code and JSON representation, and its setters throw an {@link UnsupportedOperationException}.
+     *
+     * @return
+     *      Immutable metadata
+     * @since
+     *      1.0.0
+     */
+    default Info freeze() {
+        return new FrozenInfo(this);
+    }
+
+    @Override
+    default ContentHash contentHash() {
+        ContentHash fields = ContentHashes.infoFields(this.getTitle(), this.getVersion(), this.getDescription(), this.getTermsOfServiceUri(), this.getExtensions());
+        return ContentHashes.info(fields, this.getContact(), this.getLicense());
+    }
+
     @Override
     default JSONObject toJsonObject() {
+        long start = SerializationMetrics.start();
         Jsonable jsonable;
         JSONObject jsonObject = new JSONObject();
 
@@ -390,9 +476,9 @@ public interface Info extends Jsonable {
         jsonObject.putOpt("description", this.getDescription());
 
         // add terms of service
-        URL url = this.getTermsOfService();
-        if (url != null) {
-            jsonObject.putOpt("termsOfService", url.toExternalForm());
+        URI uri = this.getTermsOfServiceUri();
+        if (uri != null) {
+            jsonObject.putOpt("termsOfService", uri.toString());
         }
 
         // contact
@@ -407,6 +493,69 @@ public interface Info extends Jsonable {
             jsonObject.putOpt("license", jsonable.toJsonObject());
         }
 
+        // add extensions
+        this.getExtensions().putAll(jsonObject);
+
+        SerializationMetrics.converted(this, start);
         return jsonObject;
     }
+
+    @Override
+    default void writeJson(final JsonWriter writer) throws IOException {
+        // validate title and version before anything is written
+        String title = this.getTitle();
+        if (title == null || title.trim().isEmpty()) {
+            throw new NullPointerException("Title has not been defined");
+        }
+        String version = this.getVersion();
+        if (version == null || version.trim().isEmpty()) {
+            throw new NullPointerException("Version has not been defined");
+        }
+
+        String description = this.getDescription();
+        URI uri = this.getTermsOfServiceUri();
+        Contact contact = this.getContact();
+        License license = this.getLicense();
+        Extensions extensions = this.getExtensions();
+
+        // members are written in the same order as JSONObject#toString()
+        writer.beginObject();
+        if (extensions.isEmpty()) {
+            writer.optionalMember("license", license);
+            writer.optionalMember("contact", contact);
+            writer.optionalMember("description", description);
+            if (uri != null) {
+                writer.name("termsOfService").value(uri.toString());
+            }
+            writer.name("title").value(title);
+            writer.name("version").value(version);
+        } else {
+            for (String member : extensions.memberOrder("title", "version", description == null ? null : "description",
+                    uri == null ? null : "termsOfService", contact == null ? null : "contact", license == null ? null : "license")) {
+                switch (member) {
+                    case "title":
+                        writer.name("title").value(title);
+                        break;
+                    case "version":
+                        writer.name("version").value(version);
+                        break;
+                    case "description":
+                        writer.name("description").value(description);
+                        break;
+                    case "termsOfService":
+                        writer.name("termsOfService").value(uri.toString());
+                        break;
+                    case "contact":
+                        writer.optionalMember("contact", contact);
+                        break;
+                    case "license":
+                        writer.optionalMember("license", license);
+                        break;
+                    default:
+                        extensions.writeMember(writer, member);
+                }
+            }
+        }
+        writer.endObject();
+    }
 }
@@ -1,21 +1,52 @@
 package com.xenosnowfox.openapi3.models.info;
 
+import com.xenosnowfox.openapi3.models.processor.JsonMember;
+import com.xenosnowfox.openapi3.models.processor.JsonModel;
+import com.xenosnowfox.openapi3.models.util.ChangeListeners;
+import com.xenosnowfox.openapi3.models.util.ContentHash;
+import com.xenosnowfox.openapi3.models.util.Extensions;
+import com.xenosnowfox.openapi3.models.util.Invokable;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
+import com.xenosnowfox.openapi3.models.util.Trackable;
+import com.xenosnowfox.openapi3.models.util.Urls;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.net.URI;
 import java.net.URL;
 
 /**
- * Basic implementation of the {@link Info} interface
+ * Basic implementation of the {@link Info} interface, serialized by the generated {@code InfoImplJson}
  *
  * @since
  *      1.0.0
  */
-public class InfoImpl implements Info {
+@JsonModel
+public class InfoImpl implements Info, Trackable {
+
+    @JsonMember(required = true)
+    String title;
+    @JsonMember(required = true)
+    String version;
+    @JsonMember
+    String description = null;
+    @JsonMember
+    URI termsOfService = null;
+    @JsonMember(model = ContactImpl.class)
+    Contact contact = null;
+    @JsonMember(model = LicenseImpl.class)
+    License license = null;
+    @JsonMember
+    Extensions extensions = Extensions.EMPTY;
+    private ContentHash fieldsHash = null;
+    private final ChangeListeners listeners = new ChangeListeners();
+    private final Invokable<Trackable> childListener = child -> this.listeners.fire(this);
 
-    private String title;
-    private String version;
-    private String description = null;
-    private URL termsOfService = null;
-    private Contact contact = null;
-    private License license = null;
+    /**
+     * Instantiates an instance without a title and version, which the generated reader populates and validates
+     */
+    InfoImpl() {
+    }
 
     /**
      * Instantiates a new instance with the given title and version number
@@ -41,6 +72,8 @@ public class InfoImpl implements Info {
             throw new NullPointerException("Title cannot be null or blank");
         }
         this.title = title;
+        this.fieldsHash = null;
+        this.listeners.fire(this);
     }
 
     @Override
@@ -54,6 +87,8 @@ public class InfoImpl implements Info {
             throw new NullPointerException("Version cannot be null or blank");
         }
         this.version = version;
+        this.fieldsHash = null;
+        this.listeners.fire(this);
     }
 
     @Override
@@ -64,16 +99,30 @@ public class InfoImpl implements Info {
     @Override
     public void setDescription(String description) {
         this.description = description;
+        this.fieldsHash = null;
+        this.listeners.fire(this);
     }
 
     @Override
     public URL getTermsOfService() {
-        return this.termsOfService;
+        return Urls.toUrl(this.termsOfService);
     }
 
     @Override
     public void setTermsOfService(URL url) {
-        this.termsOfService = url;
+        this.setTermsOfServiceUri(Urls.toUri(url));
+    }
+
+    @Override
+    public URI getTermsOfServiceUri() {
+        return this.termsOfService;
+    }
+
+    @Override
+    public void setTermsOfServiceUri(URI uri) {
+        this.termsOfService = Urls.validate(uri);
+        this.fieldsHash = null;
+        this.listeners.fire(this);
     }
 
     @Override
@@ -83,7 +132,12 @@ public class InfoImpl implements Info {
 
     @Override
     public void setContact(Contact contact) {
+        if (!this.listeners.isEmpty()) {
+            this.untrack(this.contact);
+            this.track(contact);
+        }
         this.contact = contact;
+        this.listeners.fire(this);
     }
 
     @Override
@@ -93,6 +147,71 @@ public class InfoImpl implements Info {
 
     @Override
     public void setLicense(License license) {
+        if (!this.listeners.isEmpty()) {
+            this.untrack(this.license);
+            this.track(license);
+        }
         this.license = license;
+        this.listeners.fire(this);
+    }
+
+    @Override
+    public Extensions getExtensions() {
+        return this.extensions;
+    }
+
+    @Override
+    public void setExtensions(final Extensions extensions) {
+        this.extensions = extensions == null ? Extensions.EMPTY : extensions;
+        this.fieldsHash = null;
+        this.listeners.fire(this);
+    }
+
+    @Override
+    public ContentHash contentHash() {
+        // only the fields of this object are cached, as the children cache their own hashes
+        if (this.fieldsHash == null) {
+            this.fieldsHash = ContentHashes.infoFields(this.title, this.version, this.description, this.termsOfService, this.extensions);
+        }
+        return ContentHashes.info(this.fieldsHash, this.contact, this.license);
+    }
+
+    @Override
+    public JSONObject toJsonObject() {
+        return InfoImplJson.toJsonObject(this);
+    }
+
+    @Override
+    public void writeJson(final JsonWriter writer) throws IOException {
+        InfoImplJson.writeJson(this, writer);
+    }
+
+    @Override
+    public void addChangeListener(final Invokable<Trackable> listener) {
+        // children are only observed while someone is observing this instance
+        if (this.listeners.add(listener)) {
+            this.track(this.contact);
+            this.track(this.license);
+        }
+    }
+
+    @Override
+    public void removeChangeListener(final Invokable<Trackable> listener) {
+        if (this.listeners.remove(listener)) {
+            this.untrack(this.contact);
+            this.untrack(this.license);
+        }
+    }
+
+    private void track(final Object child) {
+        if (child instanceof Trackable) {
+            ((Trackable) child).addChangeListener(this.childListener);
+        }
+    }
+
+    private void untrack(final Object child) {
+        if (child instanceof Trackable) {
+            ((Trackable) child).removeChangeListener(this.childListener);
+        }
     }
 }
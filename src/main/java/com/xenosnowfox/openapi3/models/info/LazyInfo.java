@@ -0,0 +1,409 @@
+package com.xenosnowfox.openapi3.models.info;
+
+import com.xenosnowfox.openapi3.models.metrics.SerializationMetrics;
+import com.xenosnowfox.openapi3.models.util.ChangeListeners;
+import com.xenosnowfox.openapi3.models.util.ContentHash;
+import com.xenosnowfox.openapi3.models.util.Extensions;
+import com.xenosnowfox.openapi3.models.util.Invokable;
+import com.xenosnowfox.openapi3.models.util.JsonReader;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
+import com.xenosnowfox.openapi3.models.util.Trackable;
+import com.xenosnowfox.openapi3.models.util.Urls;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Implementation of the {@link Info} interface backed by the UTF-8 encoded JSON it was read from.
+ * The byte offsets of the members are indexed once on construction, where only the title and version are decoded;
+ * the description, terms of service, contact and license are decoded on first access, and extensions are copied out as
+ * raw JSON without being decoded.
+ * <p>
+ * The original bytes are not written verbatim: the output is always identical to {@code toJsonObject().toString()}, as
+ * it is for every other info implementation, so whitespace, member order and members that are not part of the model are
+ * not preserved. The first write therefore decodes every member, after which the output is copied until the object is
+ * modified. Where the original bytes are identical to the output, as they are for JSON written by this library, the
+ * original range is copied rather than a second copy being kept.
+ * <p>
+ * Problems with a lazily decoded member, such as a malformed URL, are reported when it is first accessed.
+ * Modifications, including those of a {@link Trackable} contact or license, are reported to change listeners.
+ * The backing array must not be modified, and instances are not thread-safe.
+ *
+ * @since
+ *      1.0.0
+ */
+public class LazyInfo implements Info, Trackable {
+
+    private static final int DESCRIPTION = 0;
+    private static final int TERMS_OF_SERVICE = 1;
+    private static final int CONTACT = 2;
+    private static final int LICENSE = 3;
+
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+
+    // absolute start offset and length of each lazily decoded member, or -1 if it is absent
+    private final int[] starts = {-1, -1, -1, -1};
+    private final int[] lengths = new int[4];
+    private int decoded = 0;
+    private boolean modified = false;
+    private ContentHash fieldsHash = null;
+
+    // output of the model until modified, or null until first written; refers to the original range when identical
+    private byte[] json = null;
+    private int jsonOffset;
+    private int jsonLength;
+    private String jsonString = null;
+
+    private String title;
+    private String version;
+    private String description;
+    private URI termsOfService;
+    private Contact contact;
+    private License license;
+    private Extensions extensions = Extensions.EMPTY;
+    private final ChangeListeners listeners = new ChangeListeners();
+    private final Invokable<Trackable> childListener = child -> this.modified();
+
+    /**
+     * Instantiates an info object over the given bytes
+     *
+     * @param bytes
+     *      UTF-8 encoded JSON info object
+     * @throws IOException
+     *      if the info object could not be read
+     * @since
+     *      1.0.0
+     */
+    public LazyInfo(final byte[] bytes) throws IOException {
+        this(new JsonReader(bytes), bytes, 0);
+    }
+
+    /**
+     * Instantiates an info object from the given reader, which must be reading the given bytes
+     *
+     * @param reader
+     *      Reader positioned at the start of an info object
+     * @param bytes
+     *      Bytes being read by the reader
+     * @param base
+     *      Index within the bytes that the reader's offsets are relative to
+     * @throws IOException
+     *      if the info object could not be read
+     * @since
+     *      1.0.0
+     */
+    public LazyInfo(final JsonReader reader, final byte[] bytes, final int base) throws IOException {
+        this.bytes = bytes;
+        reader.peek();
+        this.offset = base + (int) reader.getOffset() - 1;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonReader.Token.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "title":
+                    this.title = reader.nextString();
+                    break;
+                case "version":
+                    this.version = reader.nextString();
+                    break;
+                case "description":
+                    this.index(DESCRIPTION, reader, base);
+                    break;
+                case "termsOfService":
+                    this.index(TERMS_OF_SERVICE, reader, base);
+                    break;
+                case "contact":
+                    this.index(CONTACT, reader, base);
+                    break;
+                case "license":
+                    this.index(LICENSE, reader, base);
+                    break;
+                default:
+                    if (name.startsWith("x-")) {
+                        this.extensions = this.extensions.with(name, reader.nextRawValue());
+                    } else {
+                        reader.skipValue();
+                    }
+            }
+        }
+        reader.endObject();
+        this.length = base + (int) reader.getOffset() - this.offset;
+
+        if (this.title == null || this.title.trim().isEmpty()) {
+            throw new NullPointerException("Title cannot be null or blank");
+        }
+        if (this.version == null || this.version.trim().isEmpty()) {
+            throw new NullPointerException("Version cannot be null or blank");
+        }
+    }
+
+    private void index(final int member, final JsonReader reader, final int base) throws IOException {
+        // strings, objects and arrays have already consumed their opening character when peeked
+        JsonReader.Token token = reader.peek();
+        int start = base + (int) reader.getOffset();
+        if (token == JsonReader.Token.STRING || token == JsonReader.Token.BEGIN_OBJECT || token == JsonReader.Token.BEGIN_ARRAY) {
+            start--;
+        }
+        reader.skipValue();
+        this.starts[member] = start;
+        this.lengths[member] = base + (int) reader.getOffset() - start;
+        this.decoded &= ~(1 << member);
+    }
+
+    /**
+     * Determines whether the object has been modified since it was read, in which case its output is no longer cached
+     *
+     * @return
+     *      true if the object has been modified
+     * @since
+     *      1.0.0
+     */
+    public boolean isModified() {
+        return this.modified;
+    }
+
+    @Override
+    public String getTitle() {
+        return this.title;
+    }
+
+    @Override
+    public void setTitle(String title) {
+        if (title == null || title.trim().isEmpty()) {
+            throw new NullPointerException("Title cannot be null or blank");
+        }
+        this.title = title;
+        this.fieldsHash = null;
+        this.modified();
+    }
+
+    @Override
+    public String getVersion() {
+        return this.version;
+    }
+
+    @Override
+    public void setVersion(String version) {
+        if (version == null || version.trim().isEmpty()) {
+            throw new NullPointerException("Version cannot be null or blank");
+        }
+        this.version = version;
+        this.fieldsHash = null;
+        this.modified();
+    }
+
+    @Override
+    public String getDescription() {
+        if (this.isPending(DESCRIPTION)) {
+            this.description = this.decodeString(DESCRIPTION);
+            this.decoded(DESCRIPTION);
+        }
+        return this.description;
+    }
+
+    @Override
+    public void setDescription(String description) {
+        this.decoded(DESCRIPTION);
+        this.description = description;
+        this.fieldsHash = null;
+        this.modified();
+    }
+
+    @Override
+    public URL getTermsOfService() {
+        return Urls.toUrl(this.getTermsOfServiceUri());
+    }
+
+    @Override
+    public void setTermsOfService(URL url) {
+        this.setTermsOfServiceUri(Urls.toUri(url));
+    }
+
+    @Override
+    public URI getTermsOfServiceUri() {
+        if (this.isPending(TERMS_OF_SERVICE)) {
+            this.termsOfService = Urls.parse(this.decodeString(TERMS_OF_SERVICE));
+            this.decoded(TERMS_OF_SERVICE);
+        }
+        return this.termsOfService;
+    }
+
+    @Override
+    public void setTermsOfServiceUri(URI uri) {
+        this.termsOfService = Urls.validate(uri);
+        this.decoded(TERMS_OF_SERVICE);
+        this.fieldsHash = null;
+        this.modified();
+    }
+
+    @Override
+    public Contact getContact() {
+        if (this.isPending(CONTACT)) {
+            try {
+                this.contact = ContactImplJson.read(this.reader(CONTACT));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.decoded(CONTACT);
+            this.track(this.contact);
+        }
+        return this.contact;
+    }
+
+    @Override
+    public void setContact(Contact contact) {
+        this.untrack(this.contact);
+        this.track(contact);
+        this.decoded(CONTACT);
+        this.contact = contact;
+        this.modified();
+    }
+
+    @Override
+    public License getLicense() {
+        if (this.isPending(LICENSE)) {
+            try {
+                this.license = LicenseImplJson.read(this.reader(LICENSE));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.decoded(LICENSE);
+            this.track(this.license);
+        }
+        return this.license;
+    }
+
+    @Override
+    public void setLicense(License license) {
+        this.untrack(this.license);
+        this.track(license);
+        this.decoded(LICENSE);
+        this.license = license;
+        this.modified();
+    }
+
+    @Override
+    public Extensions getExtensions() {
+        return this.extensions;
+    }
+
+    @Override
+    public void setExtensions(final Extensions extensions) {
+        this.extensions = extensions == null ? Extensions.EMPTY : extensions;
+        this.fieldsHash = null;
+        this.modified();
+    }
+
+    @Override
+    public ContentHash contentHash() {
+        if (this.fieldsHash == null) {
+            this.fieldsHash = ContentHashes.infoFields(this.title, this.version, this.getDescription(), this.getTermsOfServiceUri(), this.extensions);
+        }
+        return ContentHashes.info(this.fieldsHash, this.getContact(), this.getLicense());
+    }
+
+    @Override
+    public void writeJson(final JsonWriter writer) throws IOException {
+        if (this.modified || !writer.isRawJsonSupported()) {
+            Info.super.writeJson(writer);
+        } else {
+            this.cache();
+            if (this.jsonString == null) {
+                this.jsonString = new String(this.json, this.jsonOffset, this.jsonLength, StandardCharsets.UTF_8);
+            }
+            writer.rawValue(this.jsonString);
+        }
+    }
+
+    @Override
+    public void writeJson(final OutputStream outputStream) throws IOException {
+        if (this.modified) {
+            Info.super.writeJson(outputStream);
+        } else {
+            long start = SerializationMetrics.start();
+            this.cache();
+            outputStream.write(this.json, this.jsonOffset, this.jsonLength);
+            SerializationMetrics.serialized(this, start, this.jsonLength);
+        }
+    }
+
+    private void cache() throws IOException {
+        if (this.json != null) {
+            return;
+        }
+        StringBuilder builder = new StringBuilder(this.length);
+        Info.super.writeJson(new JsonWriter(builder));
+        byte[] output = builder.toString().getBytes(StandardCharsets.UTF_8);
+        if (ByteBuffer.wrap(this.bytes, this.offset, this.length).equals(ByteBuffer.wrap(output))) {
+            this.json = this.bytes;
+            this.jsonOffset = this.offset;
+            this.jsonLength = this.length;
+        } else {
+            this.json = output;
+            this.jsonOffset = 0;
+            this.jsonLength = output.length;
+        }
+    }
+
+    @Override
+    public void addChangeListener(final Invokable<Trackable> listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(final Invokable<Trackable> listener) {
+        this.listeners.remove(listener);
+    }
+
+    private void modified() {
+        this.modified = true;
+        this.listeners.fire(this);
+    }
+
+    private boolean isPending(final int member) {
+        return this.starts[member] != -1 && (this.decoded & (1 << member)) == 0;
+    }
+
+    private void decoded(final int member) {
+        this.decoded |= 1 << member;
+    }
+
+    private String decodeString(final int member) {
+        try {
+            return this.reader(member).nextString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private JsonReader reader(final int member) {
+        return new JsonReader(this.bytes, this.starts[member], this.lengths[member]);
+    }
+
+    /**
+     * Decoded and assigned children are observed, as their modifications also modify this object
+     */
+    private void track(final Object child) {
+        if (child instanceof Trackable) {
+            ((Trackable) child).addChangeListener(this.childListener);
+        }
+    }
+
+    private void untrack(final Object child) {
+        if (child instanceof Trackable) {
+            ((Trackable) child).removeChangeListener(this.childListener);
+        }
+    }
+}
@@ -1,8 +1,16 @@
 package com.xenosnowfox.openapi3.models.info;
 
+import com.xenosnowfox.openapi3.models.metrics.SerializationMetrics;
+import com.xenosnowfox.openapi3.models.util.ContentHash;
+import com.xenosnowfox.openapi3.models.util.Extensible;
+import com.xenosnowfox.openapi3.models.util.Extensions;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
 import com.xenosnowfox.openapi3.models.util.Jsonable;
+import com.xenosnowfox.openapi3.models.util.Urls;
 import org.json.JSONObject;
 
+import java.io.IOException;
+import java.net.URI;
 import java.net.URL;
 
 /**
@@ -13,7 +21,7 @@ import java.net.URL;
  * @see
  *      <a href="https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.2.md#license-object">https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.2.md#license-object</a>
  */
-public interface License extends Jsonable {
+public interface License extends Jsonable, Extensible {
 
     /**
      * Obtains the license name used for the API.
@@ -97,8 +105,85 @@ public interface License extends Jsonable {
         return this;
     }
 
+    /**
+     * Obtains the URL to the license used for the API as a URI. Unlike {@link URL}, comparing and hashing a URI never resolves host names.
+     *
+     * @return
+     *      URL to the license used for the API
+     * @since
+     *      1.0.0
+     */
+    default URI getUri() {
+        return Urls.toUri(this.getUrl());
+    }
+
+    /**
+     * Defines the URL to the license used for the API as a URI. MUST be in the format of a URL.
+     *
+     * @param uri
+     *      URL to the license used for the API
+     * @throws IllegalArgumentException
+     *      if the URI is not a valid URL
+     * @since
+     *      1.0.0
+     */
+    default void setUri(final URI uri) {
+        this.setUrl(Urls.toUrl(uri));
+    }
+
+    /**
+     * Shorthand version of {@link #getUri()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default URI uri() {
+        return this.getUri();
+    }
+
+    /**
+     * Shorthand version of {@link #setUri(URI)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default License uri(final URI uri) {
+        this.setUri(uri);
+        return this;
+    }
+
+    /**
+     * Shorthand version of {@link #setExtension(String, Object)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default License extension(final String name, final Object value) {
+        this.setExtension(name, value);
+        return this;
+    }
+
+    /**
+     * Obtains an immutable snapshot of the license information, which can be shared between threads without synchronization.
+     * The snapshot has a precomputed hash code and JSON representation, and its setters throw an {@link UnsupportedOperationException}.
+     *
+     * @return
+     *      Immutable license information
+     * @since
+     *      1.0.0
+     */
+    default License freeze() {
+        return new FrozenLicense(this);
+    }
+
+    @Override
+    default ContentHash contentHash() {
+        return ContentHashes.license(this.getName(), this.getUri(), this.getExtensions());
+    }
+
     @Override
     default JSONObject toJsonObject() {
+        long start = SerializationMetrics.start();
         JSONObject jsonObject = new JSONObject();
 
         // add name
@@ -109,11 +194,50 @@ public interface License extends Jsonable {
         jsonObject.putOpt("name", name);
 
         // add url
-        URL url = this.getUrl();
-        if (url != null) {
-            jsonObject.putOpt("url", url.toExternalForm());
+        URI uri = this.getUri();
+        if (uri != null) {
+            jsonObject.putOpt("url", uri.toString());
         }
 
+        // add extensions
+        this.getExtensions().putAll(jsonObject);
+
+        SerializationMetrics.converted(this, start);
         return jsonObject;
     }
+
+    @Override
+    default void writeJson(final JsonWriter writer) throws IOException {
+        // validate name
+        String name = this.getName();
+        if (name == null || name.trim().isEmpty()) {
+            throw new NullPointerException("Name has not been defined");
+        }
+
+        URI uri = this.getUri();
+        Extensions extensions = this.getExtensions();
+
+        // members are written in the same order as JSONObject#toString()
+        writer.beginObject();
+        if (extensions.isEmpty()) {
+            writer.name("name").value(name);
+            if (uri != null) {
+                writer.name("url").value(uri.toString());
+            }
+        } else {
+            for (String member : extensions.memberOrder("name", uri == null ? null : "url")) {
+                switch (member) {
+                    case "name":
+                        writer.name("name").value(name);
+                        break;
+                    case "url":
+                        writer.name("url").value(uri.toString());
+                        break;
+                    default:
+                        extensions.writeMember(writer, member);
+                }
+            }
+        }
+        writer.endObject();
+    }
 }
@@ -1,17 +1,43 @@
 package com.xenosnowfox.openapi3.models.info;
 
+import com.xenosnowfox.openapi3.models.processor.JsonMember;
+import com.xenosnowfox.openapi3.models.processor.JsonModel;
+import com.xenosnowfox.openapi3.models.util.ChangeListeners;
+import com.xenosnowfox.openapi3.models.util.ContentHash;
+import com.xenosnowfox.openapi3.models.util.Extensions;
+import com.xenosnowfox.openapi3.models.util.Invokable;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
+import com.xenosnowfox.openapi3.models.util.Trackable;
+import com.xenosnowfox.openapi3.models.util.Urls;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.net.URI;
 import java.net.URL;
 
 /**
- * Basic implementation of the {@link License} interface
+ * Basic implementation of the {@link License} interface, serialized by the generated {@code LicenseImplJson}
  *
  * @since
  *      1.0.0
  */
-public class LicenseImpl implements License {
+@JsonModel
+public class LicenseImpl implements License, Trackable {
+
+    @JsonMember(required = true)
+    String name;
+    @JsonMember
+    URI url;
+    @JsonMember
+    Extensions extensions = Extensions.EMPTY;
+    private ContentHash contentHash = null;
+    private final ChangeListeners listeners = new ChangeListeners();
 
-    private String name;
-    private URL url;
+    /**
+     * Instantiates a License object without a name, which the generated reader populates and validates
+     */
+    LicenseImpl() {
+    }
 
     /**
      * Instantiates a License object with the given license name
@@ -46,6 +72,8 @@ public class LicenseImpl implements License {
             throw new NullPointerException("Name cannot be null or blank");
         }
         this.name = name;
+        this.contentHash = null;
+        this.listeners.fire(this);
     }
 
     @Override
@@ -55,11 +83,63 @@ public class LicenseImpl implements License {
 
     @Override
     public void setUrl(URL url) {
-        this.url = url;
+        this.setUri(Urls.toUri(url));
     }
 
     @Override
     public URL getUrl() {
+        return Urls.toUrl(this.url);
+    }
+
+    @Override
+    public void setUri(URI uri) {
+        this.url = Urls.validate(uri);
+        this.contentHash = null;
+        this.listeners.fire(this);
+    }
+
+    @Override
+    public URI getUri() {
         return this.url;
     }
+
+    @Override
+    public Extensions getExtensions() {
+        return this.extensions;
+    }
+
+    @Override
+    public void setExtensions(final Extensions extensions) {
+        this.extensions = extensions == null ? Extensions.EMPTY : extensions;
+        this.contentHash = null;
+        this.listeners.fire(this);
+    }
+
+    @Override
+    public ContentHash contentHash() {
+        if (this.contentHash == null) {
+            this.contentHash = License.super.contentHash();
+        }
+        return this.contentHash;
+    }
+
+    @Override
+    public JSONObject toJsonObject() {
+        return LicenseImplJson.toJsonObject(this);
+    }
+
+    @Override
+    public void writeJson(final JsonWriter writer) throws IOException {
+        LicenseImplJson.writeJson(this, writer);
+    }
+
+    @Override
+    public void addChangeListener(final Invokable<Trackable> listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(final Invokable<Trackable> listener) {
+        this.listeners.remove(listener);
+    }
 }
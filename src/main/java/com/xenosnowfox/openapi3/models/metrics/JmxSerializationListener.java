@@ -0,0 +1,134 @@
+package com.xenosnowfox.openapi3.models.metrics;
+
+import com.xenosnowfox.openapi3.models.validation.Violation;
+
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.Closeable;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Listener that accumulates measurements in a {@link ModelMetrics} per model type, each of which is registered as an
+ * MBean named {@code <domain>:type=SerializationMetrics,model=<name>}, e.g.
+ * {@code com.xenosnowfox.openapi3:type=SerializationMetrics,model=Document}.
+ * The MBeans are registered on construction; install the listener with
+ * {@link SerializationMetrics#setListener(SerializationListener)} for it to receive measurements.
+ *
+ * @since
+ *      1.0.0
+ */
+public class JmxSerializationListener implements SerializationListener, Closeable {
+
+    /**
+     * Domain that the MBeans are registered under by default
+     *
+     * @since
+     *      1.0.0
+     */
+    public static final String DEFAULT_DOMAIN = "com.xenosnowfox.openapi3";
+
+    private final MBeanServer server;
+    private final ModelMetrics[] metrics = new ModelMetrics[ModelType.values().length];
+    private final ObjectName[] names = new ObjectName[ModelType.values().length];
+
+    /**
+     * Instantiates a listener whose MBeans are registered with the platform MBean server under the default domain
+     *
+     * @since
+     *      1.0.0
+     */
+    public JmxSerializationListener() {
+        this(ManagementFactory.getPlatformMBeanServer(), DEFAULT_DOMAIN);
+    }
+
+    /**
+     * Instantiates a listener whose MBeans are registered with the given server
+     *
+     * @param server
+     *      MBean server to register with
+     * @param domain
+     *      Domain of the object names
+     * @throws IllegalStateException
+     *      if the MBeans could not be registered, e.g. because another listener uses the same domain
+     * @since
+     *      1.0.0
+     */
+    public JmxSerializationListener(final MBeanServer server, final String domain) {
+        if (server == null) {
+            throw new NullPointerException("Server cannot be null");
+        }
+        if (domain == null || domain.trim().isEmpty()) {
+            throw new NullPointerException("Domain cannot be null or blank");
+        }
+        this.server = server;
+
+        try {
+            for (ModelType type : ModelType.values()) {
+                ModelMetrics metrics = new ModelMetrics(type);
+                ObjectName name = new ObjectName(domain + ":type=SerializationMetrics,model=" + type.getName());
+                server.registerMBean(metrics, name);
+                this.metrics[type.ordinal()] = metrics;
+                this.names[type.ordinal()] = name;
+            }
+        } catch (JMException e) {
+            this.close();
+            throw new IllegalStateException("Unable to register serialization metrics", e);
+        }
+    }
+
+    /**
+     * Obtains the counters of the given model type
+     *
+     * @param type
+     *      Model type
+     * @return
+     *      Counters
+     * @since
+     *      1.0.0
+     */
+    public ModelMetrics getMetrics(final ModelType type) {
+        return this.metrics[type.ordinal()];
+    }
+
+    @Override
+    public void onSerialized(final ModelType type, final long nanos, final long bytes) {
+        this.metrics[type.ordinal()].recordSerialization(nanos, bytes);
+    }
+
+    @Override
+    public void onConverted(final ModelType type, final long nanos) {
+        this.metrics[type.ordinal()].recordConversion(nanos);
+    }
+
+    @Override
+    public void onValidationFailed(final ModelType type, final Violation violation) {
+        this.metrics[type.ordinal()].recordValidationFailure();
+    }
+
+    /**
+     * Unregisters the MBeans, and uninstalls the listener if it is the one installed
+     *
+     * @since
+     *      1.0.0
+     */
+    @Override
+    public void close() {
+        if (SerializationMetrics.getListener() == this) {
+            SerializationMetrics.setListener(null);
+        }
+        for (ObjectName name : this.names) {
+            if (name == null) {
+                continue;
+            }
+            try {
+                this.server.unregisterMBean(name);
+            } catch (InstanceNotFoundException e) {
+                // already unregistered
+            } catch (JMException e) {
+                throw new IllegalStateException("Unable to unregister " + name, e);
+            }
+        }
+    }
+}
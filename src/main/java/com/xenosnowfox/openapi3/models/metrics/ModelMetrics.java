@@ -0,0 +1,132 @@
+package com.xenosnowfox.openapi3.models.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of a single {@link ModelType}, which can be updated from many threads without contention
+ *
+ * @since
+ *      1.0.0
+ */
+public class ModelMetrics implements ModelMetricsMBean {
+
+    private final ModelType type;
+    private final LongAdder serializationCount = new LongAdder();
+    private final LongAdder serializationTimeNanos = new LongAdder();
+    private final LongAdder serializedBytes = new LongAdder();
+    private final LongAdder conversionCount = new LongAdder();
+    private final LongAdder conversionTimeNanos = new LongAdder();
+    private final LongAdder validationFailureCount = new LongAdder();
+
+    /**
+     * Instantiates a set of counters for the given model type
+     *
+     * @param type
+     *      Model type
+     * @since
+     *      1.0.0
+     */
+    public ModelMetrics(final ModelType type) {
+        if (type == null) {
+            throw new NullPointerException("Type cannot be null");
+        }
+        this.type = type;
+    }
+
+    /**
+     * Obtains the model type the counters belong to
+     *
+     * @return
+     *      Model type
+     * @since
+     *      1.0.0
+     */
+    public ModelType getType() {
+        return this.type;
+    }
+
+    /**
+     * Records a write
+     *
+     * @param nanos
+     *      Time taken, in nanoseconds
+     * @param bytes
+     *      Length of the UTF-8 encoded output
+     * @since
+     *      1.0.0
+     */
+    public void recordSerialization(final long nanos, final long bytes) {
+        this.serializationCount.increment();
+        this.serializationTimeNanos.add(nanos);
+        this.serializedBytes.add(bytes);
+    }
+
+    /**
+     * Records a conversion into a JSON Object
+     *
+     * @param nanos
+     *      Time taken, in nanoseconds
+     * @since
+     *      1.0.0
+     */
+    public void recordConversion(final long nanos) {
+        this.conversionCount.increment();
+        this.conversionTimeNanos.add(nanos);
+    }
+
+    /**
+     * Records a violation
+     *
+     * @since
+     *      1.0.0
+     */
+    public void recordValidationFailure() {
+        this.validationFailureCount.increment();
+    }
+
+    @Override
+    public long getSerializationCount() {
+        return this.serializationCount.sum();
+    }
+
+    @Override
+    public long getSerializationTimeNanos() {
+        return this.serializationTimeNanos.sum();
+    }
+
+    @Override
+    public double getAverageSerializationTimeNanos() {
+        long count = this.serializationCount.sum();
+        return count == 0 ? 0 : (double) this.serializationTimeNanos.sum() / count;
+    }
+
+    @Override
+    public long getSerializedBytes() {
+        return this.serializedBytes.sum();
+    }
+
+    @Override
+    public long getConversionCount() {
+        return this.conversionCount.sum();
+    }
+
+    @Override
+    public long getConversionTimeNanos() {
+        return this.conversionTimeNanos.sum();
+    }
+
+    @Override
+    public long getValidationFailureCount() {
+        return this.validationFailureCount.sum();
+    }
+
+    @Override
+    public void reset() {
+        this.serializationCount.reset();
+        this.serializationTimeNanos.reset();
+        this.serializedBytes.reset();
+        this.conversionCount.reset();
+        this.conversionTimeNanos.reset();
+        this.validationFailureCount.reset();
+    }
+}
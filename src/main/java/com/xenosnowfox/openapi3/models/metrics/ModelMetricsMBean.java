@@ -0,0 +1,88 @@
+package com.xenosnowfox.openapi3.models.metrics;
+
+/**
+ * Management interface exposing the counters of a single {@link ModelType} through JMX
+ *
+ * @since
+ *      1.0.0
+ */
+public interface ModelMetricsMBean {
+
+    /**
+     * Obtains the number of times an object has been written to an appendable or output stream
+     *
+     * @return
+     *      Number of writes
+     * @since
+     *      1.0.0
+     */
+    long getSerializationCount();
+
+    /**
+     * Obtains the total time spent writing objects
+     *
+     * @return
+     *      Time in nanoseconds
+     * @since
+     *      1.0.0
+     */
+    long getSerializationTimeNanos();
+
+    /**
+     * Obtains the average time spent writing an object
+     *
+     * @return
+     *      Time in nanoseconds, or 0 if nothing has been written
+     * @since
+     *      1.0.0
+     */
+    double getAverageSerializationTimeNanos();
+
+    /**
+     * Obtains the total length of the UTF-8 encoded output of all writes
+     *
+     * @return
+     *      Number of bytes
+     * @since
+     *      1.0.0
+     */
+    long getSerializedBytes();
+
+    /**
+     * Obtains the number of times an object has been converted into a JSON Object
+     *
+     * @return
+     *      Number of conversions
+     * @since
+     *      1.0.0
+     */
+    long getConversionCount();
+
+    /**
+     * Obtains the total time spent converting objects into JSON Objects
+     *
+     * @return
+     *      Time in nanoseconds
+     * @since
+     *      1.0.0
+     */
+    long getConversionTimeNanos();
+
+    /**
+     * Obtains the number of violations found in objects of this type
+     *
+     * @return
+     *      Number of violations
+     * @since
+     *      1.0.0
+     */
+    long getValidationFailureCount();
+
+    /**
+     * Resets all counters to zero
+     *
+     * @since
+     *      1.0.0
+     */
+    void reset();
+}
@@ -0,0 +1,94 @@
+package com.xenosnowfox.openapi3.models.metrics;
+
+import com.xenosnowfox.openapi3.models.Document;
+import com.xenosnowfox.openapi3.models.components.Components;
+import com.xenosnowfox.openapi3.models.components.Reference;
+import com.xenosnowfox.openapi3.models.info.Contact;
+import com.xenosnowfox.openapi3.models.info.Info;
+import com.xenosnowfox.openapi3.models.info.License;
+import com.xenosnowfox.openapi3.models.paths.Operation;
+import com.xenosnowfox.openapi3.models.paths.PathItem;
+import com.xenosnowfox.openapi3.models.paths.Paths;
+import com.xenosnowfox.openapi3.models.schema.Schema;
+
+/**
+ * Kinds of model object that metrics are recorded for
+ *
+ * @since
+ *      1.0.0
+ */
+public enum ModelType {
+    DOCUMENT("Document"),
+    INFO("Info"),
+    CONTACT("Contact"),
+    LICENSE("License"),
+    PATHS("Paths"),
+    PATH_ITEM("PathItem"),
+    OPERATION("Operation"),
+    SCHEMA("Schema"),
+    COMPONENTS("Components"),
+    REFERENCE("Reference");
+
+    private final String name;
+
+    ModelType(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Obtains the name of the model, as used in the JMX object names
+     *
+     * @return
+     *      Model name
+     * @since
+     *      1.0.0
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Determines the kind of model the given object is
+     *
+     * @param object
+     *      Object to check
+     * @return
+     *      Model type, or null if the object is not one of the instrumented models
+     * @since
+     *      1.0.0
+     */
+    public static ModelType of(final Object object) {
+        if (object instanceof Document) {
+            return DOCUMENT;
+        }
+        if (object instanceof Info) {
+            return INFO;
+        }
+        if (object instanceof Contact) {
+            return CONTACT;
+        }
+        if (object instanceof License) {
+            return LICENSE;
+        }
+        if (object instanceof Paths) {
+            return PATHS;
+        }
+        if (object instanceof PathItem) {
+            return PATH_ITEM;
+        }
+        if (object instanceof Operation) {
+            return OPERATION;
+        }
+        // references to schemas are also schemas, but are serialized as references
+        if (object instanceof Reference) {
+            return REFERENCE;
+        }
+        if (object instanceof Schema) {
+            return SCHEMA;
+        }
+        if (object instanceof Components) {
+            return COMPONENTS;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,60 @@
+package com.xenosnowfox.openapi3.models.metrics;
+
+import com.xenosnowfox.openapi3.models.validation.Violation;
+
+/**
+ * Receives measurements of the serialization and validation of model objects once installed through
+ * {@link SerializationMetrics#setListener(SerializationListener)}.
+ * Methods are invoked synchronously on the thread doing the work, possibly from many threads at once, so
+ * implementations must be thread-safe and should return quickly. All methods do nothing by default.
+ *
+ * @since
+ *      1.0.0
+ */
+public interface SerializationListener {
+
+    /**
+     * Invoked after an object has been written as JSON or YAML to an appendable or output stream.
+     * Every object written is reported, so the time taken and bytes written by a document include those of its info object.
+     * Objects written to a {@link com.xenosnowfox.openapi3.models.util.JsonWriter} created by the caller are not reported,
+     * and neither are the writes that compute a content hash.
+     *
+     * @param type
+     *      Type of the object that was written
+     * @param nanos
+     *      Time taken, in nanoseconds
+     * @param bytes
+     *      Length of the output once UTF-8 encoded
+     * @since
+     *      1.0.0
+     */
+    default void onSerialized(final ModelType type, final long nanos, final long bytes) {
+    }
+
+    /**
+     * Invoked after an object has been converted by {@link com.xenosnowfox.openapi3.models.util.Jsonable#toJsonObject()}.
+     * Every object converted is reported, so the time taken by a document includes that of its info object.
+     *
+     * @param type
+     *      Type of the object that was converted
+     * @param nanos
+     *      Time taken, in nanoseconds
+     * @since
+     *      1.0.0
+     */
+    default void onConverted(final ModelType type, final long nanos) {
+    }
+
+    /**
+     * Invoked for each violation found by a {@link com.xenosnowfox.openapi3.models.validation.DocumentValidator}
+     *
+     * @param type
+     *      Type of the object the violation was found in
+     * @param violation
+     *      Violation that was found
+     * @since
+     *      1.0.0
+     */
+    default void onValidationFailed(final ModelType type, final Violation violation) {
+    }
+}
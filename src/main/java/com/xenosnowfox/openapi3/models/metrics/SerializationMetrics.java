@@ -0,0 +1,139 @@
+package com.xenosnowfox.openapi3.models.metrics;
+
+import com.xenosnowfox.openapi3.models.validation.Violation;
+
+/**
+ * Global hook through which the models report to an installed {@link SerializationListener}.
+ * While no listener is installed, which is the default, instrumented code only reads a single volatile field: the
+ * clock is not read and nothing is allocated. Each measurement starts with {@link #start()} and ends with one of the
+ * reporting methods, which do nothing if the measurement was started while disabled.
+ *
+ * @since
+ *      1.0.0
+ */
+public final class SerializationMetrics {
+
+    /**
+     * Value returned by {@link #start()} when no listener is installed
+     *
+     * @since
+     *      1.0.0
+     */
+    public static final long DISABLED = Long.MIN_VALUE;
+
+    private static volatile SerializationListener listener = null;
+
+    private SerializationMetrics() {
+    }
+
+    /**
+     * Installs the listener that measurements are reported to, replacing any previous one
+     *
+     * @param listener
+     *      Listener to install, or null to disable instrumentation
+     * @since
+     *      1.0.0
+     */
+    public static void setListener(final SerializationListener listener) {
+        SerializationMetrics.listener = listener;
+    }
+
+    /**
+     * Obtains the installed listener
+     *
+     * @return
+     *      Listener, or null if instrumentation is disabled
+     * @since
+     *      1.0.0
+     */
+    public static SerializationListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Determines whether a listener is installed
+     *
+     * @return
+     *      true if measurements are being reported
+     * @since
+     *      1.0.0
+     */
+    public static boolean isEnabled() {
+        return listener != null;
+    }
+
+    /**
+     * Starts a measurement
+     *
+     * @return
+     *      Current value of {@link System#nanoTime()}, or {@link #DISABLED} if no listener is installed
+     * @since
+     *      1.0.0
+     */
+    public static long start() {
+        return listener == null ? DISABLED : System.nanoTime();
+    }
+
+    /**
+     * Reports that an object has been written
+     *
+     * @param source
+     *      Object that was written
+     * @param start
+     *      Value returned by {@link #start()} before writing began
+     * @param bytes
+     *      Length of the output once UTF-8 encoded
+     * @since
+     *      1.0.0
+     */
+    public static void serialized(final Object source, final long start, final long bytes) {
+        if (start == DISABLED) {
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+        SerializationListener listener = SerializationMetrics.listener;
+        ModelType type = ModelType.of(source);
+        if (listener != null && type != null) {
+            listener.onSerialized(type, nanos, bytes);
+        }
+    }
+
+    /**
+     * Reports that an object has been converted into a JSON Object
+     *
+     * @param source
+     *      Object that was converted
+     * @param start
+     *      Value returned by {@link #start()} before the conversion began
+     * @since
+     *      1.0.0
+     */
+    public static void converted(final Object source, final long start) {
+        if (start == DISABLED) {
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+        SerializationListener listener = SerializationMetrics.listener;
+        ModelType type = ModelType.of(source);
+        if (listener != null && type != null) {
+            listener.onConverted(type, nanos);
+        }
+    }
+
+    /**
+     * Reports a violation found during validation
+     *
+     * @param type
+     *      Type of the object the violation was found in
+     * @param violation
+     *      Violation that was found
+     * @since
+     *      1.0.0
+     */
+    public static void validationFailed(final ModelType type, final Violation violation) {
+        SerializationListener listener = SerializationMetrics.listener;
+        if (listener != null) {
+            listener.onValidationFailed(type, violation);
+        }
+    }
+}
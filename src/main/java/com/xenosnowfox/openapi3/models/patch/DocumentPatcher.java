@@ -0,0 +1,517 @@
+package com.xenosnowfox.openapi3.models.patch;
+
+import com.xenosnowfox.openapi3.models.Document;
+import com.xenosnowfox.openapi3.models.DocumentReader;
+import com.xenosnowfox.openapi3.models.components.Components;
+import com.xenosnowfox.openapi3.models.info.Contact;
+import com.xenosnowfox.openapi3.models.info.Info;
+import com.xenosnowfox.openapi3.models.info.License;
+import com.xenosnowfox.openapi3.models.paths.PathItem;
+import com.xenosnowfox.openapi3.models.paths.Paths;
+import com.xenosnowfox.openapi3.models.schema.Schema;
+import com.xenosnowfox.openapi3.models.util.Extensions;
+import com.xenosnowfox.openapi3.models.util.RawJson;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONString;
+import org.json.JSONTokener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes the {@link JsonPatch} between two versions of a document, and applies patches to documents.
+ * Diffing compares the models field by field and skips any sub-object that is the same instance, or equal to, its
+ * counterpart (frozen and canonical objects compare by their precomputed JSON), so the cost scales with what changed
+ * rather than with the size of the document. Paths are compared path by path, and a path item that differs is replaced as a whole;
+ * component schemas are compared and replaced in the same way. Specification extensions are compared by their raw JSON, and
+ * an extension that differs is replaced as a whole.
+ *
+ * @since
+ *      1.0.0
+ */
+public class DocumentPatcher {
+
+    private final DocumentReader reader;
+
+    /**
+     * Instantiates a patcher that creates the default model implementations when applying a patch
+     *
+     * @since
+     *      1.0.0
+     */
+    public DocumentPatcher() {
+        this(new DocumentReader());
+    }
+
+    /**
+     * Instantiates a patcher that builds patched documents with the given reader
+     *
+     * @param reader
+     *      Reader used to create and validate patched documents
+     * @since
+     *      1.0.0
+     */
+    public DocumentPatcher(final DocumentReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Computes the patch that transforms the source document into the target document
+     *
+     * @param source
+     *      Original document
+     * @param target
+     *      Modified document
+     * @return
+     *      Patch, which is empty if both documents are identical
+     * @since
+     *      1.0.0
+     */
+    public JsonPatch diff(final Document source, final Document target) {
+        if (source == null) {
+            throw new NullPointerException("Source document has not been defined");
+        }
+        if (target == null) {
+            throw new NullPointerException("Target document has not been defined");
+        }
+
+        List<PatchOperation> operations = new ArrayList<>();
+        if (source != target && !source.equals(target)) {
+            this.diffInfo(source.getInfo(), target.getInfo(), operations);
+            this.diffPaths(source.getPaths(), target.getPaths(), operations);
+            this.diffComponents(source.getComponents(), target.getComponents(), operations);
+        }
+        return new JsonPatch(operations);
+    }
+
+    private void diffInfo(final Info source, final Info target, final List<PatchOperation> operations) {
+        if (source == null || target == null) {
+            throw new NullPointerException("Info has not been defined");
+        }
+        if (source == target || source.equals(target)) {
+            return;
+        }
+
+        diffString("/info/title", source.getTitle(), target.getTitle(), operations);
+        diffString("/info/version", source.getVersion(), target.getVersion(), operations);
+        diffString("/info/description", source.getDescription(), target.getDescription(), operations);
+        diffString("/info/termsOfService", toString(source.getTermsOfServiceUri()), toString(target.getTermsOfServiceUri()), operations);
+        diffExtensions("/info", source.getExtensions(), target.getExtensions(), operations);
+        this.diffContact(source.getContact(), target.getContact(), operations);
+        this.diffLicense(source.getLicense(), target.getLicense(), operations);
+    }
+
+    private void diffContact(final Contact source, final Contact target, final List<PatchOperation> operations) {
+        if (source == target || (source != null && source.equals(target))) {
+            return;
+        }
+        if (source == null) {
+            operations.add(PatchOperation.add("/info/contact", target.toJsonObject()));
+            return;
+        }
+        if (target == null) {
+            operations.add(PatchOperation.remove("/info/contact"));
+            return;
+        }
+
+        diffString("/info/contact/name", source.getName(), target.getName(), operations);
+        diffString("/info/contact/email", source.getEmail(), target.getEmail(), operations);
+        diffString("/info/contact/url", toString(source.getUri()), toString(target.getUri()), operations);
+        diffExtensions("/info/contact", source.getExtensions(), target.getExtensions(), operations);
+    }
+
+    private void diffLicense(final License source, final License target, final List<PatchOperation> operations) {
+        if (source == target || (source != null && source.equals(target))) {
+            return;
+        }
+        if (source == null) {
+            operations.add(PatchOperation.add("/info/license", target.toJsonObject()));
+            return;
+        }
+        if (target == null) {
+            operations.add(PatchOperation.remove("/info/license"));
+            return;
+        }
+
+        diffString("/info/license/name", source.getName(), target.getName(), operations);
+        diffString("/info/license/url", toString(source.getUri()), toString(target.getUri()), operations);
+        diffExtensions("/info/license", source.getExtensions(), target.getExtensions(), operations);
+    }
+
+    private void diffPaths(final Paths source, final Paths target, final List<PatchOperation> operations) {
+        if (source == target || (source != null && source.equals(target))) {
+            return;
+        }
+        if (source == null) {
+            operations.add(PatchOperation.add("/paths", target.toJsonObject()));
+            return;
+        }
+        if (target == null) {
+            operations.add(PatchOperation.remove("/paths"));
+            return;
+        }
+
+        Map<String, PathItem> sourceItems = source.getPathItems();
+        Map<String, PathItem> targetItems = target.getPathItems();
+        for (String path : sourceItems.keySet()) {
+            if (!targetItems.containsKey(path)) {
+                operations.add(PatchOperation.remove("/paths/" + escape(path)));
+            }
+        }
+        for (Map.Entry<String, PathItem> entry : targetItems.entrySet()) {
+            PathItem sourceItem = sourceItems.get(entry.getKey());
+            PathItem targetItem = entry.getValue();
+            if (sourceItem == null) {
+                operations.add(PatchOperation.add("/paths/" + escape(entry.getKey()), targetItem.toJsonObject()));
+            } else if (sourceItem != targetItem && !sourceItem.equals(targetItem)
+                    && !sourceItem.contentHash().equals(targetItem.contentHash())) {
+                operations.add(PatchOperation.replace("/paths/" + escape(entry.getKey()), targetItem.toJsonObject()));
+            }
+        }
+    }
+
+    private void diffComponents(final Components source, final Components target, final List<PatchOperation> operations) {
+        if (source == target || (source != null && source.equals(target))) {
+            return;
+        }
+        if (source == null) {
+            operations.add(PatchOperation.add("/components", target.toJsonObject()));
+            return;
+        }
+        if (target == null) {
+            operations.add(PatchOperation.remove("/components"));
+            return;
+        }
+
+        // the schemas member is omitted when there are no schemas
+        Map<String, Schema> sourceSchemas = source.getSchemas();
+        Map<String, Schema> targetSchemas = target.getSchemas();
+        if (sourceSchemas.isEmpty() || targetSchemas.isEmpty()) {
+            if (!targetSchemas.isEmpty()) {
+                operations.add(PatchOperation.add("/components/schemas", target.toJsonObject().get("schemas")));
+            } else if (!sourceSchemas.isEmpty()) {
+                operations.add(PatchOperation.remove("/components/schemas"));
+            }
+            return;
+        }
+
+        for (String name : sourceSchemas.keySet()) {
+            if (!targetSchemas.containsKey(name)) {
+                operations.add(PatchOperation.remove("/components/schemas/" + escape(name)));
+            }
+        }
+        for (Map.Entry<String, Schema> entry : targetSchemas.entrySet()) {
+            Schema sourceSchema = sourceSchemas.get(entry.getKey());
+            Schema targetSchema = entry.getValue();
+            if (sourceSchema == null) {
+                operations.add(PatchOperation.add("/components/schemas/" + escape(entry.getKey()), targetSchema.toJsonObject()));
+            } else if (sourceSchema != targetSchema) {
+                JSONObject targetJson = targetSchema.toJsonObject();
+                if (!sourceSchema.toJsonObject().similar(targetJson)) {
+                    operations.add(PatchOperation.replace("/components/schemas/" + escape(entry.getKey()), targetJson));
+                }
+            }
+        }
+    }
+
+    private static String escape(final String token) {
+        return token.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static void diffString(final String path, final String source, final String target, final List<PatchOperation> operations) {
+        if (source == null ? target == null : source.equals(target)) {
+            return;
+        }
+        if (source == null) {
+            operations.add(PatchOperation.add(path, target));
+        } else if (target == null) {
+            operations.add(PatchOperation.remove(path));
+        } else {
+            operations.add(PatchOperation.replace(path, target));
+        }
+    }
+
+    private static void diffExtensions(final String path, final Extensions source, final Extensions target, final List<PatchOperation> operations) {
+        if (source.equals(target)) {
+            return;
+        }
+        for (int i = 0; i < source.size(); i++) {
+            String name = source.getName(i);
+            if (target.getRawValue(name) == null) {
+                operations.add(PatchOperation.remove(path + "/" + escape(name)));
+            }
+        }
+        for (int i = 0; i < target.size(); i++) {
+            String name = target.getName(i);
+            RawJson value = target.getRawValue(i);
+            RawJson previous = source.getRawValue(name);
+            if (previous == null) {
+                operations.add(PatchOperation.add(path + "/" + escape(name), value.getValue()));
+            } else if (!previous.equals(value)) {
+                operations.add(PatchOperation.replace(path + "/" + escape(name), value.getValue()));
+            }
+        }
+    }
+
+    private static String toString(final URI uri) {
+        return uri == null ? null : uri.toString();
+    }
+
+    /**
+     * Applies the given patch to a copy of the document. The operations are applied in order to the JSON representation
+     * of the document, following RFC 6902 for array elements, including the {@code -} token that appends to an array.
+     * The result is then validated in the same way as {@link DocumentReader} does, so the given document is left
+     * untouched if any operation fails.
+     *
+     * @param document
+     *      Document to patch
+     * @param patch
+     *      Patch to apply
+     * @return
+     *      New, patched document
+     * @throws IllegalArgumentException
+     *      if an operation refers to a location that does not exist, a test operation fails, or the patched document is invalid
+     * @since
+     *      1.0.0
+     */
+    public Document apply(final Document document, final JsonPatch patch) {
+        Object json = document.toJsonObject();
+        for (PatchOperation operation : patch) {
+            json = apply(json, operation);
+        }
+
+        if (!(json instanceof JSONObject)) {
+            throw new IllegalArgumentException("Patched document is not a JSON object");
+        }
+        Object version = ((JSONObject) json).opt("openapi");
+        if (!Document.OPENAPI_VERSION.equals(version)) {
+            throw new IllegalArgumentException("Unsupported OpenAPI version: " + version);
+        }
+
+        try {
+            return this.reader.read(json.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Object apply(final Object root, final PatchOperation operation) {
+        String path = operation.getPath();
+        switch (operation.getType()) {
+            case ADD:
+                return add(root, path, toJsonValue(operation.getValue()));
+            case REMOVE:
+                remove(root, path);
+                return root;
+            case REPLACE:
+                if (remove(root, path) == null) {
+                    return toJsonValue(operation.getValue());
+                }
+                return add(root, path, toJsonValue(operation.getValue()));
+            case MOVE:
+                String from = operation.getFrom();
+                if (path.startsWith(from + "/")) {
+                    throw new IllegalArgumentException("Cannot move " + from + " into one of its children");
+                }
+                if (path.equals(from)) {
+                    get(root, from);
+                    return root;
+                }
+                return add(root, path, remove(root, from));
+            case COPY:
+                return add(root, path, copy(get(root, operation.getFrom())));
+            case TEST:
+                if (!jsonEquals(copy(get(root, path)), toJsonValue(operation.getValue()))) {
+                    throw new IllegalArgumentException("Test failed at " + path);
+                }
+                return root;
+            default:
+                throw new IllegalArgumentException("Unknown patch operation: " + operation.getType());
+        }
+    }
+
+    private static Object get(final Object root, final String path) {
+        if (path.isEmpty()) {
+            return root;
+        }
+        String token = lastToken(path);
+        Object parent = parent(root, path);
+        if (parent instanceof JSONArray) {
+            JSONArray array = (JSONArray) parent;
+            return array.get(index(array, token, path, false));
+        }
+        JSONObject object = (JSONObject) parent;
+        if (!object.has(token)) {
+            throw new IllegalArgumentException("Path does not exist: " + path);
+        }
+        return object.get(token);
+    }
+
+    /**
+     * Adds the value at the given path; within an array the value is inserted before the indexed element, or appended
+     * if the last token is {@code -}
+     */
+    private static Object add(final Object root, final String path, final Object value) {
+        if (path.isEmpty()) {
+            return value;
+        }
+        String token = lastToken(path);
+        Object parent = parent(root, path);
+        if (parent instanceof JSONArray) {
+            JSONArray array = (JSONArray) parent;
+            int index = "-".equals(token) ? array.length() : index(array, token, path, true);
+            for (int i = array.length(); i > index; i--) {
+                array.put(i, array.get(i - 1));
+            }
+            array.put(index, value);
+        } else {
+            ((JSONObject) parent).put(token, value);
+        }
+        return root;
+    }
+
+    /**
+     * Removes the member or element at the given path, returning its value, or null if the path refers to the whole
+     * document
+     */
+    private static Object remove(final Object root, final String path) {
+        if (path.isEmpty()) {
+            return null;
+        }
+        String token = lastToken(path);
+        Object parent = parent(root, path);
+        if (parent instanceof JSONArray) {
+            JSONArray array = (JSONArray) parent;
+            return array.remove(index(array, token, path, false));
+        }
+        JSONObject object = (JSONObject) parent;
+        if (!object.has(token)) {
+            throw new IllegalArgumentException("Path does not exist: " + path);
+        }
+        return object.remove(token);
+    }
+
+    /**
+     * Resolves the object or array containing the member or element at the given non-empty JSON Pointer
+     */
+    private static Object parent(final Object root, final String path) {
+        if (path.charAt(0) != '/') {
+            throw new IllegalArgumentException("Invalid JSON pointer: " + path);
+        }
+
+        Object current = root;
+        int start = 1;
+        int end;
+        while ((end = path.indexOf('/', start)) != -1) {
+            String token = unescape(path.substring(start, end));
+            // extensions are held as raw JSON, which is decoded before anything within it is modified
+            if (current instanceof JSONObject) {
+                JSONObject parent = (JSONObject) current;
+                current = parent.opt(token);
+                if (current instanceof JSONString) {
+                    current = copy(current);
+                    parent.put(token, current);
+                }
+            } else if (current instanceof JSONArray) {
+                JSONArray parent = (JSONArray) current;
+                int index = index(parent, token, path, false);
+                current = parent.get(index);
+                if (current instanceof JSONString) {
+                    current = copy(current);
+                    parent.put(index, current);
+                }
+            } else {
+                throw new IllegalArgumentException("Path does not exist: " + path);
+            }
+            start = end + 1;
+        }
+        if (!(current instanceof JSONObject) && !(current instanceof JSONArray)) {
+            throw new IllegalArgumentException("Path does not exist: " + path);
+        }
+        return current;
+    }
+
+    /**
+     * Parses an array index token, which consists of digits without leading zeros and refers to an existing element,
+     * or to the end of the array when inserting
+     */
+    private static int index(final JSONArray array, final String token, final String path, final boolean inserting) {
+        if (token.isEmpty() || token.length() > 10 || (token.length() > 1 && token.charAt(0) == '0')) {
+            throw new IllegalArgumentException("Invalid array index '" + token + "' in " + path);
+        }
+        long index = 0;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException("Invalid array index '" + token + "' in " + path);
+            }
+            index = index * 10 + (c - '0');
+        }
+        if (index > (inserting ? array.length() : array.length() - 1)) {
+            throw new IllegalArgumentException("Path does not exist: " + path);
+        }
+        return (int) index;
+    }
+
+    private static String lastToken(final String path) {
+        return unescape(path.substring(path.lastIndexOf('/') + 1));
+    }
+
+    private static String unescape(final String token) {
+        if (token.indexOf('~') == -1) {
+            return token;
+        }
+        return token.replace("~1", "/").replace("~0", "~");
+    }
+
+    private static Object toJsonValue(final Object value) {
+        return value == null ? JSONObject.NULL : copy(value);
+    }
+
+    /**
+     * Deep copies JSON objects and arrays, so that later operations do not modify the patch or other members.
+     * Raw JSON values are decoded into their objects, arrays and primitives.
+     */
+    private static Object copy(final Object value) {
+        if (value instanceof JSONString) {
+            return new JSONTokener(((JSONString) value).toJSONString()).nextValue();
+        }
+        if (value instanceof JSONObject) {
+            JSONObject source = (JSONObject) value;
+            JSONObject copy = new JSONObject();
+            for (String name : source.keySet()) {
+                copy.put(name, copy(source.get(name)));
+            }
+            return copy;
+        }
+        if (value instanceof JSONArray) {
+            JSONArray source = (JSONArray) value;
+            JSONArray copy = new JSONArray();
+            for (int i = 0; i < source.length(); i++) {
+                copy.put(copy(source.get(i)));
+            }
+            return copy;
+        }
+        return value;
+    }
+
+    private static boolean jsonEquals(final Object a, final Object b) {
+        if (a instanceof JSONObject) {
+            return b instanceof JSONObject && ((JSONObject) a).similar(b);
+        }
+        if (a instanceof JSONArray) {
+            return b instanceof JSONArray && ((JSONArray) a).similar(b);
+        }
+        if (a instanceof Number && b instanceof Number) {
+            return new BigDecimal(a.toString()).compareTo(new BigDecimal(b.toString())) == 0;
+        }
+        return a.equals(b);
+    }
+}
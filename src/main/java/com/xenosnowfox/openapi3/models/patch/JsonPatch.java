@@ -0,0 +1,127 @@
+package com.xenosnowfox.openapi3.models.patch;
+
+import org.json.JSONArray;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Immutable sequence of operations describing the changes between two JSON documents.
+ *
+ * @since
+ *      1.0.0
+ * @see
+ *      <a href="https://tools.ietf.org/html/rfc6902">https://tools.ietf.org/html/rfc6902</a>
+ */
+public final class JsonPatch implements Iterable<PatchOperation> {
+
+    private final List<PatchOperation> operations;
+
+    /**
+     * Instantiates a patch consisting of the given operations
+     *
+     * @param operations
+     *      Operations to apply, in order
+     * @since
+     *      1.0.0
+     */
+    public JsonPatch(final List<PatchOperation> operations) {
+        this.operations = Collections.unmodifiableList(new ArrayList<>(operations));
+    }
+
+    /**
+     * Parses a patch from its JSON representation
+     *
+     * @param json
+     *      JSON array of operations
+     * @return
+     *      JSON Patch
+     * @since
+     *      1.0.0
+     */
+    public static JsonPatch parse(final String json) {
+        return fromJsonArray(new JSONArray(json));
+    }
+
+    /**
+     * Creates a patch from its JSON Array representation
+     *
+     * @param jsonArray
+     *      JSON array of operations
+     * @return
+     *      JSON Patch
+     * @since
+     *      1.0.0
+     */
+    public static JsonPatch fromJsonArray(final JSONArray jsonArray) {
+        List<PatchOperation> operations = new ArrayList<>(jsonArray.length());
+        for (int i = 0; i < jsonArray.length(); i++) {
+            operations.add(PatchOperation.fromJsonObject(jsonArray.getJSONObject(i)));
+        }
+        return new JsonPatch(operations);
+    }
+
+    /**
+     * Obtains the operations of the patch
+     *
+     * @return
+     *      Unmodifiable list of operations
+     * @since
+     *      1.0.0
+     */
+    public List<PatchOperation> getOperations() {
+        return this.operations;
+    }
+
+    /**
+     * Determines whether the patch has no operations, i.e. both documents were identical
+     *
+     * @return
+     *      true if the patch is empty
+     * @since
+     *      1.0.0
+     */
+    public boolean isEmpty() {
+        return this.operations.isEmpty();
+    }
+
+    /**
+     * Obtains the number of operations in the patch
+     *
+     * @return
+     *      Number of operations
+     * @since
+     *      1.0.0
+     */
+    public int size() {
+        return this.operations.size();
+    }
+
+    @Override
+    public Iterator<PatchOperation> iterator() {
+        return this.operations.iterator();
+    }
+
+    /**
+     * Obtains the JSON Array representation of the patch
+     *
+     * @return
+     *      JSON Array of operations
+     * @since
+     *      1.0.0
+     */
+    public JSONArray toJsonArray() {
+        JSONArray jsonArray = new JSONArray();
+        for (PatchOperation operation : this.operations) {
+            jsonArray.put(operation.toJsonObject());
+        }
+        return jsonArray;
+    }
+
+    @Override
+    public String toString() {
+        return this.toJsonArray().toString();
+    }
+}
@@ -0,0 +1,284 @@
+package com.xenosnowfox.openapi3.models.patch;
+
+import com.xenosnowfox.openapi3.models.util.Jsonable;
+import org.json.JSONObject;
+
+/**
+ * A single operation of a {@link JsonPatch}. Values are represented the same way as in a {@link JSONObject}, so they
+ * are either a string, a JSON Object or null.
+ *
+ * @since
+ *      1.0.0
+ * @see
+ *      <a href="https://tools.ietf.org/html/rfc6902#section-4">https://tools.ietf.org/html/rfc6902#section-4</a>
+ */
+public final class PatchOperation implements Jsonable {
+
+    /**
+     * Kinds of operation defined by RFC 6902
+     *
+     * @since
+     *      1.0.0
+     */
+    public enum Type {
+        ADD("add"),
+        REMOVE("remove"),
+        REPLACE("replace"),
+        MOVE("move"),
+        COPY("copy"),
+        TEST("test");
+
+        private final String name;
+
+        Type(final String name) {
+            this.name = name;
+        }
+
+        /**
+         * Obtains the name of the operation as it appears in the {@code op} member
+         *
+         * @return
+         *      Operation name
+         * @since
+         *      1.0.0
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * Obtains the type with the given operation name
+         *
+         * @param name
+         *      Operation name
+         * @return
+         *      Operation type
+         * @throws IllegalArgumentException
+         *      if the name is not a known operation
+         * @since
+         *      1.0.0
+         */
+        public static Type forName(final String name) {
+            for (Type type : Type.values()) {
+                if (type.name.equals(name)) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Unknown patch operation: " + name);
+        }
+
+        boolean hasFrom() {
+            return this == MOVE || this == COPY;
+        }
+
+        boolean hasValue() {
+            return this == ADD || this == REPLACE || this == TEST;
+        }
+    }
+
+    private final Type type;
+    private final String path;
+    private final String from;
+    private final Object value;
+
+    private PatchOperation(final Type type, final String path, final String from, final Object value) {
+        if (path == null) {
+            throw new NullPointerException("Path has not been defined");
+        }
+        if (type.hasFrom() && from == null) {
+            throw new NullPointerException("From has not been defined");
+        }
+        this.type = type;
+        this.path = path;
+        this.from = from;
+        this.value = value;
+    }
+
+    /**
+     * Creates an operation that adds a member, replacing it if it already exists
+     *
+     * @param path
+     *      JSON Pointer to the member
+     * @param value
+     *      Value to add
+     * @return
+     *      Add operation
+     * @since
+     *      1.0.0
+     */
+    public static PatchOperation add(final String path, final Object value) {
+        return new PatchOperation(Type.ADD, path, null, value);
+    }
+
+    /**
+     * Creates an operation that removes an existing member
+     *
+     * @param path
+     *      JSON Pointer to the member
+     * @return
+     *      Remove operation
+     * @since
+     *      1.0.0
+     */
+    public static PatchOperation remove(final String path) {
+        return new PatchOperation(Type.REMOVE, path, null, null);
+    }
+
+    /**
+     * Creates an operation that replaces the value of an existing member
+     *
+     * @param path
+     *      JSON Pointer to the member
+     * @param value
+     *      Replacement value
+     * @return
+     *      Replace operation
+     * @since
+     *      1.0.0
+     */
+    public static PatchOperation replace(final String path, final Object value) {
+        return new PatchOperation(Type.REPLACE, path, null, value);
+    }
+
+    /**
+     * Creates an operation that moves the value of an existing member to another location
+     *
+     * @param from
+     *      JSON Pointer to the member to move
+     * @param path
+     *      JSON Pointer to the destination
+     * @return
+     *      Move operation
+     * @since
+     *      1.0.0
+     */
+    public static PatchOperation move(final String from, final String path) {
+        return new PatchOperation(Type.MOVE, path, from, null);
+    }
+
+    /**
+     * Creates an operation that copies the value of an existing member to another location
+     *
+     * @param from
+     *      JSON Pointer to the member to copy
+     * @param path
+     *      JSON Pointer to the destination
+     * @return
+     *      Copy operation
+     * @since
+     *      1.0.0
+     */
+    public static PatchOperation copy(final String from, final String path) {
+        return new PatchOperation(Type.COPY, path, from, null);
+    }
+
+    /**
+     * Creates an operation that checks a member has the given value
+     *
+     * @param path
+     *      JSON Pointer to the member
+     * @param value
+     *      Expected value
+     * @return
+     *      Test operation
+     * @since
+     *      1.0.0
+     */
+    public static PatchOperation test(final String path, final Object value) {
+        return new PatchOperation(Type.TEST, path, null, value);
+    }
+
+    /**
+     * Creates an operation from its JSON Object representation
+     *
+     * @param jsonObject
+     *      JSON Object with an {@code op} and {@code path} member, and a {@code from} or {@code value} member depending on the operation
+     * @return
+     *      Patch operation
+     * @since
+     *      1.0.0
+     */
+    public static PatchOperation fromJsonObject(final JSONObject jsonObject) {
+        if (!jsonObject.has("op")) {
+            throw new NullPointerException("Op has not been defined");
+        }
+        Type type = Type.forName(jsonObject.getString("op"));
+        if (type.hasValue() && !jsonObject.has("value")) {
+            throw new NullPointerException("Value has not been defined");
+        }
+
+        Object value = jsonObject.opt("value");
+        return new PatchOperation(
+                type,
+                jsonObject.optString("path", null),
+                jsonObject.optString("from", null),
+                JSONObject.NULL.equals(value) ? null : value);
+    }
+
+    /**
+     * Obtains the kind of operation
+     *
+     * @return
+     *      Operation type
+     * @since
+     *      1.0.0
+     */
+    public Type getType() {
+        return this.type;
+    }
+
+    /**
+     * Obtains the JSON Pointer to the member the operation applies to
+     *
+     * @return
+     *      Target location
+     * @since
+     *      1.0.0
+     */
+    public String getPath() {
+        return this.path;
+    }
+
+    /**
+     * Obtains the JSON Pointer to the member a move or copy operation reads from
+     *
+     * @return
+     *      Source location, or null for other operations
+     * @since
+     *      1.0.0
+     */
+    public String getFrom() {
+        return this.from;
+    }
+
+    /**
+     * Obtains the value of an add, replace or test operation
+     *
+     * @return
+     *      A string, a JSON Object, or null
+     * @since
+     *      1.0.0
+     */
+    public Object getValue() {
+        return this.value;
+    }
+
+    @Override
+    public JSONObject toJsonObject() {
+        JSONObject jsonObject = new JSONObject();
+        jsonObject.put("op", this.type.getName());
+        jsonObject.put("path", this.path);
+        if (this.type.hasFrom()) {
+            jsonObject.put("from", this.from);
+        }
+        if (this.type.hasValue()) {
+            jsonObject.put("value", this.value == null ? JSONObject.NULL : this.value);
+        }
+        return jsonObject;
+    }
+
+    @Override
+    public String toString() {
+        return this.toJsonObject().toString();
+    }
+}
@@ -0,0 +1,133 @@
+package com.xenosnowfox.openapi3.models.paths;
+
+import com.xenosnowfox.openapi3.models.util.ContentHash;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Immutable snapshot of an {@link Operation}, with a precomputed hash code and JSON representation
+ *
+ * @since
+ *      1.0.0
+ */
+final class FrozenOperation implements Operation {
+
+    private final String operationId;
+    private final String summary;
+    private final String description;
+    private final boolean deprecated;
+    private final String json;
+    private final int hashCode;
+
+    // computed on first use; racy publication is safe as content hashes are immutable
+    private ContentHash contentHash = null;
+
+    /**
+     * Instantiates a snapshot of the given operation
+     *
+     * @param operation
+     *      Operation to copy
+     */
+    FrozenOperation(final Operation operation) {
+        this.operationId = operation.getOperationId();
+        this.summary = operation.getSummary();
+        this.description = operation.getDescription();
+        this.deprecated = operation.isDeprecated();
+
+        StringBuilder builder = new StringBuilder();
+        try {
+            Operation.super.writeJson(new JsonWriter(builder));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        this.json = builder.toString();
+        this.hashCode = this.json.hashCode();
+    }
+
+    @Override
+    public String getOperationId() {
+        return this.operationId;
+    }
+
+    @Override
+    public void setOperationId(final String operationId) {
+        throw new UnsupportedOperationException("Frozen operation cannot be modified");
+    }
+
+    @Override
+    public String getSummary() {
+        return this.summary;
+    }
+
+    @Override
+    public void setSummary(final String summary) {
+        throw new UnsupportedOperationException("Frozen operation cannot be modified");
+    }
+
+    @Override
+    public String getDescription() {
+        return this.description;
+    }
+
+    @Override
+    public void setDescription(final String description) {
+        throw new UnsupportedOperationException("Frozen operation cannot be modified");
+    }
+
+    @Override
+    public boolean isDeprecated() {
+        return this.deprecated;
+    }
+
+    @Override
+    public void setDeprecated(final boolean deprecated) {
+        throw new UnsupportedOperationException("Frozen operation cannot be modified");
+    }
+
+    @Override
+    public Operation freeze() {
+        return this;
+    }
+
+    @Override
+    public void writeJson(final JsonWriter writer) throws IOException {
+        if (writer.isRawJsonSupported()) {
+            writer.rawValue(this.json);
+        } else {
+            Operation.super.writeJson(writer);
+        }
+    }
+
+    @Override
+    public ContentHash contentHash() {
+        ContentHash contentHash = this.contentHash;
+        if (contentHash == null) {
+            contentHash = Operation.super.contentHash();
+            this.contentHash = contentHash;
+        }
+        return contentHash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof FrozenOperation)) {
+            return false;
+        }
+        FrozenOperation other = (FrozenOperation) obj;
+        return this.hashCode == other.hashCode && this.json.equals(other.json);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return this.json;
+    }
+}
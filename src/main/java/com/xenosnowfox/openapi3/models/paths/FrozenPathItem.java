@@ -0,0 +1,140 @@
+package com.xenosnowfox.openapi3.models.paths;
+
+import com.xenosnowfox.openapi3.models.util.ContentHash;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of a {@link PathItem} and its operations, with a precomputed hash code and JSON representation
+ *
+ * @since
+ *      1.0.0
+ */
+final class FrozenPathItem implements PathItem {
+
+    private final String summary;
+    private final String description;
+    private final Operation[] operations = new Operation[HttpMethod.values().length];
+    private final Map<HttpMethod, Operation> operationMap;
+    private final String json;
+    private final int hashCode;
+
+    // computed on first use; racy publication is safe as content hashes are immutable
+    private ContentHash contentHash = null;
+
+    /**
+     * Instantiates a snapshot of the given path item, freezing its operations
+     *
+     * @param pathItem
+     *      Path item to copy
+     */
+    FrozenPathItem(final PathItem pathItem) {
+        this.summary = pathItem.getSummary();
+        this.description = pathItem.getDescription();
+
+        Map<HttpMethod, Operation> operationMap = new EnumMap<>(HttpMethod.class);
+        for (HttpMethod method : HttpMethod.values()) {
+            Operation operation = pathItem.getOperation(method);
+            if (operation != null) {
+                operation = operation.freeze();
+                this.operations[method.ordinal()] = operation;
+                operationMap.put(method, operation);
+            }
+        }
+        this.operationMap = Collections.unmodifiableMap(operationMap);
+
+        StringBuilder builder = new StringBuilder();
+        try {
+            PathItem.super.writeJson(new JsonWriter(builder));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        this.json = builder.toString();
+        this.hashCode = this.json.hashCode();
+    }
+
+    @Override
+    public String getSummary() {
+        return this.summary;
+    }
+
+    @Override
+    public void setSummary(final String summary) {
+        throw new UnsupportedOperationException("Frozen path item cannot be modified");
+    }
+
+    @Override
+    public String getDescription() {
+        return this.description;
+    }
+
+    @Override
+    public void setDescription(final String description) {
+        throw new UnsupportedOperationException("Frozen path item cannot be modified");
+    }
+
+    @Override
+    public Operation getOperation(final HttpMethod method) {
+        return this.operations[method.ordinal()];
+    }
+
+    @Override
+    public void setOperation(final HttpMethod method, final Operation operation) {
+        throw new UnsupportedOperationException("Frozen path item cannot be modified");
+    }
+
+    @Override
+    public Map<HttpMethod, Operation> getOperations() {
+        return this.operationMap;
+    }
+
+    @Override
+    public PathItem freeze() {
+        return this;
+    }
+
+    @Override
+    public void writeJson(final JsonWriter writer) throws IOException {
+        if (writer.isRawJsonSupported()) {
+            writer.rawValue(this.json);
+        } else {
+            PathItem.super.writeJson(writer);
+        }
+    }
+
+    @Override
+    public ContentHash contentHash() {
+        ContentHash contentHash = this.contentHash;
+        if (contentHash == null) {
+            contentHash = PathItem.super.contentHash();
+            this.contentHash = contentHash;
+        }
+        return contentHash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof FrozenPathItem)) {
+            return false;
+        }
+        FrozenPathItem other = (FrozenPathItem) obj;
+        return this.hashCode == other.hashCode && this.json.equals(other.json);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return this.json;
+    }
+}
@@ -0,0 +1,116 @@
+package com.xenosnowfox.openapi3.models.paths;
+
+import com.xenosnowfox.openapi3.models.util.ContentHash;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of a {@link Paths} object and its path items, with a precomputed hash code and JSON representation.
+ * The index is compiled on first use, so that malformed path templates do not prevent a snapshot from being taken.
+ *
+ * @since
+ *      1.0.0
+ */
+final class FrozenPaths implements Paths {
+
+    private final Map<String, PathItem> pathItems;
+    private final String json;
+    private final int hashCode;
+
+    // computed on first use; racy publication is safe as indexes and content hashes are immutable
+    private PathIndex index = null;
+    private ContentHash contentHash = null;
+
+    /**
+     * Instantiates a snapshot of the given paths, freezing each path item
+     *
+     * @param paths
+     *      Paths to copy
+     */
+    FrozenPaths(final Paths paths) {
+        Map<String, PathItem> pathItems = new LinkedHashMap<>();
+        for (Map.Entry<String, PathItem> entry : paths.getPathItems().entrySet()) {
+            pathItems.put(entry.getKey(), entry.getValue().freeze());
+        }
+        this.pathItems = Collections.unmodifiableMap(pathItems);
+
+        StringBuilder builder = new StringBuilder();
+        try {
+            Paths.super.writeJson(new JsonWriter(builder));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        this.json = builder.toString();
+        this.hashCode = this.json.hashCode();
+    }
+
+    @Override
+    public Map<String, PathItem> getPathItems() {
+        return this.pathItems;
+    }
+
+    @Override
+    public void setPathItem(final String path, final PathItem pathItem) {
+        throw new UnsupportedOperationException("Frozen paths cannot be modified");
+    }
+
+    @Override
+    public PathIndex getIndex() {
+        PathIndex index = this.index;
+        if (index == null) {
+            index = PathIndex.compile(this);
+            this.index = index;
+        }
+        return index;
+    }
+
+    @Override
+    public Paths freeze() {
+        return this;
+    }
+
+    @Override
+    public void writeJson(final JsonWriter writer) throws IOException {
+        if (writer.isRawJsonSupported()) {
+            writer.rawValue(this.json);
+        } else {
+            Paths.super.writeJson(writer);
+        }
+    }
+
+    @Override
+    public ContentHash contentHash() {
+        ContentHash contentHash = this.contentHash;
+        if (contentHash == null) {
+            contentHash = Paths.super.contentHash();
+            this.contentHash = contentHash;
+        }
+        return contentHash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof FrozenPaths)) {
+            return false;
+        }
+        FrozenPaths other = (FrozenPaths) obj;
+        return this.hashCode == other.hashCode && this.json.equals(other.json);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return this.json;
+    }
+}
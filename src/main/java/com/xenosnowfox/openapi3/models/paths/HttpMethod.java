@@ -0,0 +1,60 @@
+package com.xenosnowfox.openapi3.models.paths;
+
+/**
+ * HTTP methods that a {@link PathItem} can define an operation for
+ *
+ * @since
+ *      1.0.0
+ */
+public enum HttpMethod {
+    GET("get"),
+    PUT("put"),
+    POST("post"),
+    DELETE("delete"),
+    OPTIONS("options"),
+    HEAD("head"),
+    PATCH("patch"),
+    TRACE("trace");
+
+    // values() returns a new array on every call
+    private static final HttpMethod[] METHODS = values();
+
+    private final String name;
+
+    HttpMethod(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Obtains the name of the field that holds the operation within a path item
+     *
+     * @return
+     *      Lower case method name
+     * @since
+     *      1.0.0
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Looks up a method by name, ignoring case, without allocating
+     *
+     * @param name
+     *      Method name, e.g. {@code GET} or {@code get}
+     * @return
+     *      Method, or null if the name is not one of the methods supported by path items
+     * @since
+     *      1.0.0
+     */
+    public static HttpMethod of(final String name) {
+        if (name != null) {
+            for (HttpMethod method : METHODS) {
+                if (method.name.equalsIgnoreCase(name)) {
+                    return method;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.xenosnowfox.openapi3.models.paths;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Determines the order in which {@link org.json.JSONObject#toString()} writes a set of member names.
+ *
+ * @since
+ *      1.0.0
+ */
+final class JsonKeyOrder {
+
+    private JsonKeyOrder() {
+    }
+
+    /**
+     * Obtains the given member names in the order that a {@link org.json.JSONObject} would write them, if they were put in
+     * iteration order. JSONObject is backed by a default sized {@link HashMap}, so inserting the names one at a time into
+     * an identical map reproduces its bucket layout, including the order of colliding names.
+     *
+     * @param names
+     *      Member names, in insertion order
+     * @return
+     *      Member names, in output order
+     */
+    static String[] of(final Collection<String> names) {
+        Map<String, Boolean> order = new HashMap<>();
+        for (String name : names) {
+            order.put(name, Boolean.TRUE);
+        }
+        return order.keySet().toArray(new String[0]);
+    }
+}
@@ -0,0 +1,228 @@
+package com.xenosnowfox.openapi3.models.paths;
+
+import com.xenosnowfox.openapi3.models.metrics.SerializationMetrics;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
+import com.xenosnowfox.openapi3.models.util.Jsonable;
+import org.json.JSONObject;
+
+import java.io.IOException;
+
+/**
+ * Describes a single API operation on a path.
+ *
+ * @since
+ *      1.0.0
+ * @see
+ *      <a href="https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.2.md#operation-object">https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.2.md#operation-object</a>
+ */
+public interface Operation extends Jsonable {
+
+    /**
+     * Obtains the unique string used to identify the operation.
+     *
+     * @return
+     *      Operation identifier
+     * @since
+     *      1.0.0
+     */
+    String getOperationId();
+
+    /**
+     * Defines the unique string used to identify the operation. The id MUST be unique among all operations described in the API.
+     *
+     * @param operationId
+     *      Operation identifier
+     * @since
+     *      1.0.0
+     */
+    void setOperationId(final String operationId);
+
+    /**
+     * Shorthand version of {@link #getOperationId()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default String operationId() {
+        return this.getOperationId();
+    }
+
+    /**
+     * Shorthand version of {@link #setOperationId(String)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Operation operationId(final String operationId) {
+        this.setOperationId(operationId);
+        return this;
+    }
+
+    /**
+     * Obtains a short summary of what the operation does.
+     *
+     * @return
+     *      Summary
+     * @since
+     *      1.0.0
+     */
+    String getSummary();
+
+    /**
+     * Defines a short summary of what the operation does.
+     *
+     * @param summary
+     *      Summary
+     * @since
+     *      1.0.0
+     */
+    void setSummary(final String summary);
+
+    /**
+     * Shorthand version of {@link #getSummary()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default String summary() {
+        return this.getSummary();
+    }
+
+    /**
+     * Shorthand version of {@link #setSummary(String)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Operation summary(final String summary) {
+        this.setSummary(summary);
+        return this;
+    }
+
+    /**
+     * Obtains a verbose explanation of the operation behavior.
+     *
+     * @return
+     *      Description
+     * @since
+     *      1.0.0
+     */
+    String getDescription();
+
+    /**
+     * Defines a verbose explanation of the operation behavior. <a href="http://spec.commonmark.org/">CommonMark syntax</a> MAY be used for rich text representation.
+     *
+     * @param description
+     *      Description
+     * @since
+     *      1.0.0
+     */
+    void setDescription(final String description);
+
+    /**
+     * Shorthand version of {@link #getDescription()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default String description() {
+        return this.getDescription();
+    }
+
+    /**
+     * Shorthand version of {@link #setDescription(String)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Operation description(final String description) {
+        this.setDescription(description);
+        return this;
+    }
+
+    /**
+     * Determines whether the operation is deprecated.
+     *
+     * @return
+     *      true if consumers should refrain from using the operation
+     * @since
+     *      1.0.0
+     */
+    boolean isDeprecated();
+
+    /**
+     * Declares the operation to be deprecated. Consumers SHOULD refrain from usage of the declared operation.
+     *
+     * @param deprecated
+     *      true if the operation is deprecated
+     * @since
+     *      1.0.0
+     */
+    void setDeprecated(final boolean deprecated);
+
+    /**
+     * Shorthand version of {@link #isDeprecated()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default boolean deprecated() {
+        return this.isDeprecated();
+    }
+
+    /**
+     * Shorthand version of {@link #setDeprecated(boolean)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Operation deprecated(final boolean deprecated) {
+        this.setDeprecated(deprecated);
+        return this;
+    }
+
+    /**
+     * Obtains an immutable snapshot of the operation, which can be shared between threads without synchronization.
+     * The snapshot has a precomputed hash code and JSON representation, and its setters throw an {@link UnsupportedOperationException}.
+     *
+     * @return
+     *      Immutable operation
+     * @since
+     *      1.0.0
+     */
+    default Operation freeze() {
+        return new FrozenOperation(this);
+    }
+
+    @Override
+    default JSONObject toJsonObject() {
+        long start = SerializationMetrics.start();
+        JSONObject jsonObject = new JSONObject();
+
+        // add identifier, summary and description
+        jsonObject.putOpt("operationId", this.getOperationId());
+        jsonObject.putOpt("summary", this.getSummary());
+        jsonObject.putOpt("description", this.getDescription());
+
+        // deprecated is only written when set, as it defaults to false
+        if (this.isDeprecated()) {
+            jsonObject.put("deprecated", true);
+        }
+
+        SerializationMetrics.converted(this, start);
+        return jsonObject;
+    }
+
+    @Override
+    default void writeJson(final JsonWriter writer) throws IOException {
+        // members are written in the same order as JSONObject#toString()
+        writer.beginObject();
+        writer.optionalMember("summary", this.getSummary());
+        if (this.isDeprecated()) {
+            writer.name("deprecated").value(true);
+        }
+        writer.optionalMember("operationId", this.getOperationId());
+        writer.optionalMember("description", this.getDescription());
+        writer.endObject();
+    }
+}
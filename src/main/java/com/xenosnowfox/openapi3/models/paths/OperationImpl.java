@@ -0,0 +1,95 @@
+package com.xenosnowfox.openapi3.models.paths;
+
+import com.xenosnowfox.openapi3.models.util.ChangeListeners;
+import com.xenosnowfox.openapi3.models.util.Invokable;
+import com.xenosnowfox.openapi3.models.util.Trackable;
+
+/**
+ * Basic implementation of the {@link Operation} interface
+ *
+ * @since
+ *      1.0.0
+ */
+public class OperationImpl implements Operation, Trackable {
+
+    private String operationId = null;
+    private String summary = null;
+    private String description = null;
+    private boolean deprecated = false;
+    private final ChangeListeners listeners = new ChangeListeners();
+
+    /**
+     * Instantiates an operation without any details
+     *
+     * @since
+     *      1.0.0
+     */
+    public OperationImpl() {
+    }
+
+    /**
+     * Instantiates an operation with the given identifier
+     *
+     * @param operationId
+     *      Operation identifier
+     * @since
+     *      1.0.0
+     */
+    public OperationImpl(final String operationId) {
+        this.setOperationId(operationId);
+    }
+
+    @Override
+    public String getOperationId() {
+        return this.operationId;
+    }
+
+    @Override
+    public void setOperationId(final String operationId) {
+        this.operationId = operationId;
+        this.listeners.fire(this);
+    }
+
+    @Override
+    public String getSummary() {
+        return this.summary;
+    }
+
+    @Override
+    public void setSummary(final String summary) {
+        this.summary = summary;
+        this.listeners.fire(this);
+    }
+
+    @Override
+    public String getDescription() {
+        return this.description;
+    }
+
+    @Override
+    public void setDescription(final String description) {
+        this.description = description;
+        this.listeners.fire(this);
+    }
+
+    @Override
+    public boolean isDeprecated() {
+        return this.deprecated;
+    }
+
+    @Override
+    public void setDeprecated(final boolean deprecated) {
+        this.deprecated = deprecated;
+        this.listeners.fire(this);
+    }
+
+    @Override
+    public void addChangeListener(final Invokable<Trackable> listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(final Invokable<Trackable> listener) {
+        this.listeners.remove(listener);
+    }
+}
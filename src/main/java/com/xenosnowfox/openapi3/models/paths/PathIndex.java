@@ -0,0 +1,557 @@
+package com.xenosnowfox.openapi3.models.paths;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable index that matches request paths against the path templates of a {@link Paths} object, without allocating.
+ * <p>
+ * Templates are compiled into a tree with one level per path segment. At each level a segment is matched against, in order of
+ * precedence, literal segments such as {@code users}, segments mixing literals and parameters such as {@code {id}.json}, and
+ * segments consisting of a single parameter such as {@code {id}}. Should the more specific branch not lead to a match, the
+ * next one is tried, so {@code /users/me} is matched before {@code /users/{id}} regardless of the order in which they were defined.
+ * Each node of the tree sits at a fixed segment depth and is only reachable from its parent, so a match visits every node
+ * at most once, however much it backtracks; branches whose templates are all shorter or longer than the request path
+ * are not entered at all.
+ * <p>
+ * As per the specification, request paths are matched first and methods second: a request whose path matches a template
+ * that does not support the method does not fall back to a less specific template. Paths are compared as-is, without
+ * percent-decoding, a query string or fragment is ignored, and a trailing slash is significant. Parameters never match an
+ * empty string or span more than one segment.
+ * <p>
+ * Path items are held by reference, so changes to the operations of a path item are visible to an existing index.
+ *
+ * @since
+ *      1.0.0
+ */
+public final class PathIndex {
+
+    // recently compiled indexes of paths that do not cache their own, see cached(Paths)
+    private static final Cached[] CACHE = new Cached[64];
+
+    private final Node root;
+    private final int size;
+
+    // the indexed templates and path items, in the order they were defined
+    private final String[] paths;
+    private final PathItem[] pathItems;
+
+    private PathIndex(final Node root, final String[] paths, final PathItem[] pathItems) {
+        this.root = root;
+        this.size = paths.length;
+        this.paths = paths;
+        this.pathItems = pathItems;
+    }
+
+    /**
+     * Compiles an index of the path templates of the given paths object
+     *
+     * @param paths
+     *      Paths to index
+     * @return
+     *      Path index
+     * @throws IllegalArgumentException
+     *      if a path template is malformed, or two templates are equivalent
+     * @since
+     *      1.0.0
+     */
+    public static PathIndex compile(final Paths paths) {
+        if (paths == null) {
+            throw new NullPointerException("Paths cannot be null");
+        }
+
+        Builder root = new Builder();
+        Map<String, PathItem> pathItems = paths.getPathItems();
+        String[] keys = new String[pathItems.size()];
+        PathItem[] values = new PathItem[keys.length];
+        int i = 0;
+        for (Map.Entry<String, PathItem> entry : pathItems.entrySet()) {
+            root.add(entry.getKey(), entry.getValue());
+            keys[i] = entry.getKey();
+            values[i] = entry.getValue();
+            i++;
+        }
+        return new PathIndex(root.build(), keys, values);
+    }
+
+    /**
+     * Obtains an index of the path templates of the given paths object from a small cache shared by all paths objects,
+     * compiling it if it is not cached. A cached index is only returned if the paths object still holds the same path items
+     * under the same templates, which is checked on every call without allocating. This is used by {@link Paths#getIndex()}
+     * for implementations that do not cache an index themselves.
+     *
+     * @param paths
+     *      Paths to index
+     * @return
+     *      Path index
+     * @throws IllegalArgumentException
+     *      if a path template is malformed, or two templates are equivalent
+     * @since
+     *      1.0.0
+     */
+    public static PathIndex cached(final Paths paths) {
+        if (paths == null) {
+            throw new NullPointerException("Paths cannot be null");
+        }
+
+        // entries are immutable, so they can be published and replaced without synchronization
+        int slot = System.identityHashCode(paths) & (CACHE.length - 1);
+        Cached cached = CACHE[slot];
+        if (cached != null && cached.paths.get() == paths && cached.index.isCurrent(paths)) {
+            return cached.index;
+        }
+        PathIndex index = compile(paths);
+        CACHE[slot] = new Cached(paths, index);
+        return index;
+    }
+
+    /**
+     * Determines whether the given paths object holds exactly the indexed path items under the indexed templates
+     */
+    private boolean isCurrent(final Paths paths) {
+        if (paths.getPathItems().size() != this.size) {
+            return false;
+        }
+        for (int i = 0; i < this.size; i++) {
+            if (paths.getPathItem(this.paths[i]) != this.pathItems[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Obtains the number of indexed path templates
+     *
+     * @return
+     *      Number of templates
+     * @since
+     *      1.0.0
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Finds the path item whose template matches the given request path
+     *
+     * @param path
+     *      Request path, e.g. {@code /users/42?expand=true}
+     * @return
+     *      Matching path item, or null if no template matches
+     * @since
+     *      1.0.0
+     */
+    public PathItem match(final String path) {
+        if (path == null || path.isEmpty() || path.charAt(0) != '/') {
+            return null;
+        }
+
+        // ignore the query string and fragment
+        int end = path.length();
+        int segments = 1;
+        for (int i = 1; i < end; i++) {
+            char c = path.charAt(i);
+            if (c == '?' || c == '#') {
+                end = i;
+                break;
+            }
+            if (c == '/') {
+                segments++;
+            }
+        }
+        return this.root.resolve(path, 0, end, segments);
+    }
+
+    /**
+     * Finds the operation that serves the given request
+     *
+     * @param method
+     *      HTTP method
+     * @param path
+     *      Request path, e.g. {@code /users/42?expand=true}
+     * @return
+     *      Matching operation, or null if no template matches or the matching path item does not support the method
+     * @since
+     *      1.0.0
+     */
+    public Operation match(final HttpMethod method, final String path) {
+        if (method == null) {
+            return null;
+        }
+        PathItem pathItem = this.match(path);
+        return pathItem == null ? null : pathItem.getOperation(method);
+    }
+
+    /**
+     * Finds the operation that serves the given request
+     *
+     * @param method
+     *      HTTP method name, in any case
+     * @param path
+     *      Request path, e.g. {@code /users/42?expand=true}
+     * @return
+     *      Matching operation, or null if the method is unknown, no template matches, or the matching path item does not support the method
+     * @since
+     *      1.0.0
+     */
+    public Operation match(final String method, final String path) {
+        return this.match(HttpMethod.of(method), path);
+    }
+
+    /**
+     * Matches the segment starting at the given index against the children of the given node
+     *
+     * @param remaining
+     *      Number of segments from the given index to the end of the path, including the segment itself
+     */
+    private static PathItem match(final Node node, final String path, final int start, final int end, final int remaining) {
+        int segmentEnd = path.indexOf('/', start);
+        if (segmentEnd < 0 || segmentEnd > end) {
+            segmentEnd = end;
+        }
+
+        // literal segments take precedence over templated segments
+        Node child = node.literal(path, start, segmentEnd);
+        if (child != null) {
+            PathItem pathItem = child.resolve(path, segmentEnd, end, remaining - 1);
+            if (pathItem != null) {
+                return pathItem;
+            }
+        }
+
+        for (int i = 0; i < node.templates.length; i++) {
+            if (node.templateChildren[i].accepts(remaining - 1) && node.templates[i].matches(path, start, segmentEnd)) {
+                PathItem pathItem = node.templateChildren[i].resolve(path, segmentEnd, end, remaining - 1);
+                if (pathItem != null) {
+                    return pathItem;
+                }
+            }
+        }
+
+        if (node.parameter != null && segmentEnd > start) {
+            return node.parameter.resolve(path, segmentEnd, end, remaining - 1);
+        }
+        return null;
+    }
+
+    /**
+     * Compiled level of the index
+     */
+    private static final class Node {
+
+        private static final String[] NO_KEYS = new String[0];
+        private static final Node[] NO_NODES = new Node[0];
+        private static final Template[] NO_TEMPLATES = new Template[0];
+
+        // open addressing table of literal segments, with a power of two length
+        private final String[] keys;
+        private final Node[] values;
+        private final Template[] templates;
+        private final Node[] templateChildren;
+        private final Node parameter;
+        private final PathItem pathItem;
+
+        // the fewest and most segments that follow this node in any indexed template
+        private final int minSegments;
+        private final int maxSegments;
+
+        private Node(final String[] keys, final Node[] values, final Template[] templates, final Node[] templateChildren,
+                     final Node parameter, final PathItem pathItem) {
+            this.keys = keys;
+            this.values = values;
+            this.templates = templates;
+            this.templateChildren = templateChildren;
+            this.parameter = parameter;
+            this.pathItem = pathItem;
+
+            int minSegments = pathItem == null ? Integer.MAX_VALUE : 0;
+            int maxSegments = 0;
+            for (Node child : values) {
+                if (child != null) {
+                    minSegments = Math.min(minSegments, child.minSegments + 1);
+                    maxSegments = Math.max(maxSegments, child.maxSegments + 1);
+                }
+            }
+            for (Node child : templateChildren) {
+                minSegments = Math.min(minSegments, child.minSegments + 1);
+                maxSegments = Math.max(maxSegments, child.maxSegments + 1);
+            }
+            if (parameter != null) {
+                minSegments = Math.min(minSegments, parameter.minSegments + 1);
+                maxSegments = Math.max(maxSegments, parameter.maxSegments + 1);
+            }
+            this.minSegments = minSegments;
+            this.maxSegments = maxSegments;
+        }
+
+        /**
+         * Determines whether a template below this node has the given number of remaining segments
+         */
+        private boolean accepts(final int remaining) {
+            return remaining >= this.minSegments && remaining <= this.maxSegments;
+        }
+
+        /**
+         * Continues matching after the segment that led to this node, unless no template below it can match
+         *
+         * @param remaining
+         *      Number of segments that follow the segment that led to this node
+         */
+        private PathItem resolve(final String path, final int segmentEnd, final int end, final int remaining) {
+            if (!this.accepts(remaining)) {
+                return null;
+            }
+            return remaining == 0 ? this.pathItem : match(this, path, segmentEnd + 1, end, remaining);
+        }
+
+        /**
+         * Looks up the literal segment between the given indices, without creating a substring
+         */
+        private Node literal(final String path, final int start, final int end) {
+            if (this.keys.length == 0) {
+                return null;
+            }
+            int length = end - start;
+            int mask = this.keys.length - 1;
+            for (int i = spread(hash(path, start, end)) & mask; ; i = (i + 1) & mask) {
+                String key = this.keys[i];
+                if (key == null) {
+                    return null;
+                }
+                if (key.length() == length && key.regionMatches(0, path, start, length)) {
+                    return this.values[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Mutable level of the index, used while compiling
+     */
+    private static final class Builder {
+
+        private final Map<String, Builder> literals = new LinkedHashMap<>();
+        private final List<Template> templates = new ArrayList<>();
+        private final List<Builder> templateChildren = new ArrayList<>();
+        private Builder parameter = null;
+        private PathItem pathItem = null;
+        private String path = null;
+
+        private void add(final String path, final PathItem pathItem) {
+            if (path == null || path.isEmpty() || path.charAt(0) != '/') {
+                throw new IllegalArgumentException("Path must begin with a forward slash: " + path);
+            }
+
+            Builder builder = this;
+            int start = 1;
+            while (true) {
+                int end = path.indexOf('/', start);
+                if (end < 0) {
+                    end = path.length();
+                }
+                builder = builder.child(path, start, end);
+                if (end == path.length()) {
+                    break;
+                }
+                start = end + 1;
+            }
+
+            if (builder.path != null) {
+                throw new IllegalArgumentException("Path templates are equivalent: " + builder.path + " and " + path);
+            }
+            builder.path = path;
+            builder.pathItem = pathItem;
+        }
+
+        private Builder child(final String path, final int start, final int end) {
+            String segment = path.substring(start, end);
+            if (segment.indexOf('{') < 0 && segment.indexOf('}') < 0) {
+                return this.literals.computeIfAbsent(segment, key -> new Builder());
+            }
+
+            Template template = Template.parse(segment, path);
+            if (template == null) {
+                if (this.parameter == null) {
+                    this.parameter = new Builder();
+                }
+                return this.parameter;
+            }
+
+            int index = this.templates.indexOf(template);
+            if (index >= 0) {
+                return this.templateChildren.get(index);
+            }
+            Builder child = new Builder();
+            this.templates.add(template);
+            this.templateChildren.add(child);
+            return child;
+        }
+
+        private Node build() {
+            String[] keys = Node.NO_KEYS;
+            Node[] values = Node.NO_NODES;
+            if (!this.literals.isEmpty()) {
+                // keep the table at most half full, so that probe sequences stay short
+                int capacity = Integer.highestOneBit(this.literals.size() * 2 - 1) << 1;
+                keys = new String[capacity];
+                values = new Node[capacity];
+                for (Map.Entry<String, Builder> entry : this.literals.entrySet()) {
+                    String key = entry.getKey();
+                    int i = spread(key.hashCode()) & (capacity - 1);
+                    while (keys[i] != null) {
+                        i = (i + 1) & (capacity - 1);
+                    }
+                    keys[i] = key;
+                    values[i] = entry.getValue().build();
+                }
+            }
+
+            // the template with the most literal characters is the most specific; the sort is stable for equally specific templates
+            Template[] templates = Node.NO_TEMPLATES;
+            Node[] templateChildren = Node.NO_NODES;
+            if (!this.templates.isEmpty()) {
+                Integer[] order = new Integer[this.templates.size()];
+                for (int i = 0; i < order.length; i++) {
+                    order[i] = i;
+                }
+                Arrays.sort(order, (a, b) -> this.templates.get(b).literalLength - this.templates.get(a).literalLength);
+                templates = new Template[order.length];
+                templateChildren = new Node[order.length];
+                for (int i = 0; i < order.length; i++) {
+                    templates[i] = this.templates.get(order[i]);
+                    templateChildren[i] = this.templateChildren.get(order[i]).build();
+                }
+            }
+
+            return new Node(keys, values, templates, templateChildren,
+                    this.parameter == null ? null : this.parameter.build(), this.pathItem);
+        }
+    }
+
+    /**
+     * Index compiled for a paths object that does not cache its own
+     */
+    private static final class Cached {
+
+        private final WeakReference<Paths> paths;
+        private final PathIndex index;
+
+        private Cached(final Paths paths, final PathIndex index) {
+            this.paths = new WeakReference<>(paths);
+            this.index = index;
+        }
+    }
+
+    /**
+     * Segment that mixes literal text with parameters, such as {@code {id}.json} or {@code {name}-{version}}
+     */
+    private static final class Template {
+
+        // literal text before the first parameter, between each parameter, and after the last parameter
+        private final String[] literals;
+        private final int literalLength;
+
+        private Template(final String[] literals) {
+            this.literals = literals;
+            int literalLength = 0;
+            for (String literal : literals) {
+                literalLength += literal.length();
+            }
+            this.literalLength = literalLength;
+        }
+
+        /**
+         * Parses a templated segment
+         *
+         * @return
+         *      Template, or null if the segment consists of a single parameter
+         */
+        private static Template parse(final String segment, final String path) {
+            List<String> literals = new ArrayList<>();
+            int start = 0;
+            while (true) {
+                int open = segment.indexOf('{', start);
+                int close = segment.indexOf('}', start);
+                if (open < 0 && close < 0) {
+                    literals.add(segment.substring(start));
+                    break;
+                }
+                if (open < 0 || close < open || segment.indexOf('{', open + 1) >= 0 && segment.indexOf('{', open + 1) < close) {
+                    throw new IllegalArgumentException("Path template has unbalanced braces: " + path);
+                }
+                if (close == open + 1) {
+                    throw new IllegalArgumentException("Path template has an unnamed parameter: " + path);
+                }
+                if (open == start && !literals.isEmpty()) {
+                    throw new IllegalArgumentException("Path template has adjacent parameters: " + path);
+                }
+                literals.add(segment.substring(start, open));
+                start = close + 1;
+            }
+
+            if (literals.size() == 2 && literals.get(0).isEmpty() && literals.get(1).isEmpty()) {
+                return null;
+            }
+            return new Template(literals.toArray(new String[0]));
+        }
+
+        private boolean matches(final String path, final int start, final int end) {
+            String[] literals = this.literals;
+            int parameters = literals.length - 1;
+
+            // every parameter must match at least one character
+            if (end - start < this.literalLength + parameters) {
+                return false;
+            }
+
+            String prefix = literals[0];
+            String suffix = literals[parameters];
+            int limit = end - suffix.length();
+            if (!path.regionMatches(start, prefix, 0, prefix.length()) || !path.regionMatches(limit, suffix, 0, suffix.length())) {
+                return false;
+            }
+
+            // find each separating literal after at least one parameter character, leaving room for the remaining parameter
+            int position = start + prefix.length();
+            for (int i = 1; i < parameters; i++) {
+                String literal = literals[i];
+                int found = path.indexOf(literal, position + 1);
+                if (found < 0 || found + literal.length() >= limit) {
+                    return false;
+                }
+                position = found + literal.length();
+            }
+            return position < limit;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Template && Arrays.equals(this.literals, ((Template) obj).literals);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(this.literals);
+        }
+    }
+
+    /**
+     * Computes {@link String#hashCode()} of a region of the given string
+     */
+    private static int hash(final String string, final int start, final int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + string.charAt(i);
+        }
+        return hash;
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,208 @@
+package com.xenosnowfox.openapi3.models.paths;
+
+import com.xenosnowfox.openapi3.models.metrics.SerializationMetrics;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
+import com.xenosnowfox.openapi3.models.util.Jsonable;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Describes the operations available on a single path.
+ *
+ * @since
+ *      1.0.0
+ * @see
+ *      <a href="https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.2.md#path-item-object">https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.2.md#path-item-object</a>
+ */
+public interface PathItem extends Jsonable {
+
+    /**
+     * Obtains the summary intended to apply to all operations in this path.
+     *
+     * @return
+     *      Summary
+     * @since
+     *      1.0.0
+     */
+    String getSummary();
+
+    /**
+     * Defines a summary intended to apply to all operations in this path.
+     *
+     * @param summary
+     *      Summary
+     * @since
+     *      1.0.0
+     */
+    void setSummary(final String summary);
+
+    /**
+     * Shorthand version of {@link #getSummary()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default String summary() {
+        return this.getSummary();
+    }
+
+    /**
+     * Shorthand version of {@link #setSummary(String)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default PathItem summary(final String summary) {
+        this.setSummary(summary);
+        return this;
+    }
+
+    /**
+     * Obtains the description intended to apply to all operations in this path.
+     *
+     * @return
+     *      Description
+     * @since
+     *      1.0.0
+     */
+    String getDescription();
+
+    /**
+     * Defines a description intended to apply to all operations in this path. <a href="http://spec.commonmark.org/">CommonMark syntax</a> MAY be used for rich text representation.
+     *
+     * @param description
+     *      Description
+     * @since
+     *      1.0.0
+     */
+    void setDescription(final String description);
+
+    /**
+     * Shorthand version of {@link #getDescription()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default String description() {
+        return this.getDescription();
+    }
+
+    /**
+     * Shorthand version of {@link #setDescription(String)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default PathItem description(final String description) {
+        this.setDescription(description);
+        return this;
+    }
+
+    /**
+     * Obtains the operation for the given method. Implementations should not allocate, as this is used when routing requests.
+     *
+     * @param method
+     *      HTTP method
+     * @return
+     *      Operation, or null if none is defined for the method
+     * @since
+     *      1.0.0
+     */
+    Operation getOperation(final HttpMethod method);
+
+    /**
+     * Defines the operation for the given method
+     *
+     * @param method
+     *      HTTP method
+     * @param operation
+     *      Operation, or null to remove the operation
+     * @since
+     *      1.0.0
+     */
+    void setOperation(final HttpMethod method, final Operation operation);
+
+    /**
+     * Obtains every operation defined on this path
+     *
+     * @return
+     *      Unmodifiable map of operations, ordered by method
+     * @since
+     *      1.0.0
+     */
+    Map<HttpMethod, Operation> getOperations();
+
+    /**
+     * Shorthand version of {@link #getOperation(HttpMethod)}
+     *
+     * @since
+     *      1.0.0
+     */
+    default Operation operation(final HttpMethod method) {
+        return this.getOperation(method);
+    }
+
+    /**
+     * Shorthand version of {@link #setOperation(HttpMethod, Operation)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default PathItem operation(final HttpMethod method, final Operation operation) {
+        this.setOperation(method, operation);
+        return this;
+    }
+
+    /**
+     * Obtains an immutable snapshot of the path item and its operations, which can be shared between threads without synchronization.
+     * The snapshot has a precomputed hash code and JSON representation, and its setters throw an {@link UnsupportedOperationException}.
+     *
+     * @return
+     *      Immutable path item
+     * @since
+     *      1.0.0
+     */
+    default PathItem freeze() {
+        return new FrozenPathItem(this);
+    }
+
+    @Override
+    default JSONObject toJsonObject() {
+        long start = SerializationMetrics.start();
+        JSONObject jsonObject = new JSONObject();
+
+        // add summary and description
+        jsonObject.putOpt("summary", this.getSummary());
+        jsonObject.putOpt("description", this.getDescription());
+
+        // add operations
+        for (HttpMethod method : HttpMethod.values()) {
+            Operation operation = this.getOperation(method);
+            if (operation != null) {
+                jsonObject.put(method.getName(), operation.toJsonObject());
+            }
+        }
+
+        SerializationMetrics.converted(this, start);
+        return jsonObject;
+    }
+
+    @Override
+    default void writeJson(final JsonWriter writer) throws IOException {
+        // members are written in the same order as JSONObject#toString()
+        writer.beginObject();
+        writer.optionalMember("summary", this.getSummary());
+        writer.optionalMember("head", this.getOperation(HttpMethod.HEAD));
+        writer.optionalMember("patch", this.getOperation(HttpMethod.PATCH));
+        writer.optionalMember("trace", this.getOperation(HttpMethod.TRACE));
+        writer.optionalMember("post", this.getOperation(HttpMethod.POST));
+        writer.optionalMember("get", this.getOperation(HttpMethod.GET));
+        writer.optionalMember("options", this.getOperation(HttpMethod.OPTIONS));
+        writer.optionalMember("description", this.getDescription());
+        writer.optionalMember("delete", this.getOperation(HttpMethod.DELETE));
+        writer.optionalMember("put", this.getOperation(HttpMethod.PUT));
+        writer.endObject();
+    }
+}
@@ -0,0 +1,101 @@
+package com.xenosnowfox.openapi3.models.paths;
+
+import com.xenosnowfox.openapi3.models.util.ChangeListeners;
+import com.xenosnowfox.openapi3.models.util.Invokable;
+import com.xenosnowfox.openapi3.models.util.Trackable;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Basic implementation of the {@link PathItem} interface
+ *
+ * @since
+ *      1.0.0
+ */
+public class PathItemImpl implements PathItem, Trackable {
+
+    private String summary = null;
+    private String description = null;
+    private final Map<HttpMethod, Operation> operations = new EnumMap<>(HttpMethod.class);
+    private final Map<HttpMethod, Operation> unmodifiableOperations = Collections.unmodifiableMap(this.operations);
+    private final ChangeListeners listeners = new ChangeListeners();
+    private final Invokable<Trackable> childListener = child -> this.listeners.fire(this);
+
+    @Override
+    public String getSummary() {
+        return this.summary;
+    }
+
+    @Override
+    public void setSummary(final String summary) {
+        this.summary = summary;
+        this.listeners.fire(this);
+    }
+
+    @Override
+    public String getDescription() {
+        return this.description;
+    }
+
+    @Override
+    public void setDescription(final String description) {
+        this.description = description;
+        this.listeners.fire(this);
+    }
+
+    @Override
+    public Operation getOperation(final HttpMethod method) {
+        return this.operations.get(method);
+    }
+
+    @Override
+    public void setOperation(final HttpMethod method, final Operation operation) {
+        if (method == null) {
+            throw new NullPointerException("Method cannot be null");
+        }
+        Operation previous = operation == null ? this.operations.remove(method) : this.operations.put(method, operation);
+        if (!this.listeners.isEmpty()) {
+            this.untrack(previous);
+            this.track(operation);
+        }
+        this.listeners.fire(this);
+    }
+
+    @Override
+    public Map<HttpMethod, Operation> getOperations() {
+        return this.unmodifiableOperations;
+    }
+
+    @Override
+    public void addChangeListener(final Invokable<Trackable> listener) {
+        // operations are only observed while someone is observing this instance
+        if (this.listeners.add(listener)) {
+            for (Operation operation : this.operations.values()) {
+                this.track(operation);
+            }
+        }
+    }
+
+    @Override
+    public void removeChangeListener(final Invokable<Trackable> listener) {
+        if (this.listeners.remove(listener)) {
+            for (Operation operation : this.operations.values()) {
+                this.untrack(operation);
+            }
+        }
+    }
+
+    private void track(final Object child) {
+        if (child instanceof Trackable) {
+            ((Trackable) child).addChangeListener(this.childListener);
+        }
+    }
+
+    private void untrack(final Object child) {
+        if (child instanceof Trackable) {
+            ((Trackable) child).removeChangeListener(this.childListener);
+        }
+    }
+}
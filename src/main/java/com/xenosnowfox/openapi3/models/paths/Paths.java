@@ -0,0 +1,182 @@
+package com.xenosnowfox.openapi3.models.paths;
+
+import com.xenosnowfox.openapi3.models.metrics.SerializationMetrics;
+import com.xenosnowfox.openapi3.models.util.CanonicalJsonWriter;
+import com.xenosnowfox.openapi3.models.util.ContentHash;
+import com.xenosnowfox.openapi3.models.util.ContentHasher;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
+import com.xenosnowfox.openapi3.models.util.Jsonable;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * Holds the relative paths to the individual endpoints and their operations.
+ *
+ * @since
+ *      1.0.0
+ * @see
+ *      <a href="https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.2.md#paths-object">https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.2.md#paths-object</a>
+ */
+public interface Paths extends Jsonable {
+
+    /**
+     * Obtains every path item, keyed by path template
+     *
+     * @return
+     *      Unmodifiable map of path items, in insertion order
+     * @since
+     *      1.0.0
+     */
+    Map<String, PathItem> getPathItems();
+
+    /**
+     * Obtains the path item defined for the given path template. This is an exact lookup; use {@link #matchPathItem(String)}
+     * to find the path item that serves a request path.
+     *
+     * @param path
+     *      Path template, e.g. {@code /users/{id}}
+     * @return
+     *      Path item, or null if the template is not defined
+     * @since
+     *      1.0.0
+     */
+    default PathItem getPathItem(final String path) {
+        return this.getPathItems().get(path);
+    }
+
+    /**
+     * Defines the path item for the given path template
+     *
+     * @param path
+     *      Path template, which MUST begin with a forward slash
+     * @param pathItem
+     *      Path item, or null to remove the path
+     * @since
+     *      1.0.0
+     */
+    void setPathItem(final String path, final PathItem pathItem);
+
+    /**
+     * Shorthand version of {@link #getPathItem(String)}
+     *
+     * @since
+     *      1.0.0
+     */
+    default PathItem path(final String path) {
+        return this.getPathItem(path);
+    }
+
+    /**
+     * Shorthand version of {@link #setPathItem(String, PathItem)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Paths path(final String path, final PathItem pathItem) {
+        this.setPathItem(path, pathItem);
+        return this;
+    }
+
+    /**
+     * Obtains an index for matching request paths against the path templates. The default implementation looks the index up in
+     * a small cache shared by all paths objects and checks it against every path item on each call, so implementations
+     * should cache the index themselves until the paths are modified.
+     *
+     * @return
+     *      Path index
+     * @throws IllegalArgumentException
+     *      if a path template is malformed, or two templates are equivalent
+     * @since
+     *      1.0.0
+     */
+    default PathIndex getIndex() {
+        return PathIndex.cached(this);
+    }
+
+    /**
+     * Finds the path item that serves the given request path
+     *
+     * @param path
+     *      Request path, e.g. {@code /users/42}
+     * @return
+     *      Matching path item, or null if no template matches
+     * @since
+     *      1.0.0
+     * @see
+     *      PathIndex#match(String)
+     */
+    default PathItem matchPathItem(final String path) {
+        return this.getIndex().match(path);
+    }
+
+    /**
+     * Finds the operation that serves the given request
+     *
+     * @param method
+     *      HTTP method, in any case
+     * @param path
+     *      Request path, e.g. {@code /users/42}
+     * @return
+     *      Matching operation, or null if no template matches or the matching path does not support the method
+     * @since
+     *      1.0.0
+     * @see
+     *      PathIndex#match(String, String)
+     */
+    default Operation matchOperation(final String method, final String path) {
+        return this.getIndex().match(method, path);
+    }
+
+    /**
+     * Obtains an immutable snapshot of the paths and their path items, which can be shared between threads without synchronization.
+     * The snapshot has a precomputed hash code and JSON representation, and its setters throw an {@link UnsupportedOperationException}.
+     *
+     * @return
+     *      Immutable paths
+     * @since
+     *      1.0.0
+     */
+    default Paths freeze() {
+        return new FrozenPaths(this);
+    }
+
+    @Override
+    default ContentHash contentHash() {
+        // hashed over the canonical representation, so the hash does not depend on the order in which paths were added
+        ContentHasher hasher = new ContentHasher();
+        try {
+            this.writeJson(new CanonicalJsonWriter(hasher));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return hasher.hash();
+    }
+
+    @Override
+    default JSONObject toJsonObject() {
+        long start = SerializationMetrics.start();
+        JSONObject jsonObject = new JSONObject();
+
+        // add path items
+        for (Map.Entry<String, PathItem> entry : this.getPathItems().entrySet()) {
+            jsonObject.put(entry.getKey(), entry.getValue().toJsonObject());
+        }
+
+        SerializationMetrics.converted(this, start);
+        return jsonObject;
+    }
+
+    @Override
+    default void writeJson(final JsonWriter writer) throws IOException {
+        // members are written in the same order as JSONObject#toString()
+        Map<String, PathItem> pathItems = this.getPathItems();
+        writer.beginObject();
+        for (String path : JsonKeyOrder.of(pathItems.keySet())) {
+            writer.name(path).value(pathItems.get(path));
+        }
+        writer.endObject();
+    }
+}
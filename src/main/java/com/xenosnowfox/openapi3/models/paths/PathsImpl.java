@@ -0,0 +1,95 @@
+package com.xenosnowfox.openapi3.models.paths;
+
+import com.xenosnowfox.openapi3.models.util.ChangeListeners;
+import com.xenosnowfox.openapi3.models.util.Invokable;
+import com.xenosnowfox.openapi3.models.util.Trackable;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Basic implementation of the {@link Paths} interface, which caches its {@link PathIndex} until a path is added or removed.
+ *
+ * @since
+ *      1.0.0
+ */
+public class PathsImpl implements Paths, Trackable {
+
+    private final Map<String, PathItem> pathItems = new LinkedHashMap<>();
+    private final Map<String, PathItem> unmodifiablePathItems = Collections.unmodifiableMap(this.pathItems);
+    private final ChangeListeners listeners = new ChangeListeners();
+    private final Invokable<Trackable> childListener = child -> this.listeners.fire(this);
+    private volatile PathIndex index = null;
+
+    @Override
+    public Map<String, PathItem> getPathItems() {
+        return this.unmodifiablePathItems;
+    }
+
+    @Override
+    public PathItem getPathItem(final String path) {
+        return this.pathItems.get(path);
+    }
+
+    @Override
+    public void setPathItem(final String path, final PathItem pathItem) {
+        if (path == null || path.trim().isEmpty()) {
+            throw new NullPointerException("Path cannot be null or blank");
+        }
+        if (path.charAt(0) != '/') {
+            throw new IllegalArgumentException("Path must begin with a forward slash: " + path);
+        }
+
+        PathItem previous = pathItem == null ? this.pathItems.remove(path) : this.pathItems.put(path, pathItem);
+        if (!this.listeners.isEmpty()) {
+            this.untrack(previous);
+            this.track(pathItem);
+        }
+
+        // the index holds references to the path items, so changes within a path item do not require a rebuild
+        this.index = null;
+        this.listeners.fire(this);
+    }
+
+    @Override
+    public PathIndex getIndex() {
+        PathIndex index = this.index;
+        if (index == null) {
+            index = PathIndex.compile(this);
+            this.index = index;
+        }
+        return index;
+    }
+
+    @Override
+    public void addChangeListener(final Invokable<Trackable> listener) {
+        // path items are only observed while someone is observing this instance
+        if (this.listeners.add(listener)) {
+            for (PathItem pathItem : this.pathItems.values()) {
+                this.track(pathItem);
+            }
+        }
+    }
+
+    @Override
+    public void removeChangeListener(final Invokable<Trackable> listener) {
+        if (this.listeners.remove(listener)) {
+            for (PathItem pathItem : this.pathItems.values()) {
+                this.untrack(pathItem);
+            }
+        }
+    }
+
+    private void track(final Object child) {
+        if (child instanceof Trackable) {
+            ((Trackable) child).addChangeListener(this.childListener);
+        }
+    }
+
+    private void untrack(final Object child) {
+        if (child instanceof Trackable) {
+            ((Trackable) child).removeChangeListener(this.childListener);
+        }
+    }
+}
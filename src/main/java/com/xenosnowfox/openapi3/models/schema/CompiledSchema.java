@@ -0,0 +1,58 @@
+package com.xenosnowfox.openapi3.models.schema;
+
+import org.json.JSONObject;
+
+/**
+ * Compiled form of a single {@link Schema}, holding its own constraints and those of every schema it includes through
+ * {@code allOf}. Instances are only modified while being compiled, and are immutable once published through a {@link SchemaValidator}.
+ *
+ * @since
+ *      1.0.0
+ */
+final class CompiledSchema {
+
+    private static final Constraint[] NONE = new Constraint[0];
+
+    private boolean nullable = false;
+    private Constraint[] constraints = NONE;
+
+    /**
+     * Completes the compiled schema; nested schemas may already refer to it, so it is created before its constraints
+     *
+     * @param nullable
+     *      true if null is allowed regardless of the constraints
+     * @param constraints
+     *      Flattened constraints
+     */
+    void initialize(final boolean nullable, final Constraint[] constraints) {
+        this.nullable = nullable;
+        this.constraints = constraints;
+    }
+
+    /**
+     * Checks the given value against every constraint
+     *
+     * @param value
+     *      JSON value to check
+     * @param context
+     *      Context to report violations to, or null to stop at the first violation
+     * @return
+     *      true if the value is valid
+     */
+    boolean validate(final Object value, final ValidationContext context) {
+        if (this.nullable && value == JSONObject.NULL) {
+            return true;
+        }
+
+        boolean valid = true;
+        for (Constraint constraint : this.constraints) {
+            if (!constraint.test(value, context)) {
+                if (context == null) {
+                    return false;
+                }
+                valid = false;
+            }
+        }
+        return valid;
+    }
+}
@@ -0,0 +1,22 @@
+package com.xenosnowfox.openapi3.models.schema;
+
+/**
+ * Single compiled check of a {@link Schema}, such as a type or a length restriction
+ *
+ * @since
+ *      1.0.0
+ */
+abstract class Constraint {
+
+    /**
+     * Checks the given value. Constraints that only apply to a certain type of value accept values of any other type.
+     *
+     * @param value
+     *      JSON value to check, where null is {@link org.json.JSONObject#NULL}
+     * @param context
+     *      Context to report violations to, or null to only determine whether the value is valid
+     * @return
+     *      true if the value is valid
+     */
+    abstract boolean test(Object value, ValidationContext context);
+}
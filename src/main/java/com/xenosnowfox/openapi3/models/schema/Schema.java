@@ -0,0 +1,1297 @@
+package com.xenosnowfox.openapi3.models.schema;
+
+import com.xenosnowfox.openapi3.models.metrics.SerializationMetrics;
+import com.xenosnowfox.openapi3.models.util.Jsonable;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Defines the data types of input and output values, as the subset of JSON Schema described by the OpenAPI specification.
+ * Schemas are descriptive; use {@link SchemaCompiler} to validate values against them.
+ *
+ * @since
+ *      1.0.0
+ * @see
+ *      <a href="https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.2.md#schema-object">https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.2.md#schema-object</a>
+ */
+public interface Schema extends Jsonable {
+
+    /**
+     * Obtains the title of the schema.
+     *
+     * @return
+     *      Title, or null if not defined
+     * @since
+     *      1.0.0
+     */
+    String getTitle();
+
+    /**
+     * Defines the title of the schema.
+     *
+     * @param title
+     *      Title
+     * @since
+     *      1.0.0
+     */
+    void setTitle(final String title);
+
+    /**
+     * Shorthand version of {@link #getTitle()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default String title() {
+        return this.getTitle();
+    }
+
+    /**
+     * Shorthand version of {@link #setTitle(String)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema title(final String title) {
+        this.setTitle(title);
+        return this;
+    }
+
+    /**
+     * Obtains the description of the schema.
+     *
+     * @return
+     *      Description, or null if not defined
+     * @since
+     *      1.0.0
+     */
+    String getDescription();
+
+    /**
+     * Defines the description of the schema. <a href="http://spec.commonmark.org/">CommonMark syntax</a> MAY be used for rich text representation.
+     *
+     * @param description
+     *      Description
+     * @since
+     *      1.0.0
+     */
+    void setDescription(final String description);
+
+    /**
+     * Shorthand version of {@link #getDescription()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default String description() {
+        return this.getDescription();
+    }
+
+    /**
+     * Shorthand version of {@link #setDescription(String)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema description(final String description) {
+        this.setDescription(description);
+        return this;
+    }
+
+    /**
+     * Obtains the type that values must have.
+     *
+     * @return
+     *      Type if values of any type are allowed, or null if not defined
+     * @since
+     *      1.0.0
+     */
+    SchemaType getType();
+
+    /**
+     * Defines the type that values must have.
+     *
+     * @param type
+     *      Type, or null if values of any type are allowed
+     * @since
+     *      1.0.0
+     */
+    void setType(final SchemaType type);
+
+    /**
+     * Shorthand version of {@link #getType()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default SchemaType type() {
+        return this.getType();
+    }
+
+    /**
+     * Shorthand version of {@link #setType(SchemaType)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema type(final SchemaType type) {
+        this.setType(type);
+        return this;
+    }
+
+    /**
+     * Obtains the format of the values, such as {@code int64} or {@code date-time}.
+     *
+     * @return
+     *      Format, or null if not defined
+     * @since
+     *      1.0.0
+     */
+    String getFormat();
+
+    /**
+     * Defines the format of the values, such as {@code int64} or {@code date-time}. Formats are informative only and are not validated.
+     *
+     * @param format
+     *      Format
+     * @since
+     *      1.0.0
+     */
+    void setFormat(final String format);
+
+    /**
+     * Shorthand version of {@link #getFormat()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default String format() {
+        return this.getFormat();
+    }
+
+    /**
+     * Shorthand version of {@link #setFormat(String)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema format(final String format) {
+        this.setFormat(format);
+        return this;
+    }
+
+    /**
+     * Determines whether null is allowed as a value.
+     *
+     * @return
+     *      true if null is allowed
+     * @since
+     *      1.0.0
+     */
+    boolean isNullable();
+
+    /**
+     * Declares whether null is allowed as a value.
+     *
+     * @param nullable
+     *      true if null is allowed
+     * @since
+     *      1.0.0
+     */
+    void setNullable(final boolean nullable);
+
+    /**
+     * Shorthand version of {@link #isNullable()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default boolean nullable() {
+        return this.isNullable();
+    }
+
+    /**
+     * Shorthand version of {@link #setNullable(boolean)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema nullable(final boolean nullable) {
+        this.setNullable(nullable);
+        return this;
+    }
+
+    /**
+     * Obtains the values that are allowed.
+     *
+     * @return
+     *      Allowed values, or null if not defined
+     * @since
+     *      1.0.0
+     */
+    List<Object> getEnum();
+
+    /**
+     * Defines the values that are allowed, as JSON values such as {@link String}, {@link Number}, {@link Boolean}, {@link org.json.JSONObject}, {@link org.json.JSONArray} and {@link org.json.JSONObject#NULL}.
+     *
+     * @param values
+     *      Allowed values, or null to allow any value
+     * @since
+     *      1.0.0
+     */
+    void setEnum(final List<?> values);
+
+    /**
+     * Shorthand version of {@link #getEnum()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default List<Object> enumValues() {
+        return this.getEnum();
+    }
+
+    /**
+     * Shorthand version of {@link #setEnum(List)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema enumValues(final Object... values) {
+        this.setEnum(Arrays.asList(values));
+        return this;
+    }
+
+    /**
+     * Obtains the regular expression that string values must contain a match of.
+     *
+     * @return
+     *      Regular expression, or null if not defined
+     * @since
+     *      1.0.0
+     */
+    String getPattern();
+
+    /**
+     * Defines the regular expression that string values must contain a match of. The expression is not anchored.
+     *
+     * @param pattern
+     *      Regular expression
+     * @since
+     *      1.0.0
+     */
+    void setPattern(final String pattern);
+
+    /**
+     * Shorthand version of {@link #getPattern()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default String pattern() {
+        return this.getPattern();
+    }
+
+    /**
+     * Shorthand version of {@link #setPattern(String)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema pattern(final String pattern) {
+        this.setPattern(pattern);
+        return this;
+    }
+
+    /**
+     * Obtains the minimum number of characters in string values.
+     *
+     * @return
+     *      Minimum length, or null if not defined
+     * @since
+     *      1.0.0
+     */
+    Integer getMinLength();
+
+    /**
+     * Defines the minimum number of characters in string values.
+     *
+     * @param minLength
+     *      Minimum length
+     * @since
+     *      1.0.0
+     */
+    void setMinLength(final Integer minLength);
+
+    /**
+     * Shorthand version of {@link #getMinLength()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default Integer minLength() {
+        return this.getMinLength();
+    }
+
+    /**
+     * Shorthand version of {@link #setMinLength(Integer)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema minLength(final Integer minLength) {
+        this.setMinLength(minLength);
+        return this;
+    }
+
+    /**
+     * Obtains the maximum number of characters in string values.
+     *
+     * @return
+     *      Maximum length, or null if not defined
+     * @since
+     *      1.0.0
+     */
+    Integer getMaxLength();
+
+    /**
+     * Defines the maximum number of characters in string values.
+     *
+     * @param maxLength
+     *      Maximum length
+     * @since
+     *      1.0.0
+     */
+    void setMaxLength(final Integer maxLength);
+
+    /**
+     * Shorthand version of {@link #getMaxLength()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default Integer maxLength() {
+        return this.getMaxLength();
+    }
+
+    /**
+     * Shorthand version of {@link #setMaxLength(Integer)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema maxLength(final Integer maxLength) {
+        this.setMaxLength(maxLength);
+        return this;
+    }
+
+    /**
+     * Obtains the lower bound of numeric values.
+     *
+     * @return
+     *      Lower bound, or null if not defined
+     * @since
+     *      1.0.0
+     */
+    BigDecimal getMinimum();
+
+    /**
+     * Defines the lower bound of numeric values.
+     *
+     * @param minimum
+     *      Lower bound
+     * @since
+     *      1.0.0
+     */
+    void setMinimum(final BigDecimal minimum);
+
+    /**
+     * Shorthand version of {@link #getMinimum()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default BigDecimal minimum() {
+        return this.getMinimum();
+    }
+
+    /**
+     * Shorthand version of {@link #setMinimum(BigDecimal)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema minimum(final BigDecimal minimum) {
+        this.setMinimum(minimum);
+        return this;
+    }
+
+    /**
+     * Determines whether numeric values must be strictly greater than the minimum.
+     *
+     * @return
+     *      true if the minimum itself is not allowed
+     * @since
+     *      1.0.0
+     */
+    boolean isExclusiveMinimum();
+
+    /**
+     * Declares whether numeric values must be strictly greater than the minimum.
+     *
+     * @param exclusiveMinimum
+     *      true if the minimum itself is not allowed
+     * @since
+     *      1.0.0
+     */
+    void setExclusiveMinimum(final boolean exclusiveMinimum);
+
+    /**
+     * Shorthand version of {@link #isExclusiveMinimum()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default boolean exclusiveMinimum() {
+        return this.isExclusiveMinimum();
+    }
+
+    /**
+     * Shorthand version of {@link #setExclusiveMinimum(boolean)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema exclusiveMinimum(final boolean exclusiveMinimum) {
+        this.setExclusiveMinimum(exclusiveMinimum);
+        return this;
+    }
+
+    /**
+     * Obtains the upper bound of numeric values.
+     *
+     * @return
+     *      Upper bound, or null if not defined
+     * @since
+     *      1.0.0
+     */
+    BigDecimal getMaximum();
+
+    /**
+     * Defines the upper bound of numeric values.
+     *
+     * @param maximum
+     *      Upper bound
+     * @since
+     *      1.0.0
+     */
+    void setMaximum(final BigDecimal maximum);
+
+    /**
+     * Shorthand version of {@link #getMaximum()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default BigDecimal maximum() {
+        return this.getMaximum();
+    }
+
+    /**
+     * Shorthand version of {@link #setMaximum(BigDecimal)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema maximum(final BigDecimal maximum) {
+        this.setMaximum(maximum);
+        return this;
+    }
+
+    /**
+     * Determines whether numeric values must be strictly less than the maximum.
+     *
+     * @return
+     *      true if the maximum itself is not allowed
+     * @since
+     *      1.0.0
+     */
+    boolean isExclusiveMaximum();
+
+    /**
+     * Declares whether numeric values must be strictly less than the maximum.
+     *
+     * @param exclusiveMaximum
+     *      true if the maximum itself is not allowed
+     * @since
+     *      1.0.0
+     */
+    void setExclusiveMaximum(final boolean exclusiveMaximum);
+
+    /**
+     * Shorthand version of {@link #isExclusiveMaximum()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default boolean exclusiveMaximum() {
+        return this.isExclusiveMaximum();
+    }
+
+    /**
+     * Shorthand version of {@link #setExclusiveMaximum(boolean)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema exclusiveMaximum(final boolean exclusiveMaximum) {
+        this.setExclusiveMaximum(exclusiveMaximum);
+        return this;
+    }
+
+    /**
+     * Obtains the number that numeric values must be a multiple of.
+     *
+     * @return
+     *      Divisor, or null if not defined
+     * @since
+     *      1.0.0
+     */
+    BigDecimal getMultipleOf();
+
+    /**
+     * Defines the number that numeric values must be a multiple of.
+     *
+     * @param multipleOf
+     *      Divisor, which must be greater than zero
+     * @since
+     *      1.0.0
+     */
+    void setMultipleOf(final BigDecimal multipleOf);
+
+    /**
+     * Shorthand version of {@link #getMultipleOf()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default BigDecimal multipleOf() {
+        return this.getMultipleOf();
+    }
+
+    /**
+     * Shorthand version of {@link #setMultipleOf(BigDecimal)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema multipleOf(final BigDecimal multipleOf) {
+        this.setMultipleOf(multipleOf);
+        return this;
+    }
+
+    /**
+     * Obtains the schema that every item of array values must match.
+     *
+     * @return
+     *      Item schema, or null if not defined
+     * @since
+     *      1.0.0
+     */
+    Schema getItems();
+
+    /**
+     * Defines the schema that every item of array values must match.
+     *
+     * @param items
+     *      Item schema
+     * @since
+     *      1.0.0
+     */
+    void setItems(final Schema items);
+
+    /**
+     * Shorthand version of {@link #getItems()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema items() {
+        return this.getItems();
+    }
+
+    /**
+     * Shorthand version of {@link #setItems(Schema)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema items(final Schema items) {
+        this.setItems(items);
+        return this;
+    }
+
+    /**
+     * Obtains the minimum number of items in array values.
+     *
+     * @return
+     *      Minimum number of items, or null if not defined
+     * @since
+     *      1.0.0
+     */
+    Integer getMinItems();
+
+    /**
+     * Defines the minimum number of items in array values.
+     *
+     * @param minItems
+     *      Minimum number of items
+     * @since
+     *      1.0.0
+     */
+    void setMinItems(final Integer minItems);
+
+    /**
+     * Shorthand version of {@link #getMinItems()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default Integer minItems() {
+        return this.getMinItems();
+    }
+
+    /**
+     * Shorthand version of {@link #setMinItems(Integer)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema minItems(final Integer minItems) {
+        this.setMinItems(minItems);
+        return this;
+    }
+
+    /**
+     * Obtains the maximum number of items in array values.
+     *
+     * @return
+     *      Maximum number of items, or null if not defined
+     * @since
+     *      1.0.0
+     */
+    Integer getMaxItems();
+
+    /**
+     * Defines the maximum number of items in array values.
+     *
+     * @param maxItems
+     *      Maximum number of items
+     * @since
+     *      1.0.0
+     */
+    void setMaxItems(final Integer maxItems);
+
+    /**
+     * Shorthand version of {@link #getMaxItems()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default Integer maxItems() {
+        return this.getMaxItems();
+    }
+
+    /**
+     * Shorthand version of {@link #setMaxItems(Integer)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema maxItems(final Integer maxItems) {
+        this.setMaxItems(maxItems);
+        return this;
+    }
+
+    /**
+     * Determines whether the items of array values must be unique.
+     *
+     * @return
+     *      true if items must be unique
+     * @since
+     *      1.0.0
+     */
+    boolean isUniqueItems();
+
+    /**
+     * Declares whether the items of array values must be unique.
+     *
+     * @param uniqueItems
+     *      true if items must be unique
+     * @since
+     *      1.0.0
+     */
+    void setUniqueItems(final boolean uniqueItems);
+
+    /**
+     * Shorthand version of {@link #isUniqueItems()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default boolean uniqueItems() {
+        return this.isUniqueItems();
+    }
+
+    /**
+     * Shorthand version of {@link #setUniqueItems(boolean)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema uniqueItems(final boolean uniqueItems) {
+        this.setUniqueItems(uniqueItems);
+        return this;
+    }
+
+    /**
+     * Obtains the schemas of the properties of object values
+     *
+     * @return
+     *      Unmodifiable map of property schemas, keyed by property name
+     * @since
+     *      1.0.0
+     */
+    Map<String, Schema> getProperties();
+
+    /**
+     * Obtains the schema of the given property of object values
+     *
+     * @param name
+     *      Property name
+     * @return
+     *      Property schema, or null if the property is not defined
+     * @since
+     *      1.0.0
+     */
+    default Schema getProperty(final String name) {
+        return this.getProperties().get(name);
+    }
+
+    /**
+     * Defines the schema of the given property of object values
+     *
+     * @param name
+     *      Property name
+     * @param schema
+     *      Property schema, or null to remove the property
+     * @since
+     *      1.0.0
+     */
+    void setProperty(final String name, final Schema schema);
+
+    /**
+     * Shorthand version of {@link #getProperties()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default Map<String, Schema> properties() {
+        return this.getProperties();
+    }
+
+    /**
+     * Shorthand version of {@link #setProperty(String, Schema)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema property(final String name, final Schema schema) {
+        this.setProperty(name, schema);
+        return this;
+    }
+
+    /**
+     * Obtains the names of the properties that object values must have.
+     *
+     * @return
+     *      Property names, or null if not defined
+     * @since
+     *      1.0.0
+     */
+    List<String> getRequired();
+
+    /**
+     * Defines the names of the properties that object values must have.
+     *
+     * @param required
+     *      Property names, or null if no property is required
+     * @since
+     *      1.0.0
+     */
+    void setRequired(final List<String> required);
+
+    /**
+     * Shorthand version of {@link #getRequired()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default List<String> required() {
+        return this.getRequired();
+    }
+
+    /**
+     * Shorthand version of {@link #setRequired(List)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema required(final String... required) {
+        this.setRequired(Arrays.asList(required));
+        return this;
+    }
+
+    /**
+     * Obtains the schema that properties of object values that are not defined by {@link #getProperties()} must match.
+     *
+     * @return
+     *      Schema for additional properties, or null if not defined
+     * @since
+     *      1.0.0
+     */
+    Schema getAdditionalProperties();
+
+    /**
+     * Defines the schema that properties of object values that are not defined by {@link #getProperties()} must match.
+     *
+     * @param additionalProperties
+     *      Schema for additional properties, or null to allow any value
+     * @since
+     *      1.0.0
+     */
+    void setAdditionalProperties(final Schema additionalProperties);
+
+    /**
+     * Shorthand version of {@link #getAdditionalProperties()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema additionalProperties() {
+        return this.getAdditionalProperties();
+    }
+
+    /**
+     * Shorthand version of {@link #setAdditionalProperties(Schema)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema additionalProperties(final Schema additionalProperties) {
+        this.setAdditionalProperties(additionalProperties);
+        return this;
+    }
+
+    /**
+     * Determines whether object values may have properties that are not defined by {@link #getProperties()}.
+     *
+     * @return
+     *      false if additional properties are not allowed
+     * @since
+     *      1.0.0
+     */
+    boolean isAdditionalPropertiesAllowed();
+
+    /**
+     * Declares whether object values may have properties that are not defined by {@link #getProperties()}. Allowed by default.
+     *
+     * @param additionalPropertiesAllowed
+     *      false if additional properties are not allowed
+     * @since
+     *      1.0.0
+     */
+    void setAdditionalPropertiesAllowed(final boolean additionalPropertiesAllowed);
+
+    /**
+     * Shorthand version of {@link #isAdditionalPropertiesAllowed()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default boolean additionalPropertiesAllowed() {
+        return this.isAdditionalPropertiesAllowed();
+    }
+
+    /**
+     * Shorthand version of {@link #setAdditionalPropertiesAllowed(boolean)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema additionalPropertiesAllowed(final boolean additionalPropertiesAllowed) {
+        this.setAdditionalPropertiesAllowed(additionalPropertiesAllowed);
+        return this;
+    }
+
+    /**
+     * Obtains the minimum number of properties in object values.
+     *
+     * @return
+     *      Minimum number of properties, or null if not defined
+     * @since
+     *      1.0.0
+     */
+    Integer getMinProperties();
+
+    /**
+     * Defines the minimum number of properties in object values.
+     *
+     * @param minProperties
+     *      Minimum number of properties
+     * @since
+     *      1.0.0
+     */
+    void setMinProperties(final Integer minProperties);
+
+    /**
+     * Shorthand version of {@link #getMinProperties()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default Integer minProperties() {
+        return this.getMinProperties();
+    }
+
+    /**
+     * Shorthand version of {@link #setMinProperties(Integer)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema minProperties(final Integer minProperties) {
+        this.setMinProperties(minProperties);
+        return this;
+    }
+
+    /**
+     * Obtains the maximum number of properties in object values.
+     *
+     * @return
+     *      Maximum number of properties, or null if not defined
+     * @since
+     *      1.0.0
+     */
+    Integer getMaxProperties();
+
+    /**
+     * Defines the maximum number of properties in object values.
+     *
+     * @param maxProperties
+     *      Maximum number of properties
+     * @since
+     *      1.0.0
+     */
+    void setMaxProperties(final Integer maxProperties);
+
+    /**
+     * Shorthand version of {@link #getMaxProperties()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default Integer maxProperties() {
+        return this.getMaxProperties();
+    }
+
+    /**
+     * Shorthand version of {@link #setMaxProperties(Integer)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema maxProperties(final Integer maxProperties) {
+        this.setMaxProperties(maxProperties);
+        return this;
+    }
+
+    /**
+     * Obtains the schemas that values must match all of.
+     *
+     * @return
+     *      Schemas, or null if not defined
+     * @since
+     *      1.0.0
+     */
+    List<Schema> getAllOf();
+
+    /**
+     * Defines the schemas that values must match all of.
+     *
+     * @param allOf
+     *      Schemas, or null
+     * @since
+     *      1.0.0
+     */
+    void setAllOf(final List<Schema> allOf);
+
+    /**
+     * Shorthand version of {@link #getAllOf()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default List<Schema> allOf() {
+        return this.getAllOf();
+    }
+
+    /**
+     * Shorthand version of {@link #setAllOf(List)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema allOf(final Schema... allOf) {
+        this.setAllOf(Arrays.asList(allOf));
+        return this;
+    }
+
+    /**
+     * Obtains the schemas that values must match at least one of.
+     *
+     * @return
+     *      Schemas, or null if not defined
+     * @since
+     *      1.0.0
+     */
+    List<Schema> getAnyOf();
+
+    /**
+     * Defines the schemas that values must match at least one of.
+     *
+     * @param anyOf
+     *      Schemas, or null
+     * @since
+     *      1.0.0
+     */
+    void setAnyOf(final List<Schema> anyOf);
+
+    /**
+     * Shorthand version of {@link #getAnyOf()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default List<Schema> anyOf() {
+        return this.getAnyOf();
+    }
+
+    /**
+     * Shorthand version of {@link #setAnyOf(List)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema anyOf(final Schema... anyOf) {
+        this.setAnyOf(Arrays.asList(anyOf));
+        return this;
+    }
+
+    /**
+     * Obtains the schemas that values must match exactly one of.
+     *
+     * @return
+     *      Schemas, or null if not defined
+     * @since
+     *      1.0.0
+     */
+    List<Schema> getOneOf();
+
+    /**
+     * Defines the schemas that values must match exactly one of.
+     *
+     * @param oneOf
+     *      Schemas, or null
+     * @since
+     *      1.0.0
+     */
+    void setOneOf(final List<Schema> oneOf);
+
+    /**
+     * Shorthand version of {@link #getOneOf()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default List<Schema> oneOf() {
+        return this.getOneOf();
+    }
+
+    /**
+     * Shorthand version of {@link #setOneOf(List)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema oneOf(final Schema... oneOf) {
+        this.setOneOf(Arrays.asList(oneOf));
+        return this;
+    }
+
+    /**
+     * Obtains the schema that values must not match.
+     *
+     * @return
+     *      Schema, or null if not defined
+     * @since
+     *      1.0.0
+     */
+    Schema getNot();
+
+    /**
+     * Defines the schema that values must not match.
+     *
+     * @param schema
+     *      Schema
+     * @since
+     *      1.0.0
+     */
+    void setNot(final Schema schema);
+
+    /**
+     * Shorthand version of {@link #getNot()}
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema not() {
+        return this.getNot();
+    }
+
+    /**
+     * Shorthand version of {@link #setNot(Schema)} that returns itself to allow for method chaining
+     *
+     * @since
+     *      1.0.0
+     */
+    default Schema not(final Schema schema) {
+        this.setNot(schema);
+        return this;
+    }
+
+    /**
+     * Compiles the schema into a validator. The validator does not observe the schema, so it must be compiled again after the schema is modified.
+     *
+     * @return
+     *      Thread-safe validator
+     * @throws IllegalArgumentException
+     *      if the schema is invalid, such as a malformed pattern or a schema that contains itself through {@code allOf}
+     * @since
+     *      1.0.0
+     * @see
+     *      SchemaCompiler#compile(Schema)
+     */
+    default SchemaValidator compile() {
+        return new SchemaCompiler().compile(this);
+    }
+
+    // the streaming writers have no support for arrays or arbitrary enum values, so schemas are always written through
+    // their JSON tree by the default implementation of writeJson
+
+    @Override
+    default JSONObject toJsonObject() {
+        long start = SerializationMetrics.start();
+        JSONObject jsonObject = new JSONObject();
+
+        // add annotations
+        jsonObject.putOpt("title", this.getTitle());
+        jsonObject.putOpt("description", this.getDescription());
+        SchemaType type = this.getType();
+        if (type != null) {
+            jsonObject.put("type", type.getName());
+        }
+        jsonObject.putOpt("format", this.getFormat());
+        if (this.isNullable()) {
+            jsonObject.put("nullable", true);
+        }
+        List<Object> values = this.getEnum();
+        if (values != null) {
+            jsonObject.put("enum", new JSONArray(values));
+        }
+
+        // add string constraints
+        jsonObject.putOpt("pattern", this.getPattern());
+        jsonObject.putOpt("minLength", this.getMinLength());
+        jsonObject.putOpt("maxLength", this.getMaxLength());
+
+        // add numeric constraints
+        jsonObject.putOpt("minimum", this.getMinimum());
+        if (this.isExclusiveMinimum()) {
+            jsonObject.put("exclusiveMinimum", true);
+        }
+        jsonObject.putOpt("maximum", this.getMaximum());
+        if (this.isExclusiveMaximum()) {
+            jsonObject.put("exclusiveMaximum", true);
+        }
+        jsonObject.putOpt("multipleOf", this.getMultipleOf());
+
+        // add array constraints
+        Schema items = this.getItems();
+        if (items != null) {
+            jsonObject.put("items", items.toJsonObject());
+        }
+        jsonObject.putOpt("minItems", this.getMinItems());
+        jsonObject.putOpt("maxItems", this.getMaxItems());
+        if (this.isUniqueItems()) {
+            jsonObject.put("uniqueItems", true);
+        }
+
+        // add object constraints
+        Map<String, Schema> properties = this.getProperties();
+        if (!properties.isEmpty()) {
+            JSONObject propertiesObject = new JSONObject();
+            for (Map.Entry<String, Schema> entry : properties.entrySet()) {
+                propertiesObject.put(entry.getKey(), entry.getValue().toJsonObject());
+            }
+            jsonObject.put("properties", propertiesObject);
+        }
+        List<String> required = this.getRequired();
+        if (required != null) {
+            jsonObject.put("required", new JSONArray(required));
+        }
+        Schema additionalProperties = this.getAdditionalProperties();
+        if (additionalProperties != null) {
+            jsonObject.put("additionalProperties", additionalProperties.toJsonObject());
+        } else if (!this.isAdditionalPropertiesAllowed()) {
+            jsonObject.put("additionalProperties", false);
+        }
+        jsonObject.putOpt("minProperties", this.getMinProperties());
+        jsonObject.putOpt("maxProperties", this.getMaxProperties());
+
+        // add composition
+        String[] names = {"allOf", "anyOf", "oneOf"};
+        List<?>[] compositions = {this.getAllOf(), this.getAnyOf(), this.getOneOf()};
+        for (int i = 0; i < names.length; i++) {
+            if (compositions[i] != null) {
+                JSONArray array = new JSONArray();
+                for (Object schema : compositions[i]) {
+                    array.put(((Schema) schema).toJsonObject());
+                }
+                jsonObject.put(names[i], array);
+            }
+        }
+        Schema not = this.getNot();
+        if (not != null) {
+            jsonObject.put("not", not.toJsonObject());
+        }
+
+        SerializationMetrics.converted(this, start);
+        return jsonObject;
+    }
+}
@@ -0,0 +1,820 @@
+package com.xenosnowfox.openapi3.models.schema;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiles {@link Schema} objects into reusable, thread-safe {@link SchemaValidator} instances.
+ * <p>
+ * All interpretation of the schema happens once, when it is compiled: patterns are compiled, enumerations are turned
+ * into hash sets, numeric bounds are converted to the representation they are compared in, and schemas included
+ * through {@code allOf} are flattened into the constraints of the including schema. Validating a value is then a loop
+ * over the compiled constraints of each schema it reaches.
+ * <p>
+ * Each schema object is compiled once per call, however often it is referenced, so schemas may refer to themselves
+ * through {@code properties}, {@code items} and the other nested schemas. Instances are stateless and can be shared between threads.
+ *
+ * @since
+ *      1.0.0
+ */
+public class SchemaCompiler {
+
+    /**
+     * Compiles the given schema
+     *
+     * @param schema
+     *      Schema to compile
+     * @return
+     *      Thread-safe validator
+     * @throws IllegalArgumentException
+     *      if the schema is invalid, such as a malformed pattern or a schema that contains itself through {@code allOf}
+     * @since
+     *      1.0.0
+     */
+    public SchemaValidator compile(final Schema schema) {
+        if (schema == null) {
+            throw new NullPointerException("Schema cannot be null");
+        }
+        return new SchemaValidator(new Compilation().compile(schema));
+    }
+
+    /**
+     * State of a single call to {@link #compile(Schema)}
+     */
+    private static final class Compilation {
+
+        private final Map<Schema, CompiledSchema> compiled = new IdentityHashMap<>();
+
+        private CompiledSchema compile(final Schema schema) {
+            CompiledSchema compiledSchema = this.compiled.get(schema);
+            if (compiledSchema != null) {
+                return compiledSchema;
+            }
+
+            // registered before its constraints are compiled, so that nested references to the schema resolve to it
+            compiledSchema = new CompiledSchema();
+            this.compiled.put(schema, compiledSchema);
+            List<Constraint> constraints = new ArrayList<>();
+            this.flatten(schema, constraints, Collections.newSetFromMap(new IdentityHashMap<>()));
+            compiledSchema.initialize(schema.isNullable(), constraints.toArray(new Constraint[0]));
+            return compiledSchema;
+        }
+
+        /**
+         * Adds the constraints of the given schema, followed by those of every schema it includes through allOf
+         */
+        private void flatten(final Schema schema, final List<Constraint> constraints, final Set<Schema> flattening) {
+            if (!flattening.add(schema)) {
+                throw new IllegalArgumentException("Schema cannot contain itself through allOf");
+            }
+
+            // the type is checked first, as it is the cheapest and most likely to fail
+            SchemaType type = schema.getType();
+            if (type != null) {
+                constraints.add(new TypeConstraint(type, schema.isNullable()));
+            }
+            if (schema.getEnum() != null) {
+                constraints.add(new EnumConstraint(schema.getEnum()));
+            }
+            this.addStringConstraints(schema, constraints);
+            this.addNumberConstraints(schema, constraints);
+            this.addArrayConstraints(schema, constraints);
+            this.addObjectConstraints(schema, constraints);
+            this.addCompositionConstraints(schema, constraints);
+
+            if (schema.getAllOf() != null) {
+                for (Schema included : schema.getAllOf()) {
+                    this.flatten(included, constraints, flattening);
+                }
+            }
+            flattening.remove(schema);
+        }
+
+        private void addStringConstraints(final Schema schema, final List<Constraint> constraints) {
+            Integer minLength = schema.getMinLength();
+            Integer maxLength = schema.getMaxLength();
+            if (minLength != null || maxLength != null) {
+                constraints.add(new LengthConstraint(
+                        minLength == null ? 0 : minLength,
+                        maxLength == null ? Integer.MAX_VALUE : maxLength));
+            }
+            String pattern = schema.getPattern();
+            if (pattern != null) {
+                try {
+                    constraints.add(new PatternConstraint(Pattern.compile(pattern)));
+                } catch (PatternSyntaxException e) {
+                    throw new IllegalArgumentException("Invalid pattern: " + pattern, e);
+                }
+            }
+        }
+
+        private void addNumberConstraints(final Schema schema, final List<Constraint> constraints) {
+            if (schema.getMinimum() != null) {
+                constraints.add(new BoundConstraint(schema.getMinimum(), schema.isExclusiveMinimum(), true));
+            }
+            if (schema.getMaximum() != null) {
+                constraints.add(new BoundConstraint(schema.getMaximum(), schema.isExclusiveMaximum(), false));
+            }
+            if (schema.getMultipleOf() != null) {
+                constraints.add(new MultipleOfConstraint(schema.getMultipleOf()));
+            }
+        }
+
+        private void addArrayConstraints(final Schema schema, final List<Constraint> constraints) {
+            Schema items = schema.getItems();
+            Integer minItems = schema.getMinItems();
+            Integer maxItems = schema.getMaxItems();
+            if (items != null || minItems != null || maxItems != null || schema.isUniqueItems()) {
+                constraints.add(new ArrayConstraint(
+                        items == null ? null : this.compile(items),
+                        minItems == null ? 0 : minItems,
+                        maxItems == null ? Integer.MAX_VALUE : maxItems,
+                        schema.isUniqueItems()));
+            }
+        }
+
+        private void addObjectConstraints(final Schema schema, final List<Constraint> constraints) {
+            Map<String, Schema> properties = schema.getProperties();
+            List<String> required = schema.getRequired();
+            Schema additionalProperties = schema.getAdditionalProperties();
+            Integer minProperties = schema.getMinProperties();
+            Integer maxProperties = schema.getMaxProperties();
+            if (properties.isEmpty() && required == null && additionalProperties == null && schema.isAdditionalPropertiesAllowed()
+                    && minProperties == null && maxProperties == null) {
+                return;
+            }
+
+            String[] names = properties.keySet().toArray(new String[0]);
+            CompiledSchema[] schemas = new CompiledSchema[names.length];
+            for (int i = 0; i < names.length; i++) {
+                schemas[i] = this.compile(properties.get(names[i]));
+            }
+            constraints.add(new ObjectConstraint(
+                    names,
+                    schemas,
+                    required == null ? new String[0] : required.toArray(new String[0]),
+                    additionalProperties == null ? null : this.compile(additionalProperties),
+                    schema.isAdditionalPropertiesAllowed(),
+                    minProperties == null ? 0 : minProperties,
+                    maxProperties == null ? Integer.MAX_VALUE : maxProperties));
+        }
+
+        private void addCompositionConstraints(final Schema schema, final List<Constraint> constraints) {
+            if (schema.getAnyOf() != null) {
+                constraints.add(new AnyOfConstraint(this.compileAll(schema.getAnyOf())));
+            }
+            if (schema.getOneOf() != null) {
+                constraints.add(new OneOfConstraint(this.compileAll(schema.getOneOf())));
+            }
+            if (schema.getNot() != null) {
+                constraints.add(new NotConstraint(this.compile(schema.getNot())));
+            }
+        }
+
+        private CompiledSchema[] compileAll(final List<Schema> schemas) {
+            CompiledSchema[] compiledSchemas = new CompiledSchema[schemas.size()];
+            for (int i = 0; i < compiledSchemas.length; i++) {
+                compiledSchemas[i] = this.compile(schemas.get(i));
+            }
+            return compiledSchemas;
+        }
+    }
+
+    /**
+     * Restricts values to a single type
+     */
+    private static final class TypeConstraint extends Constraint {
+
+        private final SchemaType type;
+        private final boolean nullable;
+
+        TypeConstraint(final SchemaType type, final boolean nullable) {
+            this.type = type;
+            this.nullable = nullable;
+        }
+
+        @Override
+        boolean test(final Object value, final ValidationContext context) {
+            boolean valid;
+            switch (this.type) {
+                case STRING:
+                    valid = value instanceof String;
+                    break;
+                case NUMBER:
+                    valid = value instanceof Number;
+                    break;
+                case INTEGER:
+                    valid = isInteger(value);
+                    break;
+                case BOOLEAN:
+                    valid = value instanceof Boolean;
+                    break;
+                case ARRAY:
+                    valid = value instanceof JSONArray;
+                    break;
+                default:
+                    valid = value instanceof JSONObject;
+            }
+            if (valid || (this.nullable && value == JSONObject.NULL)) {
+                return true;
+            }
+            if (context != null) {
+                context.report("Expected " + this.type.getName() + " but was " + describe(value));
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Restricts values to a fixed set, looking up strings, integers and booleans without allocating
+     */
+    private static final class EnumConstraint extends Constraint {
+
+        private final Set<String> strings = new HashSet<>();
+        private final long[] integers;
+        private final Set<BigDecimal> decimals = new HashSet<>();
+        private final List<Object> structures = new ArrayList<>();
+        private boolean allowsTrue = false;
+        private boolean allowsFalse = false;
+        private boolean allowsNull = false;
+
+        EnumConstraint(final List<Object> values) {
+            long[] integers = new long[values.size()];
+            int count = 0;
+            for (Object value : values) {
+                if (value instanceof String) {
+                    this.strings.add((String) value);
+                } else if (value instanceof Boolean) {
+                    if ((Boolean) value) {
+                        this.allowsTrue = true;
+                    } else {
+                        this.allowsFalse = true;
+                    }
+                } else if (value == JSONObject.NULL) {
+                    this.allowsNull = true;
+                } else if (value instanceof Number) {
+                    BigDecimal decimal = toBigDecimal((Number) value).stripTrailingZeros();
+                    if (isLong(decimal)) {
+                        integers[count++] = decimal.longValueExact();
+                    } else {
+                        this.decimals.add(decimal);
+                    }
+                } else if (value instanceof JSONObject || value instanceof JSONArray) {
+                    this.structures.add(value);
+                } else {
+                    throw new IllegalArgumentException("Unsupported enum value: " + value);
+                }
+            }
+            this.integers = Arrays.copyOf(integers, count);
+            Arrays.sort(this.integers);
+        }
+
+        @Override
+        boolean test(final Object value, final ValidationContext context) {
+            if (this.contains(value)) {
+                return true;
+            }
+            if (context != null) {
+                context.report("Value is not one of the allowed values");
+            }
+            return false;
+        }
+
+        private boolean contains(final Object value) {
+            if (value instanceof String) {
+                return this.strings.contains(value);
+            }
+            if (value instanceof Boolean) {
+                return (Boolean) value ? this.allowsTrue : this.allowsFalse;
+            }
+            if (value == JSONObject.NULL) {
+                return this.allowsNull;
+            }
+            if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+                return Arrays.binarySearch(this.integers, ((Number) value).longValue()) >= 0;
+            }
+            if (value instanceof Number) {
+                BigDecimal decimal = toBigDecimal((Number) value).stripTrailingZeros();
+                if (isLong(decimal)) {
+                    return Arrays.binarySearch(this.integers, decimal.longValueExact()) >= 0;
+                }
+                return this.decimals.contains(decimal);
+            }
+            for (Object structure : this.structures) {
+                if (similar(structure, value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Restricts the number of characters in strings, counted as Unicode code points
+     */
+    private static final class LengthConstraint extends Constraint {
+
+        private final int minLength;
+        private final int maxLength;
+
+        LengthConstraint(final int minLength, final int maxLength) {
+            this.minLength = minLength;
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        boolean test(final Object value, final ValidationContext context) {
+            if (!(value instanceof String)) {
+                return true;
+            }
+            String string = (String) value;
+            int length = string.codePointCount(0, string.length());
+            if (length < this.minLength) {
+                if (context != null) {
+                    context.report("String is shorter than " + this.minLength + " characters");
+                }
+                return false;
+            }
+            if (length > this.maxLength) {
+                if (context != null) {
+                    context.report("String is longer than " + this.maxLength + " characters");
+                }
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Requires strings to contain a match of a precompiled, unanchored regular expression
+     */
+    private static final class PatternConstraint extends Constraint {
+
+        private final Pattern pattern;
+
+        // matchers are not thread-safe, so each thread reuses its own
+        private final ThreadLocal<Matcher> matchers;
+
+        PatternConstraint(final Pattern pattern) {
+            this.pattern = pattern;
+            this.matchers = ThreadLocal.withInitial(() -> pattern.matcher(""));
+        }
+
+        @Override
+        boolean test(final Object value, final ValidationContext context) {
+            if (!(value instanceof String)) {
+                return true;
+            }
+            Matcher matcher = this.matchers.get().reset((String) value);
+            boolean found = matcher.find();
+
+            // releases the value, which would otherwise be retained by the thread
+            matcher.reset("");
+            if (!found && context != null) {
+                context.report("String does not match the pattern " + this.pattern.pattern());
+            }
+            return found;
+        }
+    }
+
+    /**
+     * Restricts numbers to a lower or upper bound, comparing as doubles when that is exact
+     */
+    private static final class BoundConstraint extends Constraint {
+
+        private static final long MAX_EXACT_LONG = 1L << 53;
+
+        private final BigDecimal bound;
+        private final double boundDouble;
+        private final boolean exactDouble;
+        private final boolean exclusive;
+        private final boolean lower;
+
+        BoundConstraint(final BigDecimal bound, final boolean exclusive, final boolean lower) {
+            this.bound = bound;
+            this.boundDouble = bound.doubleValue();
+            this.exactDouble = !Double.isInfinite(this.boundDouble) && new BigDecimal(this.boundDouble).compareTo(bound) == 0;
+            this.exclusive = exclusive;
+            this.lower = lower;
+        }
+
+        @Override
+        boolean test(final Object value, final ValidationContext context) {
+            if (!(value instanceof Number)) {
+                return true;
+            }
+            int comparison = this.compare((Number) value);
+            boolean valid = this.lower
+                    ? comparison > 0 || (comparison == 0 && !this.exclusive)
+                    : comparison < 0 || (comparison == 0 && !this.exclusive);
+            if (!valid && context != null) {
+                context.report("Number must be " + (this.lower ? "greater than " : "less than ")
+                        + (this.exclusive ? "" : "or equal to ") + this.bound.toPlainString());
+            }
+            return valid;
+        }
+
+        private int compare(final Number value) {
+            if (this.exactDouble) {
+                double number;
+                if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                    number = value.intValue();
+                } else if (value instanceof Long && Math.abs(value.longValue()) <= MAX_EXACT_LONG) {
+                    number = value.longValue();
+                } else if (value instanceof Double || value instanceof Float) {
+                    number = value.doubleValue();
+                } else {
+                    return toBigDecimal(value).compareTo(this.bound);
+                }
+                return number < this.boundDouble ? -1 : (number > this.boundDouble ? 1 : 0);
+            }
+            return toBigDecimal(value).compareTo(this.bound);
+        }
+    }
+
+    /**
+     * Requires numbers to be a multiple of a divisor, using integer arithmetic when both are integers
+     */
+    private static final class MultipleOfConstraint extends Constraint {
+
+        private final BigDecimal divisor;
+        private final long integerDivisor;
+
+        MultipleOfConstraint(final BigDecimal divisor) {
+            this.divisor = divisor;
+            BigDecimal stripped = divisor.stripTrailingZeros();
+            this.integerDivisor = isLong(stripped) ? stripped.longValueExact() : 0;
+        }
+
+        @Override
+        boolean test(final Object value, final ValidationContext context) {
+            if (!(value instanceof Number)) {
+                return true;
+            }
+            boolean valid;
+            if (this.integerDivisor != 0 && (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte)) {
+                valid = ((Number) value).longValue() % this.integerDivisor == 0;
+            } else {
+                valid = toBigDecimal((Number) value).remainder(this.divisor).signum() == 0;
+            }
+            if (!valid && context != null) {
+                context.report("Number must be a multiple of " + this.divisor.toPlainString());
+            }
+            return valid;
+        }
+    }
+
+    /**
+     * Restricts the items of arrays
+     */
+    private static final class ArrayConstraint extends Constraint {
+
+        private final CompiledSchema items;
+        private final int minItems;
+        private final int maxItems;
+        private final boolean uniqueItems;
+
+        ArrayConstraint(final CompiledSchema items, final int minItems, final int maxItems, final boolean uniqueItems) {
+            this.items = items;
+            this.minItems = minItems;
+            this.maxItems = maxItems;
+            this.uniqueItems = uniqueItems;
+        }
+
+        @Override
+        boolean test(final Object value, final ValidationContext context) {
+            if (!(value instanceof JSONArray)) {
+                return true;
+            }
+            JSONArray array = (JSONArray) value;
+            int length = array.length();
+            boolean valid = true;
+            if (length < this.minItems) {
+                if (context == null) {
+                    return false;
+                }
+                context.report("Array has fewer than " + this.minItems + " items");
+                valid = false;
+            }
+            if (length > this.maxItems) {
+                if (context == null) {
+                    return false;
+                }
+                context.report("Array has more than " + this.maxItems + " items");
+                valid = false;
+            }
+            if (this.uniqueItems && !isUnique(array)) {
+                if (context == null) {
+                    return false;
+                }
+                context.report("Array items are not unique");
+                valid = false;
+            }
+
+            if (this.items != null) {
+                for (int i = 0; i < length; i++) {
+                    Object item = array.opt(i);
+                    if (item == null) {
+                        item = JSONObject.NULL;
+                    }
+                    if (context == null) {
+                        if (!this.items.validate(item, null)) {
+                            return false;
+                        }
+                    } else {
+                        context.push(Integer.toString(i));
+                        valid &= this.items.validate(item, context);
+                        context.pop();
+                    }
+                }
+            }
+            return valid;
+        }
+
+        private static boolean isUnique(final JSONArray array) {
+            int length = array.length();
+            Set<Object> scalars = new HashSet<>();
+            List<Object> structures = null;
+            for (int i = 0; i < length; i++) {
+                Object item = array.opt(i);
+                if (item instanceof JSONObject || item instanceof JSONArray) {
+                    if (structures == null) {
+                        structures = new ArrayList<>();
+                    }
+                    for (Object structure : structures) {
+                        if (similar(structure, item)) {
+                            return false;
+                        }
+                    }
+                    structures.add(item);
+                } else {
+                    // numbers compare by value, so 1 and 1.0 are the same item
+                    Object key = item instanceof Number ? toBigDecimal((Number) item).stripTrailingZeros() : item;
+                    if (!scalars.add(key)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Restricts the properties of objects
+     */
+    private static final class ObjectConstraint extends Constraint {
+
+        private final String[] names;
+        private final CompiledSchema[] schemas;
+        private final Set<String> nameSet;
+        private final String[] required;
+        private final CompiledSchema additionalProperties;
+        private final boolean additionalPropertiesAllowed;
+        private final int minProperties;
+        private final int maxProperties;
+
+        ObjectConstraint(final String[] names, final CompiledSchema[] schemas, final String[] required,
+                         final CompiledSchema additionalProperties, final boolean additionalPropertiesAllowed,
+                         final int minProperties, final int maxProperties) {
+            this.names = names;
+            this.schemas = schemas;
+            this.nameSet = new HashSet<>(Arrays.asList(names));
+            this.required = required;
+            this.additionalProperties = additionalProperties;
+            this.additionalPropertiesAllowed = additionalPropertiesAllowed;
+            this.minProperties = minProperties;
+            this.maxProperties = maxProperties;
+        }
+
+        @Override
+        boolean test(final Object value, final ValidationContext context) {
+            if (!(value instanceof JSONObject)) {
+                return true;
+            }
+            JSONObject object = (JSONObject) value;
+            boolean valid = true;
+
+            int length = object.length();
+            if (length < this.minProperties || length > this.maxProperties) {
+                if (context == null) {
+                    return false;
+                }
+                context.report(length < this.minProperties
+                        ? "Object has fewer than " + this.minProperties + " properties"
+                        : "Object has more than " + this.maxProperties + " properties");
+                valid = false;
+            }
+
+            for (String name : this.required) {
+                if (!object.has(name)) {
+                    if (context == null) {
+                        return false;
+                    }
+                    context.report(name, "Required property is missing");
+                    valid = false;
+                }
+            }
+
+            for (int i = 0; i < this.names.length; i++) {
+                Object property = object.opt(this.names[i]);
+                if (property != null) {
+                    valid &= this.validate(this.schemas[i], this.names[i], property, context);
+                    if (!valid && context == null) {
+                        return false;
+                    }
+                }
+            }
+
+            if (this.additionalProperties != null || !this.additionalPropertiesAllowed) {
+                for (String name : object.keySet()) {
+                    if (this.nameSet.contains(name)) {
+                        continue;
+                    }
+                    if (!this.additionalPropertiesAllowed) {
+                        if (context == null) {
+                            return false;
+                        }
+                        context.report(name, "Property is not allowed");
+                        valid = false;
+                    } else {
+                        valid &= this.validate(this.additionalProperties, name, object.opt(name), context);
+                        if (!valid && context == null) {
+                            return false;
+                        }
+                    }
+                }
+            }
+            return valid;
+        }
+
+        private boolean validate(final CompiledSchema schema, final String name, final Object property, final ValidationContext context) {
+            if (context == null) {
+                return schema.validate(property, null);
+            }
+            context.push(name);
+            boolean valid = schema.validate(property, context);
+            context.pop();
+            return valid;
+        }
+    }
+
+    /**
+     * Requires values to match at least one of several schemas
+     */
+    private static final class AnyOfConstraint extends Constraint {
+
+        private final CompiledSchema[] schemas;
+
+        AnyOfConstraint(final CompiledSchema[] schemas) {
+            this.schemas = schemas;
+        }
+
+        @Override
+        boolean test(final Object value, final ValidationContext context) {
+            for (CompiledSchema schema : this.schemas) {
+                if (schema.validate(value, null)) {
+                    return true;
+                }
+            }
+            if (context != null) {
+                context.report("Value does not match any of the schemas in anyOf");
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Requires values to match exactly one of several schemas
+     */
+    private static final class OneOfConstraint extends Constraint {
+
+        private final CompiledSchema[] schemas;
+
+        OneOfConstraint(final CompiledSchema[] schemas) {
+            this.schemas = schemas;
+        }
+
+        @Override
+        boolean test(final Object value, final ValidationContext context) {
+            int matches = 0;
+            for (CompiledSchema schema : this.schemas) {
+                if (schema.validate(value, null) && ++matches > 1 && context == null) {
+                    return false;
+                }
+            }
+            if (matches == 1) {
+                return true;
+            }
+            if (context != null) {
+                context.report("Value matches " + matches + " of the schemas in oneOf, but must match exactly one");
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Requires values not to match a schema
+     */
+    private static final class NotConstraint extends Constraint {
+
+        private final CompiledSchema schema;
+
+        NotConstraint(final CompiledSchema schema) {
+            this.schema = schema;
+        }
+
+        @Override
+        boolean test(final Object value, final ValidationContext context) {
+            if (!this.schema.validate(value, null)) {
+                return true;
+            }
+            if (context != null) {
+                context.report("Value must not match the schema in not");
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A number is an integer if it has no fractional part, so {@code 1.0} is an integer
+     */
+    private static boolean isInteger(final Object value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof BigInteger) {
+            return true;
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            return !Double.isInfinite(number) && number == Math.rint(number);
+        }
+        if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            return decimal.scale() <= 0 || decimal.stripTrailingZeros().scale() <= 0;
+        }
+        return false;
+    }
+
+    private static final BigDecimal MIN_LONG = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal MAX_LONG = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    private static boolean isLong(final BigDecimal decimal) {
+        return decimal.scale() <= 0 && decimal.compareTo(MIN_LONG) >= 0 && decimal.compareTo(MAX_LONG) <= 0;
+    }
+
+    private static BigDecimal toBigDecimal(final Number number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        }
+        if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        }
+        if (number instanceof Double || number instanceof Float) {
+            // the shortest decimal representation, which is what the JSON text contained
+            return BigDecimal.valueOf(number.doubleValue());
+        }
+        return BigDecimal.valueOf(number.longValue());
+    }
+
+    private static boolean similar(final Object structure, final Object value) {
+        if (structure instanceof JSONObject) {
+            return value instanceof JSONObject && ((JSONObject) structure).similar(value);
+        }
+        return value instanceof JSONArray && ((JSONArray) structure).similar(value);
+    }
+
+    private static String describe(final Object value) {
+        if (value == JSONObject.NULL) {
+            return "null";
+        }
+        if (value instanceof String) {
+            return "string";
+        }
+        if (value instanceof Number) {
+            return isInteger(value) ? "integer" : "number";
+        }
+        if (value instanceof Boolean) {
+            return "boolean";
+        }
+        if (value instanceof JSONArray) {
+            return "array";
+        }
+        if (value instanceof JSONObject) {
+            return "object";
+        }
+        return value.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,414 @@
+package com.xenosnowfox.openapi3.models.schema;
+
+import org.json.JSONObject;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Basic implementation of the {@link Schema} interface
+ *
+ * @since
+ *      1.0.0
+ */
+public class SchemaImpl implements Schema {
+
+    private String title = null;
+    private String description = null;
+    private SchemaType type = null;
+    private String format = null;
+    private boolean nullable = false;
+    private List<Object> enumValues = null;
+    private String pattern = null;
+    private Integer minLength = null;
+    private Integer maxLength = null;
+    private BigDecimal minimum = null;
+    private boolean exclusiveMinimum = false;
+    private BigDecimal maximum = null;
+    private boolean exclusiveMaximum = false;
+    private BigDecimal multipleOf = null;
+    private Schema items = null;
+    private Integer minItems = null;
+    private Integer maxItems = null;
+    private boolean uniqueItems = false;
+    private final Map<String, Schema> properties = new LinkedHashMap<>();
+    private final Map<String, Schema> unmodifiableProperties = Collections.unmodifiableMap(this.properties);
+    private List<String> required = null;
+    private Schema additionalProperties = null;
+    private boolean additionalPropertiesAllowed = true;
+    private Integer minProperties = null;
+    private Integer maxProperties = null;
+    private List<Schema> allOf = null;
+    private List<Schema> anyOf = null;
+    private List<Schema> oneOf = null;
+    private Schema not = null;
+
+    /**
+     * Instantiates a schema that allows any value
+     *
+     * @since
+     *      1.0.0
+     */
+    public SchemaImpl() {
+    }
+
+    /**
+     * Instantiates a schema that restricts values to the given type
+     *
+     * @param type
+     *      Type of the values
+     * @since
+     *      1.0.0
+     */
+    public SchemaImpl(final SchemaType type) {
+        this.setType(type);
+    }
+
+    @Override
+    public String getTitle() {
+        return this.title;
+    }
+
+    @Override
+    public void setTitle(final String title) {
+        this.title = title;
+    }
+
+    @Override
+    public String getDescription() {
+        return this.description;
+    }
+
+    @Override
+    public void setDescription(final String description) {
+        this.description = description;
+    }
+
+    @Override
+    public SchemaType getType() {
+        return this.type;
+    }
+
+    @Override
+    public void setType(final SchemaType type) {
+        this.type = type;
+    }
+
+    @Override
+    public String getFormat() {
+        return this.format;
+    }
+
+    @Override
+    public void setFormat(final String format) {
+        this.format = format;
+    }
+
+    @Override
+    public boolean isNullable() {
+        return this.nullable;
+    }
+
+    @Override
+    public void setNullable(final boolean nullable) {
+        this.nullable = nullable;
+    }
+
+    @Override
+    public List<Object> getEnum() {
+        return this.enumValues;
+    }
+
+    @Override
+    public void setEnum(final List<?> values) {
+        if (values == null) {
+            this.enumValues = null;
+            return;
+        }
+
+        // null is stored as JSONObject.NULL, as in the JSON tree of a document
+        List<Object> copy = new ArrayList<>(values.size());
+        for (Object value : values) {
+            copy.add(value == null ? JSONObject.NULL : value);
+        }
+        this.enumValues = Collections.unmodifiableList(copy);
+    }
+
+    @Override
+    public String getPattern() {
+        return this.pattern;
+    }
+
+    @Override
+    public void setPattern(final String pattern) {
+        if (pattern != null) {
+            try {
+                Pattern.compile(pattern);
+            } catch (PatternSyntaxException e) {
+                throw new IllegalArgumentException("Invalid pattern: " + pattern, e);
+            }
+        }
+        this.pattern = pattern;
+    }
+
+    @Override
+    public Integer getMinLength() {
+        return this.minLength;
+    }
+
+    @Override
+    public void setMinLength(final Integer minLength) {
+        if (minLength != null && minLength < 0) {
+            throw new IllegalArgumentException("Minimum length cannot be negative: " + minLength);
+        }
+        this.minLength = minLength;
+    }
+
+    @Override
+    public Integer getMaxLength() {
+        return this.maxLength;
+    }
+
+    @Override
+    public void setMaxLength(final Integer maxLength) {
+        if (maxLength != null && maxLength < 0) {
+            throw new IllegalArgumentException("Maximum length cannot be negative: " + maxLength);
+        }
+        this.maxLength = maxLength;
+    }
+
+    @Override
+    public BigDecimal getMinimum() {
+        return this.minimum;
+    }
+
+    @Override
+    public void setMinimum(final BigDecimal minimum) {
+        this.minimum = minimum;
+    }
+
+    @Override
+    public boolean isExclusiveMinimum() {
+        return this.exclusiveMinimum;
+    }
+
+    @Override
+    public void setExclusiveMinimum(final boolean exclusiveMinimum) {
+        this.exclusiveMinimum = exclusiveMinimum;
+    }
+
+    @Override
+    public BigDecimal getMaximum() {
+        return this.maximum;
+    }
+
+    @Override
+    public void setMaximum(final BigDecimal maximum) {
+        this.maximum = maximum;
+    }
+
+    @Override
+    public boolean isExclusiveMaximum() {
+        return this.exclusiveMaximum;
+    }
+
+    @Override
+    public void setExclusiveMaximum(final boolean exclusiveMaximum) {
+        this.exclusiveMaximum = exclusiveMaximum;
+    }
+
+    @Override
+    public BigDecimal getMultipleOf() {
+        return this.multipleOf;
+    }
+
+    @Override
+    public void setMultipleOf(final BigDecimal multipleOf) {
+        if (multipleOf != null && multipleOf.signum() <= 0) {
+            throw new IllegalArgumentException("Multiple of must be greater than zero: " + multipleOf);
+        }
+        this.multipleOf = multipleOf;
+    }
+
+    @Override
+    public Schema getItems() {
+        return this.items;
+    }
+
+    @Override
+    public void setItems(final Schema items) {
+        this.items = items;
+    }
+
+    @Override
+    public Integer getMinItems() {
+        return this.minItems;
+    }
+
+    @Override
+    public void setMinItems(final Integer minItems) {
+        if (minItems != null && minItems < 0) {
+            throw new IllegalArgumentException("Minimum number of items cannot be negative: " + minItems);
+        }
+        this.minItems = minItems;
+    }
+
+    @Override
+    public Integer getMaxItems() {
+        return this.maxItems;
+    }
+
+    @Override
+    public void setMaxItems(final Integer maxItems) {
+        if (maxItems != null && maxItems < 0) {
+            throw new IllegalArgumentException("Maximum number of items cannot be negative: " + maxItems);
+        }
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    public boolean isUniqueItems() {
+        return this.uniqueItems;
+    }
+
+    @Override
+    public void setUniqueItems(final boolean uniqueItems) {
+        this.uniqueItems = uniqueItems;
+    }
+
+    @Override
+    public Map<String, Schema> getProperties() {
+        return this.unmodifiableProperties;
+    }
+
+    @Override
+    public Schema getProperty(final String name) {
+        return this.properties.get(name);
+    }
+
+    @Override
+    public void setProperty(final String name, final Schema schema) {
+        if (name == null) {
+            throw new NullPointerException("Property name cannot be null");
+        }
+        if (schema == null) {
+            this.properties.remove(name);
+        } else {
+            this.properties.put(name, schema);
+        }
+    }
+
+    @Override
+    public List<String> getRequired() {
+        return this.required;
+    }
+
+    @Override
+    public void setRequired(final List<String> required) {
+        this.required = copy(required, "Required property name");
+    }
+
+    @Override
+    public boolean isAdditionalPropertiesAllowed() {
+        return this.additionalPropertiesAllowed;
+    }
+
+    @Override
+    public void setAdditionalPropertiesAllowed(final boolean additionalPropertiesAllowed) {
+        this.additionalPropertiesAllowed = additionalPropertiesAllowed;
+    }
+
+    @Override
+    public Schema getAdditionalProperties() {
+        return this.additionalProperties;
+    }
+
+    @Override
+    public void setAdditionalProperties(final Schema additionalProperties) {
+        this.additionalProperties = additionalProperties;
+    }
+
+    @Override
+    public Integer getMinProperties() {
+        return this.minProperties;
+    }
+
+    @Override
+    public void setMinProperties(final Integer minProperties) {
+        if (minProperties != null && minProperties < 0) {
+            throw new IllegalArgumentException("Minimum number of properties cannot be negative: " + minProperties);
+        }
+        this.minProperties = minProperties;
+    }
+
+    @Override
+    public Integer getMaxProperties() {
+        return this.maxProperties;
+    }
+
+    @Override
+    public void setMaxProperties(final Integer maxProperties) {
+        if (maxProperties != null && maxProperties < 0) {
+            throw new IllegalArgumentException("Maximum number of properties cannot be negative: " + maxProperties);
+        }
+        this.maxProperties = maxProperties;
+    }
+
+    @Override
+    public List<Schema> getAllOf() {
+        return this.allOf;
+    }
+
+    @Override
+    public void setAllOf(final List<Schema> allOf) {
+        this.allOf = copy(allOf, "Schema");
+    }
+
+    @Override
+    public List<Schema> getAnyOf() {
+        return this.anyOf;
+    }
+
+    @Override
+    public void setAnyOf(final List<Schema> anyOf) {
+        this.anyOf = copy(anyOf, "Schema");
+    }
+
+    @Override
+    public List<Schema> getOneOf() {
+        return this.oneOf;
+    }
+
+    @Override
+    public void setOneOf(final List<Schema> oneOf) {
+        this.oneOf = copy(oneOf, "Schema");
+    }
+
+    @Override
+    public Schema getNot() {
+        return this.not;
+    }
+
+    @Override
+    public void setNot(final Schema schema) {
+        this.not = schema;
+    }
+
+    private static <T> List<T> copy(final List<T> list, final String label) {
+        if (list == null) {
+            return null;
+        }
+        for (T element : list) {
+            if (element == null) {
+                throw new NullPointerException(label + " cannot be null");
+            }
+        }
+        return Collections.unmodifiableList(new ArrayList<>(list));
+    }
+}
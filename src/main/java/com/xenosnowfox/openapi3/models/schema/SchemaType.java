@@ -0,0 +1,56 @@
+package com.xenosnowfox.openapi3.models.schema;
+
+/**
+ * Data types that a {@link Schema} can restrict values to
+ *
+ * @since
+ *      1.0.0
+ */
+public enum SchemaType {
+    STRING("string"),
+    NUMBER("number"),
+    INTEGER("integer"),
+    BOOLEAN("boolean"),
+    ARRAY("array"),
+    OBJECT("object");
+
+    // values() returns a new array on every call
+    private static final SchemaType[] TYPES = values();
+
+    private final String name;
+
+    SchemaType(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Obtains the name of the type, as used in the schema
+     *
+     * @return
+     *      Type name
+     * @since
+     *      1.0.0
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Obtains the type with the given name
+     *
+     * @param name
+     *      Type name, e.g. {@code integer}
+     * @return
+     *      Type, or null if the name is not a known type
+     * @since
+     *      1.0.0
+     */
+    public static SchemaType of(final String name) {
+        for (SchemaType type : TYPES) {
+            if (type.name.equals(name)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
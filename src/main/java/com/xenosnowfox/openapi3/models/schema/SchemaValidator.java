@@ -0,0 +1,70 @@
+package com.xenosnowfox.openapi3.models.schema;
+
+import com.xenosnowfox.openapi3.models.validation.Violation;
+import org.json.JSONObject;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Validates JSON values against a compiled {@link Schema}.
+ * Values are the types produced by {@link org.json.JSONTokener}: {@link JSONObject}, {@link org.json.JSONArray},
+ * {@link String}, {@link Number}, {@link Boolean} and {@link JSONObject#NULL}, where a Java null is treated as JSON null.
+ * Instances are immutable and can be shared between threads; they do not observe the schema they were compiled from.
+ *
+ * @since
+ *      1.0.0
+ * @see
+ *      SchemaCompiler
+ */
+public final class SchemaValidator {
+
+    private final CompiledSchema root;
+
+    /**
+     * Instantiates a validator for the given compiled schema
+     *
+     * @param root
+     *      Compiled schema
+     */
+    SchemaValidator(final CompiledSchema root) {
+        this.root = root;
+    }
+
+    /**
+     * Determines whether the given value is valid. Stops at the first violation, and only allocates where a constraint
+     * requires it, such as {@code uniqueItems} or a {@code multipleOf} that cannot be checked with integer arithmetic.
+     *
+     * @param value
+     *      JSON value to validate
+     * @return
+     *      true if the value matches the schema
+     * @since
+     *      1.0.0
+     */
+    public boolean isValid(final Object value) {
+        return this.root.validate(value == null ? JSONObject.NULL : value, null);
+    }
+
+    /**
+     * Validates the given value, reporting every violation rather than only the first
+     *
+     * @param value
+     *      JSON value to validate
+     * @return
+     *      Unmodifiable list of violations, whose paths are JSON Pointers into the value, which is empty if the value is valid
+     * @since
+     *      1.0.0
+     */
+    public List<Violation> validate(final Object value) {
+        Object json = value == null ? JSONObject.NULL : value;
+
+        // most values are valid, so the violations are only collected once the fast check has failed
+        if (this.root.validate(json, null)) {
+            return Collections.emptyList();
+        }
+        ValidationContext context = new ValidationContext();
+        this.root.validate(json, context);
+        return Collections.unmodifiableList(context.getViolations());
+    }
+}
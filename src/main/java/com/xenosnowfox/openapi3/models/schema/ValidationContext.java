@@ -0,0 +1,72 @@
+package com.xenosnowfox.openapi3.models.schema;
+
+import com.xenosnowfox.openapi3.models.validation.Violation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Collects the violations of a single validation, along with the JSON Pointer of the value being checked
+ *
+ * @since
+ *      1.0.0
+ */
+final class ValidationContext {
+
+    private final List<Violation> violations = new ArrayList<>();
+    private String[] tokens = new String[8];
+    private int depth = 0;
+
+    /**
+     * Descends into the member or item with the given name
+     *
+     * @param token
+     *      Member name or array index
+     */
+    void push(final String token) {
+        if (this.depth == this.tokens.length) {
+            this.tokens = Arrays.copyOf(this.tokens, this.depth * 2);
+        }
+        this.tokens[this.depth++] = token;
+    }
+
+    /**
+     * Returns to the parent of the current value
+     */
+    void pop() {
+        this.tokens[--this.depth] = null;
+    }
+
+    /**
+     * Reports a violation at the current value
+     *
+     * @param message
+     *      Description of the violation
+     */
+    void report(final String message) {
+        StringBuilder path = new StringBuilder();
+        for (int i = 0; i < this.depth; i++) {
+            path.append('/').append(this.tokens[i].replace("~", "~0").replace("/", "~1"));
+        }
+        this.violations.add(new Violation(path.toString(), message));
+    }
+
+    /**
+     * Reports a violation at the given member of the current value
+     *
+     * @param token
+     *      Member name
+     * @param message
+     *      Description of the violation
+     */
+    void report(final String token, final String message) {
+        this.push(token);
+        this.report(message);
+        this.pop();
+    }
+
+    List<Violation> getViolations() {
+        return this.violations;
+    }
+}
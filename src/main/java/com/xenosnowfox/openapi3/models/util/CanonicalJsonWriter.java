@@ -0,0 +1,291 @@
+package com.xenosnowfox.openapi3.models.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes canonical JSON following the JSON Canonicalization Scheme (RFC 8785), so that equal content always produces
+ * identical output regardless of the order in which members are written: members are sorted by name (comparing UTF-16
+ * code units), there is no whitespace, strings only escape what JSON requires, and numbers are written in their
+ * shortest ECMAScript form. Already encoded JSON passed to {@link #rawValue(CharSequence)} is parsed and canonicalized.
+ * Members are buffered until their enclosing object ends, as it is only then that the order is known.
+ *
+ * @since
+ *      1.0.0
+ * @see
+ *      <a href="https://tools.ietf.org/html/rfc8785">https://tools.ietf.org/html/rfc8785</a>
+ */
+public class CanonicalJsonWriter extends JsonWriter {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Appendable appendable;
+    private final List<Frame> frames = new ArrayList<>();
+    private String pendingName = null;
+    // length of the completed values, where those of an object's members are replaced by the object once it ends
+    private long byteCount = 0;
+
+    /**
+     * Instantiates a writer that appends canonical JSON to the given appendable
+     *
+     * @param appendable
+     *      Destination of the JSON output
+     * @since
+     *      1.0.0
+     */
+    public CanonicalJsonWriter(final Appendable appendable) {
+        super(appendable);
+        this.appendable = appendable;
+    }
+
+    /**
+     * Cached JSON representations are not canonical, so objects holding one should stream their members instead
+     */
+    @Override
+    public boolean isRawJsonSupported() {
+        return false;
+    }
+
+    @Override
+    public JsonWriter beginObject() throws IOException {
+        this.frames.add(new Frame(this.pendingName));
+        this.pendingName = null;
+        return this;
+    }
+
+    @Override
+    public JsonWriter endObject() throws IOException {
+        Frame frame = this.frames.remove(this.frames.size() - 1);
+        this.pendingName = frame.name;
+        this.byteCount -= frame.byteCount;
+        this.emit(frame.toJson());
+        return this;
+    }
+
+    @Override
+    public JsonWriter name(final String name) throws IOException {
+        this.pendingName = name;
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final String value) throws IOException {
+        StringBuilder builder = new StringBuilder(value == null ? 2 : value.length() + 2);
+        quoteCanonical(value, builder);
+        this.emit(builder);
+        return this;
+    }
+
+    @Override
+    public JsonWriter rawValue(final CharSequence json) throws IOException {
+        JsonReader reader = new JsonReader(json.toString().getBytes(StandardCharsets.UTF_8));
+        StringBuilder builder = new StringBuilder(json.length());
+        canonicalize(reader, builder);
+
+        // fails if the raw value contains more than a single value
+        reader.peek();
+        this.emit(builder);
+        return this;
+    }
+
+    /**
+     * Members are only written once their object ends, so the size of nested objects is counted here instead
+     */
+    @Override
+    long getByteCount() {
+        return this.byteCount;
+    }
+
+    private void emit(final CharSequence json) throws IOException {
+        long length = CountingAppendable.length(json);
+        this.byteCount += length;
+        if (this.frames.isEmpty()) {
+            this.appendable.append(json);
+        } else {
+            Frame frame = this.frames.get(this.frames.size() - 1);
+            frame.members.put(this.pendingName, json);
+            frame.byteCount += length;
+        }
+        this.pendingName = null;
+    }
+
+    private static void canonicalize(final JsonReader reader, final StringBuilder builder) throws IOException {
+        switch (reader.peek()) {
+            case BEGIN_OBJECT:
+                Frame frame = new Frame(null);
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    String name = reader.nextName();
+                    StringBuilder member = new StringBuilder();
+                    canonicalize(reader, member);
+                    frame.members.put(name, member);
+                }
+                reader.endObject();
+                builder.append(frame.toJson());
+                break;
+            case BEGIN_ARRAY:
+                builder.append('[');
+                reader.beginArray();
+                boolean first = true;
+                while (reader.hasNext()) {
+                    if (!first) {
+                        builder.append(',');
+                    }
+                    first = false;
+                    canonicalize(reader, builder);
+                }
+                reader.endArray();
+                builder.append(']');
+                break;
+            case STRING:
+                quoteCanonical(reader.nextString(), builder);
+                break;
+            case NUMBER:
+                builder.append(formatNumber(reader.nextNumber()));
+                break;
+            case BOOLEAN:
+                builder.append(reader.nextBoolean());
+                break;
+            case NULL:
+                reader.nextNull();
+                builder.append("null");
+                break;
+            default:
+                throw new IllegalStateException("Expected a value but was " + reader.peek());
+        }
+    }
+
+    /**
+     * Writes the given string as a quoted JSON string, escaping only quotation marks, reverse solidi and control characters
+     *
+     * @param string
+     *      String to quote, where null is written as an empty string
+     * @param builder
+     *      Destination of the quoted string
+     * @since
+     *      1.0.0
+     */
+    public static void quoteCanonical(final String string, final StringBuilder builder) {
+        builder.append('"');
+        if (string != null) {
+            for (int i = 0; i < string.length(); i++) {
+                char c = string.charAt(i);
+                switch (c) {
+                    case '"':
+                        builder.append("\\\"");
+                        break;
+                    case '\\':
+                        builder.append("\\\\");
+                        break;
+                    case '\b':
+                        builder.append("\\b");
+                        break;
+                    case '\f':
+                        builder.append("\\f");
+                        break;
+                    case '\n':
+                        builder.append("\\n");
+                        break;
+                    case '\r':
+                        builder.append("\\r");
+                        break;
+                    case '\t':
+                        builder.append("\\t");
+                        break;
+                    default:
+                        if (c < 0x20) {
+                            builder.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                        } else {
+                            builder.append(c);
+                        }
+                }
+            }
+        }
+        builder.append('"');
+    }
+
+    /**
+     * Formats a number the way ECMAScript's {@code Number.prototype.toString()} does, as required by RFC 8785.
+     * The digits are those of the shortest decimal that parses back to the same double, see {@link ShortestDecimal}.
+     *
+     * @param number
+     *      JSON number literal
+     * @return
+     *      Canonical representation
+     * @since
+     *      1.0.0
+     */
+    public static String formatNumber(final String number) {
+        double value = Double.parseDouble(number);
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Number cannot be represented in canonical JSON: " + number);
+        }
+        if (value == 0) {
+            return "0";
+        }
+
+        // shortest round-tripping digits and the exponent of the first digit
+        ShortestDecimal decimal = ShortestDecimal.of(Math.abs(value));
+        String digits = Long.toString(decimal.getSignificand());
+        int exponent = digits.length() + decimal.getExponent();
+
+        StringBuilder builder = new StringBuilder();
+        if (value < 0) {
+            builder.append('-');
+        }
+        if (exponent > 0 && exponent <= 21) {
+            if (digits.length() <= exponent) {
+                builder.append(digits);
+                for (int i = digits.length(); i < exponent; i++) {
+                    builder.append('0');
+                }
+            } else {
+                builder.append(digits, 0, exponent).append('.').append(digits, exponent, digits.length());
+            }
+        } else if (exponent <= 0 && exponent > -6) {
+            builder.append("0.");
+            for (int i = exponent; i < 0; i++) {
+                builder.append('0');
+            }
+            builder.append(digits);
+        } else {
+            builder.append(digits.charAt(0));
+            if (digits.length() > 1) {
+                builder.append('.').append(digits, 1, digits.length());
+            }
+            builder.append('e').append(exponent > 0 ? "+" : "-").append(Math.abs(exponent - 1));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Members of an object that has not ended yet, sorted by name
+     */
+    private static final class Frame {
+
+        private final String name;
+        private final Map<String, CharSequence> members = new TreeMap<>();
+        private long byteCount = 0;
+
+        Frame(final String name) {
+            this.name = name;
+        }
+
+        CharSequence toJson() {
+            StringBuilder builder = new StringBuilder();
+            builder.append('{');
+            for (Map.Entry<String, CharSequence> member : this.members.entrySet()) {
+                if (builder.length() > 1) {
+                    builder.append(',');
+                }
+                quoteCanonical(member.getKey(), builder);
+                builder.append(':').append(member.getValue());
+            }
+            return builder.append('}');
+        }
+    }
+}
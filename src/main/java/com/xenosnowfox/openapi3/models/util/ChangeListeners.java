@@ -0,0 +1,89 @@
+package com.xenosnowfox.openapi3.models.util;
+
+import java.util.Arrays;
+
+/**
+ * Thread-safe set of change listeners used by {@link Trackable} implementations.
+ * Notifying an empty set costs a single volatile read.
+ *
+ * @since
+ *      1.0.0
+ */
+public class ChangeListeners {
+
+    // generic arrays cannot be created directly; every other array is copied from this one, keeping its element type
+    @SuppressWarnings("unchecked")
+    private static final Invokable<Trackable>[] NONE = (Invokable<Trackable>[]) new Invokable<?>[0];
+
+    private volatile Invokable<Trackable>[] listeners = NONE;
+
+    /**
+     * Registers a listener
+     *
+     * @param listener
+     *      Listener to register
+     * @return
+     *      true if this is the first registered listener
+     * @since
+     *      1.0.0
+     */
+    public synchronized boolean add(final Invokable<Trackable> listener) {
+        if (listener == null) {
+            throw new NullPointerException("Listener cannot be null");
+        }
+        Invokable<Trackable>[] current = this.listeners;
+        Invokable<Trackable>[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        this.listeners = updated;
+        return current.length == 0;
+    }
+
+    /**
+     * Removes a listener
+     *
+     * @param listener
+     *      Listener to remove
+     * @return
+     *      true if the last registered listener was removed
+     * @since
+     *      1.0.0
+     */
+    public synchronized boolean remove(final Invokable<Trackable> listener) {
+        Invokable<Trackable>[] current = this.listeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                Invokable<Trackable>[] updated = current.length == 1 ? NONE : Arrays.copyOf(current, current.length - 1);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                this.listeners = updated;
+                return updated.length == 0;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines whether no listeners are registered
+     *
+     * @return
+     *      true if there are no listeners
+     * @since
+     *      1.0.0
+     */
+    public boolean isEmpty() {
+        return this.listeners.length == 0;
+    }
+
+    /**
+     * Invokes every registered listener with the given source
+     *
+     * @param source
+     *      Object that was modified
+     * @since
+     *      1.0.0
+     */
+    public void fire(final Trackable source) {
+        for (Invokable<Trackable> listener : this.listeners) {
+            listener.invoke(source);
+        }
+    }
+}
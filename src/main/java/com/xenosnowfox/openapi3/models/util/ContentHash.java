@@ -0,0 +1,124 @@
+package com.xenosnowfox.openapi3.models.util;
+
+/**
+ * Immutable 128-bit hash of the content of a model, suitable as a deduplication key or as a strong HTTP entity tag.
+ * Objects with equal content have equal hashes regardless of their implementation.
+ *
+ * @since
+ *      1.0.0
+ */
+public final class ContentHash {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final long high;
+    private final long low;
+
+    /**
+     * Instantiates a hash from its two halves
+     *
+     * @param high
+     *      Most significant 64 bits
+     * @param low
+     *      Least significant 64 bits
+     * @since
+     *      1.0.0
+     */
+    public ContentHash(final long high, final long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Parses a hash from the 32 hexadecimal digits produced by {@link #toString()}
+     *
+     * @param hex
+     *      Hexadecimal representation, optionally surrounded by the double quotes of an entity tag
+     * @return
+     *      Content hash
+     * @throws IllegalArgumentException
+     *      if the string is not a valid hash
+     * @since
+     *      1.0.0
+     */
+    public static ContentHash parse(final String hex) {
+        String digits = hex;
+        if (digits.length() == 34 && digits.charAt(0) == '"' && digits.charAt(33) == '"') {
+            digits = digits.substring(1, 33);
+        }
+        if (digits.length() != 32) {
+            throw new IllegalArgumentException("Invalid content hash: " + hex);
+        }
+        try {
+            return new ContentHash(Long.parseUnsignedLong(digits.substring(0, 16), 16), Long.parseUnsignedLong(digits.substring(16), 16));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid content hash: " + hex, e);
+        }
+    }
+
+    /**
+     * Obtains the most significant 64 bits, for use where a 64-bit hash is sufficient
+     *
+     * @return
+     *      64-bit hash
+     * @since
+     *      1.0.0
+     */
+    public long getHigh() {
+        return this.high;
+    }
+
+    /**
+     * Obtains the least significant 64 bits
+     *
+     * @return
+     *      Lower half of the hash
+     * @since
+     *      1.0.0
+     */
+    public long getLow() {
+        return this.low;
+    }
+
+    /**
+     * Obtains the hash as a strong HTTP entity tag, i.e. its hexadecimal representation in double quotes
+     *
+     * @return
+     *      Entity tag
+     * @since
+     *      1.0.0
+     */
+    public String toETag() {
+        return '"' + this.toString() + '"';
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ContentHash)) {
+            return false;
+        }
+        ContentHash other = (ContentHash) obj;
+        return this.high == other.high && this.low == other.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) this.high;
+    }
+
+    /**
+     * Obtains the hash as 32 lower case hexadecimal digits
+     */
+    @Override
+    public String toString() {
+        char[] chars = new char[32];
+        for (int i = 0; i < 16; i++) {
+            chars[15 - i] = HEX[(int) (this.high >>> (i * 4)) & 0xF];
+            chars[31 - i] = HEX[(int) (this.low >>> (i * 4)) & 0xF];
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,212 @@
+package com.xenosnowfox.openapi3.models.util;
+
+/**
+ * Computes a {@link ContentHash} incrementally using MurmurHash3 (x64, 128-bit). Values are appended in a
+ * self-delimiting encoding, so the hash of a sequence of fields cannot be reproduced by a different sequence.
+ * The hasher can also be used as an {@link Appendable}, in which case characters are appended without delimiters.
+ * Instances are not thread-safe.
+ *
+ * @since
+ *      1.0.0
+ */
+public final class ContentHasher implements Appendable {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private long h1 = 0;
+    private long h2 = 0;
+    private long k1 = 0;
+    private long k2 = 0;
+    private int pending = 0;
+    private long length = 0;
+
+    /**
+     * Appends a string, or a marker if it is null
+     *
+     * @param value
+     *      String to hash
+     * @return
+     *      this hasher, to allow for method chaining
+     * @since
+     *      1.0.0
+     */
+    public ContentHasher putString(final String value) {
+        if (value == null) {
+            return this.putInt(-1);
+        }
+        this.putInt(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            this.putChar(value.charAt(i));
+        }
+        return this;
+    }
+
+    /**
+     * Appends a nested hash, or a marker if it is null
+     *
+     * @param hash
+     *      Hash of a nested object
+     * @return
+     *      this hasher, to allow for method chaining
+     * @since
+     *      1.0.0
+     */
+    public ContentHasher putHash(final ContentHash hash) {
+        if (hash == null) {
+            return this.putByte(0);
+        }
+        this.putByte(1);
+        this.putLong(hash.getHigh());
+        return this.putLong(hash.getLow());
+    }
+
+    /**
+     * Appends a 32-bit integer
+     *
+     * @param value
+     *      Integer to hash
+     * @return
+     *      this hasher, to allow for method chaining
+     * @since
+     *      1.0.0
+     */
+    public ContentHasher putInt(final int value) {
+        for (int i = 0; i < 32; i += 8) {
+            this.putByte(value >>> i);
+        }
+        return this;
+    }
+
+    /**
+     * Appends a 64-bit integer
+     *
+     * @param value
+     *      Integer to hash
+     * @return
+     *      this hasher, to allow for method chaining
+     * @since
+     *      1.0.0
+     */
+    public ContentHasher putLong(final long value) {
+        for (int i = 0; i < 64; i += 8) {
+            this.putByte((int) (value >>> i));
+        }
+        return this;
+    }
+
+    /**
+     * Appends a single UTF-16 code unit
+     *
+     * @param c
+     *      Character to hash
+     * @return
+     *      this hasher, to allow for method chaining
+     * @since
+     *      1.0.0
+     */
+    public ContentHasher putChar(final char c) {
+        this.putByte(c);
+        return this.putByte(c >>> 8);
+    }
+
+    @Override
+    public Appendable append(final CharSequence csq) {
+        return this.append(csq, 0, csq.length());
+    }
+
+    @Override
+    public Appendable append(final CharSequence csq, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            this.putChar(csq.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public Appendable append(final char c) {
+        return this.putChar(c);
+    }
+
+    /**
+     * Obtains the hash of everything appended so far. More values can be appended afterwards.
+     *
+     * @return
+     *      Content hash
+     * @since
+     *      1.0.0
+     */
+    public ContentHash hash() {
+        long h1 = this.h1;
+        long h2 = this.h2;
+
+        // process the remaining partial block
+        if (this.pending > 8) {
+            h2 ^= mixK2(this.k2);
+        }
+        if (this.pending > 0) {
+            h1 ^= mixK1(this.k1);
+        }
+
+        h1 ^= this.length;
+        h2 ^= this.length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+        return new ContentHash(h1, h2);
+    }
+
+    private ContentHasher putByte(final int value) {
+        long b = value & 0xFFL;
+        if (this.pending < 8) {
+            this.k1 |= b << (this.pending * 8);
+        } else {
+            this.k2 |= b << ((this.pending - 8) * 8);
+        }
+        this.length++;
+        if (++this.pending == 16) {
+            this.processBlock();
+        }
+        return this;
+    }
+
+    private void processBlock() {
+        this.h1 ^= mixK1(this.k1);
+        this.h1 = Long.rotateLeft(this.h1, 27);
+        this.h1 += this.h2;
+        this.h1 = this.h1 * 5 + 0x52dce729;
+
+        this.h2 ^= mixK2(this.k2);
+        this.h2 = Long.rotateLeft(this.h2, 31);
+        this.h2 += this.h1;
+        this.h2 = this.h2 * 5 + 0x38495ab5;
+
+        this.k1 = 0;
+        this.k2 = 0;
+        this.pending = 0;
+    }
+
+    private static long mixK1(long k1) {
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        return k1 * C2;
+    }
+
+    private static long mixK2(long k2) {
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        return k2 * C1;
+    }
+
+    private static long fmix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -0,0 +1,89 @@
+package com.xenosnowfox.openapi3.models.util;
+
+import java.io.IOException;
+
+/**
+ * Appendable that forwards to another appendable while counting the length its output would have once UTF-8 encoded
+ *
+ * @since
+ *      1.0.0
+ */
+class CountingAppendable implements Appendable {
+
+    private final Appendable appendable;
+    private long byteCount = 0;
+
+    /**
+     * Instantiates an appendable that forwards to the given appendable
+     *
+     * @param appendable
+     *      Destination of the characters
+     */
+    CountingAppendable(final Appendable appendable) {
+        this.appendable = appendable;
+    }
+
+    /**
+     * Obtains the length of the output so far once UTF-8 encoded
+     *
+     * @return
+     *      Number of bytes
+     */
+    long getByteCount() {
+        return this.byteCount;
+    }
+
+    @Override
+    public Appendable append(final CharSequence csq) throws IOException {
+        return this.append(csq, 0, csq.length());
+    }
+
+    @Override
+    public Appendable append(final CharSequence csq, final int start, final int end) throws IOException {
+        for (int i = start; i < end; i++) {
+            this.count(csq.charAt(i));
+        }
+        this.appendable.append(csq, start, end);
+        return this;
+    }
+
+    @Override
+    public Appendable append(final char c) throws IOException {
+        this.count(c);
+        this.appendable.append(c);
+        return this;
+    }
+
+    private void count(final char c) {
+        this.byteCount += length(c);
+    }
+
+    /**
+     * Obtains the length of the given characters once UTF-8 encoded
+     *
+     * @param csq
+     *      Characters to measure
+     * @return
+     *      Number of bytes
+     */
+    static long length(final CharSequence csq) {
+        long length = 0;
+        for (int i = 0; i < csq.length(); i++) {
+            length += length(csq.charAt(i));
+        }
+        return length;
+    }
+
+    /**
+     * Surrogates count as two bytes each, so that a pair adds up to the four bytes of its code point
+     */
+    private static int length(final char c) {
+        if (c < 0x80) {
+            return 1;
+        } else if (c < 0x800 || Character.isSurrogate(c)) {
+            return 2;
+        } else {
+            return 3;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.xenosnowfox.openapi3.models.util;
+
+/**
+ * Defines a model object that can hold specification extensions, i.e. members whose names begin with {@code x-}.
+ * Extensions are serialized alongside the other members of the object.
+ *
+ * @since
+ *      1.0.0
+ * @see
+ *      <a href="https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.2.md#specification-extensions">https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.2.md#specification-extensions</a>
+ */
+public interface Extensible {
+
+    /**
+     * Obtains the specification extensions of the object
+     *
+     * @return
+     *      Extensions, which are empty if there are none
+     * @since
+     *      1.0.0
+     */
+    default Extensions getExtensions() {
+        return Extensions.EMPTY;
+    }
+
+    /**
+     * Replaces the specification extensions of the object
+     *
+     * @param extensions
+     *      Extensions, or null to remove all of them
+     * @throws UnsupportedOperationException
+     *      if the object cannot hold extensions
+     * @since
+     *      1.0.0
+     */
+    default void setExtensions(final Extensions extensions) {
+        throw new UnsupportedOperationException("Extensions are not supported by " + this.getClass().getName());
+    }
+
+    /**
+     * Obtains the decoded value of a specification extension, see {@link Extensions#get(String)}
+     *
+     * @param name
+     *      Extension name, e.g. {@code x-logo}
+     * @return
+     *      Decoded value, or null if there is no such extension
+     * @since
+     *      1.0.0
+     */
+    default Object getExtension(final String name) {
+        return this.getExtensions().get(name);
+    }
+
+    /**
+     * Adds or replaces a specification extension, see {@link Extensions#with(String, Object)}
+     *
+     * @param name
+     *      Extension name, which must begin with {@code x-}
+     * @param value
+     *      Extension value, or null to remove the extension
+     * @since
+     *      1.0.0
+     */
+    default void setExtension(final String name, final Object value) {
+        this.setExtensions(this.getExtensions().with(name, value));
+    }
+
+    /**
+     * Shorthand version of {@link #getExtension(String)}
+     *
+     * @since
+     *      1.0.0
+     */
+    default Object extension(final String name) {
+        return this.getExtension(name);
+    }
+}
@@ -0,0 +1,391 @@
+package com.xenosnowfox.openapi3.models.util;
+
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable set of specification extensions, i.e. the {@code x-} members that can be added to most objects of a specification.
+ * Up to four extensions are stored in two small arrays that are searched linearly, and only larger sets are indexed by a
+ * map. Extension names are interned, so the same name used by many objects is stored once, and values are kept as
+ * {@link RawJson} until they are read. Modifications return a new instance, so a set can be shared between any number of
+ * objects and threads.
+ *
+ * @since
+ *      1.0.0
+ * @see
+ *      <a href="https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.2.md#specification-extensions">https://github.com/OAI/OpenAPI-Specification/blob/master/versions/3.0.2.md#specification-extensions</a>
+ */
+public final class Extensions implements Jsonable {
+
+    /**
+     * Set without any extensions
+     *
+     * @since
+     *      1.0.0
+     */
+    public static final Extensions EMPTY = new Extensions(new String[0], new RawJson[0]);
+
+    private static final int INLINE_SIZE = 4;
+    private static final WeakInterner<String> NAMES = new WeakInterner<>();
+
+    private final String[] names;
+    private final RawJson[] values;
+    private final Map<String, Integer> index;
+
+    // computed on first use; racy publication is safe as content hashes are immutable
+    private ContentHash contentHash = null;
+
+    private Extensions(final String[] names, final RawJson[] values) {
+        this.names = names;
+        this.values = values;
+        if (names.length > INLINE_SIZE) {
+            this.index = new HashMap<>(names.length * 2);
+            for (int i = 0; i < names.length; i++) {
+                this.index.put(names[i], i);
+            }
+        } else {
+            this.index = null;
+        }
+    }
+
+    /**
+     * Obtains the number of extensions
+     *
+     * @return
+     *      Number of extensions
+     * @since
+     *      1.0.0
+     */
+    public int size() {
+        return this.names.length;
+    }
+
+    /**
+     * Determines whether there are no extensions
+     *
+     * @return
+     *      true if there are no extensions
+     * @since
+     *      1.0.0
+     */
+    public boolean isEmpty() {
+        return this.names.length == 0;
+    }
+
+    /**
+     * Obtains the name of the extension at the given position, in the order the extensions were added
+     *
+     * @param index
+     *      Position of the extension
+     * @return
+     *      Extension name
+     * @since
+     *      1.0.0
+     */
+    public String getName(final int index) {
+        return this.names[index];
+    }
+
+    /**
+     * Obtains the encoded value of the extension at the given position, in the order the extensions were added
+     *
+     * @param index
+     *      Position of the extension
+     * @return
+     *      Encoded value
+     * @since
+     *      1.0.0
+     */
+    public RawJson getRawValue(final int index) {
+        return this.values[index];
+    }
+
+    /**
+     * Obtains the encoded value of the given extension
+     *
+     * @param name
+     *      Extension name, e.g. {@code x-logo}
+     * @return
+     *      Encoded value, or null if there is no such extension
+     * @since
+     *      1.0.0
+     */
+    public RawJson getRawValue(final String name) {
+        int index = this.indexOf(name);
+        return index == -1 ? null : this.values[index];
+    }
+
+    /**
+     * Obtains the decoded value of the given extension, see {@link RawJson#getValue()}
+     *
+     * @param name
+     *      Extension name, e.g. {@code x-logo}
+     * @return
+     *      Decoded value, or null if there is no such extension
+     * @since
+     *      1.0.0
+     */
+    public Object get(final String name) {
+        RawJson value = this.getRawValue(name);
+        return value == null ? null : value.getValue();
+    }
+
+    /**
+     * Obtains a set with the given extension added, or replaced if an extension with the same name already exists
+     *
+     * @param name
+     *      Extension name, which must begin with {@code x-}
+     * @param value
+     *      Value as accepted by {@link RawJson#of(Object)}, or null to remove the extension
+     * @return
+     *      Modified set of extensions
+     * @throws NullPointerException
+     *      if the name is null or blank
+     * @throws IllegalArgumentException
+     *      if the name does not begin with {@code x-}
+     * @since
+     *      1.0.0
+     */
+    public Extensions with(final String name, final Object value) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new NullPointerException("Extension name cannot be null or blank");
+        }
+        if (!name.startsWith("x-")) {
+            throw new IllegalArgumentException("Extension name must begin with x-: " + name);
+        }
+        if (value == null) {
+            return this.without(name);
+        }
+
+        RawJson rawValue = RawJson.of(value);
+        int index = this.indexOf(name);
+        if (index != -1) {
+            if (this.values[index].equals(rawValue)) {
+                return this;
+            }
+            RawJson[] values = this.values.clone();
+            values[index] = rawValue;
+            return new Extensions(this.names, values);
+        }
+
+        String[] names = new String[this.names.length + 1];
+        RawJson[] values = new RawJson[this.values.length + 1];
+        System.arraycopy(this.names, 0, names, 0, this.names.length);
+        System.arraycopy(this.values, 0, values, 0, this.values.length);
+        names[this.names.length] = NAMES.intern(name);
+        values[this.values.length] = rawValue;
+        return new Extensions(names, values);
+    }
+
+    /**
+     * Obtains a set without the given extension
+     *
+     * @param name
+     *      Extension name
+     * @return
+     *      Modified set of extensions
+     * @since
+     *      1.0.0
+     */
+    public Extensions without(final String name) {
+        int index = this.indexOf(name);
+        if (index == -1) {
+            return this;
+        }
+        if (this.names.length == 1) {
+            return EMPTY;
+        }
+
+        String[] names = new String[this.names.length - 1];
+        RawJson[] values = new RawJson[this.values.length - 1];
+        System.arraycopy(this.names, 0, names, 0, index);
+        System.arraycopy(this.values, 0, values, 0, index);
+        System.arraycopy(this.names, index + 1, names, index, names.length - index);
+        System.arraycopy(this.values, index + 1, values, index, values.length - index);
+        return new Extensions(names, values);
+    }
+
+    private int indexOf(final String name) {
+        if (this.index != null) {
+            Integer index = this.index.get(name);
+            return index == null ? -1 : index;
+        }
+        for (int i = 0; i < this.names.length; i++) {
+            if (this.names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds every extension to the given object, without decoding their values
+     *
+     * @param jsonObject
+     *      Object to add the extensions to
+     * @since
+     *      1.0.0
+     */
+    public void putAll(final JSONObject jsonObject) {
+        for (int i = 0; i < this.names.length; i++) {
+            jsonObject.put(this.names[i], this.values[i]);
+        }
+    }
+
+    /**
+     * Writes the given extension as a member of the current object, without decoding its value
+     *
+     * @param writer
+     *      Writer positioned within an object
+     * @param name
+     *      Extension name
+     * @throws IOException
+     *      if the writer could not be written to
+     * @since
+     *      1.0.0
+     */
+    public void writeMember(final JsonWriter writer, final String name) throws IOException {
+        writer.name(name).rawValue(this.getRawValue(name).toJSONString());
+    }
+
+    /**
+     * Obtains the names of the members of an object in the order that {@link JSONObject#toString()} writes them, when
+     * the given members are put into the object first and the extensions after them.
+     * JSONObject is backed by a default sized {@link HashMap}, which iterates its buckets in order and each bucket in
+     * insertion order, so the order is derived from the bucket index of every name at the final table size.
+     *
+     * @param members
+     *      Names of the other members in the order they are put, where a null name is skipped
+     * @return
+     *      Names of the other members and the extensions, in output order
+     * @since
+     *      1.0.0
+     */
+    public String[] memberOrder(final String... members) {
+        int count = 0;
+        for (String member : members) {
+            if (member != null) {
+                count++;
+            }
+        }
+        String[] names = new String[count + this.names.length];
+        count = 0;
+        for (String member : members) {
+            if (member != null) {
+                names[count++] = member;
+            }
+        }
+        System.arraycopy(this.names, 0, names, count, this.names.length);
+
+        // a bucket holding more than eight names resizes or treeifies the table, so such sets are put into an actual map
+        int[] buckets = new int[names.length];
+        int[] counts = new int[16];
+        for (int i = 0; i < names.length; i++) {
+            int hash = names[i].hashCode();
+            buckets[i] = hash ^ (hash >>> 16);
+            if (++counts[buckets[i] & 15] > 8) {
+                Map<String, Boolean> order = new HashMap<>();
+                for (String name : names) {
+                    order.put(name, Boolean.TRUE);
+                }
+                return order.keySet().toArray(new String[0]);
+            }
+        }
+
+        // the table doubles whenever it is more than three quarters full
+        int capacity = 16;
+        while (names.length > capacity * 3 / 4) {
+            capacity *= 2;
+        }
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] &= capacity - 1;
+        }
+
+        // stable insertion sort by bucket, which keeps names within a bucket in insertion order
+        for (int i = 1; i < names.length; i++) {
+            String name = names[i];
+            int bucket = buckets[i];
+            int j = i - 1;
+            while (j >= 0 && buckets[j] > bucket) {
+                names[j + 1] = names[j];
+                buckets[j + 1] = buckets[j];
+                j--;
+            }
+            names[j + 1] = name;
+            buckets[j + 1] = bucket;
+        }
+        return names;
+    }
+
+    @Override
+    public JSONObject toJsonObject() {
+        JSONObject jsonObject = new JSONObject();
+        this.putAll(jsonObject);
+        return jsonObject;
+    }
+
+    @Override
+    public void writeJson(final JsonWriter writer) throws IOException {
+        writer.beginObject();
+        for (String name : this.memberOrder()) {
+            this.writeMember(writer, name);
+        }
+        writer.endObject();
+    }
+
+    @Override
+    public ContentHash contentHash() {
+        ContentHash contentHash = this.contentHash;
+        if (contentHash == null) {
+            // hashed over the canonical representation, so the hash does not depend on the order of the extensions or on
+            // the formatting of their values
+            ContentHasher hasher = new ContentHasher();
+            try {
+                this.writeJson(new CanonicalJsonWriter(hasher));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            contentHash = hasher.hash();
+            this.contentHash = contentHash;
+        }
+        return contentHash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Extensions)) {
+            return false;
+        }
+        Extensions other = (Extensions) obj;
+        if (this.names.length != other.names.length) {
+            return false;
+        }
+        for (int i = 0; i < this.names.length; i++) {
+            if (!this.values[i].equals(other.getRawValue(this.names[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (int i = 0; i < this.names.length; i++) {
+            hashCode += this.names[i].hashCode() ^ this.values[i].hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return this.toJsonObject().toString();
+    }
+}
@@ -0,0 +1,786 @@
+package com.xenosnowfox.openapi3.models.util;
+
+import org.json.JSONException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Pull parser that reads UTF-8 encoded JSON token by token, without building an intermediate {@link org.json.JSONObject} tree.
+ * Syntax errors are reported as a {@link JSONException} containing the byte offset at which they occurred.
+ *
+ * @since
+ *      1.0.0
+ */
+public class JsonReader implements Closeable {
+
+    /**
+     * Type of the next token within the JSON input
+     *
+     * @since
+     *      1.0.0
+     */
+    public enum Token {
+        BEGIN_OBJECT,
+        END_OBJECT,
+        BEGIN_ARRAY,
+        END_ARRAY,
+        NAME,
+        STRING,
+        NUMBER,
+        BOOLEAN,
+        NULL,
+        END_DOCUMENT
+    }
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_OBJECT = 2;
+    private static final int DANGLING_NAME = 3;
+    private static final int NONEMPTY_OBJECT = 4;
+    private static final int EMPTY_ARRAY = 5;
+    private static final int NONEMPTY_ARRAY = 6;
+
+    private final InputStream inputStream;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+    private long consumed;
+
+    private int[] stack = new int[16];
+    private int stackSize = 0;
+    private Token peeked = null;
+
+    private char[] chars = new char[64];
+
+    // bytes of the raw value being captured from a stream, which are copied out of the buffer whenever it is refilled
+    private ByteArrayOutputStream capture = null;
+    private int captureStart = 0;
+
+    /**
+     * Instantiates a reader over the given bytes. The array is read in place and must not be modified while reading.
+     *
+     * @param bytes
+     *      UTF-8 encoded JSON
+     * @since
+     *      1.0.0
+     */
+    public JsonReader(final byte[] bytes) {
+        this(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Instantiates a reader over a range of the given bytes. The array is read in place and must not be modified while reading.
+     *
+     * @param bytes
+     *      UTF-8 encoded JSON
+     * @param offset
+     *      Index of the first byte to read
+     * @param length
+     *      Number of bytes to read
+     * @since
+     *      1.0.0
+     */
+    public JsonReader(final byte[] bytes, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + (offset + length) + ") is out of bounds");
+        }
+        this.inputStream = null;
+        this.buffer = bytes;
+        this.position = offset;
+        this.limit = offset + length;
+        this.consumed = -offset;
+        this.push(EMPTY_DOCUMENT);
+    }
+
+    /**
+     * Instantiates a reader over the given input stream
+     *
+     * @param inputStream
+     *      Stream of UTF-8 encoded JSON
+     * @since
+     *      1.0.0
+     */
+    public JsonReader(final InputStream inputStream) {
+        if (inputStream == null) {
+            throw new NullPointerException("Input stream cannot be null");
+        }
+        this.inputStream = inputStream;
+        this.buffer = new byte[BUFFER_SIZE];
+        this.position = 0;
+        this.limit = 0;
+        this.consumed = 0;
+        this.push(EMPTY_DOCUMENT);
+    }
+
+    /**
+     * Obtains the type of the next token without consuming it
+     *
+     * @return
+     *      Next token type
+     * @throws IOException
+     *      if the input could not be read
+     * @since
+     *      1.0.0
+     */
+    public Token peek() throws IOException {
+        if (this.peeked != null) {
+            return this.peeked;
+        }
+
+        int c;
+        switch (this.stack[this.stackSize - 1]) {
+            case EMPTY_DOCUMENT:
+                this.stack[this.stackSize - 1] = NONEMPTY_DOCUMENT;
+                this.skipByteOrderMark();
+                break;
+
+            case NONEMPTY_DOCUMENT:
+                c = this.nextNonWhitespace(false);
+                if (c != -1) {
+                    throw this.syntaxError("Unexpected data after the end of the document");
+                }
+                return this.peeked = Token.END_DOCUMENT;
+
+            case EMPTY_ARRAY:
+            case NONEMPTY_ARRAY:
+                c = this.nextNonWhitespace(true);
+                if (c == ']') {
+                    return this.peeked = Token.END_ARRAY;
+                }
+                if (this.stack[this.stackSize - 1] == NONEMPTY_ARRAY) {
+                    if (c != ',') {
+                        throw this.syntaxError("Expected ',' or ']'");
+                    }
+                } else {
+                    this.position--;
+                }
+                this.stack[this.stackSize - 1] = NONEMPTY_ARRAY;
+                break;
+
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                c = this.nextNonWhitespace(true);
+                if (c == '}') {
+                    return this.peeked = Token.END_OBJECT;
+                }
+                if (this.stack[this.stackSize - 1] == NONEMPTY_OBJECT) {
+                    if (c != ',') {
+                        throw this.syntaxError("Expected ',' or '}'");
+                    }
+                    c = this.nextNonWhitespace(true);
+                }
+                if (c != '"') {
+                    throw this.syntaxError("Expected a member name");
+                }
+                this.stack[this.stackSize - 1] = DANGLING_NAME;
+                return this.peeked = Token.NAME;
+
+            case DANGLING_NAME:
+                if (this.nextNonWhitespace(true) != ':') {
+                    throw this.syntaxError("Expected ':'");
+                }
+                this.stack[this.stackSize - 1] = NONEMPTY_OBJECT;
+                break;
+
+            default:
+                throw new IllegalStateException("Reader is closed");
+        }
+
+        // read the start of a value
+        c = this.nextNonWhitespace(true);
+        switch (c) {
+            case '{':
+                return this.peeked = Token.BEGIN_OBJECT;
+            case '[':
+                return this.peeked = Token.BEGIN_ARRAY;
+            case '"':
+                return this.peeked = Token.STRING;
+            case 't':
+            case 'f':
+                this.position--;
+                return this.peeked = Token.BOOLEAN;
+            case 'n':
+                this.position--;
+                return this.peeked = Token.NULL;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    this.position--;
+                    return this.peeked = Token.NUMBER;
+                }
+                throw this.syntaxError("Expected a value");
+        }
+    }
+
+    /**
+     * Determines whether the current object or array has another element
+     *
+     * @return
+     *      true if another element is available
+     * @throws IOException
+     *      if the input could not be read
+     * @since
+     *      1.0.0
+     */
+    public boolean hasNext() throws IOException {
+        Token token = this.peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    /**
+     * Consumes the start of an object
+     *
+     * @throws IOException
+     *      if the input could not be read
+     * @since
+     *      1.0.0
+     */
+    public void beginObject() throws IOException {
+        this.expect(Token.BEGIN_OBJECT);
+        this.push(EMPTY_OBJECT);
+    }
+
+    /**
+     * Consumes the end of an object
+     *
+     * @throws IOException
+     *      if the input could not be read
+     * @since
+     *      1.0.0
+     */
+    public void endObject() throws IOException {
+        this.expect(Token.END_OBJECT);
+        this.stackSize--;
+    }
+
+    /**
+     * Consumes the start of an array
+     *
+     * @throws IOException
+     *      if the input could not be read
+     * @since
+     *      1.0.0
+     */
+    public void beginArray() throws IOException {
+        this.expect(Token.BEGIN_ARRAY);
+        this.push(EMPTY_ARRAY);
+    }
+
+    /**
+     * Consumes the end of an array
+     *
+     * @throws IOException
+     *      if the input could not be read
+     * @since
+     *      1.0.0
+     */
+    public void endArray() throws IOException {
+        this.expect(Token.END_ARRAY);
+        this.stackSize--;
+    }
+
+    /**
+     * Consumes the name of the next member of the current object
+     *
+     * @return
+     *      Member name
+     * @throws IOException
+     *      if the input could not be read
+     * @since
+     *      1.0.0
+     */
+    public String nextName() throws IOException {
+        this.expect(Token.NAME);
+        return this.readString();
+    }
+
+    /**
+     * Consumes a string value
+     *
+     * @return
+     *      String value
+     * @throws IOException
+     *      if the input could not be read
+     * @since
+     *      1.0.0
+     */
+    public String nextString() throws IOException {
+        this.expect(Token.STRING);
+        return this.readString();
+    }
+
+    /**
+     * Consumes a string or null value
+     *
+     * @return
+     *      String value, or null if the value is a JSON null
+     * @throws IOException
+     *      if the input could not be read
+     * @since
+     *      1.0.0
+     */
+    public String nextStringOrNull() throws IOException {
+        if (this.peek() == Token.NULL) {
+            this.nextNull();
+            return null;
+        }
+        return this.nextString();
+    }
+
+    /**
+     * Consumes a boolean value
+     *
+     * @return
+     *      Boolean value
+     * @throws IOException
+     *      if the input could not be read
+     * @since
+     *      1.0.0
+     */
+    public boolean nextBoolean() throws IOException {
+        this.expect(Token.BOOLEAN);
+        if (this.buffer[this.position] == 't') {
+            this.readLiteral("true");
+            return true;
+        }
+        this.readLiteral("false");
+        return false;
+    }
+
+    /**
+     * Consumes a null value
+     *
+     * @throws IOException
+     *      if the input could not be read
+     * @since
+     *      1.0.0
+     */
+    public void nextNull() throws IOException {
+        this.expect(Token.NULL);
+        this.readLiteral("null");
+    }
+
+    /**
+     * Consumes a number value, returning its literal representation.
+     * The literal must follow the number grammar of RFC 8259, so leading zeros, a missing fraction or exponent digit and
+     * signs other than a leading minus or the sign of the exponent are rejected.
+     *
+     * @return
+     *      Number literal as it appears within the input
+     * @throws IOException
+     *      if the input could not be read
+     * @since
+     *      1.0.0
+     */
+    public String nextNumber() throws IOException {
+        this.expect(Token.NUMBER);
+        int length = 0;
+        while (this.position < this.limit || this.fill()) {
+            int c = this.buffer[this.position];
+            if ((c < '0' || c > '9') && c != '-' && c != '+' && c != '.' && c != 'e' && c != 'E') {
+                break;
+            }
+            this.position++;
+            this.appendChar(length++, (char) c);
+        }
+        if (!isNumber(this.chars, length)) {
+            throw this.syntaxError("Malformed number '" + new String(this.chars, 0, length) + "'");
+        }
+        return new String(this.chars, 0, length);
+    }
+
+    /**
+     * Determines whether the given characters form a number as defined by RFC 8259:
+     * {@code [ "-" ] ( "0" / digit1-9 *DIGIT ) [ "." 1*DIGIT ] [ ( "e" / "E" ) [ "-" / "+" ] 1*DIGIT ]}
+     */
+    private static boolean isNumber(final char[] chars, final int length) {
+        int i = 0;
+        if (i < length && chars[i] == '-') {
+            i++;
+        }
+
+        // integer part, without leading zeros
+        if (i < length && chars[i] == '0') {
+            i++;
+        } else {
+            int start = i;
+            i = skipDigits(chars, i, length);
+            if (i == start) {
+                return false;
+            }
+        }
+
+        // fraction
+        if (i < length && chars[i] == '.') {
+            int start = ++i;
+            i = skipDigits(chars, i, length);
+            if (i == start) {
+                return false;
+            }
+        }
+
+        // exponent
+        if (i < length && (chars[i] == 'e' || chars[i] == 'E')) {
+            i++;
+            if (i < length && (chars[i] == '-' || chars[i] == '+')) {
+                i++;
+            }
+            int start = i;
+            i = skipDigits(chars, i, length);
+            if (i == start) {
+                return false;
+            }
+        }
+        return i == length;
+    }
+
+    private static int skipDigits(final char[] chars, final int start, final int length) {
+        int i = start;
+        while (i < length && chars[i] >= '0' && chars[i] <= '9') {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Skips the next value, including all of its nested values
+     *
+     * @throws IOException
+     *      if the input could not be read
+     * @since
+     *      1.0.0
+     */
+    public void skipValue() throws IOException {
+        int depth = 0;
+        do {
+            switch (this.peek()) {
+                case BEGIN_OBJECT:
+                    this.beginObject();
+                    depth++;
+                    break;
+                case BEGIN_ARRAY:
+                    this.beginArray();
+                    depth++;
+                    break;
+                case END_OBJECT:
+                    this.endObject();
+                    depth--;
+                    break;
+                case END_ARRAY:
+                    this.endArray();
+                    depth--;
+                    break;
+                case NAME:
+                    this.nextName();
+                    break;
+                case STRING:
+                    this.nextString();
+                    break;
+                case NUMBER:
+                    this.nextNumber();
+                    break;
+                case BOOLEAN:
+                    this.nextBoolean();
+                    break;
+                case NULL:
+                    this.nextNull();
+                    break;
+                default:
+                    throw this.syntaxError("Expected a value");
+            }
+        } while (depth > 0);
+    }
+
+    /**
+     * Consumes the next value, including all of its nested values, and returns it as encoded JSON without decoding it.
+     * Whitespace between tokens is removed, so the result is a single line; everything else is kept exactly as it
+     * appears within the input, including escape sequences and number literals. Every token of the value is validated
+     * while it is captured, so the result always holds valid JSON.
+     *
+     * @return
+     *      Encoded JSON value
+     * @throws IOException
+     *      if the input could not be read
+     * @since
+     *      1.0.0
+     */
+    public RawJson nextRawValue() throws IOException {
+        // strings, objects and arrays have already consumed their opening character when peeked
+        Token token = this.peek();
+        int start = this.position;
+        switch (token) {
+            case STRING:
+            case BEGIN_OBJECT:
+            case BEGIN_ARRAY:
+                start--;
+                break;
+            case NUMBER:
+            case BOOLEAN:
+            case NULL:
+                break;
+            default:
+                throw this.syntaxError("Expected a value");
+        }
+
+        if (this.inputStream == null) {
+            this.skipValue();
+            return new RawJson(compact(this.buffer, start, this.position - start));
+        }
+
+        ByteArrayOutputStream capture = new ByteArrayOutputStream();
+        this.capture = capture;
+        this.captureStart = start;
+        try {
+            this.skipValue();
+        } finally {
+            this.capture = null;
+        }
+        capture.write(this.buffer, this.captureStart, this.position - this.captureStart);
+        byte[] bytes = capture.toByteArray();
+        return new RawJson(compact(bytes, 0, bytes.length));
+    }
+
+    /**
+     * Obtains the number of bytes consumed from the input so far
+     *
+     * @return
+     *      Byte offset within the input
+     * @since
+     *      1.0.0
+     */
+    public long getOffset() {
+        return this.consumed + this.position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.peeked = null;
+        this.stackSize = 1;
+        this.stack[0] = -1;
+        if (this.inputStream != null) {
+            this.inputStream.close();
+        }
+    }
+
+    private void expect(final Token token) throws IOException {
+        Token actual = this.peek();
+        if (actual != token) {
+            throw this.syntaxError("Expected " + token + " but was " + actual);
+        }
+        this.peeked = null;
+    }
+
+    private void push(final int scope) {
+        if (this.stackSize == this.stack.length) {
+            int[] stack = new int[this.stackSize * 2];
+            System.arraycopy(this.stack, 0, stack, 0, this.stackSize);
+            this.stack = stack;
+        }
+        this.stack[this.stackSize++] = scope;
+    }
+
+    private boolean fill() throws IOException {
+        if (this.inputStream == null) {
+            return false;
+        }
+        if (this.capture != null) {
+            this.capture.write(this.buffer, this.captureStart, this.limit - this.captureStart);
+            this.captureStart = 0;
+        }
+        this.consumed += this.limit;
+        this.position = 0;
+        this.limit = 0;
+        int read = this.inputStream.read(this.buffer, 0, this.buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        this.limit = read;
+        return true;
+    }
+
+    private int nextByte() throws IOException {
+        if (this.position == this.limit && !this.fill()) {
+            throw this.syntaxError("Unexpected end of input");
+        }
+        return this.buffer[this.position++] & 0xFF;
+    }
+
+    private int nextNonWhitespace(final boolean required) throws IOException {
+        while (this.position < this.limit || this.fill()) {
+            int c = this.buffer[this.position++] & 0xFF;
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+        }
+        if (required) {
+            throw this.syntaxError("Unexpected end of input");
+        }
+        return -1;
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        if ((this.position < this.limit || this.fill()) && (this.buffer[this.position] & 0xFF) == 0xEF) {
+            this.position++;
+            if (this.nextByte() != 0xBB || this.nextByte() != 0xBF) {
+                throw this.syntaxError("Malformed byte order mark");
+            }
+        }
+    }
+
+    private void readLiteral(final String literal) throws IOException {
+        for (int i = 0; i < literal.length(); i++) {
+            if (this.nextByte() != literal.charAt(i)) {
+                throw this.syntaxError("Expected '" + literal + "'");
+            }
+        }
+    }
+
+    private String readString() throws IOException {
+        int length = 0;
+        while (true) {
+            int b = this.nextByte();
+            if (b == '"') {
+                return new String(this.chars, 0, length);
+            }
+
+            if (b == '\\') {
+                this.appendChar(length++, this.readEscape());
+            } else if (b < 0x20) {
+                throw this.syntaxError("Unescaped control character within string");
+            } else if (b < 0x80) {
+                this.appendChar(length++, (char) b);
+            } else {
+                int codePoint = this.readMultiByte(b);
+                if (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                    this.appendChar(length++, Character.highSurrogate(codePoint));
+                    this.appendChar(length++, Character.lowSurrogate(codePoint));
+                } else {
+                    this.appendChar(length++, (char) codePoint);
+                }
+            }
+        }
+    }
+
+    private char readEscape() throws IOException {
+        int c = this.nextByte();
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+                return (char) c;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(this.nextByte(), 16);
+                    if (digit < 0) {
+                        throw this.syntaxError("Malformed unicode escape");
+                    }
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            default:
+                throw this.syntaxError("Invalid escape sequence");
+        }
+    }
+
+    private int readMultiByte(final int lead) throws IOException {
+        int continuations;
+        int codePoint;
+        int minimum;
+        if ((lead & 0xE0) == 0xC0) {
+            continuations = 1;
+            codePoint = lead & 0x1F;
+            minimum = 0x80;
+        } else if ((lead & 0xF0) == 0xE0) {
+            continuations = 2;
+            codePoint = lead & 0x0F;
+            minimum = 0x800;
+        } else if ((lead & 0xF8) == 0xF0) {
+            continuations = 3;
+            codePoint = lead & 0x07;
+            minimum = Character.MIN_SUPPLEMENTARY_CODE_POINT;
+        } else {
+            throw this.syntaxError("Malformed UTF-8");
+        }
+
+        for (int i = 0; i < continuations; i++) {
+            int b = this.nextByte();
+            if ((b & 0xC0) != 0x80) {
+                throw this.syntaxError("Malformed UTF-8");
+            }
+            codePoint = (codePoint << 6) | (b & 0x3F);
+        }
+        if (codePoint < minimum || codePoint > Character.MAX_CODE_POINT
+                || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+            throw this.syntaxError("Malformed UTF-8");
+        }
+        return codePoint;
+    }
+
+    private void appendChar(final int index, final char c) {
+        if (index == this.chars.length) {
+            char[] chars = new char[index * 2];
+            System.arraycopy(this.chars, 0, chars, 0, index);
+            this.chars = chars;
+        }
+        this.chars[index] = c;
+    }
+
+    /**
+     * Decodes a range of valid JSON, dropping any whitespace outside of strings
+     */
+    private static String compact(final byte[] bytes, final int offset, final int length) {
+        byte[] compacted = null;
+        int size = 0;
+        boolean string = false;
+        for (int i = offset; i < offset + length; i++) {
+            byte b = bytes[i];
+            if (string) {
+                if (b == '\\') {
+                    // an escaped character can never end the string
+                    if (compacted != null) {
+                        compacted[size++] = b;
+                    }
+                    b = bytes[++i];
+                } else if (b == '"') {
+                    string = false;
+                }
+            } else if (b == '"') {
+                string = true;
+            } else if (b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                if (compacted == null) {
+                    compacted = new byte[length];
+                    size = i - offset;
+                    System.arraycopy(bytes, offset, compacted, 0, size);
+                }
+                continue;
+            }
+            if (compacted != null) {
+                compacted[size++] = b;
+            }
+        }
+        if (compacted == null) {
+            return new String(bytes, offset, length, StandardCharsets.UTF_8);
+        }
+        return new String(compacted, 0, size, StandardCharsets.UTF_8);
+    }
+
+    private JSONException syntaxError(final String message) {
+        return new JSONException(message + " at offset " + this.getOffset());
+    }
+}
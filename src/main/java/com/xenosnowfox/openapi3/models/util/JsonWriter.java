@@ -0,0 +1,347 @@
+package com.xenosnowfox.openapi3.models.util;
+
+import com.xenosnowfox.openapi3.models.metrics.SerializationMetrics;
+
+import java.io.IOException;
+
+/**
+ * Writes JSON tokens directly to an {@link Appendable} without building an intermediate {@link org.json.JSONObject} tree.
+ * Strings are escaped using the same rules as {@link org.json.JSONObject#quote(String)} so that the streamed output is
+ * identical to the output of {@link org.json.JSONObject#toString()}.
+ *
+ * @since
+ *      1.0.0
+ */
+public class JsonWriter {
+
+    private static final String UNICODE_ESCAPE = "\\u";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Appendable appendable;
+    private boolean empty = true;
+
+    /**
+     * Instantiates a writer that appends JSON to the given appendable
+     *
+     * @param appendable
+     *      Destination of the JSON output
+     * @since
+     *      1.0.0
+     */
+    public JsonWriter(final Appendable appendable) {
+        if (appendable == null) {
+            throw new NullPointerException("Appendable cannot be null");
+        }
+        this.appendable = appendable;
+    }
+
+    /**
+     * Begins a new JSON object
+     *
+     * @return
+     *      this writer, to allow for method chaining
+     * @throws IOException
+     *      if the underlying appendable could not be written to
+     * @since
+     *      1.0.0
+     */
+    public JsonWriter beginObject() throws IOException {
+        this.appendable.append('{');
+        this.empty = true;
+        return this;
+    }
+
+    /**
+     * Ends the current JSON object
+     *
+     * @return
+     *      this writer, to allow for method chaining
+     * @throws IOException
+     *      if the underlying appendable could not be written to
+     * @since
+     *      1.0.0
+     */
+    public JsonWriter endObject() throws IOException {
+        this.appendable.append('}');
+
+        // the enclosing object (if any) now contains at least this member
+        this.empty = false;
+        return this;
+    }
+
+    /**
+     * Writes the name of the next member within the current JSON object
+     *
+     * @param name
+     *      Member name
+     * @return
+     *      this writer, to allow for method chaining
+     * @throws IOException
+     *      if the underlying appendable could not be written to
+     * @since
+     *      1.0.0
+     */
+    public JsonWriter name(final String name) throws IOException {
+        if (!this.empty) {
+            this.appendable.append(',');
+        }
+        this.empty = false;
+        quote(name, this.appendable);
+        this.appendable.append(':');
+        return this;
+    }
+
+    /**
+     * Writes the name of the next member within the current JSON object, using a name that has already been quoted,
+     * escaped and followed by a colon, as precomputed by generated serializers. Writers that do not support raw JSON
+     * (see {@link #isRawJsonSupported()}) ignore the encoded name and write the member name as usual.
+     *
+     * @param name
+     *      Member name
+     * @param encodedName
+     *      Quoted member name followed by a colon, e.g. {@code "name":}
+     * @return
+     *      this writer, to allow for method chaining
+     * @throws IOException
+     *      if the underlying appendable could not be written to
+     * @since
+     *      1.0.0
+     */
+    public JsonWriter name(final String name, final String encodedName) throws IOException {
+        if (!this.isRawJsonSupported()) {
+            return this.name(name);
+        }
+        if (!this.empty) {
+            this.appendable.append(',');
+        }
+        this.empty = false;
+        this.appendable.append(encodedName);
+        return this;
+    }
+
+    /**
+     * Writes a string value
+     *
+     * @param value
+     *      String value
+     * @return
+     *      this writer, to allow for method chaining
+     * @throws IOException
+     *      if the underlying appendable could not be written to
+     * @since
+     *      1.0.0
+     */
+    public JsonWriter value(final String value) throws IOException {
+        quote(value, this.appendable);
+        return this;
+    }
+
+    /**
+     * Writes a boolean value
+     *
+     * @param value
+     *      Boolean value
+     * @return
+     *      this writer, to allow for method chaining
+     * @throws IOException
+     *      if the underlying appendable could not be written to
+     * @since
+     *      1.0.0
+     */
+    public JsonWriter value(final boolean value) throws IOException {
+        return this.rawValue(value ? "true" : "false");
+    }
+
+    /**
+     * Writes the JSON representation of the given object as a value
+     *
+     * @param value
+     *      Object to write
+     * @return
+     *      this writer, to allow for method chaining
+     * @throws IOException
+     *      if the underlying appendable could not be written to
+     * @since
+     *      1.0.0
+     */
+    public JsonWriter value(final Jsonable value) throws IOException {
+        long start = SerializationMetrics.start();
+        long bytes = start == SerializationMetrics.DISABLED ? -1 : this.getByteCount();
+        value.writeJson(this);
+        if (bytes != -1) {
+            SerializationMetrics.serialized(value, start, this.getByteCount() - bytes);
+        }
+        return this;
+    }
+
+    /**
+     * Obtains the length of the output so far once UTF-8 encoded, from which the size of nested objects is reported
+     *
+     * @return
+     *      Number of bytes, or -1 if the destination does not count them
+     */
+    long getByteCount() {
+        if (this.appendable instanceof CountingAppendable) {
+            return ((CountingAppendable) this.appendable).getByteCount();
+        }
+        if (this.appendable instanceof Utf8Appendable) {
+            return ((Utf8Appendable) this.appendable).getByteCount();
+        }
+        return -1;
+    }
+
+    /**
+     * Determines whether already encoded JSON passed to {@link #rawValue(CharSequence)} is written as-is.
+     * Writers of other formats return false, so objects holding a cached JSON representation stream their members instead.
+     *
+     * @return
+     *      true if raw JSON is copied to the output unchanged
+     * @since
+     *      1.0.0
+     */
+    public boolean isRawJsonSupported() {
+        return true;
+    }
+
+    /**
+     * Writes an already encoded JSON value as-is
+     *
+     * @param json
+     *      Encoded JSON value
+     * @return
+     *      this writer, to allow for method chaining
+     * @throws IOException
+     *      if the underlying appendable could not be written to
+     * @since
+     *      1.0.0
+     */
+    public JsonWriter rawValue(final CharSequence json) throws IOException {
+        this.appendable.append(json);
+        this.empty = false;
+        return this;
+    }
+
+    /**
+     * Writes a member with the given string value, if the value is not null.
+     *
+     * @param name
+     *      Member name
+     * @param value
+     *      String value
+     * @return
+     *      this writer, to allow for method chaining
+     * @throws IOException
+     *      if the underlying appendable could not be written to
+     * @since
+     *      1.0.0
+     */
+    public JsonWriter optionalMember(final String name, final String value) throws IOException {
+        if (value != null) {
+            this.name(name).value(value);
+        }
+        return this;
+    }
+
+    /**
+     * Writes a member with the given object value, if the value is not null.
+     *
+     * @param name
+     *      Member name
+     * @param value
+     *      Object value
+     * @return
+     *      this writer, to allow for method chaining
+     * @throws IOException
+     *      if the underlying appendable could not be written to
+     * @since
+     *      1.0.0
+     */
+    public JsonWriter optionalMember(final String name, final Jsonable value) throws IOException {
+        if (value != null) {
+            this.name(name).value(value);
+        }
+        return this;
+    }
+
+    /**
+     * Writes the given string as a quoted and escaped JSON string, following the same rules as
+     * {@link org.json.JSONObject#quote(String)}.
+     *
+     * @param string
+     *      String to quote
+     * @param appendable
+     *      Destination of the quoted string
+     * @throws IOException
+     *      if the appendable could not be written to
+     * @since
+     *      1.0.0
+     */
+    public static void quote(final String string, final Appendable appendable) throws IOException {
+        if (string == null || string.isEmpty()) {
+            appendable.append("\"\"");
+            return;
+        }
+
+        appendable.append('"');
+        final int length = string.length();
+        int start = 0;
+        char previous;
+        char current = 0;
+        for (int i = 0; i < length; i++) {
+            previous = current;
+            current = string.charAt(i);
+
+            String escaped;
+            switch (current) {
+                case '\\':
+                    escaped = "\\\\";
+                    break;
+                case '"':
+                    escaped = "\\\"";
+                    break;
+                case '/':
+                    escaped = previous == '<' ? "\\/" : null;
+                    break;
+                case '\b':
+                    escaped = "\\b";
+                    break;
+                case '\t':
+                    escaped = "\\t";
+                    break;
+                case '\n':
+                    escaped = "\\n";
+                    break;
+                case '\f':
+                    escaped = "\\f";
+                    break;
+                case '\r':
+                    escaped = "\\r";
+                    break;
+                default:
+                    escaped = requiresUnicodeEscape(current) ? UNICODE_ESCAPE : null;
+            }
+
+            // copy runs of unescaped characters in a single call
+            if (escaped != null) {
+                if (start < i) {
+                    appendable.append(string, start, i);
+                }
+                appendable.append(escaped);
+                if (escaped == UNICODE_ESCAPE) {
+                    // completed with four hex digits, rather than building the escape sequence as a new string
+                    appendable.append(HEX[current >> 12]).append(HEX[(current >> 8) & 0xF])
+                            .append(HEX[(current >> 4) & 0xF]).append(HEX[current & 0xF]);
+                }
+                start = i + 1;
+            }
+        }
+        if (start < length) {
+            appendable.append(string, start, length);
+        }
+        appendable.append('"');
+    }
+
+    private static boolean requiresUnicodeEscape(final char c) {
+        return c < ' ' || (c >= '\u0080' && c < '\u00a0') || (c >= '\u2000' && c < '\u2100');
+    }
+}
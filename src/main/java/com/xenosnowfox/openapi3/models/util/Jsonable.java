@@ -1,7 +1,12 @@
 package com.xenosnowfox.openapi3.models.util;
 
+import com.xenosnowfox.openapi3.models.metrics.SerializationMetrics;
 import org.json.JSONObject;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
 /**
  * Defines a class that can be converted into a JSON Object representation of itself
  */
@@ -14,4 +19,159 @@ public interface Jsonable {
      *      JSON Object
      */
     JSONObject toJsonObject();
+
+    /**
+     * Writes the JSON representation of the class to the given writer.
+     * Implementations should override this to stream their members directly instead of building a JSON Object first.
+     *
+     * @param writer
+     *      Writer to output the JSON representation to
+     * @throws IOException
+     *      if the writer could not be written to
+     * @since
+     *      1.0.0
+     */
+    default void writeJson(final JsonWriter writer) throws IOException {
+        writer.rawValue(this.toJsonObject().toString());
+    }
+
+    /**
+     * Writes the JSON representation of the class to the given appendable.
+     * The output is identical to {@code toJsonObject().toString()}.
+     *
+     * @param appendable
+     *      Appendable to output the JSON representation to
+     * @throws IOException
+     *      if the appendable could not be written to
+     * @since
+     *      1.0.0
+     */
+    default void writeJson(final Appendable appendable) throws IOException {
+        long start = SerializationMetrics.start();
+        if (start == SerializationMetrics.DISABLED) {
+            this.writeJson(new JsonWriter(appendable));
+        } else {
+            CountingAppendable counter = new CountingAppendable(appendable);
+            this.writeJson(new JsonWriter(counter));
+            SerializationMetrics.serialized(this, start, counter.getByteCount());
+        }
+    }
+
+    /**
+     * Writes the UTF-8 encoded JSON representation of the class to the given output stream.
+     * The output is identical to the UTF-8 encoding of {@code toJsonObject().toString()}.
+     *
+     * @param outputStream
+     *      Output stream to write the JSON representation to
+     * @throws IOException
+     *      if the output stream could not be written to
+     * @since
+     *      1.0.0
+     */
+    default void writeJson(final OutputStream outputStream) throws IOException {
+        long start = SerializationMetrics.start();
+        Utf8Appendable appendable = new Utf8Appendable(outputStream);
+        this.writeJson(new JsonWriter(appendable));
+        appendable.flush();
+        SerializationMetrics.serialized(this, start, appendable.getByteCount());
+    }
+
+    /**
+     * Obtains a hash of the content of the class, for use as a deduplication key or HTTP entity tag.
+     * By default this hashes the JSON representation, which is not reported to {@link SerializationMetrics} as a write;
+     * models override it to hash a canonical encoding of their fields, caching the result where possible.
+     *
+     * @return
+     *      Content hash
+     * @since
+     *      1.0.0
+     */
+    default ContentHash contentHash() {
+        ContentHasher hasher = new ContentHasher();
+        try {
+            this.writeJson(new JsonWriter(hasher));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return hasher.hash();
+    }
+
+    /**
+     * Writes the canonical JSON representation of the class to the given appendable. Members are sorted by name and
+     * strings and numbers are normalized as described by {@link CanonicalJsonWriter}, so equal content always results in identical output.
+     *
+     * @param appendable
+     *      Appendable to output the canonical JSON representation to
+     * @throws IOException
+     *      if the appendable could not be written to
+     * @since
+     *      1.0.0
+     */
+    default void writeCanonicalJson(final Appendable appendable) throws IOException {
+        long start = SerializationMetrics.start();
+        if (start == SerializationMetrics.DISABLED) {
+            this.writeJson(new CanonicalJsonWriter(appendable));
+        } else {
+            CountingAppendable counter = new CountingAppendable(appendable);
+            this.writeJson(new CanonicalJsonWriter(counter));
+            SerializationMetrics.serialized(this, start, counter.getByteCount());
+        }
+    }
+
+    /**
+     * Writes the UTF-8 encoded canonical JSON representation of the class to the given output stream
+     *
+     * @param outputStream
+     *      Output stream to write the canonical JSON representation to
+     * @throws IOException
+     *      if the output stream could not be written to
+     * @since
+     *      1.0.0
+     */
+    default void writeCanonicalJson(final OutputStream outputStream) throws IOException {
+        long start = SerializationMetrics.start();
+        Utf8Appendable appendable = new Utf8Appendable(outputStream);
+        this.writeJson(new CanonicalJsonWriter(appendable));
+        appendable.flush();
+        SerializationMetrics.serialized(this, start, appendable.getByteCount());
+    }
+
+    /**
+     * Writes the YAML representation of the class to the given appendable, using the same traversal as the JSON output
+     *
+     * @param appendable
+     *      Appendable to output the YAML representation to
+     * @throws IOException
+     *      if the appendable could not be written to
+     * @since
+     *      1.0.0
+     */
+    default void writeYaml(final Appendable appendable) throws IOException {
+        long start = SerializationMetrics.start();
+        if (start == SerializationMetrics.DISABLED) {
+            this.writeJson(new YamlWriter(appendable));
+        } else {
+            CountingAppendable counter = new CountingAppendable(appendable);
+            this.writeJson(new YamlWriter(counter));
+            SerializationMetrics.serialized(this, start, counter.getByteCount());
+        }
+    }
+
+    /**
+     * Writes the UTF-8 encoded YAML representation of the class to the given output stream
+     *
+     * @param outputStream
+     *      Output stream to write the YAML representation to
+     * @throws IOException
+     *      if the output stream could not be written to
+     * @since
+     *      1.0.0
+     */
+    default void writeYaml(final OutputStream outputStream) throws IOException {
+        long start = SerializationMetrics.start();
+        Utf8Appendable appendable = new Utf8Appendable(outputStream);
+        this.writeJson(new YamlWriter(appendable));
+        appendable.flush();
+        SerializationMetrics.serialized(this, start, appendable.getByteCount());
+    }
 }
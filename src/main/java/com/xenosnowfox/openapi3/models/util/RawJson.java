@@ -0,0 +1,123 @@
+package com.xenosnowfox.openapi3.models.util;
+
+import org.json.JSONObject;
+import org.json.JSONString;
+import org.json.JSONTokener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A single JSON value kept in its encoded form, which is only decoded when {@link #getValue()} is called.
+ * Instances always hold valid JSON, and implement {@link JSONString} so that a {@link JSONObject} containing one writes
+ * the encoded form as-is instead of copying it.
+ *
+ * @since
+ *      1.0.0
+ */
+public final class RawJson implements JSONString {
+
+    private final String json;
+
+    /**
+     * Instantiates a value from JSON that is already known to be valid
+     *
+     * @param json
+     *      Encoded JSON value
+     */
+    RawJson(final String json) {
+        this.json = json;
+    }
+
+    /**
+     * Obtains the raw representation of the given value
+     *
+     * @param value
+     *      Value as used by {@link JSONObject}, i.e. a string, number, boolean, {@link JSONObject#NULL}, JSONObject or
+     *      {@link org.json.JSONArray}, or any map, collection or {@link Jsonable} object
+     * @return
+     *      Encoded value
+     * @throws org.json.JSONException
+     *      if the value cannot be encoded as JSON, e.g. a non-finite number, or if a {@link JSONString} does not
+     *      return a single valid JSON value
+     * @since
+     *      1.0.0
+     */
+    public static RawJson of(final Object value) {
+        if (value instanceof RawJson) {
+            return (RawJson) value;
+        }
+        if (value instanceof Jsonable) {
+            return new RawJson(((Jsonable) value).toJsonObject().toString());
+        }
+        if (value instanceof JSONString) {
+            // the text of other JSONString implementations is not checked by JSONObject, so it is validated here
+            return parse(((JSONString) value).toJSONString());
+        }
+        return new RawJson(JSONObject.valueToString(value));
+    }
+
+    /**
+     * Validates the given encoded JSON value
+     *
+     * @param json
+     *      Encoded JSON value
+     * @return
+     *      Validated value, with any whitespace between tokens removed
+     * @throws org.json.JSONException
+     *      if the text is not a single valid JSON value as defined by RFC 8259
+     * @since
+     *      1.0.0
+     */
+    public static RawJson parse(final String json) {
+        if (json == null) {
+            throw new NullPointerException("JSON cannot be null");
+        }
+        try {
+            JsonReader reader = new JsonReader(json.getBytes(StandardCharsets.UTF_8));
+            RawJson value = reader.nextRawValue();
+
+            // fails if the text contains more than a single value
+            reader.peek();
+            return value;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Decodes the value into the representation used by {@link JSONObject}.
+     * The value is decoded again on every call, so the result can be modified freely.
+     *
+     * @return
+     *      String, number, boolean, {@link JSONObject#NULL}, JSONObject or {@link org.json.JSONArray}
+     * @since
+     *      1.0.0
+     */
+    public Object getValue() {
+        return new JSONTokener(this.json).nextValue();
+    }
+
+    @Override
+    public String toJSONString() {
+        return this.json;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj instanceof RawJson && this.json.equals(((RawJson) obj).json);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.json.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.json;
+    }
+}
@@ -0,0 +1,345 @@
+package com.xenosnowfox.openapi3.models.util;
+
+import com.xenosnowfox.openapi3.models.metrics.SerializationMetrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writer that encodes JSON as UTF-8 straight into a growable byte buffer which is kept between writes, so that once
+ * the buffer has grown to fit, serializing an unchanged model does not allocate at all. The member names used by the
+ * models are encoded once, together with their quotes and colon, and copied into the buffer as-is.
+ * The output is identical to {@link Jsonable#writeJson(OutputStream)}.
+ * Instances are not thread-safe; use {@link #forCurrentThread()} to obtain one that is recycled by the calling thread.
+ *
+ * @since
+ *      1.0.0
+ */
+public class ReusableJsonWriter extends JsonWriter {
+
+    /**
+     * Initial capacity of the buffer when not specified
+     *
+     * @since
+     *      1.0.0
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Largest buffer that is kept after a write; larger buffers are released so that an occasional huge document does
+     * not pin memory to the thread for good
+     *
+     * @since
+     *      1.0.0
+     */
+    public static final int MAX_RETAINED_CAPACITY = 1 << 20;
+
+    private static final String[] MEMBER_NAMES = {
+            "openapi", "info", "title", "version", "description", "termsOfService", "contact", "license", "name", "email", "url",
+            "paths", "summary", "operationId", "deprecated", "get", "put", "post", "delete", "options", "head", "patch", "trace",
+            "components", "$ref"
+    };
+    private static final Map<String, byte[]> ENCODED_NAMES = new HashMap<>();
+
+    static {
+        for (String name : MEMBER_NAMES) {
+            ENCODED_NAMES.put(name, ("\"" + name + "\":").getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static final ThreadLocal<ReusableJsonWriter> THREAD_WRITER = ThreadLocal.withInitial(ReusableJsonWriter::new);
+
+    private final Utf8Buffer buffer;
+    private final int initialCapacity;
+    private boolean empty = true;
+
+    /**
+     * Instantiates a writer with the default initial capacity
+     *
+     * @since
+     *      1.0.0
+     */
+    public ReusableJsonWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Instantiates a writer with the given initial capacity
+     *
+     * @param initialCapacity
+     *      Initial size of the buffer, in bytes
+     * @since
+     *      1.0.0
+     */
+    public ReusableJsonWriter(final int initialCapacity) {
+        this(new Utf8Buffer(initialCapacity), initialCapacity);
+    }
+
+    private ReusableJsonWriter(final Utf8Buffer buffer, final int initialCapacity) {
+        super(buffer);
+        this.buffer = buffer;
+        this.initialCapacity = initialCapacity;
+    }
+
+    /**
+     * Obtains the writer recycled by the calling thread.
+     * Its contents are replaced by the next write on the same thread, so they must be consumed before then.
+     *
+     * @return
+     *      Writer belonging to the calling thread
+     * @since
+     *      1.0.0
+     */
+    public static ReusableJsonWriter forCurrentThread() {
+        return THREAD_WRITER.get();
+    }
+
+    /**
+     * Replaces the contents of the buffer with the JSON representation of the given object
+     *
+     * @param jsonable
+     *      Object to write
+     * @return
+     *      this writer, to allow for method chaining
+     * @throws IOException
+     *      if the object could not be serialized
+     * @since
+     *      1.0.0
+     */
+    public ReusableJsonWriter write(final Jsonable jsonable) throws IOException {
+        this.reset();
+        long start = SerializationMetrics.start();
+        jsonable.writeJson(this);
+        this.buffer.finish();
+        SerializationMetrics.serialized(jsonable, start, this.buffer.size);
+        return this;
+    }
+
+    /**
+     * Discards the contents of the buffer, releasing it if it has grown beyond {@link #MAX_RETAINED_CAPACITY}
+     *
+     * @return
+     *      this writer, to allow for method chaining
+     * @since
+     *      1.0.0
+     */
+    public ReusableJsonWriter reset() {
+        this.buffer.reset(this.initialCapacity);
+        this.empty = true;
+        return this;
+    }
+
+    /**
+     * Obtains the number of bytes written since the last reset
+     *
+     * @return
+     *      Number of bytes
+     * @since
+     *      1.0.0
+     */
+    public int size() {
+        return this.buffer.size;
+    }
+
+    @Override
+    long getByteCount() {
+        return this.buffer.size;
+    }
+
+    /**
+     * Obtains the backing array, whose first {@link #size()} bytes hold the output.
+     * The array is reused by subsequent writes and must not be modified.
+     *
+     * @return
+     *      Backing array
+     * @since
+     *      1.0.0
+     */
+    public byte[] getBuffer() {
+        return this.buffer.bytes;
+    }
+
+    /**
+     * Obtains a copy of the output
+     *
+     * @return
+     *      UTF-8 encoded JSON
+     * @since
+     *      1.0.0
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(this.buffer.bytes, this.buffer.size);
+    }
+
+    /**
+     * Writes the output to the given output stream
+     *
+     * @param outputStream
+     *      Output stream to write to
+     * @throws IOException
+     *      if the output stream could not be written to
+     * @since
+     *      1.0.0
+     */
+    public void writeTo(final OutputStream outputStream) throws IOException {
+        outputStream.write(this.buffer.bytes, 0, this.buffer.size);
+    }
+
+    @Override
+    public JsonWriter beginObject() throws IOException {
+        this.buffer.write('{');
+        this.empty = true;
+        return this;
+    }
+
+    @Override
+    public JsonWriter endObject() throws IOException {
+        this.buffer.write('}');
+        this.empty = false;
+        return this;
+    }
+
+    @Override
+    public JsonWriter name(final String name) throws IOException {
+        if (!this.empty) {
+            this.buffer.write(',');
+        }
+        this.empty = false;
+        byte[] encoded = ENCODED_NAMES.get(name);
+        if (encoded != null) {
+            this.buffer.write(encoded);
+        } else {
+            quote(name, this.buffer);
+            this.buffer.write(':');
+        }
+        return this;
+    }
+
+    @Override
+    public JsonWriter name(final String name, final String encodedName) throws IOException {
+        if (!this.empty) {
+            this.buffer.write(',');
+        }
+        this.empty = false;
+        this.buffer.append(encodedName);
+        return this;
+    }
+
+    @Override
+    public JsonWriter rawValue(final CharSequence json) throws IOException {
+        this.buffer.append(json);
+        this.empty = false;
+        return this;
+    }
+
+    /**
+     * Growable byte array that characters are appended to as UTF-8.
+     * Unpaired surrogates are replaced with {@code '?'}, matching {@link String#getBytes(java.nio.charset.Charset)}.
+     */
+    private static final class Utf8Buffer implements Appendable {
+
+        private byte[] bytes;
+        private int size = 0;
+        private char highSurrogate = 0;
+
+        Utf8Buffer(final int capacity) {
+            if (capacity < 1) {
+                throw new IllegalArgumentException("Invalid capacity: " + capacity);
+            }
+            this.bytes = new byte[capacity];
+        }
+
+        void reset(final int initialCapacity) {
+            if (this.bytes.length > MAX_RETAINED_CAPACITY) {
+                this.bytes = new byte[initialCapacity];
+            }
+            this.size = 0;
+            this.highSurrogate = 0;
+        }
+
+        void finish() {
+            if (this.highSurrogate != 0) {
+                this.highSurrogate = 0;
+                this.write('?');
+            }
+        }
+
+        void write(final int b) {
+            this.ensureCapacity(1);
+            this.bytes[this.size++] = (byte) b;
+        }
+
+        void write(final byte[] b) {
+            this.ensureCapacity(b.length);
+            System.arraycopy(b, 0, this.bytes, this.size, b.length);
+            this.size += b.length;
+        }
+
+        private void ensureCapacity(final int length) {
+            if (this.size + length > this.bytes.length) {
+                this.bytes = Arrays.copyOf(this.bytes, Math.max(this.bytes.length * 2, this.size + length));
+            }
+        }
+
+        @Override
+        public Appendable append(final CharSequence csq) {
+            return this.append(csq, 0, csq.length());
+        }
+
+        @Override
+        public Appendable append(final CharSequence csq, final int start, final int end) {
+            // a single character never needs more than three bytes, as surrogate pairs are four bytes for two characters
+            this.ensureCapacity((end - start) * 3 + 1);
+            for (int i = start; i < end; i++) {
+                this.encode(csq.charAt(i));
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(final char c) {
+            this.ensureCapacity(4);
+            this.encode(c);
+            return this;
+        }
+
+        /**
+         * Encodes a single character, which requires room for up to three bytes (four when completing a surrogate pair)
+         */
+        private void encode(final char c) {
+            byte[] bytes = this.bytes;
+            if (this.highSurrogate != 0) {
+                char high = this.highSurrogate;
+                this.highSurrogate = 0;
+                if (Character.isLowSurrogate(c)) {
+                    int codePoint = Character.toCodePoint(high, c);
+                    bytes[this.size++] = (byte) (0xF0 | (codePoint >> 18));
+                    bytes[this.size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    bytes[this.size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    bytes[this.size++] = (byte) (0x80 | (codePoint & 0x3F));
+                    return;
+                }
+                bytes[this.size++] = '?';
+            }
+
+            if (c < 0x80) {
+                bytes[this.size++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[this.size++] = (byte) (0xC0 | (c >> 6));
+                bytes[this.size++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c)) {
+                this.highSurrogate = c;
+            } else if (Character.isLowSurrogate(c)) {
+                bytes[this.size++] = '?';
+            } else {
+                bytes[this.size++] = (byte) (0xE0 | (c >> 12));
+                bytes[this.size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[this.size++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.xenosnowfox.openapi3.models.util;
+
+import java.math.BigInteger;
+
+/**
+ * Shortest decimal that rounds to a given double, computed with Raffaello Giulietti's Schubfach algorithm.
+ * Of all decimals with the fewest significant digits that parse back to the double, the one closest to it is chosen,
+ * preferring an even last digit on a tie. This is the decimal that ECMAScript's {@code Number.prototype.toString()}
+ * and therefore RFC 8785 require, and unlike {@link Double#toString(double)} before Java 19 it never has more digits
+ * than necessary, so the result does not depend on the Java version. The implementation follows the paper
+ * "The Schubfach way to render doubles" and the equivalent code in Java 19.
+ *
+ * @since
+ *      1.0.0
+ */
+final class ShortestDecimal {
+
+    private static final int P = 53;
+    private static final int Q_MIN = -1074;
+    private static final long C_MIN = 1L << (P - 1);
+    private static final long T_MASK = C_MIN - 1;
+    private static final int BQ_MASK = 0x7FF;
+
+    private static final int K_MIN = -324;
+    private static final int K_MAX = 292;
+    private static final long MASK_63 = (1L << 63) - 1;
+
+    // 126-bit approximations of 10^-k for K_MIN <= k <= K_MAX, split into their upper and lower 63 bits
+    private static final long[] G1 = new long[K_MAX - K_MIN + 1];
+    private static final long[] G0 = new long[K_MAX - K_MIN + 1];
+
+    static {
+        for (int k = K_MIN; k <= K_MAX; k++) {
+            // g = floor(10^-k * 2^(125 - floor(log2(10^-k)))) + 1
+            BigInteger numerator = BigInteger.TEN.pow(Math.max(-k, 0));
+            BigInteger denominator = BigInteger.TEN.pow(Math.max(k, 0));
+            int shift = 125 - flog2pow10(-k);
+            if (shift >= 0) {
+                numerator = numerator.shiftLeft(shift);
+            } else {
+                denominator = denominator.shiftLeft(-shift);
+            }
+            BigInteger g = numerator.divide(denominator).add(BigInteger.ONE);
+            G1[k - K_MIN] = g.shiftRight(63).longValue();
+            G0[k - K_MIN] = g.longValue() & MASK_63;
+        }
+    }
+
+    private final long significand;
+    private final int exponent;
+
+    private ShortestDecimal(final long significand, final int exponent) {
+        this.significand = significand;
+        this.exponent = exponent;
+    }
+
+    /**
+     * Computes the shortest decimal of the given value
+     *
+     * @param value
+     *      Finite, positive value
+     * @return
+     *      Decimal whose significand has no trailing zeros
+     */
+    static ShortestDecimal of(final double value) {
+        long bits = Double.doubleToRawLongBits(value);
+        long t = bits & T_MASK;
+        int bq = (int) (bits >>> (P - 1)) & BQ_MASK;
+        if (bits <= 0 || bq == BQ_MASK) {
+            throw new IllegalArgumentException("Value must be finite and positive: " + value);
+        }
+        if (bq == 0) {
+            // unlike Double.toString of Java 19, the smallest subnormals are not forced to have two digits
+            return compute(Q_MIN, t);
+        }
+
+        int mq = -Q_MIN + 1 - bq;
+        long c = C_MIN | t;
+        if (0 < mq && mq < P) {
+            // integers below 2^53 are their own shortest decimal
+            long f = c >> mq;
+            if (f << mq == c) {
+                return normalized(f, 0);
+            }
+        }
+        return compute(-mq, c);
+    }
+
+    /**
+     * Obtains the significant digits
+     *
+     * @return
+     *      Significand, which does not end in a zero
+     */
+    long getSignificand() {
+        return this.significand;
+    }
+
+    /**
+     * Obtains the power of ten that the significand is multiplied by
+     *
+     * @return
+     *      Decimal exponent
+     */
+    int getExponent() {
+        return this.exponent;
+    }
+
+    /**
+     * Computes the decimal of {@code c * 2^q}
+     */
+    private static ShortestDecimal compute(final int q, final long c) {
+        long out = c & 0x1;
+        long cb = c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        // the rounding interval is asymmetric at powers of two, where the previous double is closer
+        if (c != C_MIN || q == Q_MIN) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 2;
+
+        long g1 = G1[k - K_MIN];
+        long g0 = G0[k - K_MIN];
+        long vb = rop(g1, g0, cb << h);
+        long vbl = rop(g1, g0, cbl << h);
+        long vbr = rop(g1, g0, cbr << h);
+
+        long s = vb >> 2;
+        if (s >= 10) {
+            // the interval may contain a decimal with one digit fewer than s
+            long sp10 = 10 * multiplyHigh(s, 115_292_150_460_684_698L << 4);
+            long tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                return normalized(upin ? sp10 : tp10, k);
+            }
+        }
+
+        long t = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (t << 2) + out <= vbr;
+        if (uin != win) {
+            return normalized(uin ? s : t, k);
+        }
+
+        // both s and t are in the interval, so the one closest to the value is chosen, preferring an even digit
+        long cmp = vb - (s + t << 1);
+        return normalized(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k);
+    }
+
+    private static ShortestDecimal normalized(final long significand, final int exponent) {
+        long f = significand;
+        int e = exponent;
+        while (f % 10 == 0) {
+            f /= 10;
+            e++;
+        }
+        return new ShortestDecimal(f, e);
+    }
+
+    /**
+     * Rounds the product of g and cp to odd, returning its upper 64 bits with the lowest bit set if any discarded bit is set
+     */
+    private static long rop(final long g1, final long g0, final long cp) {
+        long x1 = multiplyHigh(g0, cp);
+        long y0 = g1 * cp;
+        long y1 = multiplyHigh(g1, cp);
+        long z = (y0 >>> 1) + x1;
+        long vbp = y1 + (z >>> 63);
+        return vbp | (z & MASK_63) + MASK_63 >>> 63;
+    }
+
+    /**
+     * Upper 64 bits of the 128-bit product, equivalent to {@code Math.multiplyHigh} of Java 9
+     */
+    private static long multiplyHigh(final long x, final long y) {
+        long x1 = x >> 32;
+        long x2 = x & 0xFFFFFFFFL;
+        long y1 = y >> 32;
+        long y2 = y & 0xFFFFFFFFL;
+        long z2 = x2 * y2;
+        long t = x1 * y2 + (z2 >>> 32);
+        long z1 = t & 0xFFFFFFFFL;
+        long z0 = t >> 32;
+        z1 += x2 * y1;
+        return x1 * y1 + z0 + (z1 >> 32);
+    }
+
+    /**
+     * floor(log10(2^e))
+     */
+    private static int flog10pow2(final int e) {
+        return (int) (e * 661_971_961_083L >> 41);
+    }
+
+    /**
+     * floor(log10(3/4 * 2^e))
+     */
+    private static int flog10threeQuartersPow2(final int e) {
+        return (int) (e * 661_971_961_083L + -274_743_187_321L >> 41);
+    }
+
+    /**
+     * floor(log2(10^e))
+     */
+    private static int flog2pow10(final int e) {
+        return (int) (e * 913_124_641_741L >> 38);
+    }
+}
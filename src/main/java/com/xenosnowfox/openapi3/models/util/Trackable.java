@@ -0,0 +1,30 @@
+package com.xenosnowfox.openapi3.models.util;
+
+/**
+ * Defines a class that notifies listeners whenever it, or any of the objects it contains, is modified
+ *
+ * @since
+ *      1.0.0
+ */
+public interface Trackable {
+
+    /**
+     * Registers a listener that is invoked with this instance whenever it is modified
+     *
+     * @param listener
+     *      Listener to register
+     * @since
+     *      1.0.0
+     */
+    void addChangeListener(final Invokable<Trackable> listener);
+
+    /**
+     * Removes a previously registered listener
+     *
+     * @param listener
+     *      Listener to remove
+     * @since
+     *      1.0.0
+     */
+    void removeChangeListener(final Invokable<Trackable> listener);
+}
@@ -0,0 +1,106 @@
+package com.xenosnowfox.openapi3.models.util;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+
+/**
+ * Conversions between {@link URL} and {@link URI}. Models store URLs as URIs, as comparing and hashing a URI is purely
+ * computational whereas {@link URL#equals(Object)} and {@link URL#hashCode()} may resolve host names, and a URI caches
+ * its string form.
+ *
+ * @since
+ *      1.0.0
+ */
+public final class Urls {
+
+    private Urls() {
+    }
+
+    /**
+     * Parses and validates the given URL
+     *
+     * @param url
+     *      URL to parse
+     * @return
+     *      URI representation of the URL, or null if the given URL is null
+     * @throws IllegalArgumentException
+     *      if the string is not a valid URL
+     * @since
+     *      1.0.0
+     */
+    public static URI parse(final String url) {
+        if (url == null) {
+            return null;
+        }
+        try {
+            return validate(new URI(url));
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid URL: " + url, e);
+        }
+    }
+
+    /**
+     * Ensures that the given URI is also a valid URL, i.e. it is absolute and uses a supported protocol
+     *
+     * @param uri
+     *      URI to validate
+     * @return
+     *      The given URI
+     * @throws IllegalArgumentException
+     *      if the URI is not a valid URL
+     * @since
+     *      1.0.0
+     */
+    public static URI validate(final URI uri) {
+        toUrl(uri);
+        return uri;
+    }
+
+    /**
+     * Converts the given URI into a URL
+     *
+     * @param uri
+     *      URI to convert
+     * @return
+     *      URL, or null if the given URI is null
+     * @throws IllegalArgumentException
+     *      if the URI is not a valid URL
+     * @since
+     *      1.0.0
+     */
+    public static URL toUrl(final URI uri) {
+        if (uri == null) {
+            return null;
+        }
+        try {
+            return uri.toURL();
+        } catch (MalformedURLException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid URL: " + uri, e);
+        }
+    }
+
+    /**
+     * Converts the given URL into a URI, without resolving its host name
+     *
+     * @param url
+     *      URL to convert
+     * @return
+     *      URI, or null if the given URL is null
+     * @throws IllegalArgumentException
+     *      if the URL is not a valid URI (e.g. it contains unescaped spaces)
+     * @since
+     *      1.0.0
+     */
+    public static URI toUri(final URL url) {
+        if (url == null) {
+            return null;
+        }
+        try {
+            return url.toURI();
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid URL: " + url, e);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.xenosnowfox.openapi3.models.util;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Appendable that encodes characters as UTF-8 directly into a buffered output stream.
+ * Unpaired surrogates are replaced with {@code '?'}, matching {@link String#getBytes(java.nio.charset.Charset)}.
+ *
+ * @since
+ *      1.0.0
+ */
+class Utf8Appendable implements Appendable, Flushable {
+
+    private static final int BUFFER_SIZE = 1024;
+
+    private final OutputStream outputStream;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position = 0;
+    private char highSurrogate = 0;
+    private long drained = 0;
+
+    /**
+     * Instantiates an appendable that writes to the given output stream
+     *
+     * @param outputStream
+     *      Destination of the encoded bytes
+     */
+    Utf8Appendable(final OutputStream outputStream) {
+        if (outputStream == null) {
+            throw new NullPointerException("Output stream cannot be null");
+        }
+        this.outputStream = outputStream;
+    }
+
+    @Override
+    public Appendable append(final CharSequence csq) throws IOException {
+        return this.append(csq, 0, csq.length());
+    }
+
+    @Override
+    public Appendable append(final CharSequence csq, final int start, final int end) throws IOException {
+        for (int i = start; i < end; i++) {
+            this.append(csq.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public Appendable append(final char c) throws IOException {
+        // make sure that a full code point always fits in the buffer
+        if (this.position > BUFFER_SIZE - 4) {
+            this.drain();
+        }
+
+        if (this.highSurrogate != 0) {
+            char high = this.highSurrogate;
+            this.highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                this.writeCodePoint(Character.toCodePoint(high, c));
+                return this;
+            }
+            this.buffer[this.position++] = '?';
+        }
+
+        if (c < 0x80) {
+            this.buffer[this.position++] = (byte) c;
+        } else if (c < 0x800) {
+            this.buffer[this.position++] = (byte) (0xC0 | (c >> 6));
+            this.buffer[this.position++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+            this.highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            this.buffer[this.position++] = '?';
+        } else {
+            this.buffer[this.position++] = (byte) (0xE0 | (c >> 12));
+            this.buffer[this.position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            this.buffer[this.position++] = (byte) (0x80 | (c & 0x3F));
+        }
+        return this;
+    }
+
+    private void writeCodePoint(final int codePoint) {
+        this.buffer[this.position++] = (byte) (0xF0 | (codePoint >> 18));
+        this.buffer[this.position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+        this.buffer[this.position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        this.buffer[this.position++] = (byte) (0x80 | (codePoint & 0x3F));
+    }
+
+    /**
+     * Obtains the number of bytes encoded so far, including those still buffered
+     *
+     * @return
+     *      Number of bytes
+     */
+    long getByteCount() {
+        return this.drained + this.position;
+    }
+
+    private void drain() throws IOException {
+        if (this.position > 0) {
+            this.outputStream.write(this.buffer, 0, this.position);
+            this.drained += this.position;
+            this.position = 0;
+        }
+    }
+
+    /**
+     * Writes any buffered bytes, including a trailing unpaired surrogate, to the output stream and flushes it.
+     *
+     * @throws IOException
+     *      if the output stream could not be written to
+     */
+    @Override
+    public void flush() throws IOException {
+        if (this.highSurrogate != 0) {
+            this.highSurrogate = 0;
+            if (this.position == BUFFER_SIZE) {
+                this.drain();
+            }
+            this.buffer[this.position++] = '?';
+        }
+        this.drain();
+        this.outputStream.flush();
+    }
+}
@@ -0,0 +1,102 @@
+package com.xenosnowfox.openapi3.models.util;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe interner that maps structurally equal values onto a single canonical instance.
+ * Canonical instances are only weakly referenced, so they are released once nothing else refers to them.
+ *
+ * @param <T>
+ *      Type of the interned values, which must be immutable and implement equals and hashCode
+ * @since
+ *      1.0.0
+ */
+public class WeakInterner<T> {
+
+    private final ConcurrentHashMap<Entry<T>, Entry<T>> entries = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+
+    /**
+     * Obtains the canonical instance equal to the given value, registering the value itself if there is none
+     *
+     * @param value
+     *      Value to intern
+     * @return
+     *      Canonical instance, or null if the value is null
+     * @since
+     *      1.0.0
+     */
+    public T intern(final T value) {
+        if (value == null) {
+            return null;
+        }
+        this.expungeStaleEntries();
+
+        Entry<T> entry = new Entry<>(value, this.queue);
+        while (true) {
+            Entry<T> existing = this.entries.putIfAbsent(entry, entry);
+            if (existing == null) {
+                return value;
+            }
+            T canonical = existing.get();
+            if (canonical != null) {
+                return canonical;
+            }
+
+            // the canonical instance was collected before its entry was expunged
+            this.entries.remove(existing, existing);
+        }
+    }
+
+    /**
+     * Obtains the number of canonical instances currently held
+     *
+     * @return
+     *      Number of canonical instances
+     * @since
+     *      1.0.0
+     */
+    public int size() {
+        this.expungeStaleEntries();
+        return this.entries.size();
+    }
+
+    private void expungeStaleEntries() {
+        Object reference;
+        while ((reference = this.queue.poll()) != null) {
+            this.entries.remove(reference, reference);
+        }
+    }
+
+    /**
+     * Weak reference to a value that uses the value's equality while it is reachable, and identity once it is cleared
+     */
+    private static final class Entry<T> extends WeakReference<T> {
+
+        private final int hashCode;
+
+        Entry(final T value, final ReferenceQueue<T> queue) {
+            super(value, queue);
+            this.hashCode = value.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Entry)) {
+                return false;
+            }
+            Object value = this.get();
+            return value != null && this.hashCode == obj.hashCode() && value.equals(((Entry<?>) obj).get());
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.xenosnowfox.openapi3.models.util;
+
+import java.io.IOException;
+
+/**
+ * Writes YAML directly to an {@link Appendable}, driven by the same calls that produce JSON, so any {@link Jsonable}
+ * can be emitted as YAML through {@link Jsonable#writeJson(JsonWriter)} without building an intermediate tree.
+ * Objects are written in block style with two spaces of indentation, multi-line strings as literal block scalars,
+ * and other strings as plain scalars unless they need quoting, in which case they are written as double-quoted scalars.
+ *
+ * @since
+ *      1.0.0
+ */
+public class YamlWriter extends JsonWriter {
+
+    private static final String INDICATORS = "-?:,[]{}#&*!|>'\"%@` \t";
+    // characters of numbers and of timestamps, which may separate their date and time with a space
+    private static final String NUMERIC = "0123456789._:+-eEoOxXabcdfABCDFtTzZ ";
+    private static final String[] RESERVED = {"true", "false", "null", "yes", "no", "on", "off", "y", "n", "~", "<<"};
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Appendable appendable;
+    private int depth = 0;
+    private boolean empty = true;
+    private boolean afterName = false;
+    private boolean started = false;
+
+    /**
+     * Instantiates a writer that appends YAML to the given appendable
+     *
+     * @param appendable
+     *      Destination of the YAML output
+     * @since
+     *      1.0.0
+     */
+    public YamlWriter(final Appendable appendable) {
+        super(appendable);
+        this.appendable = appendable;
+    }
+
+    /**
+     * Already encoded JSON is written as a flow collection, so objects holding a cached JSON representation should
+     * stream their members instead
+     */
+    @Override
+    public boolean isRawJsonSupported() {
+        return false;
+    }
+
+    @Override
+    public JsonWriter beginObject() throws IOException {
+        this.depth++;
+        this.empty = true;
+        return this;
+    }
+
+    @Override
+    public JsonWriter endObject() throws IOException {
+        if (this.empty) {
+            this.appendable.append(this.afterName ? " {}" : "{}");
+        }
+        this.depth--;
+        this.empty = false;
+        this.afterName = false;
+        this.started = true;
+        this.endDocument();
+        return this;
+    }
+
+    @Override
+    public JsonWriter name(final String name) throws IOException {
+        if (this.started) {
+            this.appendable.append('\n');
+        }
+        this.indent(this.depth - 1);
+        if (isPlain(name)) {
+            this.appendable.append(name);
+        } else {
+            doubleQuote(name, this.appendable);
+        }
+        this.appendable.append(':');
+        this.empty = false;
+        this.afterName = true;
+        this.started = true;
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final String value) throws IOException {
+        if (this.afterName) {
+            this.appendable.append(' ');
+        }
+        if (value != null && isPlain(value)) {
+            this.appendable.append(value);
+        } else if (value == null) {
+            this.appendable.append("\"\"");
+        } else if (!this.literal(value)) {
+            doubleQuote(value, this.appendable);
+        }
+        this.afterName = false;
+        this.started = true;
+        this.endDocument();
+        return this;
+    }
+
+    /**
+     * Writes an already encoded JSON value as a flow collection, which is valid YAML
+     */
+    @Override
+    public JsonWriter rawValue(final CharSequence json) throws IOException {
+        if (this.afterName) {
+            this.appendable.append(' ');
+        }
+        this.appendable.append(json);
+        this.empty = false;
+        this.afterName = false;
+        this.started = true;
+        this.endDocument();
+        return this;
+    }
+
+    private void endDocument() throws IOException {
+        if (this.depth == 0) {
+            this.appendable.append('\n');
+        }
+    }
+
+    private void indent(final int level) throws IOException {
+        for (int i = 0; i < level; i++) {
+            this.appendable.append("  ");
+        }
+    }
+
+    /**
+     * Writes a multi-line string as a literal block scalar
+     *
+     * @return
+     *      false if the string cannot be represented as a block scalar, in which case nothing was written
+     */
+    private boolean literal(final String value) throws IOException {
+        int newlines = 0;
+        boolean content = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\n') {
+                newlines++;
+            } else if (c != '\t' && !isPrintable(c)) {
+                return false;
+            } else {
+                content = true;
+            }
+        }
+        if (newlines == 0 || !content) {
+            return false;
+        }
+
+        // an explicit indentation indicator, relative to the enclosing mapping, is needed when the first line could be
+        // mistaken for indentation; top-level scalars have no enclosing mapping, so they are quoted instead
+        int level = Math.max(this.depth, 1);
+        boolean indicator = value.charAt(0) == ' ' || value.charAt(0) == '\n';
+        if (indicator && this.depth == 0) {
+            return false;
+        }
+
+        // chomping indicator: strip no trailing line break, clip a single one, keep several
+        int end = value.length();
+        int trailing = 0;
+        while (end > 0 && value.charAt(end - 1) == '\n') {
+            end--;
+            trailing++;
+        }
+        this.appendable.append('|');
+        if (indicator) {
+            this.appendable.append('2');
+        }
+        if (trailing == 0) {
+            this.appendable.append('-');
+        } else if (trailing > 1) {
+            this.appendable.append('+');
+            end += trailing - 1;
+        }
+
+        int start = 0;
+        while (start <= end) {
+            int lineEnd = value.indexOf('\n', start);
+            if (lineEnd == -1 || lineEnd > end) {
+                lineEnd = end;
+            }
+            this.appendable.append('\n');
+            if (lineEnd > start) {
+                this.indent(level);
+                this.appendable.append(value, start, lineEnd);
+            }
+            start = lineEnd + 1;
+        }
+        return true;
+    }
+
+    /**
+     * Writes a double-quoted scalar, escaping the characters that cannot appear within one. Unlike a JSON string, this
+     * includes DEL and the other characters that YAML does not consider printable.
+     */
+    private static void doubleQuote(final String value, final Appendable appendable) throws IOException {
+        appendable.append('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '"' && c != '\\' && c != '\t' && isPrintable(c)) {
+                continue;
+            }
+
+            // copy runs of unescaped characters in a single call
+            appendable.append(value, start, i);
+            switch (c) {
+                case '"':
+                    appendable.append("\\\"");
+                    break;
+                case '\\':
+                    appendable.append("\\\\");
+                    break;
+                case '\t':
+                    appendable.append("\\t");
+                    break;
+                case '\n':
+                    appendable.append("\\n");
+                    break;
+                case '\r':
+                    appendable.append("\\r");
+                    break;
+                default:
+                    appendable.append("\\u")
+                            .append(HEX[c >>> 12])
+                            .append(HEX[(c >>> 8) & 0xF])
+                            .append(HEX[(c >>> 4) & 0xF])
+                            .append(HEX[c & 0xF]);
+            }
+            start = i + 1;
+        }
+        appendable.append(value, start, value.length());
+        appendable.append('"');
+    }
+
+    /**
+     * Determines whether the given string can be written as a plain scalar without being read back as something else,
+     * e.g. a number, boolean or null. The check is conservative, so some strings are quoted unnecessarily.
+     */
+    private static boolean isPlain(final String value) {
+        if (value.isEmpty() || INDICATORS.indexOf(value.charAt(0)) != -1 || value.charAt(value.length() - 1) == ' ') {
+            return false;
+        }
+        for (String reserved : RESERVED) {
+            if (reserved.equalsIgnoreCase(value)) {
+                return false;
+            }
+        }
+
+        boolean numeric = true;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!isPrintable(c) || c == '\t') {
+                return false;
+            }
+            if (c == ':' && (i + 1 == value.length() || value.charAt(i + 1) == ' ')) {
+                return false;
+            }
+            if (c == '#' && value.charAt(i - 1) == ' ') {
+                return false;
+            }
+            numeric &= NUMERIC.indexOf(c) != -1;
+        }
+
+        // anything that starts like a number and only contains characters that can appear in one is quoted, as are .inf and .nan
+        char first = value.charAt(0);
+        return first != '.' && (!numeric || !((first >= '0' && first <= '9') || first == '+'));
+    }
+
+    private static boolean isPrintable(final char c) {
+        return (c >= ' ' && c < 0x7f)
+                || (c > 0x9f && c != '\u2028' && c != '\u2029' && c != '\ufeff')
+                || c == '\t';
+    }
+}
@@ -0,0 +1,327 @@
+package com.xenosnowfox.openapi3.models.validation;
+
+import com.xenosnowfox.openapi3.models.Document;
+import com.xenosnowfox.openapi3.models.info.Contact;
+import com.xenosnowfox.openapi3.models.info.Info;
+import com.xenosnowfox.openapi3.models.info.License;
+import com.xenosnowfox.openapi3.models.metrics.ModelType;
+import com.xenosnowfox.openapi3.models.metrics.SerializationMetrics;
+import com.xenosnowfox.openapi3.models.paths.HttpMethod;
+import com.xenosnowfox.openapi3.models.paths.Operation;
+import com.xenosnowfox.openapi3.models.paths.PathItem;
+import com.xenosnowfox.openapi3.models.paths.Paths;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Checks documents against the rules of the OpenAPI specification without serializing them.
+ * Each document is walked once and every violation is reported, rather than only the first. Valid documents do not
+ * cause any allocation once their paths have compiled their {@link Paths#getIndex() index}: the list of violations is
+ * only created once the first one is found, JSON pointers are only built for violations, and operation identifiers
+ * are checked for uniqueness with a lookup table that is reused by every document validated on the same thread.
+ * Instances are stateless and can be shared between threads.
+ *
+ * @since
+ *      1.0.0
+ */
+public class DocumentValidator {
+
+    // values() returns a new array on every call
+    private static final HttpMethod[] METHODS = HttpMethod.values();
+
+    private static final ThreadLocal<PathsCheck> PATHS_CHECK = ThreadLocal.withInitial(PathsCheck::new);
+
+    /**
+     * Validates a single document
+     *
+     * @param document
+     *      Document to validate
+     * @return
+     *      Unmodifiable list of violations, in document order, which is empty if the document is valid
+     * @since
+     *      1.0.0
+     */
+    public List<Violation> validate(final Document document) {
+        List<Violation> violations = this.validate(document, null);
+        if (violations == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(violations);
+    }
+
+    /**
+     * Validates a batch of documents
+     *
+     * @param documents
+     *      Documents to validate
+     * @return
+     *      Violations of each document, in the same order as the given documents
+     * @since
+     *      1.0.0
+     */
+    public List<List<Violation>> validateAll(final Collection<? extends Document> documents) {
+        List<List<Violation>> results = new ArrayList<>(documents.size());
+        for (Document document : documents) {
+            results.add(this.validate(document));
+        }
+        return results;
+    }
+
+    /**
+     * Determines whether the given document is valid, without allocating if it is
+     *
+     * @param document
+     *      Document to validate
+     * @return
+     *      true if the document has no violations
+     * @since
+     *      1.0.0
+     */
+    public boolean isValid(final Document document) {
+        return this.validate(document, null) == null;
+    }
+
+    /**
+     * Appends the violations of the given document to a list. The list is created when the first violation is found,
+     * so no allocation takes place for valid documents.
+     *
+     * @param document
+     *      Document to validate
+     * @param violations
+     *      List to add violations to, or null
+     * @return
+     *      The list of violations, or null if there were none and no list was given
+     * @since
+     *      1.0.0
+     */
+    protected List<Violation> validate(final Document document, final List<Violation> violations) {
+        if (document == null) {
+            return add(violations, ModelType.DOCUMENT, "", "Document has not been defined");
+        }
+        Info info = document.getInfo();
+        if (info == null) {
+            return add(violations, ModelType.DOCUMENT, "/info", "Info has not been defined");
+        }
+
+        List<Violation> result = violations;
+        if (isBlank(info.getTitle())) {
+            result = add(result, ModelType.INFO, "/info/title", "Title cannot be null or blank");
+        }
+        if (isBlank(info.getVersion())) {
+            result = add(result, ModelType.INFO, "/info/version", "Version cannot be null or blank");
+        }
+        if (!isValidUrl(info.getTermsOfServiceUri())) {
+            result = add(result, ModelType.INFO, "/info/termsOfService", "Invalid URL: " + info.getTermsOfServiceUri());
+        }
+
+        Contact contact = info.getContact();
+        if (contact != null) {
+            String email = contact.getEmail();
+            if (email != null && !isValidEmail(email)) {
+                result = add(result, ModelType.CONTACT, "/info/contact/email", "Invalid email address: " + email);
+            }
+            if (!isValidUrl(contact.getUri())) {
+                result = add(result, ModelType.CONTACT, "/info/contact/url", "Invalid URL: " + contact.getUri());
+            }
+        }
+
+        License license = info.getLicense();
+        if (license != null) {
+            if (isBlank(license.getName())) {
+                result = add(result, ModelType.LICENSE, "/info/license/name", "Name cannot be null or blank");
+            }
+            if (!isValidUrl(license.getUri())) {
+                result = add(result, ModelType.LICENSE, "/info/license/url", "Invalid URL: " + license.getUri());
+            }
+        }
+
+        Paths paths = document.getPaths();
+        if (paths != null) {
+            result = validatePaths(paths, result);
+        }
+        return result;
+    }
+
+    private static List<Violation> validatePaths(final Paths paths, final List<Violation> violations) {
+        PathsCheck check = PATHS_CHECK.get();
+        if (check.active) {
+            // a listener notified of a violation validates another document on the same thread
+            check = new PathsCheck();
+        }
+        List<Violation> result = check.run(paths, violations);
+
+        // equivalent templates, such as /users/{id} and /users/{name}, are detected by compiling the index, which the
+        // paths cache until they are modified
+        if (check.valid) {
+            try {
+                paths.getIndex();
+            } catch (IllegalArgumentException e) {
+                result = add(result, ModelType.PATHS, "/paths", e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    private static List<Violation> add(final List<Violation> violations, final ModelType type, final String path, final String message) {
+        List<Violation> result = violations == null ? new ArrayList<>() : violations;
+        Violation violation = new Violation(path, message);
+        result.add(violation);
+        SerializationMetrics.validationFailed(type, violation);
+        return result;
+    }
+
+    private static String operationPointer(final String path, final HttpMethod method) {
+        return "/paths/" + escape(path) + "/" + method.getName() + "/operationId";
+    }
+
+    /**
+     * Escapes a member name for use as a JSON pointer token
+     */
+    private static String escape(final String name) {
+        return name.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static boolean isBlank(final String value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A URL is valid if it is absolute; the models validate the protocol when the URL is assigned
+     */
+    private static boolean isValidUrl(final URI uri) {
+        return uri == null || uri.isAbsolute();
+    }
+
+    /**
+     * Checks the address has the form {@code local@domain}, where the domain contains a dot that is neither its first
+     * nor last character, and neither part contains whitespace or another {@code @}
+     */
+    private static boolean isValidEmail(final String email) {
+        int at = email.indexOf('@');
+        if (at <= 0 || at != email.lastIndexOf('@')) {
+            return false;
+        }
+        int dot = email.lastIndexOf('.');
+        if (dot <= at + 1 || dot == email.length() - 1) {
+            return false;
+        }
+        for (int i = 0; i < email.length(); i++) {
+            if (Character.isWhitespace(email.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Visits the path items of a document, checking that each path begins with a forward slash and that no two
+     * operations share an identifier. Identifiers are collected in an open-addressing table that is reused by every
+     * document validated on the same thread and only grows, and JSON pointers are only built for violations.
+     */
+    private static final class PathsCheck implements BiConsumer<String, PathItem> {
+
+        private String[] operationIds = new String[64];
+        private String[] paths = new String[64];
+        private HttpMethod[] methods = new HttpMethod[64];
+        private int size = 0;
+        private boolean active = false;
+        private boolean valid;
+        private List<Violation> violations;
+
+        private List<Violation> run(final Paths paths, final List<Violation> violations) {
+            this.active = true;
+            this.valid = true;
+            this.violations = violations;
+            try {
+                paths.getPathItems().forEach(this);
+                return this.violations;
+            } finally {
+                if (this.size > 0) {
+                    Arrays.fill(this.operationIds, null);
+                    Arrays.fill(this.paths, null);
+                    Arrays.fill(this.methods, null);
+                    this.size = 0;
+                }
+                this.violations = null;
+                this.active = false;
+            }
+        }
+
+        @Override
+        public void accept(final String path, final PathItem pathItem) {
+            if (!path.startsWith("/")) {
+                this.violations = add(this.violations, ModelType.PATHS, "/paths/" + escape(path),
+                        "Path must begin with a forward slash: " + path);
+                this.valid = false;
+            }
+
+            for (HttpMethod method : METHODS) {
+                Operation operation = pathItem.getOperation(method);
+                String operationId = operation == null ? null : operation.getOperationId();
+                if (operationId == null) {
+                    continue;
+                }
+
+                int mask = this.operationIds.length - 1;
+                int slot = spread(operationId.hashCode()) & mask;
+                while (this.operationIds[slot] != null) {
+                    if (this.operationIds[slot].equals(operationId)) {
+                        this.violations = add(this.violations, ModelType.OPERATION, operationPointer(path, method),
+                                "Duplicate operation id " + operationId + ", already used at "
+                                        + operationPointer(this.paths[slot], this.methods[slot]));
+                        break;
+                    }
+                    slot = (slot + 1) & mask;
+                }
+                if (this.operationIds[slot] == null) {
+                    this.operationIds[slot] = operationId;
+                    this.paths[slot] = path;
+                    this.methods[slot] = method;
+                    if (++this.size * 2 > this.operationIds.length) {
+                        this.grow();
+                    }
+                }
+            }
+        }
+
+        private void grow() {
+            String[] operationIds = this.operationIds;
+            String[] paths = this.paths;
+            HttpMethod[] methods = this.methods;
+            this.operationIds = new String[operationIds.length * 2];
+            this.paths = new String[operationIds.length * 2];
+            this.methods = new HttpMethod[operationIds.length * 2];
+
+            int mask = this.operationIds.length - 1;
+            for (int i = 0; i < operationIds.length; i++) {
+                if (operationIds[i] != null) {
+                    int slot = spread(operationIds[i].hashCode()) & mask;
+                    while (this.operationIds[slot] != null) {
+                        slot = (slot + 1) & mask;
+                    }
+                    this.operationIds[slot] = operationIds[i];
+                    this.paths[slot] = paths[i];
+                    this.methods[slot] = methods[i];
+                }
+            }
+        }
+
+        private static int spread(final int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
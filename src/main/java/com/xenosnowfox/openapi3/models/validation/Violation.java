@@ -0,0 +1,74 @@
+package com.xenosnowfox.openapi3.models.validation;
+
+/**
+ * A single problem found in a document by the {@link DocumentValidator}.
+ *
+ * @since
+ *      1.0.0
+ */
+public final class Violation {
+
+    private final String path;
+    private final String message;
+
+    /**
+     * Instantiates a violation
+     *
+     * @param path
+     *      JSON Pointer to the offending member, e.g. {@code /info/title}
+     * @param message
+     *      Description of the problem
+     * @since
+     *      1.0.0
+     */
+    public Violation(final String path, final String message) {
+        this.path = path;
+        this.message = message;
+    }
+
+    /**
+     * Obtains the location of the offending member
+     *
+     * @return
+     *      JSON Pointer to the member
+     * @since
+     *      1.0.0
+     */
+    public String getPath() {
+        return this.path;
+    }
+
+    /**
+     * Obtains the description of the problem
+     *
+     * @return
+     *      Message
+     * @since
+     *      1.0.0
+     */
+    public String getMessage() {
+        return this.message;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Violation)) {
+            return false;
+        }
+        Violation other = (Violation) obj;
+        return this.path.equals(other.path) && this.message.equals(other.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.path.hashCode() + this.message.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.path + ": " + this.message;
+    }
+}
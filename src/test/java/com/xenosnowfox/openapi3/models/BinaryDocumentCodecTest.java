@@ -0,0 +1,109 @@
+package com.xenosnowfox.openapi3.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryDocumentCodecTest {
+
+    private final BinaryDocumentCodec codec = new BinaryDocumentCodec();
+
+    @Test
+    void roundTripsDocument() throws IOException {
+        Document document = DocumentSerializationTest.full();
+
+        Document decoded = this.codec.decode(this.codec.encode(document));
+
+        assertThat(decoded.toJsonObject().similar(document.toJsonObject())).isTrue();
+    }
+
+    @Test
+    void rejectsTruncatedInput() throws IOException {
+        byte[] bytes = this.codec.encode(DocumentSerializationTest.full());
+        for (int length = 0; length < bytes.length; length++) {
+            byte[] truncated = new byte[length];
+            System.arraycopy(bytes, 0, truncated, 0, length);
+            assertThatThrownBy(() -> this.codec.decode(truncated)).isInstanceOf(IOException.class);
+        }
+    }
+
+    @Test
+    void rejectsStringLongerThanInputWithoutAllocatingIt() {
+        // a title field claiming almost 64 MiB, followed by only a few bytes
+        ByteArrayOutputStream bytes = header();
+        varint(bytes, 1 << 1 | 1);
+        varint(bytes, 1 << 1);
+        varint(bytes, ((64 << 20) - 1) << 1);
+        bytes.write('x');
+
+        assertThatThrownBy(() -> this.codec.decode(bytes.toByteArray()))
+                .isInstanceOf(EOFException.class)
+                .hasMessage("Unexpected end of binary document");
+    }
+
+    @Test
+    void rejectsStringLongerThanMaximum() {
+        ByteArrayOutputStream bytes = header();
+        varint(bytes, 1 << 1 | 1);
+        varint(bytes, 1 << 1);
+        varint(bytes, Integer.MAX_VALUE - 1);
+
+        assertThatThrownBy(() -> this.codec.decode(bytes.toByteArray()))
+                .isInstanceOf(IOException.class)
+                .hasMessage("String length 1073741823 exceeds the maximum of 67108864");
+    }
+
+    @Test
+    void rejectsDeeplyNestedUnknownField() {
+        ByteArrayOutputStream bytes = header();
+        for (int i = 0; i < 1_000_000; i++) {
+            varint(bytes, 99 << 1 | 1);
+        }
+
+        assertThatThrownBy(() -> this.codec.decode(bytes.toByteArray()))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Unknown field nested more than 64 levels deep");
+    }
+
+    @Test
+    void skipsNestedUnknownFields() throws IOException {
+        byte[] encoded = this.codec.encode(DocumentSerializationTest.minimal());
+        ByteArrayOutputStream bytes = header();
+        varint(bytes, 99 << 1 | 1);
+        varint(bytes, 98 << 1 | 1);
+        varint(bytes, 97 << 1);
+        varint(bytes, 0);
+        varint(bytes, 0);
+        varint(bytes, 0);
+        // the remainder of the encoded document, after its magic bytes and format version
+        bytes.write(encoded, 5, encoded.length - 5);
+
+        Document decoded = this.codec.decode(bytes.toByteArray());
+
+        assertThat(decoded.getInfo().getTitle()).isEqualTo(DocumentSerializationTest.minimal().getInfo().getTitle());
+    }
+
+    private static ByteArrayOutputStream header() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write('O');
+        bytes.write('A');
+        bytes.write('3');
+        bytes.write('B');
+        bytes.write(1);
+        return bytes;
+    }
+
+    private static void varint(final ByteArrayOutputStream bytes, final int value) {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            bytes.write((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        bytes.write(remaining);
+    }
+}
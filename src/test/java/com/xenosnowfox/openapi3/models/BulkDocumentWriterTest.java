@@ -0,0 +1,61 @@
+package com.xenosnowfox.openapi3.models;
+
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkDocumentWriterTest {
+
+    private static final String PRETTY = "{\n"
+            + "  \"openapi\": \"3.0.1\",\n"
+            + "  \"info\": {\n"
+            + "    \"title\": \"Pet Store\",\n"
+            + "    \"version\": \"1.0.0\",\n"
+            + "    \"description\": \"Line one\\nline two\",\n"
+            + "    \"x-internal\": { \"a\" : [1, 2] }\n"
+            + "  }\n"
+            + "}\n";
+
+    private static String write(final List<? extends Document> documents, final BulkDocumentWriter.Format format) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        long written = new BulkDocumentWriter(ForkJoinPool.commonPool(), 1, 2).write(documents, format, Channels.newChannel(outputStream));
+        assertThat(written).isEqualTo(outputStream.size());
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void writesPrettyPrintedLazyDocumentsOnSingleLines() throws IOException {
+        List<LazyDocument> documents = Arrays.asList(
+                new LazyDocument(PRETTY.getBytes(StandardCharsets.UTF_8)),
+                new LazyDocument(PRETTY.getBytes(StandardCharsets.UTF_8)));
+        String expected = documents.get(0).toJsonObject().toString();
+
+        String output = write(documents, BulkDocumentWriter.Format.NDJSON);
+
+        assertThat(output.split("\n", -1)).containsExactly(expected, expected, "");
+        assertThat(write(documents, BulkDocumentWriter.Format.JSON_ARRAY)).isEqualTo("[" + expected + "," + expected + "]");
+    }
+
+    @Test
+    void compactsAlreadyEncodedJson() throws IOException {
+        Document document = new OpenApiDocument() {
+            @Override
+            public void writeJson(final JsonWriter writer) throws IOException {
+                writer.rawValue("{\r\n\t\"a b\" : \"c \\\" d\",\n  \"e\" : [ 1 , 2 ]\n}");
+            }
+        };
+
+        String output = write(Arrays.asList(document, document), BulkDocumentWriter.Format.NDJSON);
+
+        assertThat(output).isEqualTo("{\"a b\":\"c \\\" d\",\"e\":[1,2]}\n{\"a b\":\"c \\\" d\",\"e\":[1,2]}\n");
+    }
+}
@@ -0,0 +1,55 @@
+package com.xenosnowfox.openapi3.models;
+
+import com.xenosnowfox.openapi3.models.info.ContactImpl;
+import com.xenosnowfox.openapi3.models.info.InfoImpl;
+import com.xenosnowfox.openapi3.models.util.Invokable;
+import com.xenosnowfox.openapi3.models.util.Trackable;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingOpenApiDocumentTest {
+
+    @Test
+    void cachedBytesFollowNestedChanges() throws IOException {
+        InfoImpl info = new InfoImpl("Pet Store", "1.0.0");
+        ContactImpl contact = new ContactImpl("Support");
+        info.setContact(contact);
+        CachingOpenApiDocument document = new CachingOpenApiDocument();
+        document.setInfo(info);
+
+        assertThat(new String(document.toJsonBytes(), StandardCharsets.UTF_8)).doesNotContain("support@example.com");
+
+        contact.setEmail("support@example.com");
+
+        assertThat(new String(document.toJsonBytes(), StandardCharsets.UTF_8)).isEqualTo(document.toJsonObject().toString());
+    }
+
+    @Test
+    void replacedChildrenAreNoLongerTracked() {
+        List<Invokable<Trackable>> listeners = new ArrayList<>();
+        InfoImpl previous = new InfoImpl("Pet Store", "1.0.0") {
+            @Override
+            public void addChangeListener(final Invokable<Trackable> listener) {
+                listeners.add(listener);
+            }
+
+            @Override
+            public void removeChangeListener(final Invokable<Trackable> listener) {
+                listeners.remove(listener);
+            }
+        };
+        CachingOpenApiDocument document = new CachingOpenApiDocument();
+        document.setInfo(previous);
+        assertThat(listeners).hasSize(1);
+
+        document.setInfo(new InfoImpl("Other", "2.0.0"));
+
+        assertThat(listeners).isEmpty();
+    }
+}
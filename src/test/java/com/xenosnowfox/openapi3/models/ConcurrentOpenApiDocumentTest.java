@@ -0,0 +1,53 @@
+package com.xenosnowfox.openapi3.models;
+
+import com.xenosnowfox.openapi3.models.info.ConcurrentInfo;
+import com.xenosnowfox.openapi3.models.paths.HttpMethod;
+import com.xenosnowfox.openapi3.models.paths.OperationImpl;
+import com.xenosnowfox.openapi3.models.paths.PathItemImpl;
+import com.xenosnowfox.openapi3.models.paths.Paths;
+import com.xenosnowfox.openapi3.models.paths.PathsImpl;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentOpenApiDocumentTest {
+
+    private static PathItemImpl pathItem(final String operationId) {
+        PathItemImpl pathItem = new PathItemImpl();
+        pathItem.setOperation(HttpMethod.GET, new OperationImpl(operationId));
+        return pathItem;
+    }
+
+    @Test
+    void keepsFrozenPathsWhenInfoIsModified() {
+        ConcurrentInfo info = new ConcurrentInfo("Pet Store", "1.0.0");
+        PathsImpl paths = new PathsImpl();
+        paths.setPathItem("/pets/{id}", pathItem("getPet"));
+        ConcurrentOpenApiDocument document = new ConcurrentOpenApiDocument();
+        document.setInfo(info);
+        document.setPaths(paths);
+        Paths frozenPaths = document.freeze().getPaths();
+
+        info.setTitle("Pet Shop");
+
+        assertThat(document.freeze().getInfo().getTitle()).isEqualTo("Pet Shop");
+        assertThat(document.freeze().getPaths()).isSameAs(frozenPaths);
+        assertThat(document.matchOperation("GET", "/pets/1").getOperationId()).isEqualTo("getPet");
+    }
+
+    @Test
+    void refreezesPathsWhenTheyAreModified() {
+        PathsImpl paths = new PathsImpl();
+        paths.setPathItem("/pets/{id}", pathItem("getPet"));
+        ConcurrentOpenApiDocument document = new ConcurrentOpenApiDocument();
+        document.setInfo(new ConcurrentInfo("Pet Store", "1.0.0"));
+        document.setPaths(paths);
+        Paths frozenPaths = document.freeze().getPaths();
+
+        paths.setPathItem("/owners/{id}", pathItem("getOwner"));
+
+        assertThat(document.freeze().getPaths()).isNotSameAs(frozenPaths);
+        assertThat(document.matchOperation("GET", "/owners/1").getOperationId()).isEqualTo("getOwner");
+        assertThat(document.toJsonObject().toString()).contains("getOwner");
+    }
+}
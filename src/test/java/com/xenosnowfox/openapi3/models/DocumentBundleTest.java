@@ -0,0 +1,78 @@
+package com.xenosnowfox.openapi3.models;
+
+import org.json.JSONException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DocumentBundleTest {
+
+    private static final String FIRST = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"Pet {Store}\",\"version\":\"1.0.0\"}}";
+    private static final String SECOND = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"Book \\\"Store\\\"\",\"version\":\"2.0.0\"},\"x\":[{}]}";
+
+    private static Path bundle(final String content) throws IOException {
+        Path path = Files.createTempFile("bundle", ".ndjson");
+        path.toFile().deleteOnExit();
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    @Test
+    void readsConcatenatedDocuments() throws IOException {
+        try (DocumentBundle bundle = new DocumentBundle(bundle("\ufeff" + FIRST + "\n" + SECOND + "\r\n\t "))) {
+            assertThat(bundle.read(1).getInfo().getTitle()).isEqualTo("Book \"Store\"");
+            assertThat(bundle.read(0).getInfo().getTitle()).isEqualTo("Pet {Store}");
+            assertThat(bundle.size()).isEqualTo(2);
+            assertThat(bundle.getOffset(0)).isEqualTo(3);
+            assertThat(bundle.getOffset(1)).isEqualTo(3 + FIRST.length() + 1);
+
+            ByteBuffer bytes = bundle.getBytes(1);
+            byte[] copy = new byte[bytes.remaining()];
+            bytes.get(copy);
+            assertThat(new String(copy, StandardCharsets.UTF_8)).isEqualTo(SECOND);
+        }
+    }
+
+    @Test
+    void indexesOnlyAsFarAsRequested() throws IOException {
+        try (DocumentBundle bundle = new DocumentBundle(bundle(FIRST + "\n" + SECOND + "\nnot json"))) {
+            assertThat(bundle.read(0).getInfo().getVersion()).isEqualTo("1.0.0");
+            assertThat(bundle.read(1).getInfo().getVersion()).isEqualTo("2.0.0");
+
+            assertThatThrownBy(bundle::size)
+                    .isInstanceOf(JSONException.class)
+                    .hasMessage("Expected the start of a document at offset " + (FIRST.length() + SECOND.length() + 2));
+            assertThatThrownBy(() -> bundle.read(2)).isInstanceOf(JSONException.class);
+        }
+    }
+
+    @Test
+    void rejectsOutOfBoundsIndex() throws IOException {
+        try (DocumentBundle bundle = new DocumentBundle(bundle(FIRST + "\n"))) {
+            assertThatThrownBy(() -> bundle.read(1))
+                    .isInstanceOf(IndexOutOfBoundsException.class)
+                    .hasMessage("Index 1 is out of bounds for a bundle of 1 documents");
+            assertThatThrownBy(() -> bundle.getOffset(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+        try (DocumentBundle bundle = new DocumentBundle(bundle(""))) {
+            assertThat(bundle.size()).isZero();
+        }
+    }
+
+    @Test
+    void reportsUnterminatedDocument() throws IOException {
+        try (DocumentBundle bundle = new DocumentBundle(bundle(FIRST + "\n{\"openapi\":"))) {
+            assertThat(bundle.read(0).getInfo().getTitle()).isEqualTo("Pet {Store}");
+            assertThatThrownBy(() -> bundle.read(1))
+                    .isInstanceOf(JSONException.class)
+                    .hasMessage("Unterminated document starting at offset " + (FIRST.length() + 1));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.xenosnowfox.openapi3.models;
+
+import org.json.JSONException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DocumentReaderTest {
+
+    private static Document read(final String json) throws IOException {
+        return new DocumentReader().read(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void roundTripsDocuments() throws IOException {
+        for (Document document : new Document[]{DocumentSerializationTest.minimal(), DocumentSerializationTest.full()}) {
+            byte[] json = document.toJsonObject().toString().getBytes(StandardCharsets.UTF_8);
+
+            assertThat(new DocumentReader().read(json).toJsonObject().similar(document.toJsonObject())).isTrue();
+            assertThat(new DocumentReader().read(new ByteArrayInputStream(json)).toJsonObject().similar(document.toJsonObject())).isTrue();
+        }
+    }
+
+    @Test
+    void skipsUnknownMembers() throws IOException {
+        Document document = read("{\"openapi\":\"3.0.2\",\"unknown\":[1,{\"a\":null}],"
+                + "\"info\":{\"title\":\"T\",\"version\":\"1\",\"description\":null,\"other\":{}}}");
+
+        assertThat(document.getInfo().getTitle()).isEqualTo("T");
+        assertThat(document.getInfo().getDescription()).isNull();
+    }
+
+    @Test
+    void rejectsMissingRequiredMembers() {
+        assertThatThrownBy(() -> read("{\"openapi\":\"3.0.2\"}"))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Info has not been defined");
+        assertThatThrownBy(() -> read("{\"info\":{\"version\":\"1\"}}"))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Title cannot be null or blank");
+        assertThatThrownBy(() -> read("{\"info\":{\"title\":\"T\",\"version\":\"1\",\"license\":{\"name\":\" \"}}}"))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Name cannot be null or blank");
+    }
+
+    @Test
+    void rejectsMalformedInput() {
+        assertThatThrownBy(() -> read("{\"info\":{\"title\":\"T\",\"version\":\"1\",\"termsOfService\":\"not a url\"}}"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> read("{\"info\":{\"title\":\"T\",\"version\":\"1\",\"x-n\":01}}"))
+                .isInstanceOf(JSONException.class);
+        assertThatThrownBy(() -> read("{\"info\":{\"title\":\"T\",\"version\":\"1\"}} x"))
+                .isInstanceOf(JSONException.class);
+    }
+
+    private static String nested(final String prefix, final String innermost, final String suffix, final int depth) {
+        StringBuilder builder = new StringBuilder("{\"info\":{\"title\":\"T\",\"version\":\"1\"},\"components\":{\"schemas\":{\"A\":");
+        for (int i = 1; i < depth; i++) {
+            builder.append(prefix);
+        }
+        builder.append(innermost);
+        for (int i = 1; i < depth; i++) {
+            builder.append(suffix);
+        }
+        return builder.append("}}}").toString();
+    }
+
+    @Test
+    void rejectsDeeplyNestedSchemas() throws IOException {
+        Document document = read(nested("{\"not\":", "{}", "}", DocumentReader.MAX_DEPTH));
+        assertThat(document.getComponents().getSchema("A").getNot()).isNotNull();
+
+        String tooDeep = nested("{\"not\":", "{}", "}", DocumentReader.MAX_DEPTH + 1);
+        // the offset follows the opening brace of the innermost schema
+        int offset = tooDeep.indexOf("{}") + 1;
+        assertThatThrownBy(() -> read(tooDeep))
+                .isInstanceOf(JSONException.class)
+                .hasMessageEndingWith("at offset " + offset);
+
+        assertThatThrownBy(() -> read(nested("{\"not\":", "{}", "}", 20_000)))
+                .isInstanceOf(JSONException.class);
+        assertThatThrownBy(() -> read(nested("{\"allOf\":[{\"items\":{\"properties\":{\"p\":", "{}", "}}}]}", 20_000)))
+                .isInstanceOf(JSONException.class);
+        assertThatThrownBy(() -> read(nested("[", "{\"enum\":[]}", "]", 20_000).replace("\"A\":[", "\"A\":{\"enum\":[[")))
+                .isInstanceOf(JSONException.class);
+    }
+}
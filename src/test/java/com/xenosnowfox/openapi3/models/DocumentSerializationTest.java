@@ -0,0 +1,87 @@
+package com.xenosnowfox.openapi3.models;
+
+import com.xenosnowfox.openapi3.models.info.ContactImpl;
+import com.xenosnowfox.openapi3.models.info.InfoImpl;
+import com.xenosnowfox.openapi3.models.info.LicenseImpl;
+import com.xenosnowfox.openapi3.models.util.Jsonable;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DocumentSerializationTest {
+
+    static Document minimal() {
+        return new OpenApiDocument().info(new InfoImpl("Pet Store", "1.0.0"));
+    }
+
+    static Document full() {
+        InfoImpl info = new InfoImpl("Swagger \"Petstore\"", "1.0.0");
+        info.setDescription("Line one\nline two </script>   é 😀");
+        info.setTermsOfService(url("http://swagger.io/terms/"));
+        ContactImpl contact = new ContactImpl("API Support", "support@swagger.io");
+        contact.setUrl(url("http://www.swagger.io/support"));
+        info.setContact(contact);
+        LicenseImpl license = new LicenseImpl("Apache 2.0");
+        license.setUrl(url("https://www.apache.org/licenses/LICENSE-2.0.html"));
+        info.setLicense(license);
+        return new OpenApiDocument().info(info);
+    }
+
+    private static URL url(final String url) {
+        try {
+            return new URL(url);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    static String appendable(final Jsonable jsonable) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        jsonable.writeJson(builder);
+        return builder.toString();
+    }
+
+    static String outputStream(final Jsonable jsonable) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        jsonable.writeJson(outputStream);
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void streamedOutputMatchesJsonObject() throws IOException {
+        for (Document document : new Document[]{minimal(), full()}) {
+            String expected = document.toJsonObject().toString();
+
+            assertThat(appendable(document)).isEqualTo(expected);
+            assertThat(outputStream(document)).isEqualTo(expected);
+            assertThat(appendable(document.getInfo())).isEqualTo(document.getInfo().toJsonObject().toString());
+        }
+    }
+
+    @Test
+    void streamedOutputOfPartialContactMatchesJsonObject() throws IOException {
+        ContactImpl contact = new ContactImpl(null, "support@swagger.io");
+
+        assertThat(appendable(contact)).isEqualTo(contact.toJsonObject().toString());
+        assertThat(appendable(new ContactImpl())).isEqualTo("{}");
+    }
+
+    @Test
+    void missingInfoIsRejected() {
+        Document document = new OpenApiDocument();
+
+        assertThatThrownBy(() -> appendable(document))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Info has not been defined");
+        assertThatThrownBy(document::toJsonObject)
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Info has not been defined");
+    }
+}
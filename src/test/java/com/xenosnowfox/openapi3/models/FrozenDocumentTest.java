@@ -0,0 +1,60 @@
+package com.xenosnowfox.openapi3.models;
+
+import com.xenosnowfox.openapi3.models.info.Info;
+import com.xenosnowfox.openapi3.models.util.ReusableJsonWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FrozenDocumentTest {
+
+    @Test
+    void frozenOutputMatchesOriginal() throws IOException {
+        Document document = DocumentSerializationTest.full();
+        Document frozen = document.freeze();
+        String expected = document.toJsonObject().toString();
+
+        assertThat(DocumentSerializationTest.appendable(frozen)).isEqualTo(expected);
+        assertThat(DocumentSerializationTest.outputStream(frozen)).isEqualTo(expected);
+        assertThat(DocumentSerializationTest.outputStream(frozen.getInfo().getContact()))
+                .isEqualTo(document.getInfo().getContact().toJsonObject().toString());
+        assertThat(new String(new ReusableJsonWriter().write(frozen).toByteArray(), StandardCharsets.UTF_8)).isEqualTo(expected);
+        assertThat(frozen.toJsonObject().similar(document.toJsonObject())).isTrue();
+        assertThat(frozen.contentHash()).isEqualTo(document.contentHash());
+    }
+
+    @Test
+    void snapshotIsIndependentOfOriginal() {
+        Document document = DocumentSerializationTest.full();
+        Document frozen = document.freeze();
+
+        document.getInfo().setTitle("Changed");
+
+        assertThat(frozen.getInfo().getTitle()).isEqualTo("Swagger \"Petstore\"");
+        assertThat(frozen.freeze()).isSameAs(frozen);
+        assertThat(frozen).isEqualTo(DocumentSerializationTest.full().freeze());
+        assertThat(frozen.hashCode()).isEqualTo(DocumentSerializationTest.full().freeze().hashCode());
+    }
+
+    @Test
+    void settersAreRejected() {
+        Document frozen = DocumentSerializationTest.full().freeze();
+        Info info = frozen.getInfo();
+
+        assertThatThrownBy(() -> frozen.setInfo(info)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> info.setTitle("T")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> info.getContact().setName("N")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> info.getLicense().setName("N")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void freezingRequiresInfo() {
+        assertThatThrownBy(() -> new OpenApiDocument().freeze())
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Info has not been defined");
+    }
+}
@@ -0,0 +1,83 @@
+package com.xenosnowfox.openapi3.models;
+
+import com.xenosnowfox.openapi3.models.info.LazyInfo;
+import com.xenosnowfox.openapi3.models.schema.SchemaType;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LazyDocumentTest {
+
+    private static final String PRETTY = "{\n"
+            + "  \"unknown\": [1, 2],\n"
+            + "  \"info\": {\n"
+            + "    \"x-internal\": { \"a\" : 1 },\n"
+            + "    \"version\": \"1.0.0\",\n"
+            + "    \"title\": \"Pet Store\",\n"
+            + "    \"license\": {\"url\": \"https://www.apache.org/licenses/LICENSE-2.0.html\", \"name\": \"Apache 2.0\"},\n"
+            + "    \"other\": true\n"
+            + "  },\n"
+            + "  \"openapi\": \"3.0.1\"\n"
+            + "}\n";
+
+    @Test
+    void writesSameOutputAsJsonObject() throws IOException {
+        LazyDocument document = new LazyDocument(PRETTY.getBytes(StandardCharsets.UTF_8));
+        String expected = document.toJsonObject().toString();
+
+        // written twice, so that the cached output is also compared
+        for (int i = 0; i < 2; i++) {
+            assertThat(DocumentSerializationTest.appendable(document)).isEqualTo(expected);
+            assertThat(DocumentSerializationTest.outputStream(document)).isEqualTo(expected);
+            assertThat(DocumentSerializationTest.appendable(document.getInfo()))
+                    .isEqualTo(document.getInfo().toJsonObject().toString());
+            assertThat(DocumentSerializationTest.outputStream(document.getInfo()))
+                    .isEqualTo(document.getInfo().toJsonObject().toString());
+        }
+        assertThat(expected).doesNotContain("unknown").doesNotContain("other").doesNotContain("\n");
+    }
+
+    @Test
+    void writesOwnOutputUnchanged() throws IOException {
+        String json = DocumentSerializationTest.appendable(DocumentSerializationTest.full());
+        LazyDocument document = new LazyDocument(json.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(DocumentSerializationTest.appendable(document)).isEqualTo(json);
+        assertThat(DocumentSerializationTest.outputStream(document)).isEqualTo(json);
+    }
+
+    @Test
+    void writesModificationsAfterCaching() throws IOException {
+        LazyDocument document = new LazyDocument(PRETTY.getBytes(StandardCharsets.UTF_8));
+        DocumentSerializationTest.outputStream(document);
+
+        document.getInfo().getLicense().setName("MIT");
+
+        assertThat(document.isModified()).isTrue();
+        assertThat(((LazyInfo) document.getInfo()).isModified()).isTrue();
+        assertThat(DocumentSerializationTest.outputStream(document))
+                .isEqualTo(document.toJsonObject().toString())
+                .contains("\"MIT\"");
+        assertThat(DocumentSerializationTest.appendable(document.getInfo()))
+                .isEqualTo(document.getInfo().toJsonObject().toString());
+    }
+
+    @Test
+    void writesSchemaModificationsAfterCaching() throws IOException {
+        String json = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"Pet Store\",\"version\":\"1.0.0\"},"
+                + "\"components\":{\"schemas\":{\"Pet\":{\"type\":\"string\"}}}}";
+        LazyDocument document = new LazyDocument(json.getBytes(StandardCharsets.UTF_8));
+        assertThat(DocumentSerializationTest.outputStream(document)).contains("\"type\":\"string\"");
+
+        document.getComponents().getSchema("Pet").setType(SchemaType.INTEGER);
+
+        assertThat(document.isModified()).isTrue();
+        assertThat(DocumentSerializationTest.outputStream(document))
+                .isEqualTo(document.toJsonObject().toString())
+                .contains("\"type\":\"integer\"");
+        assertThat(DocumentSerializationTest.appendable(document)).contains("\"type\":\"integer\"");
+    }
+}
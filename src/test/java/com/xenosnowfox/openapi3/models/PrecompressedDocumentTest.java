@@ -0,0 +1,113 @@
+package com.xenosnowfox.openapi3.models;
+
+import com.xenosnowfox.openapi3.models.components.Components;
+import com.xenosnowfox.openapi3.models.info.Info;
+import com.xenosnowfox.openapi3.models.paths.PathItemImpl;
+import com.xenosnowfox.openapi3.models.paths.Paths;
+import com.xenosnowfox.openapi3.models.paths.PathsImpl;
+import com.xenosnowfox.openapi3.models.util.ChangeListeners;
+import com.xenosnowfox.openapi3.models.util.Invokable;
+import com.xenosnowfox.openapi3.models.util.Trackable;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrecompressedDocumentTest {
+
+    private static String identity(final PrecompressedDocument precompressed) throws IOException {
+        ByteBuffer buffer = precompressed.getEncoded(PrecompressedDocument.Encoding.IDENTITY);
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void doesNotReadMembersOfTrackableDocument() throws IOException {
+        CountingDocument document = new CountingDocument(DocumentSerializationTest.full());
+        PrecompressedDocument precompressed = new PrecompressedDocument(document);
+        String first = identity(precompressed);
+        int reads = document.reads;
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(identity(precompressed)).isEqualTo(first);
+        }
+        assertThat(document.reads).isEqualTo(reads);
+
+        document.fire();
+        identity(precompressed);
+        assertThat(document.reads).isGreaterThan(reads);
+    }
+
+    @Test
+    void rebuildsWhenLazyDocumentIsModified() throws IOException {
+        Document source = DocumentSerializationTest.minimal();
+        PathsImpl paths = new PathsImpl();
+        paths.setPathItem("/pets", new PathItemImpl());
+        source.setPaths(paths);
+        LazyDocument document = new LazyDocument(DocumentSerializationTest.appendable(source).getBytes(StandardCharsets.UTF_8));
+        PrecompressedDocument precompressed = new PrecompressedDocument(document);
+
+        assertThat(identity(precompressed)).isEqualTo(source.toJsonObject().toString());
+
+        document.getInfo().setTitle("Book Store");
+        assertThat(identity(precompressed)).contains("\"Book Store\"");
+
+        document.getPaths().setPathItem("/books", new PathItemImpl());
+        assertThat(identity(precompressed)).contains("\"/books\"");
+    }
+
+    /**
+     * Trackable document that counts how often its info object, paths and components are read
+     */
+    private static final class CountingDocument implements Document, Trackable {
+
+        private final Document document;
+        private final ChangeListeners listeners = new ChangeListeners();
+        private int reads = 0;
+
+        CountingDocument(final Document document) {
+            this.document = document;
+        }
+
+        void fire() {
+            this.listeners.fire(this);
+        }
+
+        @Override
+        public Info getInfo() {
+            this.reads++;
+            return this.document.getInfo();
+        }
+
+        @Override
+        public void setInfo(final Info info) {
+            this.document.setInfo(info);
+        }
+
+        @Override
+        public Paths getPaths() {
+            this.reads++;
+            return this.document.getPaths();
+        }
+
+        @Override
+        public Components getComponents() {
+            this.reads++;
+            return this.document.getComponents();
+        }
+
+        @Override
+        public void addChangeListener(final Invokable<Trackable> listener) {
+            this.listeners.add(listener);
+        }
+
+        @Override
+        public void removeChangeListener(final Invokable<Trackable> listener) {
+            this.listeners.remove(listener);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.xenosnowfox.openapi3.models.components;
+
+import com.xenosnowfox.openapi3.models.Document;
+import com.xenosnowfox.openapi3.models.DocumentReader;
+import com.xenosnowfox.openapi3.models.schema.Schema;
+import com.xenosnowfox.openapi3.models.schema.SchemaType;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReferenceResolverTest {
+
+    private final Map<URI, String> files = new HashMap<>();
+    private final Map<URI, Integer> loads = new HashMap<>();
+
+    // counts how often each document is loaded, which should be at most once per resolver
+    private final DocumentLoader loader = uri -> {
+        this.loads.merge(uri, 1, Integer::sum);
+        String json = this.files.get(uri);
+        if (json == null) {
+            throw new FileNotFoundException(uri.toString());
+        }
+        return new DocumentReader().read(json.getBytes(StandardCharsets.UTF_8));
+    };
+
+    private static String document(final String schemas) {
+        return "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"T\",\"version\":\"1\"},\"components\":{\"schemas\":{" + schemas + "}}}";
+    }
+
+    private void file(final String uri, final String schemas) {
+        this.files.put(URI.create(uri), document(schemas));
+    }
+
+    private static Schema target(final Schema schema) {
+        return ((SchemaReference) schema).getTarget();
+    }
+
+    @Test
+    void sharesTargetsBetweenDocumentsAndLoadsEachOnce() throws IOException {
+        this.file("mem:/api/common.json", "\"Person\":{\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"}}}");
+        this.file("mem:/api/a.json", "\"Pet\":{\"type\":\"object\",\"properties\":{"
+                + "\"owner\":{\"$ref\":\"common.json#/components/schemas/Person\"}}},"
+                + "\"Alias\":{\"$ref\":\"#/components/schemas/Pet\"}");
+        this.file("mem:/api/b.json", "\"Shop\":{\"type\":\"object\",\"properties\":{"
+                + "\"owner\":{\"$ref\":\"./common.json#/components/schemas/Person\"},"
+                + "\"pet\":{\"$ref\":\"a.json#/components/schemas/Pet\"},"
+                + "\"name\":{\"$ref\":\"mem:/api/sub/../common.json#/components/schemas/Person/properties/name\"}}}");
+        ReferenceResolver resolver = new ReferenceResolver(this.loader);
+
+        Document a = resolver.load(URI.create("mem:/api/a.json"));
+        Document b = resolver.load(URI.create("mem:/api/b.json"));
+        Document common = resolver.load(URI.create("mem:/api/common.json"));
+
+        assertThat(this.loads).containsOnly(
+                entry("mem:/api/a.json"), entry("mem:/api/b.json"), entry("mem:/api/common.json"));
+        assertThat(resolver.load(URI.create("mem:/api/a.json#/components"))).isSameAs(a);
+
+        Schema person = common.getComponents().getSchema("Person");
+        Schema pet = a.getComponents().getSchema("Pet");
+        Schema shop = b.getComponents().getSchema("Shop");
+        assertThat(target(pet.getProperty("owner"))).isSameAs(person);
+        assertThat(target(shop.getProperty("owner"))).isSameAs(person);
+        assertThat(target(shop.getProperty("pet"))).isSameAs(pet);
+        assertThat(target(shop.getProperty("name"))).isSameAs(person.getProperty("name"));
+        assertThat(target(a.getComponents().getSchema("Alias"))).isSameAs(pet);
+
+        // resolved references read through to their target and are written as references
+        assertThat(shop.getProperty("pet").getType()).isEqualTo(SchemaType.OBJECT);
+        assertThat(shop.getProperty("pet").toJsonObject().similar(new JSONObject().put("$ref", "a.json#/components/schemas/Pet"))).isTrue();
+        assertThat(shop.compile().isValid(new JSONObject("{\"owner\":{\"name\":\"Ann\"},\"pet\":{\"owner\":{\"name\":1}}}"))).isFalse();
+    }
+
+    @Test
+    void loadsSharedDocumentsOfManyInterlinkedSpecsOnce() throws IOException {
+        this.file("mem:/common.json", "\"Id\":{\"type\":\"integer\"}");
+        int specs = 50;
+        for (int i = 0; i < specs; i++) {
+            this.file("mem:/spec" + i + ".json", "\"Item\":{\"type\":\"object\",\"properties\":{"
+                    + "\"id\":{\"$ref\":\"common.json#/components/schemas/Id\"},"
+                    + "\"next\":{\"$ref\":\"spec" + ((i + 1) % specs) + ".json#/components/schemas/Item\"}}}");
+        }
+        ReferenceResolver resolver = new ReferenceResolver(this.loader);
+
+        Document[] documents = new Document[specs];
+        for (int i = 0; i < specs; i++) {
+            documents[i] = resolver.load(URI.create("mem:/spec" + i + ".json"));
+        }
+
+        assertThat(this.loads).hasSize(specs + 1);
+        assertThat(this.loads.values()).containsOnly(1);
+        Schema id = documents[0].getComponents().getSchema("Item").getProperty("id");
+        for (int i = 0; i < specs; i++) {
+            Schema item = documents[i].getComponents().getSchema("Item");
+            assertThat(target(item.getProperty("id"))).isSameAs(target(id));
+            assertThat(target(item.getProperty("next"))).isSameAs(documents[(i + 1) % specs].getComponents().getSchema("Item"));
+        }
+    }
+
+    @Test
+    void rejectsCircularReferences() {
+        this.file("mem:/self.json", "\"A\":{\"$ref\":\"#/components/schemas/A\"}");
+        this.file("mem:/a.json", "\"A\":{\"$ref\":\"b.json#/components/schemas/B\"}");
+        this.file("mem:/b.json", "\"B\":{\"$ref\":\"a.json#/components/schemas/A\"}");
+        ReferenceResolver resolver = new ReferenceResolver(this.loader);
+
+        assertThatThrownBy(() -> resolver.load(URI.create("mem:/self.json")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Circular reference: mem:/self.json#/components/schemas/A -> mem:/self.json#/components/schemas/A");
+        assertThatThrownBy(() -> resolver.load(URI.create("mem:/a.json")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Circular reference: ");
+    }
+
+    @Test
+    void resolvesSchemasThatReferToThemselvesThroughItems() throws IOException {
+        this.file("mem:/tree.json", "\"Node\":{\"type\":\"object\",\"properties\":{"
+                + "\"children\":{\"type\":\"array\",\"items\":{\"$ref\":\"#/components/schemas/Node\"}}}}");
+        Document document = new ReferenceResolver(this.loader).load(URI.create("mem:/tree.json"));
+
+        Schema node = document.getComponents().getSchema("Node");
+        assertThat(target(node.getProperty("children").getItems())).isSameAs(node);
+        assertThat(node.compile().isValid(new JSONObject("{\"children\":[{\"children\":[]}]}"))).isTrue();
+        assertThat(node.compile().isValid(new JSONObject("{\"children\":[{\"children\":[1]}]}"))).isFalse();
+    }
+
+    @Test
+    void rejectsMissingTargetsAndRetriesFailedLoads() throws IOException {
+        this.file("mem:/missing.json", "\"A\":{\"$ref\":\"#/components/schemas/B\"}");
+        this.file("mem:/info.json", "\"A\":{\"$ref\":\"#/info\"}");
+        this.file("mem:/property.json", "\"A\":{\"$ref\":\"#/components/schemas/B/properties/c\"},\"B\":{\"type\":\"object\"}");
+        this.file("mem:/remote.json", "\"A\":{\"$ref\":\"later.json#/components/schemas/B\"}");
+        ReferenceResolver resolver = new ReferenceResolver(this.loader);
+
+        assertThatThrownBy(() -> resolver.load(URI.create("mem:/missing.json")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Reference target does not exist: #/components/schemas/B");
+        assertThatThrownBy(() -> resolver.load(URI.create("mem:/info.json")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Reference does not point to a component schema: #/info");
+        assertThatThrownBy(() -> resolver.load(URI.create("mem:/property.json")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Reference target does not exist: #/components/schemas/B/properties/c");
+        assertThatThrownBy(() -> resolver.load(URI.create("mem:/remote.json")))
+                .isInstanceOf(FileNotFoundException.class);
+
+        // nothing from a failed call is kept, so the documents are loaded again once they are available
+        this.file("mem:/later.json", "\"B\":{\"type\":\"string\"}");
+        Document document = resolver.load(URI.create("mem:/remote.json"));
+        assertThat(target(document.getComponents().getSchema("A")).getType()).isEqualTo(SchemaType.STRING);
+        assertThat(this.loads.get(URI.create("mem:/remote.json"))).isEqualTo(2);
+    }
+
+    @Test
+    void requiresAbsoluteBaseForRelativeReferences() throws IOException {
+        this.file("mem:/api/common.json", "\"Person\":{\"type\":\"object\"}");
+        String json = document("\"Pet\":{\"type\":\"object\",\"properties\":{"
+                + "\"owner\":{\"$ref\":\"common.json#/components/schemas/Person\"}}}");
+        ReferenceResolver resolver = new ReferenceResolver(this.loader);
+
+        Document anonymous = new DocumentReader().read(json.getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> resolver.resolve(anonymous))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Reference cannot be resolved without an absolute base URI: common.json#/components/schemas/Person");
+        assertThatThrownBy(() -> resolver.load(URI.create("api/common.json")))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        resolver.resolve(anonymous, URI.create("mem:/api/pets.json"));
+        Schema person = resolver.load(URI.create("mem:/api/common.json")).getComponents().getSchema("Person");
+        assertThat(target(anonymous.getComponents().getSchema("Pet").getProperty("owner"))).isSameAs(person);
+        assertThat(resolver.load(URI.create("mem:/api/pets.json"))).isSameAs(anonymous);
+        assertThat(this.loads).containsOnly(entry("mem:/api/common.json"));
+    }
+
+    @Test
+    void unresolvedReferencesCannotBeReadOrModified() {
+        SchemaReference reference = new SchemaReference("#/components/schemas/Pet");
+
+        assertThat(reference.isResolved()).isFalse();
+        assertThatThrownBy(reference::getTarget)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Reference has not been resolved: #/components/schemas/Pet");
+        assertThatThrownBy(reference::getType).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> reference.setType(SchemaType.STRING)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> new SchemaReference(" ")).isInstanceOf(NullPointerException.class);
+    }
+
+    private static Map.Entry<URI, Integer> entry(final String uri) {
+        return new AbstractMap.SimpleEntry<>(URI.create(uri), 1);
+    }
+}
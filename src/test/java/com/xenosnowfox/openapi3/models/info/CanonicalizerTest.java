@@ -0,0 +1,126 @@
+package com.xenosnowfox.openapi3.models.info;
+
+import com.xenosnowfox.openapi3.models.Document;
+import com.xenosnowfox.openapi3.models.DocumentReader;
+import com.xenosnowfox.openapi3.models.OpenApiDocument;
+import com.xenosnowfox.openapi3.models.util.Extensions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CanonicalizerTest {
+
+    private static ContactImpl contact(final String email) {
+        ContactImpl contact = new ContactImpl(new String("API Support"), new String(email));
+        contact.setUri(URI.create("https://example.com/support"));
+        contact.setExtensions(Extensions.EMPTY.with("x-team", "core"));
+        return contact;
+    }
+
+    private static Document document(final Contact contact, final License license) {
+        InfoImpl info = new InfoImpl("Pet Store", "1.0.0");
+        info.setContact(contact);
+        info.setLicense(license);
+        return new OpenApiDocument().info(info);
+    }
+
+    @Test
+    void sharesOneInstanceOfStructurallyEqualObjects() {
+        Canonicalizer canonicalizer = new Canonicalizer();
+
+        Contact first = canonicalizer.canonicalize(contact("support@example.com"));
+        Contact second = canonicalizer.canonicalize(contact("support@example.com"));
+        Contact other = canonicalizer.canonicalize(contact("other@example.com"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(other).isNotSameAs(first);
+        assertThat(first.getName()).isSameAs(other.getName());
+        assertThat(first.toJsonObject().similar(contact("support@example.com").toJsonObject())).isTrue();
+        assertThat(canonicalizer.contactCount()).isEqualTo(2);
+
+        License mit = canonicalizer.canonicalize(new LicenseImpl(new String("MIT")));
+        assertThat(canonicalizer.canonicalize(new LicenseImpl(new String("MIT")))).isSameAs(mit);
+        assertThat(canonicalizer.canonicalize(new ConcurrentLicense("MIT"))).isSameAs(mit);
+        assertThat(canonicalizer.canonicalize(mit)).isSameAs(mit);
+        assertThat(canonicalizer.canonicalize(new LicenseImpl("Apache 2.0"))).isNotSameAs(mit);
+        assertThat(canonicalizer.licenseCount()).isEqualTo(2);
+
+        assertThat(canonicalizer.canonicalize((Contact) null)).isNull();
+        assertThat(canonicalizer.canonicalize((License) null)).isNull();
+    }
+
+    @Test
+    void replacesContactsAndLicensesOfDocuments() throws IOException {
+        Canonicalizer canonicalizer = new Canonicalizer();
+        Document first = canonicalizer.canonicalize(document(contact("support@example.com"), new LicenseImpl("MIT")));
+        Document second = canonicalizer.canonicalize(document(contact("support@example.com"), new LicenseImpl("MIT")));
+
+        assertThat(second.getInfo().getContact()).isSameAs(first.getInfo().getContact());
+        assertThat(second.getInfo().getLicense()).isSameAs(first.getInfo().getLicense());
+        assertThat(canonicalizer.canonicalize(new OpenApiDocument()).getInfo()).isNull();
+
+        // documents read with a canonicalizer share the instances as well
+        byte[] json = first.toJsonObject().toString().getBytes(StandardCharsets.UTF_8);
+        Document read = new DocumentReader(canonicalizer).read(json);
+        assertThat(read.getInfo().getContact()).isSameAs(first.getInfo().getContact());
+        assertThat(read.getInfo().getLicense()).isSameAs(first.getInfo().getLicense());
+    }
+
+    @Test
+    void sharedInstancesCannotBeModifiedThroughOneOfTheirDocuments() {
+        Canonicalizer canonicalizer = new Canonicalizer();
+        ContactImpl original = contact("support@example.com");
+        Document first = canonicalizer.canonicalize(document(original, new LicenseImpl("MIT")));
+        Document second = canonicalizer.canonicalize(document(contact("support@example.com"), new LicenseImpl("MIT")));
+        Contact shared = first.getInfo().getContact();
+        String json = second.toJsonObject().toString();
+
+        assertThatThrownBy(() -> shared.setEmail("other@example.com")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> shared.setExtensions(Extensions.EMPTY)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> first.getInfo().getLicense().setName("GPL")).isInstanceOf(UnsupportedOperationException.class);
+
+        // the objects that were canonicalized are copied, so they can still be modified without affecting anyone else
+        original.setEmail("other@example.com");
+        assertThat(shared.getEmail()).isEqualTo("support@example.com");
+
+        // and a document changes its own info object by replacing the contact, leaving the shared one as it was
+        first.getInfo().setContact(new ContactImpl("Other", "other@example.com"));
+        assertThat(second.getInfo().getContact()).isSameAs(shared);
+        assertThat(second.toJsonObject().toString()).isEqualTo(json);
+        assertThat(canonicalizer.canonicalize(contact("support@example.com"))).isSameAs(shared);
+    }
+
+    @Test
+    void releasesInstancesOnceNoDocumentRefersToThem() throws InterruptedException {
+        Canonicalizer canonicalizer = new Canonicalizer();
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Document document = document(contact("support" + (i % 10) + "@example.com"), new LicenseImpl("License " + i));
+            documents.add(canonicalizer.canonicalize(document));
+        }
+        Document kept = documents.get(0);
+        assertThat(canonicalizer.contactCount()).isEqualTo(10);
+        assertThat(canonicalizer.licenseCount()).isEqualTo(100);
+
+        WeakReference<Contact> released = new WeakReference<>(documents.get(1).getInfo().getContact());
+        documents.clear();
+
+        for (int i = 0; canonicalizer.contactCount() > 1 || canonicalizer.licenseCount() > 1; i++) {
+            assertThat(i).as("attempts to collect garbage").isLessThan(100);
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(canonicalizer.contactCount()).isEqualTo(1);
+        assertThat(canonicalizer.licenseCount()).isEqualTo(1);
+        assertThat(released.get()).isNull();
+        assertThat(canonicalizer.canonicalize(contact("support0@example.com"))).isSameAs(kept.getInfo().getContact());
+    }
+}
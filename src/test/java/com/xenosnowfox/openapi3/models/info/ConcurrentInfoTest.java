@@ -0,0 +1,105 @@
+package com.xenosnowfox.openapi3.models.info;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentInfoTest {
+
+    private static final int WRITERS = 4;
+    private static final int READERS = 4;
+    private static final int UPDATES = 20_000;
+
+    @Test
+    void readersNeverObserveMixedTitleAndVersion() throws Exception {
+        ConcurrentInfo info = new ConcurrentInfo("T0", "V0");
+        Queue<String> mixed = new ConcurrentLinkedQueue<>();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS + READERS);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                int offset = w * UPDATES;
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 1; i <= UPDATES; i++) {
+                        String suffix = String.valueOf(offset + i);
+                        info.update(draft -> {
+                            draft.setTitle("T" + suffix);
+                            draft.setVersion("V" + suffix);
+                        });
+                    }
+                    return null;
+                }));
+            }
+
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < READERS; r++) {
+                readers.add(executor.submit(() -> {
+                    start.await();
+                    do {
+                        Info snapshot = info.freeze();
+                        check(snapshot.getTitle(), snapshot.getVersion(), mixed);
+
+                        JSONObject json = info.toJsonObject();
+                        check(json.getString("title"), json.getString("version"), mixed);
+
+                        StringBuilder builder = new StringBuilder();
+                        info.writeJson(builder);
+                        JSONObject written = new JSONObject(builder.toString());
+                        check(written.getString("title"), written.getString("version"), mixed);
+                    } while (writing.get());
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(1, TimeUnit.MINUTES);
+            }
+            writing.set(false);
+            for (Future<?> reader : readers) {
+                reader.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(mixed).isEmpty();
+        assertThat(info.getTitle().substring(1)).isEqualTo(info.getVersion().substring(1));
+    }
+
+    @Test
+    void singleFieldWritesAreVisibleToReaders() throws IOException {
+        ConcurrentInfo info = new ConcurrentInfo("Swagger Petstore", "1.0.0");
+        Info before = info.freeze();
+
+        info.setTitle("Petstore");
+
+        assertThat(before.getTitle()).isEqualTo("Swagger Petstore");
+        assertThat(info.freeze().getTitle()).isEqualTo("Petstore");
+        StringBuilder builder = new StringBuilder();
+        info.writeJson(builder);
+        assertThat(builder.toString()).isEqualTo(info.toJsonObject().toString());
+    }
+
+    private static void check(final String title, final String version, final Queue<String> mixed) {
+        if (!title.substring(1).equals(version.substring(1))) {
+            mixed.add(title + "/" + version);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.xenosnowfox.openapi3.models.info;
+
+import com.xenosnowfox.openapi3.models.ConcurrentOpenApiDocument;
+import com.xenosnowfox.openapi3.models.Document;
+import com.xenosnowfox.openapi3.models.DocumentReader;
+import com.xenosnowfox.openapi3.models.LazyDocument;
+import com.xenosnowfox.openapi3.models.OpenApiDocument;
+import com.xenosnowfox.openapi3.models.util.ContentHash;
+import com.xenosnowfox.openapi3.models.util.Extensions;
+import com.xenosnowfox.openapi3.models.util.RawJson;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentHashesTest {
+
+    private static final Extensions EXTENSIONS = Extensions.EMPTY
+            .with("x-logo", new JSONObject().put("url", "logo.png").put("alt", "Logo"))
+            .with("x-audience", "public");
+
+    private static InfoImpl info() {
+        InfoImpl info = new InfoImpl("Pet Store", "1.0.0");
+        info.setDescription("All about pets");
+        info.setTermsOfServiceUri(URI.create("https://example.com/terms"));
+        info.setContact(new ContactImpl("API Support", "support@example.com"));
+        LicenseImpl license = new LicenseImpl("MIT");
+        license.setUri(URI.create("https://opensource.org/licenses/MIT"));
+        info.setLicense(license);
+        info.setExtensions(EXTENSIONS);
+        return info;
+    }
+
+    private static ConcurrentInfo concurrentInfo() {
+        ConcurrentInfo info = new ConcurrentInfo("Pet Store", "1.0.0");
+        info.setDescription("All about pets");
+        info.setTermsOfServiceUri(URI.create("https://example.com/terms"));
+        info.setContact(new ConcurrentContact("API Support", "support@example.com"));
+        ConcurrentLicense license = new ConcurrentLicense("MIT");
+        license.setUri(URI.create("https://opensource.org/licenses/MIT"));
+        info.setLicense(license);
+        info.setExtensions(EXTENSIONS);
+        return info;
+    }
+
+    @Test
+    void equalContentHasEqualHashesInEveryImplementation() throws IOException {
+        Document document = new OpenApiDocument().info(info());
+        byte[] bytes = document.toJsonObject().toString().getBytes(StandardCharsets.UTF_8);
+        ContentHash hash = document.contentHash();
+
+        ConcurrentOpenApiDocument concurrent = new ConcurrentOpenApiDocument();
+        concurrent.setInfo(concurrentInfo());
+
+        assertThat(document.freeze().contentHash()).isEqualTo(hash);
+        assertThat(new LazyDocument(bytes).contentHash()).isEqualTo(hash);
+        assertThat(new DocumentReader().read(bytes).contentHash()).isEqualTo(hash);
+        assertThat(concurrent.contentHash()).isEqualTo(hash);
+        assertThat(concurrent.freeze().contentHash()).isEqualTo(hash);
+
+        byte[] infoBytes = info().toJsonObject().toString().getBytes(StandardCharsets.UTF_8);
+        assertThat(info().freeze().contentHash()).isEqualTo(info().contentHash());
+        assertThat(new LazyInfo(infoBytes).contentHash()).isEqualTo(info().contentHash());
+        assertThat(concurrentInfo().contentHash()).isEqualTo(info().contentHash());
+        assertThat(concurrentInfo().getContact().contentHash()).isEqualTo(info().getContact().contentHash());
+        assertThat(concurrentInfo().getLicense().contentHash()).isEqualTo(info().getLicense().contentHash());
+        assertThat(info().getContact().freeze().contentHash()).isEqualTo(info().getContact().contentHash());
+        assertThat(info().getLicense().freeze().contentHash()).isEqualTo(info().getLicense().contentHash());
+    }
+
+    @Test
+    void differentContentHasDifferentHashes() {
+        InfoImpl info = info();
+        ContentHash hash = info.contentHash();
+
+        info.setDescription("All about cats");
+        assertThat(info.contentHash()).isNotEqualTo(hash);
+        info.setDescription("All about pets");
+        assertThat(info.contentHash()).isEqualTo(hash);
+
+        // fields are delimited, so moving text from one field to the next changes the hash
+        assertThat(new ContactImpl("ab", "c").contentHash()).isNotEqualTo(new ContactImpl("a", "bc").contentHash());
+        assertThat(new ContactImpl("a", (String) null).contentHash()).isNotEqualTo(new ContactImpl(null, "a").contentHash());
+        assertThat(new ContactImpl("MIT").contentHash()).isNotEqualTo(new LicenseImpl("MIT").contentHash());
+    }
+
+    @Test
+    void extensionsAreHashedRegardlessOfOrderAndFormatting() {
+        ContactImpl first = new ContactImpl("Ann");
+        first.setExtensions(Extensions.EMPTY
+                .with("x-a", RawJson.parse("{ \"b\" : 2, \"a\" : 1.0 }"))
+                .with("x-b", "text"));
+        ContactImpl second = new ContactImpl("Ann");
+        second.setExtensions(Extensions.EMPTY
+                .with("x-b", "text")
+                .with("x-a", new JSONObject().put("a", 1.0).put("b", 2)));
+
+        assertThat(second.contentHash()).isEqualTo(first.contentHash());
+
+        second.setExtensions(second.getExtensions().with("x-b", "other"));
+        assertThat(second.contentHash()).isNotEqualTo(first.contentHash());
+
+        // objects without extensions keep the hash they had before extensions were supported
+        ContactImpl plain = new ContactImpl("Ann");
+        assertThat(plain.contentHash()).isEqualTo(ContentHashes.contact("Ann", null, null, null));
+        plain.setExtensions(Extensions.EMPTY.with("x-a", 1));
+        assertThat(plain.contentHash()).isNotEqualTo(ContentHashes.contact("Ann", null, null, null));
+    }
+
+    @Test
+    void rehashesOnlyTheModifiedBranch() {
+        CountingContact contact = new CountingContact();
+        CountingLicense license = new CountingLicense();
+        InfoImpl info = new InfoImpl("Pet Store", "1.0.0");
+        info.setContact(contact);
+        info.setLicense(license);
+        Document document = new OpenApiDocument().info(info);
+
+        ContentHash before = document.contentHash();
+        ContentHash licenseHash = license.contentHash();
+        assertThat(document.contentHash()).isEqualTo(before);
+        assertThat(contact.hashed).isEqualTo(1);
+        assertThat(license.hashed).isEqualTo(1);
+
+        contact.setEmail("other@example.com");
+        ContentHash after = document.contentHash();
+
+        assertThat(after).isNotEqualTo(before);
+        assertThat(contact.hashed).isEqualTo(2);
+        assertThat(license.hashed).isEqualTo(1);
+        assertThat(license.contentHash()).isSameAs(licenseHash);
+
+        InfoImpl expected = new InfoImpl("Pet Store", "1.0.0");
+        expected.setContact(new ContactImpl("API Support", "other@example.com"));
+        expected.setLicense(new LicenseImpl("MIT"));
+        assertThat(after).isEqualTo(new OpenApiDocument().info(expected).contentHash());
+    }
+
+    // counts how often the canonical fields are read, which only happens when the hash is computed
+    private static final class CountingContact extends ContactImpl {
+
+        private int hashed = 0;
+
+        private CountingContact() {
+            super("API Support", "support@example.com");
+        }
+
+        @Override
+        public String getName() {
+            this.hashed++;
+            return super.getName();
+        }
+    }
+
+    private static final class CountingLicense extends LicenseImpl {
+
+        private int hashed = 0;
+
+        private CountingLicense() {
+            super("MIT");
+        }
+
+        @Override
+        public String getName() {
+            this.hashed++;
+            return super.getName();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.xenosnowfox.openapi3.models.info;
+
+import com.xenosnowfox.openapi3.models.util.Extensions;
+import com.xenosnowfox.openapi3.models.util.JsonReader;
+import com.xenosnowfox.openapi3.models.util.JsonWriter;
+import com.xenosnowfox.openapi3.models.util.Jsonable;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeneratedSerializerTest {
+
+    // extensions are hashed in between the members, so each set moves them to other positions
+    private static final Extensions[] EXTENSIONS = {
+            Extensions.EMPTY,
+            Extensions.EMPTY.with("x-logo", "logo.png"),
+            Extensions.EMPTY.with("x-a", 1).with("x-zzz", new JSONObject().put("nested", true)).with("x-name", "shadow"),
+    };
+
+    private static String write(final Jsonable jsonable) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        jsonable.writeJson(new JsonWriter(builder));
+        return builder.toString();
+    }
+
+    private static JsonReader reader(final String json) {
+        return new JsonReader(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static boolean has(final int members, final int member) {
+        return (members & (1 << member)) != 0;
+    }
+
+    @Test
+    void writesMembersInOrderOfJsonObjectForEverySubsetOfOptionalMembers() throws IOException {
+        for (Extensions extensions : EXTENSIONS) {
+            for (int members = 0; members < 1 << 3; members++) {
+                ContactImpl contact = new ContactImpl();
+                contact.setName(has(members, 0) ? "Ann" : null);
+                contact.setEmail(has(members, 1) ? "ann@example.com" : null);
+                contact.setUri(has(members, 2) ? URI.create("https://example.com/ann") : null);
+                contact.setExtensions(extensions);
+                assertThat(write(contact)).isEqualTo(contact.toJsonObject().toString());
+            }
+
+            for (int members = 0; members < 1 << 1; members++) {
+                LicenseImpl license = new LicenseImpl("MIT");
+                license.setUri(has(members, 0) ? URI.create("https://opensource.org/licenses/MIT") : null);
+                license.setExtensions(extensions);
+                assertThat(write(license)).isEqualTo(license.toJsonObject().toString());
+            }
+
+            for (int members = 0; members < 1 << 4; members++) {
+                InfoImpl info = new InfoImpl("Pets", "1.0.0");
+                info.setDescription(has(members, 0) ? "All about \"pets\"\n" : null);
+                info.setTermsOfServiceUri(has(members, 1) ? URI.create("https://example.com/terms") : null);
+                info.setContact(has(members, 2) ? new ContactImpl("Ann", "ann@example.com") : null);
+                info.setLicense(has(members, 3) ? new LicenseImpl("MIT") : null);
+                info.setExtensions(extensions);
+                assertThat(write(info)).isEqualTo(info.toJsonObject().toString());
+            }
+        }
+    }
+
+    @Test
+    void readsKnownMembersAndExtensionsAndSkipsTheRest() throws IOException {
+        InfoImpl info = InfoImplJson.read(reader("{"
+                + "\"x-logo\":{\"url\":\"logo.png\",\"sizes\":[1,2]},"
+                + "\"title\":\"Pets\","
+                + "\"unknown\":{\"title\":\"Other\",\"items\":[null,{}]},"
+                + "\"version\":\"1.0.0\","
+                + "\"description\":null,"
+                + "\"contact\":{\"name\":\"Ann\",\"email\":null,\"x-team\":\"core\",\"other\":[1]},"
+                + "\"license\":null,"
+                + "\"termsOfService\":\"https://example.com/terms\","
+                + "\"x-null\":null"
+                + "}"));
+
+        assertThat(info.getTitle()).isEqualTo("Pets");
+        assertThat(info.getVersion()).isEqualTo("1.0.0");
+        assertThat(info.getDescription()).isNull();
+        assertThat(info.getLicense()).isNull();
+        assertThat(info.getTermsOfServiceUri()).isEqualTo(URI.create("https://example.com/terms"));
+        assertThat(info.getContact().getName()).isEqualTo("Ann");
+        assertThat(info.getContact().getEmail()).isNull();
+        assertThat(info.getContact().getExtensions().get("x-team")).isEqualTo("core");
+
+        // null members are treated as absent, extensions included
+        assertThat(info.getExtensions().size()).isEqualTo(1);
+        assertThat(info.getExtensions().getName(0)).isEqualTo("x-logo");
+        assertThat(new JSONObject(info.toJsonObject().toString()).similar(new JSONObject("{"
+                + "\"title\":\"Pets\",\"version\":\"1.0.0\","
+                + "\"termsOfService\":\"https://example.com/terms\","
+                + "\"contact\":{\"name\":\"Ann\",\"x-team\":\"core\"},"
+                + "\"x-logo\":{\"url\":\"logo.png\",\"sizes\":[1,2]}}"))).isTrue();
+        assertThat(write(info)).isEqualTo(info.toJsonObject().toString());
+    }
+
+    @Test
+    void readsEmptyObjectsAndRejectsMissingRequiredMembers() throws IOException {
+        ContactImpl contact = ContactImplJson.read(reader("{\"name\":null,\"unknown\":1}"));
+        assertThat(contact.getName()).isNull();
+        assertThat(contact.getExtensions().isEmpty()).isTrue();
+        assertThat(write(contact)).isEqualTo("{}");
+
+        assertThatThrownBy(() -> LicenseImplJson.read(reader("{\"name\":null,\"url\":\"https://example.com\"}")))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Name cannot be null or blank");
+        assertThatThrownBy(() -> InfoImplJson.read(reader("{\"title\":\" \",\"version\":\"1\"}")))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Title cannot be null or blank");
+        assertThatThrownBy(() -> InfoImplJson.read(reader("{\"title\":\"Pets\",\"license\":{}}")))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Name cannot be null or blank");
+    }
+}
@@ -0,0 +1,139 @@
+package com.xenosnowfox.openapi3.models.info;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UrlAccessorsTest {
+
+    // fails the test whenever a URL would be compared, hashed or resolved, which may block on a DNS lookup
+    private static final URLStreamHandler UNRESOLVABLE = new URLStreamHandler() {
+        @Override
+        protected URLConnection openConnection(final URL url) {
+            throw new AssertionError("URL was opened: " + url);
+        }
+
+        @Override
+        protected synchronized InetAddress getHostAddress(final URL url) {
+            throw new AssertionError("Host name was resolved: " + url);
+        }
+
+        @Override
+        protected boolean equals(final URL first, final URL second) {
+            throw new AssertionError("URL was compared: " + first);
+        }
+
+        @Override
+        protected int hashCode(final URL url) {
+            throw new AssertionError("URL was hashed: " + url);
+        }
+    };
+
+    private static URL url(final String path) throws MalformedURLException {
+        return new URL("https", "example.com", 8443, path, UNRESOLVABLE);
+    }
+
+    @Test
+    void adaptsUrlAccessorsToUris() throws MalformedURLException {
+        InfoImpl info = new InfoImpl("Pet Store", "1.0.0");
+        info.setTermsOfService(url("/terms?lang=en#top"));
+        ContactImpl contact = new ContactImpl("API Support", url("/support"));
+        LicenseImpl license = new LicenseImpl("MIT", url("/license"));
+
+        assertThat(info.getTermsOfServiceUri()).isEqualTo(URI.create("https://example.com:8443/terms?lang=en#top"));
+        assertThat(contact.getUri()).isEqualTo(URI.create("https://example.com:8443/support"));
+        assertThat(license.getUri()).isEqualTo(URI.create("https://example.com:8443/license"));
+        assertThat(info.getTermsOfService().toExternalForm()).isEqualTo("https://example.com:8443/terms?lang=en#top");
+        assertThat(contact.getUrl().toExternalForm()).isEqualTo("https://example.com:8443/support");
+        assertThat(license.getUrl().toExternalForm()).isEqualTo("https://example.com:8443/license");
+
+        info.setTermsOfServiceUri(URI.create("http://example.com/other"));
+        assertThat(info.getTermsOfService().toExternalForm()).isEqualTo("http://example.com/other");
+        info.setTermsOfService(null);
+        contact.setUrl(null);
+        license.setUri(null);
+        assertThat(info.getTermsOfServiceUri()).isNull();
+        assertThat(info.getTermsOfService()).isNull();
+        assertThat(contact.getUri()).isNull();
+        assertThat(contact.getUrl()).isNull();
+        assertThat(license.getUrl()).isNull();
+    }
+
+    @Test
+    void comparesAndHashesModelsWithoutUrls() throws IOException {
+        InfoImpl info = new InfoImpl("Pet Store", "1.0.0");
+        info.setTermsOfService(url("/terms"));
+        info.setContact(new ContactImpl("API Support", "support@example.com", url("/support")));
+        info.setLicense(new LicenseImpl("MIT", url("/license")));
+        Info other = new InfoImpl("Pet Store", "1.0.0")
+                .termsOfServiceUri(URI.create("https://example.com:8443/terms"))
+                .contact(new ContactImpl("API Support", "support@example.com").uri(URI.create("https://example.com:8443/support")))
+                .license(new LicenseImpl("MIT").uri(URI.create("https://example.com:8443/license")));
+
+        Info frozen = info.freeze();
+        assertThat(frozen).isEqualTo(other.freeze());
+        assertThat(frozen.hashCode()).isEqualTo(other.freeze().hashCode());
+        assertThat(frozen.getContact()).isEqualTo(other.getContact().freeze());
+        assertThat(frozen.getLicense().hashCode()).isEqualTo(other.getLicense().freeze().hashCode());
+        assertThat(info.contentHash()).isEqualTo(other.contentHash());
+        assertThat(new Canonicalizer().canonicalize(info).getContact()).isEqualTo(other.getContact().freeze());
+
+        StringBuilder json = new StringBuilder();
+        info.writeJson(json);
+        assertThat(json.toString()).isEqualTo(other.toJsonObject().toString());
+    }
+
+    @Test
+    void rejectsUrisThatAreNotUrls() {
+        ContactImpl contact = new ContactImpl("API Support");
+        contact.setUri(URI.create("https://example.com/support"));
+
+        assertThatThrownBy(() -> contact.setUri(URI.create("/relative")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid URL: /relative");
+        assertThatThrownBy(() -> new LicenseImpl("MIT").setUri(URI.create("urn:spdx:MIT")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid URL: urn:spdx:MIT");
+        assertThatThrownBy(() -> new InfoImpl("Pet Store", "1.0.0").setTermsOfServiceUri(URI.create("terms.html")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid URL: terms.html");
+        assertThatThrownBy(() -> new ContactImpl().setUrl(new URL("http://example.com/a b")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid URL: http://example.com/a b");
+
+        // a rejected value leaves the previous one in place
+        assertThat(contact.getUri()).isEqualTo(URI.create("https://example.com/support"));
+    }
+
+    @Test
+    void serializesUrlsAsTheirExternalForm() throws MalformedURLException {
+        String[] urls = {"http://example.com", "https://user@example.com:8443/a/b?q=1&r=%20#top", "http://[::1]:8080/x",
+                "file:/tmp/terms.txt", "HTTP://Example.COM/Path", "https://example.com/€"};
+        for (String string : urls) {
+            URL url = new URL(string);
+            InfoImpl info = new InfoImpl("Pet Store", "1.0.0");
+            info.setTermsOfService(url);
+            info.setContact(new ContactImpl("API Support", url));
+            info.setLicense(new LicenseImpl("MIT", url));
+
+            // the external form is what the URL based implementation serialized
+            JSONObject expected = new JSONObject()
+                    .put("title", "Pet Store")
+                    .put("version", "1.0.0")
+                    .put("termsOfService", url.toExternalForm())
+                    .put("contact", new JSONObject().put("name", "API Support").put("url", url.toExternalForm()))
+                    .put("license", new JSONObject().put("name", "MIT").put("url", url.toExternalForm()));
+            assertThat(info.toJsonObject().toString()).isEqualTo(expected.toString());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.xenosnowfox.openapi3.models.metrics;
+
+import com.xenosnowfox.openapi3.models.info.ContactImpl;
+import com.xenosnowfox.openapi3.models.info.InfoImpl;
+import com.xenosnowfox.openapi3.models.info.LicenseImpl;
+import com.xenosnowfox.openapi3.models.paths.OperationImpl;
+import com.xenosnowfox.openapi3.models.util.ReusableJsonWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerializationMetricsTest {
+
+    private final Map<ModelType, Long> serialized = new EnumMap<>(ModelType.class);
+    private final Map<ModelType, Integer> converted = new EnumMap<>(ModelType.class);
+
+    @BeforeEach
+    void install() {
+        SerializationMetrics.setListener(new SerializationListener() {
+            @Override
+            public void onSerialized(final ModelType type, final long nanos, final long bytes) {
+                SerializationMetricsTest.this.serialized.merge(type, bytes, Long::sum);
+            }
+
+            @Override
+            public void onConverted(final ModelType type, final long nanos) {
+                SerializationMetricsTest.this.converted.merge(type, 1, Integer::sum);
+            }
+        });
+    }
+
+    @AfterEach
+    void uninstall() {
+        SerializationMetrics.setListener(null);
+    }
+
+    private static InfoImpl info() {
+        InfoImpl info = new InfoImpl("Pets é", "1.0.0");
+        info.setContact(new ContactImpl("API Support", "support@example.com"));
+        info.setLicense(new LicenseImpl("Apache 2.0"));
+        return info;
+    }
+
+    @Test
+    void reportsNestedObjectsOfWritesAndConversions() throws IOException {
+        InfoImpl info = info();
+        String json = info.toJsonObject().toString();
+        assertThat(this.converted).containsOnlyKeys(ModelType.INFO, ModelType.CONTACT, ModelType.LICENSE);
+
+        StringBuilder builder = new StringBuilder();
+        info.writeJson(builder);
+        assertThat(this.serialized).containsOnlyKeys(ModelType.INFO, ModelType.CONTACT, ModelType.LICENSE);
+        assertThat(this.serialized.get(ModelType.INFO)).isEqualTo(json.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(this.serialized.get(ModelType.CONTACT)).isEqualTo(info.getContact().toJsonObject().toString().length());
+        assertThat(this.serialized.get(ModelType.LICENSE)).isEqualTo(info.getLicense().toJsonObject().toString().length());
+    }
+
+    @Test
+    void reportsNestedObjectsOnceForEveryDestination() throws IOException {
+        InfoImpl info = info();
+        long contact = info.getContact().toJsonObject().toString().length();
+        long license = info.getLicense().toJsonObject().toString().length();
+
+        info.writeJson(new ByteArrayOutputStream());
+        ReusableJsonWriter.forCurrentThread().write(info);
+        assertThat(this.serialized.get(ModelType.CONTACT)).isEqualTo(2 * contact);
+        assertThat(this.serialized.get(ModelType.LICENSE)).isEqualTo(2 * license);
+
+        // canonical output has the same length here, as the members of a contact and license are already sorted
+        this.serialized.clear();
+        info.writeCanonicalJson(new StringBuilder());
+        assertThat(this.serialized.get(ModelType.CONTACT)).isEqualTo(contact);
+        assertThat(this.serialized.get(ModelType.LICENSE)).isEqualTo(license);
+        assertThat(this.serialized).containsKey(ModelType.INFO);
+    }
+
+    @Test
+    void doesNotReportContentHashes() {
+        info().contentHash();
+        new OperationImpl("listPets").contentHash();
+
+        assertThat(this.serialized).isEmpty();
+    }
+}
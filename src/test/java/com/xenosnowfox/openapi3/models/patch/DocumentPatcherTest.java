@@ -0,0 +1,91 @@
+package com.xenosnowfox.openapi3.models.patch;
+
+import com.xenosnowfox.openapi3.models.Document;
+import com.xenosnowfox.openapi3.models.OpenApiDocument;
+import com.xenosnowfox.openapi3.models.info.InfoImpl;
+import com.xenosnowfox.openapi3.models.util.Extensions;
+import com.xenosnowfox.openapi3.models.util.RawJson;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DocumentPatcherTest {
+
+    private final DocumentPatcher patcher = new DocumentPatcher();
+
+    private static Document document(final String tags) {
+        InfoImpl info = new InfoImpl("Pet Store", "1.0.0");
+        info.setExtensions(Extensions.EMPTY.with("x-tags", RawJson.parse(tags)));
+        return new OpenApiDocument().info(info);
+    }
+
+    private String tags(final String patch) {
+        Document patched = this.patcher.apply(document("[\"a\",\"b\",{\"c\":[1]}]"), JsonPatch.parse(patch));
+        return patched.getInfo().getExtensions().getRawValue("x-tags").toJSONString();
+    }
+
+    @Test
+    void addsInsertsBeforeIndexOrAppends() {
+        assertThat(this.tags("[{\"op\":\"add\",\"path\":\"/info/x-tags/0\",\"value\":\"z\"}]"))
+                .isEqualTo("[\"z\",\"a\",\"b\",{\"c\":[1]}]");
+        assertThat(this.tags("[{\"op\":\"add\",\"path\":\"/info/x-tags/3\",\"value\":\"z\"}]"))
+                .isEqualTo("[\"a\",\"b\",{\"c\":[1]},\"z\"]");
+        assertThat(this.tags("[{\"op\":\"add\",\"path\":\"/info/x-tags/-\",\"value\":\"z\"}]"))
+                .isEqualTo("[\"a\",\"b\",{\"c\":[1]},\"z\"]");
+        assertThat(this.tags("[{\"op\":\"add\",\"path\":\"/info/x-tags/2/c/-\",\"value\":2}]"))
+                .isEqualTo("[\"a\",\"b\",{\"c\":[1,2]}]");
+    }
+
+    @Test
+    void removesAndReplacesElements() {
+        assertThat(this.tags("[{\"op\":\"remove\",\"path\":\"/info/x-tags/0\"}]"))
+                .isEqualTo("[\"b\",{\"c\":[1]}]");
+        assertThat(this.tags("[{\"op\":\"replace\",\"path\":\"/info/x-tags/1\",\"value\":\"z\"}]"))
+                .isEqualTo("[\"a\",\"z\",{\"c\":[1]}]");
+        assertThat(this.tags("[{\"op\":\"replace\",\"path\":\"/info/x-tags/2\",\"value\":\"z\"}]"))
+                .isEqualTo("[\"a\",\"b\",\"z\"]");
+    }
+
+    @Test
+    void movesCopiesAndTestsElements() {
+        assertThat(this.tags("[{\"op\":\"move\",\"from\":\"/info/x-tags/0\",\"path\":\"/info/x-tags/1\"}]"))
+                .isEqualTo("[\"b\",\"a\",{\"c\":[1]}]");
+        assertThat(this.tags("[{\"op\":\"move\",\"from\":\"/info/x-tags/0\",\"path\":\"/info/x-tags/-\"}]"))
+                .isEqualTo("[\"b\",{\"c\":[1]},\"a\"]");
+        assertThat(this.tags("[{\"op\":\"copy\",\"from\":\"/info/x-tags/2/c/0\",\"path\":\"/info/x-tags/0\"}]"))
+                .isEqualTo("[1,\"a\",\"b\",{\"c\":[1]}]");
+        assertThat(this.tags("[{\"op\":\"test\",\"path\":\"/info/x-tags/2/c\",\"value\":[1]}]"))
+                .isEqualTo("[\"a\",\"b\",{\"c\":[1]}]");
+        assertThatThrownBy(() -> this.tags("[{\"op\":\"test\",\"path\":\"/info/x-tags/1\",\"value\":\"a\"}]"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Test failed at /info/x-tags/1");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "[{\"op\":\"add\",\"path\":\"/info/x-tags/4\",\"value\":\"z\"}]",
+            "[{\"op\":\"remove\",\"path\":\"/info/x-tags/3\"}]",
+            "[{\"op\":\"remove\",\"path\":\"/info/x-tags/-\"}]",
+            "[{\"op\":\"replace\",\"path\":\"/info/x-tags/-\",\"value\":\"z\"}]",
+            "[{\"op\":\"remove\",\"path\":\"/info/x-tags/01\"}]",
+            "[{\"op\":\"remove\",\"path\":\"/info/x-tags/+1\"}]",
+            "[{\"op\":\"remove\",\"path\":\"/info/x-tags/99999999999\"}]",
+            "[{\"op\":\"add\",\"path\":\"/info/x-tags/-/c\",\"value\":\"z\"}]",
+            "[{\"op\":\"test\",\"path\":\"/info/x-tags/3\",\"value\":\"z\"}]"
+    })
+    void rejectsInvalidOrMissingIndex(final String patch) {
+        assertThatThrownBy(() -> this.tags(patch)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void leavesSourceDocumentUntouched() {
+        Document document = document("[\"a\"]");
+
+        this.patcher.apply(document, JsonPatch.parse("[{\"op\":\"add\",\"path\":\"/info/x-tags/-\",\"value\":\"b\"}]"));
+
+        assertThat(document.getInfo().getExtensions().getRawValue("x-tags").toJSONString()).isEqualTo("[\"a\"]");
+    }
+}
@@ -0,0 +1,197 @@
+package com.xenosnowfox.openapi3.models.paths;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class PathIndexTest {
+
+    private static final int MATCHES = 100_000;
+
+    private final Map<String, PathItem> pathItems = new LinkedHashMap<>();
+
+    private PathIndex compile(final String... templates) {
+        PathsImpl paths = new PathsImpl();
+        for (String template : templates) {
+            PathItemImpl pathItem = new PathItemImpl();
+            pathItem.setOperation(HttpMethod.GET, new OperationImpl(template));
+            paths.setPathItem(template, pathItem);
+            this.pathItems.put(template, pathItem);
+        }
+        return paths.getIndex();
+    }
+
+    private PathItem item(final String template) {
+        return this.pathItems.get(template);
+    }
+
+    @Test
+    void prefersLiteralsOverTemplatesRegardlessOfOrder() {
+        PathIndex index = this.compile("/users/{id}", "/users/{id}.json", "/users/me");
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.match("/users/me")).isSameAs(this.item("/users/me"));
+        assertThat(index.match("/users/me.json")).isSameAs(this.item("/users/{id}.json"));
+        assertThat(index.match("/users/42")).isSameAs(this.item("/users/{id}"));
+    }
+
+    @Test
+    void backtracksFromFailedLiteralIntoParameter() {
+        PathIndex index = this.compile("/a/b/c", "/a/{x}/d", "/a/{x}.txt/e");
+
+        assertThat(index.match("/a/b/c")).isSameAs(this.item("/a/b/c"));
+        assertThat(index.match("/a/b/d")).isSameAs(this.item("/a/{x}/d"));
+        assertThat(index.match("/a/b.txt/e")).isSameAs(this.item("/a/{x}.txt/e"));
+        assertThat(index.match("/a/b.txt/d")).isSameAs(this.item("/a/{x}/d"));
+        assertThat(index.match("/a/b/e")).isNull();
+    }
+
+    @Test
+    void matchesTemplatesMixingLiteralsAndParameters() {
+        PathIndex index = this.compile("/files/{name}.json", "/a/{x}-{y}/c", "/v{major}.{minor}/status");
+
+        assertThat(index.match("/files/report.json")).isSameAs(this.item("/files/{name}.json"));
+        assertThat(index.match("/files/report.tar.json")).isSameAs(this.item("/files/{name}.json"));
+        assertThat(index.match("/files/.json")).isNull();
+        assertThat(index.match("/files/report.xml")).isNull();
+        assertThat(index.match("/a/1-2/c")).isSameAs(this.item("/a/{x}-{y}/c"));
+        assertThat(index.match("/a/1-2-3/c")).isSameAs(this.item("/a/{x}-{y}/c"));
+        assertThat(index.match("/a/1-/c")).isNull();
+        assertThat(index.match("/a/-2/c")).isNull();
+        assertThat(index.match("/a/12/c")).isNull();
+        assertThat(index.match("/v1.2/status")).isSameAs(this.item("/v{major}.{minor}/status"));
+        assertThat(index.match("/v1/status")).isNull();
+    }
+
+    @Test
+    void rejectsEquivalentAndMalformedTemplates() {
+        assertThatThrownBy(() -> this.compile("/users/{id}", "/users/{name}"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Path templates are equivalent: /users/{id} and /users/{name}");
+        assertThatThrownBy(() -> this.compile("/files/{a}.json", "/files/{b}.json"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Path templates are equivalent: /files/{a}.json and /files/{b}.json");
+        assertThatThrownBy(() -> this.compile("/users/{id"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> this.compile("/users/{}"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> this.compile("/users/{a}{b}"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void ignoresQueryAndFragmentButNotTrailingSlash() {
+        PathIndex index = this.compile("/", "/users/{id}", "/users/{id}/");
+
+        assertThat(index.match("/")).isSameAs(this.item("/"));
+        assertThat(index.match("/?q=1")).isSameAs(this.item("/"));
+        assertThat(index.match("/users/42?expand=a/b")).isSameAs(this.item("/users/{id}"));
+        assertThat(index.match("/users/42#top")).isSameAs(this.item("/users/{id}"));
+        assertThat(index.match("/users/42/")).isSameAs(this.item("/users/{id}/"));
+        assertThat(index.match("/users/42/?q=1")).isSameAs(this.item("/users/{id}/"));
+        assertThat(index.match("/users/")).isNull();
+        assertThat(index.match("/users/42/posts")).isNull();
+        assertThat(index.match("users/42")).isNull();
+        assertThat(index.match("")).isNull();
+        assertThat(index.match((String) null)).isNull();
+    }
+
+    @Test
+    void matchesMethodsWithoutFallingBack() {
+        PathIndex index = this.compile("/users/{id}", "/users/me");
+        OperationImpl delete = new OperationImpl("deleteUser");
+        this.item("/users/{id}").setOperation(HttpMethod.DELETE, delete);
+
+        assertThat(index.match(HttpMethod.GET, "/users/me")).isSameAs(this.item("/users/me").getOperation(HttpMethod.GET));
+        assertThat(index.match("get", "/users/42")).isSameAs(this.item("/users/{id}").getOperation(HttpMethod.GET));
+        assertThat(index.match("DELETE", "/users/42")).isSameAs(delete);
+
+        // the more specific path matches first, so its missing method is not served by the template
+        assertThat(index.match("DELETE", "/users/me")).isNull();
+        assertThat(index.match("CONNECT", "/users/42")).isNull();
+        assertThat(index.match((HttpMethod) null, "/users/42")).isNull();
+    }
+
+    @Test
+    void skipsBranchesOfOtherLengths() {
+        StringBuilder deep = new StringBuilder();
+        StringBuilder request = new StringBuilder();
+        for (int i = 0; i < 32; i++) {
+            deep.append("/{p").append(i).append('}');
+            request.append("/x");
+        }
+        PathIndex index = this.compile("/x/y", deep.toString(), "/{a}/{b}/z");
+
+        assertThat(index.match(request.toString())).isSameAs(this.item(deep.toString()));
+        assertThat(index.match(request.toString() + "/x")).isNull();
+        assertThat(index.match("/x/x/z")).isSameAs(this.item("/{a}/{b}/z"));
+        assertThat(index.match("/x/x/y")).isNull();
+    }
+
+    @Test
+    void cachesIndexOfPathsThatDoNotCacheTheirOwn() {
+        Map<String, PathItem> map = new LinkedHashMap<>();
+        Paths paths = new Paths() {
+            @Override
+            public Map<String, PathItem> getPathItems() {
+                return Collections.unmodifiableMap(map);
+            }
+
+            @Override
+            public void setPathItem(final String path, final PathItem pathItem) {
+                map.put(path, pathItem);
+            }
+        };
+        PathItemImpl users = new PathItemImpl();
+        paths.setPathItem("/users/{id}", users);
+
+        PathIndex index = paths.getIndex();
+        assertThat(paths.getIndex()).isSameAs(index);
+        assertThat(paths.matchPathItem("/users/42")).isSameAs(users);
+
+        PathItemImpl me = new PathItemImpl();
+        paths.setPathItem("/users/me", me);
+        assertThat(paths.getIndex()).isNotSameAs(index);
+        assertThat(paths.matchPathItem("/users/me")).isSameAs(me);
+
+        PathItemImpl replacement = new PathItemImpl();
+        paths.setPathItem("/users/me", replacement);
+        assertThat(paths.matchPathItem("/users/me")).isSameAs(replacement);
+    }
+
+    @Test
+    void doesNotAllocateWhileMatching() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        PathIndex index = this.compile("/users/me", "/users/{id}", "/users/{id}/posts/{post}.json", "/a/b/c", "/a/{x}/d");
+        String[] requests = {"/users/me", "/users/42?expand=true", "/users/42/posts/7.json", "/a/b/d", "/missing"};
+
+        // warms up until the matching is compiled
+        int found = 0;
+        for (int i = 0; i < MATCHES; i++) {
+            found += index.match("GET", requests[i % requests.length]) == null ? 0 : 1;
+        }
+
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < MATCHES; i++) {
+            found += index.match("GET", requests[i % requests.length]) == null ? 0 : 1;
+        }
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        assertThat(found).isEqualTo(2 * MATCHES * 4 / 5);
+        // a single allocation per match would amount to more than a megabyte
+        assertThat(allocated).isLessThan(MATCHES);
+    }
+}
@@ -0,0 +1,240 @@
+package com.xenosnowfox.openapi3.models.schema;
+
+import com.xenosnowfox.openapi3.models.validation.Violation;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class SchemaValidatorTest {
+
+    private static Object json(final String json) {
+        return new JSONTokener(json).nextValue();
+    }
+
+    private static Schema schema(final SchemaType type) {
+        return new SchemaImpl(type);
+    }
+
+    @Test
+    void findsPatternAnywhereInString() {
+        SchemaValidator unanchored = schema(SchemaType.STRING).pattern("[0-9]{3}").compile();
+        SchemaValidator anchored = schema(SchemaType.STRING).pattern("^[0-9]{3}$").compile();
+
+        assertThat(unanchored.isValid("ab123cd")).isTrue();
+        assertThat(unanchored.isValid("ab12cd")).isFalse();
+        assertThat(anchored.isValid("123")).isTrue();
+        assertThat(anchored.isValid("ab123cd")).isFalse();
+        assertThat(anchored.validate("1234")).extracting(Violation::getPath, Violation::getMessage)
+                .containsExactly(tuple("", "String does not match the pattern ^[0-9]{3}$"));
+
+        // patterns only apply to strings
+        assertThat(new SchemaImpl().pattern("^a$").compile().isValid(1)).isTrue();
+        assertThatThrownBy(() -> new SchemaImpl().pattern("[a")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void comparesNumbersInEnumAndUniqueItemsByValue() {
+        SchemaValidator enumeration = new SchemaImpl().enumValues(1, 2.5, "1", null).compile();
+
+        assertThat(enumeration.isValid(1)).isTrue();
+        assertThat(enumeration.isValid(1L)).isTrue();
+        assertThat(enumeration.isValid(1.0)).isTrue();
+        assertThat(enumeration.isValid(json("1.0"))).isTrue();
+        assertThat(enumeration.isValid(new BigDecimal("1.000"))).isTrue();
+        assertThat(enumeration.isValid(json("2.50"))).isTrue();
+        assertThat(enumeration.isValid("1")).isTrue();
+        assertThat(enumeration.isValid(null)).isTrue();
+        assertThat(enumeration.isValid(2)).isFalse();
+        assertThat(enumeration.isValid("2.5")).isFalse();
+        assertThat(enumeration.isValid(true)).isFalse();
+
+        SchemaValidator unique = schema(SchemaType.ARRAY).uniqueItems(true).compile();
+        assertThat(unique.isValid(json("[1, 1.0]"))).isFalse();
+        assertThat(unique.isValid(json("[1, \"1\", true]"))).isTrue();
+        assertThat(unique.isValid(json("[2.5, 2.50]"))).isFalse();
+        assertThat(unique.isValid(json("[{\"a\": 1}, {\"a\": 1}]"))).isFalse();
+        assertThat(unique.isValid(json("[{\"a\": 1}, {\"a\": 2}, [1], [1, 2]]"))).isTrue();
+    }
+
+    @Test
+    void comparesDecimalBoundsAndMultiples() {
+        SchemaValidator exclusive = schema(SchemaType.NUMBER)
+                .minimum(new BigDecimal("0.1")).exclusiveMinimum(true)
+                .maximum(new BigDecimal("2.5")).exclusiveMaximum(true)
+                .compile();
+        assertThat(exclusive.isValid(0.1)).isFalse();
+        assertThat(exclusive.isValid(json("0.1"))).isFalse();
+        assertThat(exclusive.isValid(0.11)).isTrue();
+        assertThat(exclusive.isValid(2.4999)).isTrue();
+        assertThat(exclusive.isValid(2.5)).isFalse();
+        assertThat(exclusive.isValid(2)).isTrue();
+        assertThat(exclusive.validate(0)).extracting(Violation::getMessage)
+                .containsExactly("Number must be greater than 0.1");
+
+        SchemaValidator inclusive = schema(SchemaType.NUMBER)
+                .minimum(new BigDecimal("0.1")).maximum(new BigDecimal("2.5")).compile();
+        assertThat(inclusive.isValid(0.1)).isTrue();
+        assertThat(inclusive.isValid(2.5)).isTrue();
+        assertThat(inclusive.isValid(new BigDecimal("2.5000000000000000001"))).isFalse();
+
+        SchemaValidator decimal = schema(SchemaType.NUMBER).multipleOf(new BigDecimal("0.1")).compile();
+        assertThat(decimal.isValid(0.3)).isTrue();
+        assertThat(decimal.isValid(json("0.30"))).isTrue();
+        assertThat(decimal.isValid(3)).isTrue();
+        assertThat(decimal.isValid(0.35)).isFalse();
+        assertThat(decimal.validate(0.35)).extracting(Violation::getMessage)
+                .containsExactly("Number must be a multiple of 0.1");
+
+        SchemaValidator integer = schema(SchemaType.INTEGER).multipleOf(new BigDecimal("2.0")).compile();
+        assertThat(integer.isValid(4)).isTrue();
+        assertThat(integer.isValid(4.0)).isTrue();
+        assertThat(integer.isValid(Long.MAX_VALUE - 1)).isTrue();
+        assertThat(integer.isValid(5)).isFalse();
+        assertThat(integer.isValid(4.5)).isFalse();
+    }
+
+    @Test
+    void flattensAllOfIntoIncludingSchema() {
+        Schema shared = new SchemaImpl().minLength(2);
+        Schema schema = schema(SchemaType.STRING).allOf(
+                new SchemaImpl().allOf(shared),
+                new SchemaImpl().maxLength(3).allOf(shared));
+        SchemaValidator validator = schema.compile();
+
+        assertThat(validator.isValid("abc")).isTrue();
+        assertThat(validator.isValid("a")).isFalse();
+        assertThat(validator.isValid("abcd")).isFalse();
+        assertThat(validator.isValid(1)).isFalse();
+        assertThat(validator.validate("a")).extracting(Violation::getMessage)
+                .containsExactly("String is shorter than 2 characters", "String is shorter than 2 characters");
+    }
+
+    @Test
+    void rejectsSchemasThatContainThemselvesThroughAllOf() {
+        Schema self = new SchemaImpl();
+        self.allOf(self);
+        assertThatThrownBy(self::compile)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Schema cannot contain itself through allOf");
+
+        Schema first = new SchemaImpl();
+        Schema second = new SchemaImpl().allOf(first);
+        first.allOf(new SchemaImpl().allOf(second));
+        assertThatThrownBy(first::compile)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Schema cannot contain itself through allOf");
+    }
+
+    @Test
+    void allowsNullOnlyForNullableSchemas() {
+        SchemaValidator nullable = schema(SchemaType.STRING).nullable(true).minLength(2).compile();
+        SchemaValidator required = schema(SchemaType.STRING).compile();
+
+        assertThat(nullable.isValid(null)).isTrue();
+        assertThat(nullable.isValid(JSONObject.NULL)).isTrue();
+        assertThat(nullable.isValid("a")).isFalse();
+        assertThat(required.isValid(null)).isFalse();
+        assertThat(required.validate(JSONObject.NULL)).extracting(Violation::getMessage)
+                .containsExactly("Expected string but was null");
+
+        // an untyped schema allows null unless another constraint rejects it
+        assertThat(new SchemaImpl().compile().isValid(null)).isTrue();
+    }
+
+    @Test
+    void appliesAdditionalPropertiesOfEachSchemaInAllOfSeparately() {
+        Schema base = schema(SchemaType.OBJECT)
+                .property("id", schema(SchemaType.INTEGER))
+                .additionalPropertiesAllowed(false)
+                .allOf(schema(SchemaType.OBJECT).property("name", schema(SchemaType.STRING)).required("name"));
+        SchemaValidator validator = base.compile();
+
+        // as in JSON Schema, properties of included schemas are not known to the schema that disallows additional ones
+        assertThat(validator.isValid(json("{\"id\": 1}"))).isFalse();
+        assertThat(validator.validate(json("{\"id\": 1, \"name\": \"Rex\"}")))
+                .extracting(Violation::getPath, Violation::getMessage)
+                .containsExactly(tuple("/name", "Property is not allowed"));
+
+        Schema open = schema(SchemaType.OBJECT)
+                .property("id", schema(SchemaType.INTEGER))
+                .additionalProperties(schema(SchemaType.STRING))
+                .allOf(schema(SchemaType.OBJECT).required("name"));
+        assertThat(open.compile().isValid(json("{\"id\": 1, \"name\": \"Rex\"}"))).isTrue();
+        assertThat(open.compile().validate(json("{\"id\": 1, \"name\": 2}")))
+                .extracting(Violation::getPath, Violation::getMessage)
+                .containsExactly(tuple("/name", "Expected string but was integer"));
+    }
+
+    @Test
+    void requiresExactlyOneMatchForOneOf() {
+        SchemaValidator validator = new SchemaImpl()
+                .oneOf(schema(SchemaType.INTEGER), schema(SchemaType.NUMBER).minimum(new BigDecimal("10")))
+                .compile();
+
+        assertThat(validator.isValid(1)).isTrue();
+        assertThat(validator.isValid(10.5)).isTrue();
+        assertThat(validator.isValid(10)).isFalse();
+        assertThat(validator.isValid("x")).isFalse();
+        assertThat(validator.validate(10)).extracting(Violation::getMessage)
+                .containsExactly("Value matches 2 of the schemas in oneOf, but must match exactly one");
+        assertThat(validator.validate("x")).extracting(Violation::getMessage)
+                .containsExactly("Value matches 0 of the schemas in oneOf, but must match exactly one");
+    }
+
+    @Test
+    void validatesRecursiveSchemas() {
+        Schema node = schema(SchemaType.OBJECT).required("name");
+        node.property("name", schema(SchemaType.STRING).minLength(1));
+        node.property("children", schema(SchemaType.ARRAY).items(node));
+        SchemaValidator validator = node.compile();
+
+        assertThat(validator.isValid(json("{\"name\": \"a\", \"children\": [{\"name\": \"b\", \"children\": []}]}"))).isTrue();
+        assertThat(validator.validate(json(
+                "{\"name\": \"a\", \"children\": [{\"name\": \"b\", \"children\": [{\"name\": \"c\"}, {\"name\": \"\"}, {}]}]}")))
+                .extracting(Violation::getPath, Violation::getMessage)
+                .containsExactly(
+                        tuple("/children/0/children/1/name", "String is shorter than 1 characters"),
+                        tuple("/children/0/children/2/name", "Required property is missing"));
+    }
+
+    @Test
+    void canBeSharedBetweenThreads() throws Exception {
+        SchemaValidator validator = schema(SchemaType.ARRAY)
+                .items(schema(SchemaType.STRING).pattern("^item-[0-9]+$"))
+                .compile();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int offset = thread;
+                results.add(executor.submit(() -> {
+                    int failures = 0;
+                    for (int i = 0; i < 10_000; i++) {
+                        boolean valid = (i + offset) % 2 == 0;
+                        Object value = json("[\"item-" + i + "\", \"" + (valid ? "item-" : "other-") + offset + "\"]");
+                        if (validator.isValid(value) != valid) {
+                            failures++;
+                        }
+                    }
+                    return failures;
+                }));
+            }
+            for (Future<Integer> result : results) {
+                assertThat(result.get()).isZero();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.xenosnowfox.openapi3.models.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CanonicalJsonWriterTest {
+
+    // IEEE 754 bit patterns and their expected output, from appendix B of RFC 8785
+    private static final String[][] NUMBERS = {
+            {"0000000000000000", "0"},
+            {"8000000000000000", "0"},
+            {"0000000000000001", "5e-324"},
+            {"8000000000000001", "-5e-324"},
+            {"7fefffffffffffff", "1.7976931348623157e+308"},
+            {"ffefffffffffffff", "-1.7976931348623157e+308"},
+            {"4340000000000000", "9007199254740992"},
+            {"c340000000000000", "-9007199254740992"},
+            {"4430000000000000", "295147905179352830000"},
+            {"44b52d02c7e14af5", "9.999999999999997e+22"},
+            {"44b52d02c7e14af6", "1e+23"},
+            {"44b52d02c7e14af7", "1.0000000000000001e+23"},
+            {"444b1ae4d6e2ef4e", "999999999999999700000"},
+            {"444b1ae4d6e2ef4f", "999999999999999900000"},
+            {"444b1ae4d6e2ef50", "1e+21"},
+            {"3eb0c6f7a0b5ed8c", "9.999999999999997e-7"},
+            {"3eb0c6f7a0b5ed8d", "0.000001"},
+            {"41b3de4355555553", "333333333.3333332"},
+            {"41b3de4355555554", "333333333.33333325"},
+            {"41b3de4355555555", "333333333.3333333"},
+            {"41b3de4355555556", "333333333.3333334"},
+            {"41b3de4355555557", "333333333.33333343"},
+            {"becbf647612f3696", "-0.0000033333333333333333"},
+            {"43143ff3c1cb0959", "1424953923781206.2"},
+    };
+
+    @Test
+    void formatsNumbersOfRfc8785() {
+        for (String[] number : NUMBERS) {
+            double value = Double.longBitsToDouble(Long.parseUnsignedLong(number[0], 16));
+            assertThat(CanonicalJsonWriter.formatNumber(new BigDecimal(value).toString())).as(number[0]).isEqualTo(number[1]);
+        }
+    }
+
+    @Test
+    void formatsShortestDigitsWhereDoubleToStringDoesNot() {
+        assertThat(CanonicalJsonWriter.formatNumber("2e23")).isEqualTo("2e+23");
+        assertThat(CanonicalJsonWriter.formatNumber("1e23")).isEqualTo("1e+23");
+        assertThat(CanonicalJsonWriter.formatNumber("5e-324")).isEqualTo("5e-324");
+        assertThat(CanonicalJsonWriter.formatNumber("1e-323")).isEqualTo("1e-323");
+        assertThat(CanonicalJsonWriter.formatNumber("-1.5")).isEqualTo("-1.5");
+        assertThat(CanonicalJsonWriter.formatNumber("100")).isEqualTo("100");
+        assertThat(CanonicalJsonWriter.formatNumber("1E-7")).isEqualTo("1e-7");
+    }
+
+    @Test
+    void rejectsNumbersOutsideTheRangeOfDoubles() {
+        assertThatThrownBy(() -> CanonicalJsonWriter.formatNumber("1e400")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CanonicalJsonWriter.formatNumber("NaN")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void findsClosestOfShortestRoundTrippingDecimals() {
+        Random random = new Random(8785);
+        for (int i = 0; i < 100_000; i++) {
+            // random bits cover all exponents evenly, and the smallest subnormals are checked separately
+            long bits = i < 1000 ? i + 1 : random.nextLong() & Long.MAX_VALUE;
+            double value = Double.longBitsToDouble(bits);
+            if (Double.isNaN(value) || Double.isInfinite(value) || value == 0) {
+                continue;
+            }
+
+            ShortestDecimal decimal = ShortestDecimal.of(value);
+            BigDecimal result = BigDecimal.valueOf(decimal.getSignificand(), -decimal.getExponent());
+            assertThat(Double.parseDouble(result.toString())).as("%s round trips", result).isEqualTo(value);
+
+            BigDecimal exact = new BigDecimal(value);
+            int digits = Long.toString(decimal.getSignificand()).length();
+            if (digits > 1) {
+                for (RoundingMode mode : new RoundingMode[] {RoundingMode.FLOOR, RoundingMode.CEILING}) {
+                    BigDecimal shorter = exact.round(new MathContext(digits - 1, mode));
+                    assertThat(Double.parseDouble(shorter.toString())).as("%s is shorter than %s", shorter, result).isNotEqualTo(value);
+                }
+            }
+            BigDecimal closest = exact.round(new MathContext(digits, RoundingMode.HALF_EVEN));
+            if (Double.parseDouble(closest.toString()) == value) {
+                assertThat(result).as("%s is closer than %s", closest, result).isEqualByComparingTo(closest);
+            }
+        }
+    }
+}
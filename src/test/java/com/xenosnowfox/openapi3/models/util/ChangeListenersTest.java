@@ -0,0 +1,44 @@
+package com.xenosnowfox.openapi3.models.util;
+
+import com.xenosnowfox.openapi3.models.info.ContactImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChangeListenersTest {
+
+    @Test
+    void reportsFirstAddedAndLastRemovedListener() {
+        ChangeListeners listeners = new ChangeListeners();
+        Invokable<Trackable> first = source -> { };
+        Invokable<Trackable> second = source -> { };
+
+        assertThat(listeners.isEmpty()).isTrue();
+        assertThat(listeners.add(first)).isTrue();
+        assertThat(listeners.add(second)).isFalse();
+        assertThat(listeners.remove(first)).isFalse();
+        assertThat(listeners.remove(first)).isFalse();
+        assertThat(listeners.remove(second)).isTrue();
+        assertThat(listeners.isEmpty()).isTrue();
+        assertThatThrownBy(() -> listeners.add(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void firesListenersInRegistrationOrder() {
+        ChangeListeners listeners = new ChangeListeners();
+        List<String> calls = new ArrayList<>();
+        Invokable<Trackable> middle = source -> calls.add("b");
+        listeners.add(source -> calls.add("a"));
+        listeners.add(middle);
+        listeners.add(source -> calls.add("c"));
+        listeners.remove(middle);
+
+        listeners.fire(new ContactImpl());
+
+        assertThat(calls).containsExactly("a", "c");
+    }
+}
@@ -0,0 +1,53 @@
+package com.xenosnowfox.openapi3.models.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContentHashTest {
+
+    @Test
+    void formatsAsFixedLengthHexadecimalAndEntityTag() {
+        ContentHash hash = new ContentHash(1L, -1L);
+
+        assertThat(hash.toString()).isEqualTo("0000000000000001ffffffffffffffff");
+        assertThat(hash.toETag()).isEqualTo("\"0000000000000001ffffffffffffffff\"");
+        assertThat(new ContentHash(0L, 0L).toETag()).isEqualTo("\"00000000000000000000000000000000\"");
+        assertThat(new ContentHash(0x0123456789abcdefL, Long.MIN_VALUE).toString()).isEqualTo("0123456789abcdef8000000000000000");
+        assertThat(hash.getHigh()).isEqualTo(1L);
+        assertThat(hash.getLow()).isEqualTo(-1L);
+    }
+
+    @Test
+    void parsesItsOwnRepresentations() {
+        ContentHash hash = new ContentHasher().putString("openapi").hash();
+
+        assertThat(ContentHash.parse(hash.toString())).isEqualTo(hash);
+        assertThat(ContentHash.parse(hash.toETag())).isEqualTo(hash);
+        assertThat(ContentHash.parse("FFFFFFFFFFFFFFFF0000000000000000")).isEqualTo(new ContentHash(-1L, 0L));
+
+        assertThatThrownBy(() -> ContentHash.parse("W/" + hash.toETag())).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ContentHash.parse(hash.toString().substring(1))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ContentHash.parse("\"" + hash)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ContentHash.parse("g0000000000000000000000000000000"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid content hash: g0000000000000000000000000000000");
+        assertThatThrownBy(() -> ContentHash.parse("+000000000000000000000000000000")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void canBeUsedAsMapKey() {
+        Map<ContentHash, String> map = new HashMap<>();
+        map.put(new ContentHash(1L, 2L), "a");
+        map.put(new ContentHash(1L, 3L), "b");
+
+        assertThat(map.get(new ContentHash(1L, 2L))).isEqualTo("a");
+        assertThat(map.get(new ContentHash(1L, 3L))).isEqualTo("b");
+        assertThat(map.get(new ContentHash(2L, 2L))).isNull();
+        assertThat(new ContentHash(1L, 2L)).isNotEqualTo(new ContentHash(2L, 1L));
+    }
+}
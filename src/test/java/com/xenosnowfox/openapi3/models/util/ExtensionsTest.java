@@ -0,0 +1,60 @@
+package com.xenosnowfox.openapi3.models.util;
+
+import com.xenosnowfox.openapi3.models.info.ContactImpl;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExtensionsTest {
+
+    @Test
+    void withAddsReplacesAndRemoves() {
+        Extensions extensions = Extensions.EMPTY.with("x-a", 1).with("x-b", "two").with("x-a", 3);
+
+        assertThat(extensions.size()).isEqualTo(2);
+        assertThat(extensions.get("x-a")).isEqualTo(3);
+        assertThat(extensions.with("x-b", null).size()).isEqualTo(1);
+        assertThat(extensions.without("x-a").without("x-b")).isSameAs(Extensions.EMPTY);
+    }
+
+    @Test
+    void rejectsInvalidNames() {
+        assertThatThrownBy(() -> Extensions.EMPTY.with(" ", 1))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Extension name cannot be null or blank");
+        assertThatThrownBy(() -> Extensions.EMPTY.with("logo", 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Extension name must begin with x-: logo");
+    }
+
+    @Test
+    void equalityAndHashIgnoreOrderAndFormatting() {
+        Extensions first = Extensions.EMPTY.with("x-a", 1).with("x-b", Collections.singletonMap("q", 2));
+        Extensions second = Extensions.EMPTY.with("x-b", new JSONObject("{ \"q\" : 2 }")).with("x-a", 1);
+
+        assertThat(first).isEqualTo(second);
+        assertThat(first.hashCode()).isEqualTo(second.hashCode());
+        assertThat(first.contentHash()).isEqualTo(second.contentHash());
+    }
+
+    @Test
+    void memberOrderMatchesJsonObject() throws IOException {
+        Random random = new Random(1);
+        for (int n = 0; n < 2000; n++) {
+            ContactImpl contact = new ContactImpl(random.nextBoolean() ? "n" : null, random.nextBoolean() ? "e@x" : null);
+            for (int i = random.nextInt(40); i > 0; i--) {
+                contact.setExtension("x-" + Long.toString(random.nextLong(), 36), i);
+            }
+            StringBuilder builder = new StringBuilder();
+            contact.writeJson(builder);
+
+            assertThat(builder.toString()).isEqualTo(contact.toJsonObject().toString());
+        }
+    }
+}
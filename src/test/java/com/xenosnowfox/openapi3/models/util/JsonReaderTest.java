@@ -0,0 +1,85 @@
+package com.xenosnowfox.openapi3.models.util;
+
+import org.json.JSONException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonReaderTest {
+
+    private static JsonReader reader(final String json) {
+        return new JsonReader(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readNumberInArray(final JsonReader reader) throws IOException {
+        reader.beginArray();
+        String number = reader.nextNumber();
+        reader.endArray();
+        return number;
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-0", "1", "-1", "10", "1.5", "0.25", "-0.0", "1e5", "1E5", "1e+5", "1e-5", "1.5e10",
+            "-12.375E-07", "123456789012345678901234567890"})
+    void acceptsNumbers(final String number) throws IOException {
+        assertThat(readNumberInArray(reader("[" + number + "]"))).isEqualTo(number);
+        assertThat(readNumberInArray(new JsonReader(new ByteArrayInputStream(("[ " + number + " ]").getBytes(StandardCharsets.UTF_8)))))
+                .isEqualTo(number);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"01", "-01", "00", "1.", "1e", "1e+", "1.e5", ".5", "-", "-.5", "1-2", "1+2", "1.5.5", "1e5e5",
+            "1ee5", "+1", "--1", "0x10"})
+    void rejectsMalformedNumbers(final String number) {
+        assertThatThrownBy(() -> readNumberInArray(reader("[" + number + "]")))
+                .isInstanceOf(JSONException.class);
+        assertThatThrownBy(() -> reader("{\"a\":" + number + "}").skipValue())
+                .isInstanceOf(JSONException.class);
+    }
+
+    @Test
+    void readsNestedValues() throws IOException {
+        JsonReader reader = reader("\ufeff{ \"a\" : [true, false, null, \"s\\u00e9\\n\"], \"b\" : {\"c\" : -1.5e3} }");
+        List<Object> values = new ArrayList<>();
+        reader.beginObject();
+        assertThat(reader.nextName()).isEqualTo("a");
+        reader.beginArray();
+        values.add(reader.nextBoolean());
+        values.add(reader.nextBoolean());
+        reader.nextNull();
+        values.add(reader.nextString());
+        reader.endArray();
+        assertThat(reader.nextName()).isEqualTo("b");
+        reader.skipValue();
+        reader.endObject();
+
+        assertThat(values).containsExactly(true, false, "sé\n");
+        assertThat(reader.peek()).isEqualTo(JsonReader.Token.END_DOCUMENT);
+    }
+
+    @Test
+    void rejectsTrailingData() throws IOException {
+        JsonReader reader = reader("{} {}");
+        reader.skipValue();
+
+        assertThatThrownBy(reader::peek)
+                .isInstanceOf(JSONException.class)
+                .hasMessageContaining("Unexpected data after the end of the document");
+    }
+
+    @Test
+    void reportsOffsetOfSyntaxErrors() {
+        assertThatThrownBy(() -> reader("{\"a\" 1}").skipValue())
+                .isInstanceOf(JSONException.class)
+                .hasMessage("Expected ':' at offset 6");
+    }
+}
@@ -0,0 +1,44 @@
+package com.xenosnowfox.openapi3.models.util;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonWriterTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "plain", "quote \" and backslash \\", "</script>", "a/b", "tab\tnew\nline\r\f\b",
+            "\u0000\u001f control", "\u0080\u009f c1", "   separators", "émoji 😀", "lone \ud800"})
+    void quoteMatchesJsonObject(final String string) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        JsonWriter.quote(string, builder);
+
+        assertThat(builder.toString()).isEqualTo(JSONObject.quote(string));
+    }
+
+    @Test
+    void separatesMembersWithCommas() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        new JsonWriter(builder).beginObject()
+                .name("a").value("1")
+                .name("b").beginObject().name("c").value("true").endObject()
+                .optionalMember("d", (String) null)
+                .optionalMember("e", "2")
+                .endObject();
+
+        assertThat(builder.toString()).isEqualTo("{\"a\":\"1\",\"b\":{\"c\":\"true\"},\"e\":\"2\"}");
+    }
+
+    @Test
+    void rejectsNullAppendable() {
+        assertThatThrownBy(() -> new JsonWriter(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Appendable cannot be null");
+    }
+}
@@ -0,0 +1,84 @@
+package com.xenosnowfox.openapi3.models.util;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONString;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RawJsonTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1e", "1.e5", "01", "-", "[1,]", "{\"a\"}", "{\"a\":1", "\"unterminated", "tru", "1 2", "", "'a'"})
+    void parseRejectsInvalidJson(final String json) {
+        assertThatThrownBy(() -> RawJson.parse(json)).isInstanceOf(JSONException.class);
+    }
+
+    @Test
+    void parseCompactsWhitespaceOutsideStrings() {
+        RawJson value = RawJson.parse(" { \"a\" : [ 1 , 2.5e-3 ] ,\n\"b\" : \" spaced  \" } ");
+
+        assertThat(value.toJSONString()).isEqualTo("{\"a\":[1,2.5e-3],\"b\":\" spaced  \"}");
+        assertThat(((JSONObject) value.getValue()).getString("b")).isEqualTo(" spaced  ");
+    }
+
+    @Test
+    void capturedValuesAreValidated() {
+        for (String json : new String[]{"{\"x-a\":1.e5}", "{\"x-a\":[01]}"}) {
+            assertThatThrownBy(() -> capture(json.getBytes(StandardCharsets.UTF_8))).isInstanceOf(JSONException.class);
+        }
+    }
+
+    @Test
+    void capturesValuesFromStreamsAcrossBufferBoundaries() throws IOException {
+        StringBuilder array = new StringBuilder("[");
+        for (int i = 0; i < 5000; i++) {
+            array.append(i == 0 ? "" : " ,\n ").append("\"s").append(i).append('"');
+        }
+        array.append(']');
+        String json = "{\"x-big\": " + array + "}";
+
+        JsonReader reader = new JsonReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        reader.beginObject();
+        reader.nextName();
+        RawJson value = reader.nextRawValue();
+        reader.endObject();
+
+        assertThat(value.toJSONString()).isEqualTo(new JSONArray(array.toString()).toString());
+    }
+
+    @Test
+    void ofEncodesValues() {
+        assertThat(RawJson.of("a\"b").toJSONString()).isEqualTo("\"a\\\"b\"");
+        assertThat(RawJson.of(Arrays.asList(1, true)).toJSONString()).isEqualTo("[1,true]");
+        assertThat(RawJson.of(Collections.singletonMap("k", null)).toJSONString()).isEqualTo("{}");
+        assertThatThrownBy(() -> RawJson.of(Double.NaN)).isInstanceOf(JSONException.class);
+    }
+
+    @Test
+    void ofValidatesJsonStrings() {
+        JSONString valid = () -> " [ 1 ] ";
+        JSONString invalid = () -> "1e";
+
+        assertThat(RawJson.of(valid).toJSONString()).isEqualTo("[1]");
+        assertThatThrownBy(() -> RawJson.of(invalid)).isInstanceOf(JSONException.class);
+    }
+
+    private static RawJson capture(final byte[] json) throws IOException {
+        JsonReader reader = new JsonReader(json);
+        reader.beginObject();
+        reader.nextName();
+        return reader.nextRawValue();
+    }
+}
@@ -0,0 +1,75 @@
+package com.xenosnowfox.openapi3.models.util;
+
+import com.xenosnowfox.openapi3.models.Document;
+import com.xenosnowfox.openapi3.models.OpenApiDocument;
+import com.xenosnowfox.openapi3.models.info.ContactImpl;
+import com.xenosnowfox.openapi3.models.info.InfoImpl;
+import com.xenosnowfox.openapi3.models.info.LicenseImpl;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ReusableJsonWriterTest {
+
+    private static final int WRITES = 100_000;
+
+    private static Document document() {
+        InfoImpl info = new InfoImpl("Swagger \"Petstore\"", "1.0.0");
+        info.setDescription("Line one\nline two </script>   é 😀 \u0001");
+        info.setTermsOfServiceUri(URI.create("http://swagger.io/terms/"));
+        ContactImpl contact = new ContactImpl("API Support", "support@swagger.io");
+        contact.setUri(URI.create("http://www.swagger.io/support"));
+        info.setContact(contact);
+        LicenseImpl license = new LicenseImpl("Apache 2.0");
+        license.setUri(URI.create("https://www.apache.org/licenses/LICENSE-2.0.html"));
+        info.setLicense(license);
+        return new OpenApiDocument().info(info);
+    }
+
+    @Test
+    void writesSameBytesAsOutputStream() throws IOException {
+        Document document = document();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        document.writeJson(outputStream);
+
+        ReusableJsonWriter writer = new ReusableJsonWriter(1);
+        for (int i = 0; i < 2; i++) {
+            assertThat(writer.write(document).toByteArray()).isEqualTo(outputStream.toByteArray());
+        }
+    }
+
+    @Test
+    void doesNotAllocateOnceWarmedUp() throws IOException {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        Document document = document();
+        ReusableJsonWriter writer = ReusableJsonWriter.forCurrentThread();
+        long size = 0;
+
+        // warms up until the buffer has grown and the writes are compiled
+        for (int i = 0; i < WRITES; i++) {
+            size += writer.write(document).size();
+        }
+
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < WRITES; i++) {
+            size += writer.write(document).size();
+        }
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        assertThat(size).isPositive();
+        // a single allocation, such as a boxed long, would amount to more than a megabyte over all writes
+        assertThat(allocated).isLessThan(WRITES);
+    }
+}
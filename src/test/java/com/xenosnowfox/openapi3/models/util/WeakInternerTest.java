@@ -0,0 +1,83 @@
+package com.xenosnowfox.openapi3.models.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeakInternerTest {
+
+    @Test
+    void returnsFirstOfEqualValues() {
+        WeakInterner<String> interner = new WeakInterner<>();
+        String first = new String("value");
+        String second = new String("value");
+
+        assertThat(interner.intern(first)).isSameAs(first);
+        assertThat(interner.intern(second)).isSameAs(first);
+        assertThat(interner.intern(new String("other"))).isNotSameAs(first).isEqualTo("other");
+        assertThat(interner.intern(null)).isNull();
+        assertThat(interner.size()).isEqualTo(2);
+    }
+
+    @Test
+    void releasesValuesOnceUnreachable() throws InterruptedException {
+        WeakInterner<String> interner = new WeakInterner<>();
+        String kept = interner.intern(new String("kept"));
+        for (int i = 0; i < 1000; i++) {
+            interner.intern(new String("released " + i));
+        }
+        assertThat(interner.size()).isGreaterThan(1);
+
+        for (int i = 0; interner.size() > 1; i++) {
+            assertThat(i).as("attempts to collect garbage").isLessThan(100);
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(interner.intern(new String("kept"))).isSameAs(kept);
+
+        // a released value is replaced by the next one that is interned
+        String replacement = new String("released 0");
+        assertThat(interner.intern(replacement)).isSameAs(replacement);
+        assertThat(interner.size()).isEqualTo(2);
+    }
+
+    @Test
+    void agreesOnCanonicalInstanceAcrossThreads() throws Exception {
+        WeakInterner<String> interner = new WeakInterner<>();
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    List<String> canonical = new ArrayList<>();
+                    for (int i = 0; i < 1000; i++) {
+                        canonical.add(interner.intern(new String("value " + i)));
+                    }
+                    return canonical;
+                }));
+            }
+            start.countDown();
+
+            List<String> expected = results.get(0).get();
+            for (Future<List<String>> result : results) {
+                List<String> canonical = result.get();
+                for (int i = 0; i < expected.size(); i++) {
+                    assertThat(canonical.get(i)).isSameAs(expected.get(i));
+                }
+            }
+            assertThat(interner.size()).isEqualTo(1000);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.xenosnowfox.openapi3.models.util;
+
+import com.xenosnowfox.openapi3.models.info.ContactImpl;
+import com.xenosnowfox.openapi3.models.info.InfoImpl;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class YamlWriterTest {
+
+    private static Map<String, Object> load(final String yaml) {
+        return new Yaml().load(yaml);
+    }
+
+    /**
+     * Writes the string as a member of a nested object, where block scalars are indented relative to their parent
+     */
+    private static String write(final String name, final String value) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        new YamlWriter(builder).beginObject()
+                .name(name).value(value)
+                .name("nested").beginObject().name(name).value(value).endObject()
+                .endObject();
+        return builder.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void assertRoundTrip(final String name, final String value) throws IOException {
+        String yaml = write(name, value);
+        Map<String, Object> map = load(yaml);
+
+        assertThat(map.get(name)).as(yaml).isEqualTo(value);
+        assertThat(((Map<String, Object>) map.get("nested")).get(name)).as(yaml).isEqualTo(value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"No", "no", "YES", "On", "off", "y", "N", "true", "False", "null", "NULL", "~", "",
+            "1", "1.0", "-1", "+1", "1e3", "0x1F", "0o17", "017", "1_000", ".5", ".inf", "-.Inf", ".NaN", "12:30:00",
+            "2001-12-14", "2001-12-14t21:59:43.10-05:00", "2001-12-14 21:59:43.10 -5", "2001-12-15T02:59:43.1Z",
+            "1,000", "<<", "=", "-", "?", "version 1.0"})
+    void quotesStringsThatWouldBeReadAsOtherTypes(final String value) throws IOException {
+        assertRoundTrip("value", value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {" leading", "trailing ", " both ", "  ", "\ttab", "tab\t", "key: value", "key:", "a:b",
+            "text # comment", "a#b", "#hash", "- item", "[flow]", "{flow}", "*alias", "&anchor", "!tag", "|", ">",
+            "'single'", "\"double\"", "%directive", "@at", "`tick`", "quote \" and backslash \\", "</script>", "a/b"})
+    void quotesStringsWithIndicators(final String value) throws IOException {
+        assertRoundTrip("value", value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\u0000", "bell\u0007", "escape\u001b[0m", "delete\u007f", "c1\u0085next", " line",
+            "bom\ufeff", "separator\u2028", "carriage\rreturn", "\r\n", "form\ffeed", "back\bspace", "émoji 😀"})
+    void escapesControlCharacters(final String value) throws IOException {
+        assertRoundTrip("value", value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"one\ntwo", "one\ntwo\n", "one\ntwo\n\n", "one\ntwo\n\n\n", "one\n\ntwo", "one\n\n\ntwo\n",
+            "\none", "\n\none\n", " indented\nline", "  two\n    four\n", "one\n  indented\n", "\n", "\n\n",
+            "key: value\n# not a comment\n- not an item", "tab\there\nand\tthere", "trailing \nspaces  \n",
+            "one\r\ntwo", "one\n\u0007two"})
+    void roundTripsMultiLineStrings(final String value) throws IOException {
+        assertRoundTrip("description", value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"true", "1", "x: y", " space", "with # hash", "multi\nline", "", "-", "~"})
+    void quotesNamesThatNeedIt(final String name) throws IOException {
+        assertRoundTrip(name, "value");
+    }
+
+    @Test
+    void writesMultiLineStringsAsBlockScalars() throws IOException {
+        assertThat(write("description", "one\ntwo")).isEqualTo("description: |-\n  one\n  two\nnested:\n  description: |-\n    one\n    two\n");
+        assertThat(write("description", "one\n\ntwo\n")).isEqualTo("description: |\n  one\n\n  two\nnested:\n  description: |\n    one\n\n    two\n");
+        assertThat(write("description", "one\n\n")).isEqualTo("description: |+\n  one\n\nnested:\n  description: |+\n    one\n\n");
+        assertThat(write("description", " one\ntwo")).startsWith("description: |2-\n   one\n  two\n");
+    }
+
+    @Test
+    void matchesJsonOfDocuments() throws IOException {
+        InfoImpl info = new InfoImpl("No", "1.0");
+        info.setDescription("Line one: with colon\n\n  indented # not a comment\n\n");
+        ContactImpl contact = new ContactImpl("~", "null");
+        contact.setExtensions(Extensions.EMPTY.with("x-flags", new JSONObject().put("on", "off").put("list", new Object[]{"yes", 1, null})));
+        info.setContact(contact);
+        info.setExtensions(Extensions.EMPTY.with("x-empty", new JSONObject()).with("x-text", " padded "));
+
+        StringBuilder yaml = new StringBuilder();
+        info.writeYaml(yaml);
+
+        assertThat(load(yaml.toString())).isEqualTo(new JSONObject(info.toJsonObject().toString()).toMap());
+    }
+}
@@ -0,0 +1,131 @@
+package com.xenosnowfox.openapi3.models.validation;
+
+import com.xenosnowfox.openapi3.models.Document;
+import com.xenosnowfox.openapi3.models.OpenApiDocument;
+import com.xenosnowfox.openapi3.models.info.ContactImpl;
+import com.xenosnowfox.openapi3.models.info.InfoImpl;
+import com.xenosnowfox.openapi3.models.paths.HttpMethod;
+import com.xenosnowfox.openapi3.models.paths.OperationImpl;
+import com.xenosnowfox.openapi3.models.paths.PathItemImpl;
+import com.xenosnowfox.openapi3.models.paths.PathsImpl;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class DocumentValidatorTest {
+
+    private static final int VALIDATIONS = 100_000;
+
+    private final DocumentValidator validator = new DocumentValidator();
+
+    @Test
+    void validDocumentHasNoViolations() {
+        Document document = new OpenApiDocument().info(new InfoImpl("Pet Store", "1.0.0"));
+
+        assertThat(this.validator.isValid(document)).isTrue();
+        assertThat(this.validator.validate(document)).isEmpty();
+        assertThat(this.validator.validate(document, null)).isNull();
+    }
+
+    @Test
+    void collectsViolationsInDocumentOrder() {
+        InfoImpl info = new InfoImpl("Pet Store", "1.0.0");
+        info.setContact(new ContactImpl("API Support", "support"));
+        PathsImpl paths = new PathsImpl();
+        paths.setPathItem("/pets", pathItem("listPets"));
+        paths.setPathItem("/pets/{id}", pathItem("listPets"));
+        Document document = new OpenApiDocument().info(info);
+        document.setPaths(paths);
+
+        List<Violation> violations = this.validator.validate(document);
+
+        assertThat(this.validator.isValid(document)).isFalse();
+        assertThat(violations).extracting(Violation::getPath).containsExactly(
+                "/info/contact/email", "/paths/~1pets~1{id}/get/operationId");
+    }
+
+    @Test
+    void appendsToGivenList() {
+        List<Violation> violations = new ArrayList<>();
+        violations.add(new Violation("", "Earlier violation"));
+
+        List<Violation> result = this.validator.validate(null, violations);
+
+        assertThat(result).isSameAs(violations);
+        assertThat(result).extracting(Violation::getMessage)
+                .containsExactly("Earlier violation", "Document has not been defined");
+    }
+
+    @Test
+    void reportsDuplicatesAmongManyOperationsAndEquivalentTemplates() {
+        PathsImpl paths = new PathsImpl();
+        for (int i = 0; i < 200; i++) {
+            paths.setPathItem("/pets/" + i, pathItem("getPet" + i));
+        }
+        paths.setPathItem("/pets/{id}", pathItem("getPet7"));
+        paths.setPathItem("/pets/{name}", pathItem("findPet"));
+        Document document = new OpenApiDocument().info(new InfoImpl("Pet Store", "1.0.0"));
+        document.setPaths(paths);
+
+        // validated twice, so that the reused lookup table is also checked
+        for (int i = 0; i < 2; i++) {
+            assertThat(this.validator.validate(document)).extracting(Violation::getPath, Violation::getMessage).containsExactly(
+                    tuple("/paths/~1pets~1{id}/get/operationId",
+                            "Duplicate operation id getPet7, already used at /paths/~1pets~17/get/operationId"),
+                    tuple("/paths", "Path templates are equivalent: /pets/{id} and /pets/{name}"));
+        }
+    }
+
+    @Test
+    void doesNotAllocateForValidDocumentsWithPaths() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        PathsImpl paths = new PathsImpl();
+        for (int i = 0; i < 50; i++) {
+            PathItemImpl pathItem = pathItem("getPet" + i);
+            OperationImpl operation = new OperationImpl();
+            operation.setOperationId("updatePet" + i);
+            pathItem.setOperation(HttpMethod.PUT, operation);
+            paths.setPathItem("/pets/" + i + "/{id}", pathItem);
+        }
+        InfoImpl info = new InfoImpl("Pet Store", "1.0.0");
+        info.setContact(new ContactImpl("API Support", "support@example.com"));
+        Document document = new OpenApiDocument().info(info);
+        document.setPaths(paths);
+
+        // warms up until the lookup table has grown, the index is compiled and the checks are compiled
+        boolean valid = true;
+        for (int i = 0; i < VALIDATIONS; i++) {
+            valid &= this.validator.isValid(document);
+        }
+
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < VALIDATIONS; i++) {
+            valid &= this.validator.isValid(document);
+        }
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        assertThat(valid).isTrue();
+        // a single allocation per validation would amount to more than a megabyte
+        assertThat(allocated).isLessThan(VALIDATIONS);
+    }
+
+    private static PathItemImpl pathItem(final String operationId) {
+        OperationImpl operation = new OperationImpl();
+        operation.setOperationId(operationId);
+        PathItemImpl pathItem = new PathItemImpl();
+        pathItem.setOperation(HttpMethod.GET, operation);
+        return pathItem;
+    }
+}